@@ -31,6 +31,18 @@ public class CourtWithDistanceRepositoryTest {
         assertThat(collect).isSortedAccordingTo(Comparator.comparing(CourtWithDistance::getDistance));
     }
 
+    @Test
+    void shouldFindAllByIdWithDistance() {
+        final List<CourtWithDistance> nearest = courtWithDistanceRepository.findNearestTen(51.8, -1.3);
+        final List<Integer> ids = nearest.stream().map(CourtWithDistance::getId).collect(Collectors.toList());
+
+        final List<CourtWithDistance> result = courtWithDistanceRepository.findAllByIdWithDistance(51.8, -1.3, ids);
+
+        assertThat(result).extracting(CourtWithDistance::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(result).extracting(CourtWithDistance::getDistance)
+            .containsExactlyInAnyOrderElementsOf(nearest.stream().map(CourtWithDistance::getDistance).collect(Collectors.toList()));
+    }
+
     @Test
     void shouldFindNearestTenByAreaOfLaw() {
         final List<CourtWithDistance> result = courtWithDistanceRepository.findNearestTenByAreaOfLaw(51.8, -1.3, "Tax");
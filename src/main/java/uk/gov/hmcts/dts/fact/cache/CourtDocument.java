@@ -0,0 +1,48 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * The JSON served for a court, with the validators clients use to ask for it again only once it has changed.
+ */
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+public final class CourtDocument {
+    private final Integer courtId;
+    private final byte[] json;
+    private final String etag;
+    private final long lastModified;
+
+    public CourtDocument(final Integer courtId, final byte[] json, final long lastModified) {
+        this.courtId = courtId;
+        this.json = json;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        this.lastModified = lastModified;
+    }
+
+    Integer getCourtId() {
+        return courtId;
+    }
+
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Get the strong ETag of the document, a hash of its JSON.
+     *
+     * @return the quoted ETag
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Get the time the court was last updated, including changes to the rows that belong to it.
+     *
+     * @return the time in milliseconds, or -1 if it is not known
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+}
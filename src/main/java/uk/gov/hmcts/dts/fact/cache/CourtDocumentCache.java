@@ -0,0 +1,133 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache of the JSON served for each court, keyed by slug, representation and language, so a court and its collections
+ * are only loaded and serialised again once it has changed.
+ * - Documents are held as serialised bytes, bounded by their total size, and the documents read most often are kept.
+ * - A court change published by any admin service invalidates the documents for the court, matched by court ID or by
+ *   slug, so a renamed court is dropped under its old slug too. Area of law and local authority changes invalidate every
+ *   document.
+ * - Documents also expire after a maximum age, which bounds how long edits to the shared lists, such as the facility and
+ *   contact types, take to show.
+ * - Each document carries its ETag, so a conditional request for a cached court is answered without serialising it.
+ */
+@Component
+public class CourtDocumentCache {
+    private static final String WELSH = "cy";
+    private static final String ENGLISH = "en";
+    private static final String COURT = "court";
+    private static final String OLD_COURT = "old-court";
+
+    private final CourtRepository courtRepository;
+    private final ObjectMapper objectMapper;
+    private final FrequencyAwareCache<DocumentKey, CourtDocument> documents;
+
+    @Autowired
+    public CourtDocumentCache(final CourtRepository courtRepository,
+                              final ObjectMapper objectMapper,
+                              @Value("${courts.cache.max-bytes:16777216}") final long maxBytes,
+                              @Value("${courts.cache.expected-entries:4096}") final int expectedEntries,
+                              @Value("${courts.cache.max-age:3600000}") final long maxAge) {
+        this(courtRepository, objectMapper, maxBytes, expectedEntries, Duration.ofMillis(maxAge), Clock.systemUTC());
+    }
+
+    CourtDocumentCache(final CourtRepository courtRepository, final ObjectMapper objectMapper, final long maxBytes,
+                       final int expectedEntries, final Duration maxAge, final Clock clock) {
+        this.courtRepository = courtRepository;
+        this.objectMapper = objectMapper;
+        this.documents = new FrequencyAwareCache<>(maxBytes, expectedEntries, document -> document.getJson().length, maxAge, clock);
+    }
+
+    /**
+     * Get the JSON for a court in the language of the current request.
+     *
+     * @param slug the slug of the court
+     * @return the serialised {@link uk.gov.hmcts.dts.fact.model.Court}
+     */
+    public CourtDocument getCourt(final String slug) {
+        return getDocument(slug, COURT, uk.gov.hmcts.dts.fact.model.Court::new);
+    }
+
+    /**
+     * Get the deprecated JSON for a court in the language of the current request.
+     *
+     * @param slug the slug of the court
+     * @return the serialised {@link OldCourt}
+     */
+    public CourtDocument getOldCourt(final String slug) {
+        return getDocument(slug, OLD_COURT, OldCourt::new);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        documents.invalidateIf((key, document) -> Objects.equals(document.getCourtId(), event.getCourtId())
+            || key.slug.equals(event.getSlug()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocalAuthorityChanged(final LocalAuthorityChangedEvent event) {
+        documents.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAreaOfLawChanged(final AreaOfLawChangedEvent event) {
+        documents.invalidateAll();
+    }
+
+    private CourtDocument getDocument(final String slug, final String representation, final Function<Court, Object> toModel) {
+        // The models choose between the English and Welsh text by the language of the request
+        final String language = WELSH.equals(LocaleContextHolder.getLocale().getLanguage()) ? WELSH : ENGLISH;
+        final DocumentKey key = new DocumentKey(slug, representation, language);
+        final Optional<CourtDocument> cached = documents.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final long generation = documents.getGeneration();
+        final Court court = courtRepository.findBySlug(slug).orElseThrow(() -> new NotFoundException(slug));
+        final long lastModified = court.getUpdatedAt() == null ? -1 : court.getUpdatedAt().getTime();
+        final CourtDocument document = new CourtDocument(court.getId(), serialise(toModel.apply(court)), lastModified);
+        documents.put(key, document, generation);
+        return document;
+    }
+
+    private byte[] serialise(final Object model) {
+        try {
+            return objectMapper.writeValueAsBytes(model);
+        } catch (final JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class DocumentKey {
+        private final String slug;
+        private final String representation;
+        private final String language;
+    }
+}
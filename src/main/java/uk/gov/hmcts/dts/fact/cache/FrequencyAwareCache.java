@@ -0,0 +1,345 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded cache that keeps the entries read most often.
+ * - Reads are counted in a small count-min sketch. Its counters are halved once enough reads have been counted, so the
+ *   counts follow recent popularity rather than all time.
+ * - Entries are held in least recently used order. A new entry that does not fit only replaces the least recently used
+ *   entries if it has been read more often than each of them, otherwise it is not added. A burst of one-off reads so
+ *   cannot push out the entries read all day.
+ * - The size of the cache is the total weight of its values, such as their length in bytes.
+ * - Entries can be given a maximum age, after which they are treated as missing and are the first to be replaced. An
+ *   entry can be added with a maximum age of its own, such as a shorter one for a lookup that found nothing.
+ * - Every invalidation moves the cache on a generation. A value loaded before an invalidation is not added after it, so
+ *   a slow load that read the old data cannot undo the invalidation.
+ * - Reads do not take the lock. They look the value up in a concurrent map and note the key in a bounded read buffer,
+ *   which is replayed into the sketch and the recency order by whichever reader fills it, if the lock is free, and
+ *   before every write. A read noted while the buffer is full may be overwritten before it is replayed, which only
+ *   loses a little of the popularity and recency the cache goes by.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.DataflowAnomalyAnalysis", "PMD.TooManyMethods", "PMD.TooManyFields"})
+public final class FrequencyAwareCache<K, V> {
+    private static final int MAX_COUNT = 15;
+    private static final int MIN_WIDTH = 16;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int[] SEEDS = {0x9E3779B9, 0x7F4A7C15, 0x94D049BB, 0x27D4EB2F};
+
+    private final long maximumWeight;
+    private final ToLongFunction<V> weigher;
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, Entry<V>> recency = new LinkedHashMap<>(MIN_WIDTH, 0.75f, true);
+    private final AtomicReferenceArray<K> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong reads = new AtomicLong();
+    private final int[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long replayed;
+    private int samples;
+    private long totalWeight;
+    private long generation;
+    private long evictions;
+
+    public FrequencyAwareCache(final long maximumWeight, final int expectedEntries, final ToLongFunction<V> weigher) {
+        this(maximumWeight, expectedEntries, weigher, Duration.ofMillis(Long.MAX_VALUE), Clock.systemUTC());
+    }
+
+    public FrequencyAwareCache(final long maximumWeight, final int expectedEntries, final ToLongFunction<V> weigher,
+                               final Duration maxAge, final Clock clock) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.clock = clock;
+        final int width = Integer.highestOneBit(Math.max(MIN_WIDTH, expectedEntries) * 2 - 1);
+        this.counters = new int[SEEDS.length][width];
+        this.mask = width - 1;
+        this.sampleSize = SAMPLE_FACTOR * width;
+    }
+
+    /**
+     * Get a value, counting the read whether or not the value is cached. Only an expired entry takes the lock, to
+     * remove it.
+     *
+     * @param key the key of the value
+     * @return the value, or empty if it is not cached or has expired
+     */
+    public Optional<V> get(final K key) {
+        recordRead(key);
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            expire(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Get the current generation, to be read before loading a value to add.
+     *
+     * @return the number of invalidations so far
+     */
+    public long getGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a value, unless the cache has been invalidated since it was loaded or the entries it would replace are read
+     * more often.
+     *
+     * @param key the key of the value
+     * @param value the value
+     * @param loadedGeneration the generation read before the value was loaded
+     * @return whether the value was added
+     */
+    public boolean put(final K key, final V value, final long loadedGeneration) {
+        return put(key, value, loadedGeneration, maxAgeMillis);
+    }
+
+    /**
+     * Add a value that expires after its own maximum age, unless the cache has been invalidated since it was loaded or
+     * the entries it would replace are read more often.
+     *
+     * @param key the key of the value
+     * @param value the value
+     * @param loadedGeneration the generation read before the value was loaded
+     * @param maxAge the maximum age of the value
+     * @return whether the value was added
+     */
+    public boolean put(final K key, final V value, final long loadedGeneration, final Duration maxAge) {
+        return put(key, value, loadedGeneration, maxAge.toMillis());
+    }
+
+    private boolean put(final K key, final V value, final long loadedGeneration, final long entryMaxAgeMillis) {
+        final long weight = weigher.applyAsLong(value);
+        lock.lock();
+        try {
+            if (loadedGeneration != generation || weight > maximumWeight) {
+                return false;
+            }
+            replayReads();
+            remove(key);
+            final Optional<List<K>> victims = victimsFor(key, weight);
+            if (victims.isEmpty()) {
+                return false;
+            }
+            victims.get().forEach(this::remove);
+            evictions += victims.get().size();
+            final Entry<V> entry = new Entry<>(value, weight, clock.millis(), entryMaxAgeMillis);
+            recency.put(key, entry);
+            entries.put(key, entry);
+            totalWeight += weight;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the entries that match a condition.
+     *
+     * @param condition tests the key and value of each entry
+     */
+    public void invalidateIf(final BiPredicate<K, V> condition) {
+        lock.lock();
+        try {
+            generation++;
+            final Iterator<Map.Entry<K, Entry<V>>> iterator = recency.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<K, Entry<V>> entry = iterator.next();
+                if (condition.test(entry.getKey(), entry.getValue().value)) {
+                    totalWeight -= entry.getValue().weight;
+                    entries.remove(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        invalidateIf((key, value) -> true);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getWeight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of entries removed to make room for others or because they expired, but not those invalidated.
+     *
+     * @return the number of evictions so far
+     */
+    public long getEvictionCount() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordRead(final K key) {
+        final long read = reads.getAndIncrement();
+        readBuffer.lazySet((int) (read & READ_BUFFER_MASK), key);
+        if ((read & READ_BUFFER_MASK) == READ_BUFFER_MASK && lock.tryLock()) {
+            try {
+                replayReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void replayReads() {
+        final long end = reads.get();
+        // Reads more than a buffer behind have been overwritten, and a slot still empty is a read about to be noted
+        for (long read = Math.max(replayed, end - READ_BUFFER_SIZE); read < end; read++) {
+            final K key = readBuffer.getAndSet((int) (read & READ_BUFFER_MASK), null);
+            if (key != null) {
+                increment(key);
+                recency.get(key);
+            }
+        }
+        replayed = end;
+    }
+
+    private void expire(final K key, final Entry<V> entry) {
+        lock.lock();
+        try {
+            if (entries.remove(key, entry)) {
+                recency.remove(key);
+                totalWeight -= entry.weight;
+                evictions++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<List<K>> victimsFor(final K key, final long weight) {
+        final int frequency = frequencyOf(key);
+        final List<K> victims = new ArrayList<>();
+        long free = maximumWeight - totalWeight;
+        // Iterating over the entries does not count as accessing them, so the least recently used come first
+        final Iterator<Map.Entry<K, Entry<V>>> eldest = recency.entrySet().iterator();
+        while (free < weight) {
+            final Map.Entry<K, Entry<V>> victim = eldest.next();
+            if (!isExpired(victim.getValue()) && frequencyOf(victim.getKey()) >= frequency) {
+                return Optional.empty();
+            }
+            victims.add(victim.getKey());
+            free += victim.getValue().weight;
+        }
+        return Optional.of(victims);
+    }
+
+    private void remove(final K key) {
+        recency.remove(key);
+        final Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    private boolean isExpired(final Entry<V> entry) {
+        return clock.millis() - entry.written >= entry.maxAgeMillis;
+    }
+
+    private void increment(final K key) {
+        final int hash = key.hashCode();
+        boolean counted = false;
+        for (int row = 0; row < counters.length; row++) {
+            final int index = indexOf(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                counters[row][index]++;
+                counted = true;
+            }
+        }
+        if (counted) {
+            samples++;
+            if (samples >= sampleSize) {
+                halveCounts();
+            }
+        }
+    }
+
+    private int frequencyOf(final K key) {
+        final int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < counters.length; row++) {
+            frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void halveCounts() {
+        for (final int[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        samples /= 2;
+    }
+
+    private int indexOf(final int hash, final int row) {
+        // The finaliser of MurmurHash3, so every bit of the hash and the seed affects the index
+        int mixed = hash ^ SEEDS[row];
+        mixed = (mixed ^ mixed >>> 16) * 0x85EBCA6B;
+        mixed = (mixed ^ mixed >>> 13) * 0xC2B2AE35;
+        return (mixed ^ mixed >>> 16) & mask;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long written;
+        private final long maxAgeMillis;
+
+        Entry(final V value, final long weight, final long written, final long maxAgeMillis) {
+            this.value = value;
+            this.weight = weight;
+            this.written = written;
+            this.maxAgeMillis = maxAgeMillis;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time. A caller asking for a key that is already being loaded waits for that load and
+ * shares its result, or its exception, instead of starting another.
+ * - Only loads in progress are held. Once a load finishes, the next caller for the key starts a new one, so results are
+ *   kept in a cache in front of this, not here.
+ * - The number of callers that waited on another's load is counted, for reporting how many loads were saved.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values loaded
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Load a value, or wait for the load of the same key already in progress.
+     *
+     * @param key the key of the value
+     * @param load loads the value, run on the calling thread if no load of the key is in progress
+     * @return the loaded value
+     */
+    public V load(final K key, final Supplier<V> load) {
+        final CompletableFuture<V> flight = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        try {
+            final V value = load.get();
+            flight.complete(value);
+            return value;
+        } catch (final RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Get the number of callers that shared another caller's load rather than starting their own.
+     *
+     * @return the number of coalesced callers so far
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (final CompletionException ex) {
+            // Rethrow what the load threw, so waiters handle the failure the same way as the caller that loaded
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.dts.fact.changes;
+
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Tracks which recorded changes have been seen. IDs are allocated when a change is recorded but changes become visible
+ * when they commit, so a change can appear after a change with a higher ID. Changes are therefore read from a little
+ * before the latest change seen, and the changes in that overlap that were already seen are skipped.
+ * A change that takes longer than the overlap to commit is missed, and is caught by the periodic reconcile instead.
+ */
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+final class ChangeFeed {
+    private final Duration overlap;
+    private final Map<Long, LocalDateTime> seen = new HashMap<>();
+    private final AtomicReference<LocalDateTime> since;
+
+    ChangeFeed(final LocalDateTime since, final Duration overlap) {
+        this.since = new AtomicReference<>(since);
+        this.overlap = overlap;
+    }
+
+    /**
+     * Get the time to read changes from.
+     *
+     * @return the earliest creation time of a change that may not have been seen
+     */
+    LocalDateTime getSince() {
+        return since.get();
+    }
+
+    /**
+     * Filter out the changes that have already been seen, and move the feed on past the changes.
+     *
+     * @param changes the changes created since {@link #getSince()}
+     * @return the changes not seen before, in the same order
+     */
+    List<SearchChange> unseen(final List<SearchChange> changes) {
+        final List<SearchChange> unseen = changes.stream()
+            .filter(change -> seen.putIfAbsent(change.getId(), change.getCreatedAt()) == null)
+            .collect(toList());
+        changes.stream()
+            .map(SearchChange::getCreatedAt)
+            .max(LocalDateTime::compareTo)
+            .map(latest -> latest.minus(overlap))
+            .filter(overlapStart -> overlapStart.isAfter(since.get()))
+            .ifPresent(since::set);
+        seen.values().removeIf(createdAt -> createdAt.isBefore(since.get()));
+        return unseen;
+    }
+}
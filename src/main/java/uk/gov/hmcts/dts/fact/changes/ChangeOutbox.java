@@ -0,0 +1,66 @@
+package uk.gov.hmcts.dts.fact.changes;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.SearchChangeRepository;
+
+import java.util.UUID;
+
+/**
+ * Records the changes published by the admin services in the change table, so the other instances can apply them.
+ * Changes are recorded just before the transaction that made them commits, so a change is recorded if and only if it is
+ * committed. Changes replayed from another instance are not recorded again.
+ */
+@Component
+public class ChangeOutbox {
+    static final String LOCAL_AUTHORITY = "LOCAL_AUTHORITY";
+    static final String AREA_OF_LAW = "AREA_OF_LAW";
+
+    private final SearchChangeRepository searchChangeRepository;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Autowired
+    public ChangeOutbox(final SearchChangeRepository searchChangeRepository) {
+        this.searchChangeRepository = searchChangeRepository;
+    }
+
+    /**
+     * Get the ID recorded with the changes made by this instance.
+     *
+     * @return an ID unique to this run of the application
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCourtChanged(final CourtChangedEvent event) {
+        if (!event.isFromOtherInstance()) {
+            record(new SearchChange(instanceId, event.getChangeType().name(), event.getCourtId(), event.getSlug(), null));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLocalAuthorityChanged(final LocalAuthorityChangedEvent event) {
+        if (!event.isFromOtherInstance()) {
+            record(new SearchChange(instanceId, LOCAL_AUTHORITY, null, null, event.getLocalAuthorityId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAreaOfLawChanged(final AreaOfLawChangedEvent event) {
+        if (!event.isFromOtherInstance()) {
+            record(new SearchChange(instanceId, AREA_OF_LAW, null, null, event.getAreaOfLawId()));
+        }
+    }
+
+    private void record(final SearchChange change) {
+        searchChangeRepository.save(change);
+    }
+}
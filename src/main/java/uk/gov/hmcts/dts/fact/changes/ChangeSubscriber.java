@@ -0,0 +1,185 @@
+package uk.gov.hmcts.dts.fact.changes;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.repositories.SearchChangeRepository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PreDestroy;
+
+import static uk.gov.hmcts.dts.fact.changes.ChangeOutbox.AREA_OF_LAW;
+import static uk.gov.hmcts.dts.fact.changes.ChangeOutbox.LOCAL_AUTHORITY;
+
+/**
+ * Applies the changes recorded by the other instances to this one, by publishing them as events for the in-memory search
+ * data to handle as it would a change made here.
+ * - A background thread listens for the notification sent when a change commits, and reads the new changes when one
+ *   arrives, or after the poll interval if none does. So changes are applied within the poll interval even if a
+ *   notification is lost, for example while reconnecting. It listens on a connection of its own rather than one from the
+ *   pool, as the connection is held for as long as the application runs.
+ * - Only changes recorded after the application started are applied, as the search data is built after that.
+ * - A periodic reconcile rebuilds the search indexes in full, in case a change was missed, and deletes old changes.
+ * Enabled with {@code search.changes.enabled=true}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "search.changes", name = "enabled", havingValue = "true")
+@SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+public class ChangeSubscriber {
+    static final String CHANNEL = "search_change";
+    static final LocalDateTime FROM_THE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Duration OVERLAP = Duration.ofSeconds(30);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final SearchChangeRepository searchChangeRepository;
+    private final ChangeOutbox changeOutbox;
+    private final CourtIndexService courtIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pollInterval;
+    private final Duration retention;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<ChangeFeed> feed = new AtomicReference<>();
+
+    @Autowired
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public ChangeSubscriber(final DataSourceProperties dataSourceProperties,
+                            final SearchChangeRepository searchChangeRepository,
+                            final ChangeOutbox changeOutbox,
+                            final CourtIndexService courtIndexService,
+                            final ApplicationEventPublisher eventPublisher,
+                            @Value("${search.changes.poll-interval:5000}") final int pollInterval,
+                            @Value("${search.changes.retention-hours:24}") final int retentionHours) {
+        this.url = dataSourceProperties.determineUrl();
+        this.username = dataSourceProperties.determineUsername();
+        this.password = dataSourceProperties.determinePassword();
+        this.searchChangeRepository = searchChangeRepository;
+        this.changeOutbox = changeOutbox;
+        this.courtIndexService = courtIndexService;
+        this.eventPublisher = eventPublisher;
+        this.pollInterval = pollInterval;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Start listening for changes. Runs before the search indexes are built, so no change is missed in between.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        startFeed();
+        running.set(true);
+        executor.execute(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+        executor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${search.changes.reconcile-interval:3600000}",
+        initialDelayString = "${search.changes.reconcile-interval:3600000}")
+    public void reconcile() {
+        courtIndexService.rebuild();
+        final ChangeFeed currentFeed = feed.get();
+        if (currentFeed != null) {
+            final int deleted = searchChangeRepository.deleteCreatedBefore(currentFeed.getSince().minus(retention));
+            log.info("Reconciled the search indexes and deleted {} old changes", deleted);
+        }
+    }
+
+    void startFeed() {
+        feed.set(new ChangeFeed(
+            searchChangeRepository.findFirstByOrderByCreatedAtDesc().map(SearchChange::getCreatedAt).orElse(FROM_THE_START),
+            OVERLAP
+        ));
+    }
+
+    /**
+     * Publish the changes recorded by other instances since the last time changes were read.
+     */
+    void applyChanges() {
+        try {
+            final ChangeFeed currentFeed = feed.get();
+            currentFeed.unseen(searchChangeRepository.findByCreatedAtGreaterThanEqualOrderById(currentFeed.getSince()))
+                .stream()
+                .filter(change -> !changeOutbox.getInstanceId().equals(change.getInstanceId()))
+                .forEach(this::apply);
+        } catch (final DataAccessException ex) {
+            log.warn("Could not read the changes made by other instances", ex);
+        }
+    }
+
+    private void apply(final SearchChange change) {
+        if (LOCAL_AUTHORITY.equals(change.getChangeType())) {
+            eventPublisher.publishEvent(new LocalAuthorityChangedEvent(change.getReferenceId(), true));
+        } else if (AREA_OF_LAW.equals(change.getChangeType())) {
+            eventPublisher.publishEvent(new AreaOfLawChangedEvent(change.getReferenceId(), true));
+        } else {
+            try {
+                final CourtChangeType changeType = CourtChangeType.valueOf(change.getChangeType());
+                eventPublisher.publishEvent(new CourtChangedEvent(change.getCourtId(), change.getSlug(), changeType, true));
+            } catch (final IllegalArgumentException ex) {
+                // Recorded by a newer version of the application, so left for the reconcile
+                log.warn("Skipped change {} of unknown type {}", change.getId(), change.getChangeType());
+            }
+        }
+    }
+
+    private void listen() {
+        while (running.get()) {
+            try (Connection connection = DriverManager.getConnection(url, username, password); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                final PGConnection notifications = connection.unwrap(PGConnection.class);
+                // Read any changes committed while not listening
+                applyChanges();
+                while (running.get()) {
+                    notifications.getNotifications(pollInterval);
+                    applyChanges();
+                }
+            } catch (final SQLException ex) {
+                log.warn("Lost the connection listening for changes, reconnecting", ex);
+                pause();
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollInterval);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.GET, "/courts/").authenticated()
                 .antMatchers(HttpMethod.GET, "/courts/all").authenticated()
                 .antMatchers(HttpMethod.GET, "/courts/{slug}/*").authenticated()
+                .antMatchers(HttpMethod.POST, "/search/results/bulk").authenticated()
                 .antMatchers(HttpMethod.DELETE, "/*").authenticated()
                 .antMatchers(HttpMethod.POST, "/*").authenticated()
                 .antMatchers(HttpMethod.PUT, "/*").authenticated()
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.dts.fact.controllers;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GET requests, so a client holding the current response gets a 304 without the response being
+ * built again.
+ * - The ETag and Last-Modified headers are set on every response, and If-None-Match is checked before If-Modified-Since.
+ * - The ETags are strong, as the same validators always go with the same bytes. The text depends on the language of the
+ *   request, so the responses vary by Accept-Language.
+ */
+public final class ConditionalResponses {
+    private static final String WELSH = "cy";
+    private static final String ENGLISH = "en";
+
+    private ConditionalResponses() {
+
+    }
+
+    /**
+     * Answer a request for data that only changes when the data version does, such as a list of every court.
+     *
+     * @param request the request
+     * @param dataVersion the current data version, or empty to always build the response
+     * @param body builds the response body
+     * @param <T> the type of the body
+     * @return a 304 if the client holds the current version, otherwise the body
+     */
+    public static <T> ResponseEntity<T> forDataVersion(final WebRequest request, final Optional<SearchIndexVersion> dataVersion,
+                                                       final Supplier<T> body) {
+        if (dataVersion.isEmpty()) {
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT_LANGUAGE).body(body.get());
+        }
+        final String language = WELSH.equals(LocaleContextHolder.getLocale().getLanguage()) ? WELSH : ENGLISH;
+        final String etag = "\"v" + dataVersion.get().getVersion() + "-" + language + "\"";
+        return forValidators(request, etag, dataVersion.get().getUpdatedAt().getTime(), body);
+    }
+
+    /**
+     * Answer a request from the validators of its response.
+     *
+     * @param request the request
+     * @param etag the quoted strong ETag of the response
+     * @param lastModified the time the response last changed in milliseconds, or -1 if it is not known
+     * @param body builds the response body
+     * @param <T> the type of the body
+     * @return a 304 if the client holds a response with the same validators, otherwise the body
+     */
+    public static <T> ResponseEntity<T> forValidators(final WebRequest request, final String etag, final long lastModified,
+                                                      final Supplier<T> body) {
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT_LANGUAGE).build();
+        }
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT_LANGUAGE).body(body.get());
+    }
+}
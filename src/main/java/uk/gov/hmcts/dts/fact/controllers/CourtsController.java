@@ -7,16 +7,29 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import uk.gov.hmcts.dts.fact.cache.CourtDocument;
+import uk.gov.hmcts.dts.fact.cache.CourtDocumentCache;
 import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.model.CourtCluster;
+import uk.gov.hmcts.dts.fact.model.CourtLocation;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
+import uk.gov.hmcts.dts.fact.services.CourtMapService;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.CourtSuggestionService;
 
 import java.util.List;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forValidators;
 
 @RestController
 @RequestMapping(
@@ -26,11 +39,25 @@ import static org.springframework.http.ResponseEntity.ok;
 @Validated
 public class CourtsController {
 
+    private static final String MIN_LATITUDE = "-90";
+    private static final String MAX_LATITUDE = "90";
+    private static final String MIN_LONGITUDE = "-180";
+    private static final String MAX_LONGITUDE = "180";
+    private static final String INVALID_LATITUDE = "Latitude must be between -90 and 90";
+    private static final String INVALID_LONGITUDE = "Longitude must be between -180 and 180";
+
     private final CourtService courtService;
+    private final CourtSuggestionService courtSuggestionService;
+    private final CourtMapService courtMapService;
+    private final CourtDocumentCache courtDocumentCache;
 
     @Autowired
-    public CourtsController(final CourtService courtService) {
+    public CourtsController(final CourtService courtService, final CourtSuggestionService courtSuggestionService,
+                            final CourtMapService courtMapService, final CourtDocumentCache courtDocumentCache) {
         this.courtService = courtService;
+        this.courtSuggestionService = courtSuggestionService;
+        this.courtMapService = courtMapService;
+        this.courtDocumentCache = courtDocumentCache;
     }
 
     /**
@@ -40,9 +67,9 @@ public class CourtsController {
      */
     @Deprecated(since = "1.0", forRemoval = true)
     @GetMapping(path = "/{slug}.json")
-    @ApiOperation("Find court details by name")
-    public ResponseEntity<OldCourt> findCourtByNameDeprecated(@PathVariable String slug) {
-        return ok(courtService.getCourtBySlugDeprecated(slug));
+    @ApiOperation(value = "Find court details by name", response = OldCourt.class)
+    public ResponseEntity<byte[]> findCourtByNameDeprecated(@PathVariable String slug, WebRequest request) {
+        return json(request, courtDocumentCache.getOldCourt(slug));
     }
 
     @GetMapping
@@ -55,9 +82,9 @@ public class CourtsController {
     }
 
     @GetMapping(path = "/{slug}")
-    @ApiOperation("Find court details by slug")
-    public ResponseEntity<Court> findCourtByName(@PathVariable String slug) {
-        return ok(courtService.getCourtBySlug(slug));
+    @ApiOperation(value = "Find court details by slug", response = Court.class)
+    public ResponseEntity<byte[]> findCourtByName(@PathVariable String slug, WebRequest request) {
+        return json(request, courtDocumentCache.getCourt(slug));
     }
 
     @GetMapping(path = "/search")
@@ -65,4 +92,55 @@ public class CourtsController {
     public ResponseEntity<List<CourtReference>> getCourtsBySearch(@RequestParam @Size(min = 1, max = 1) @NotBlank String prefix) {
         return ok(courtService.getCourtsByPrefixAndActiveSearch(prefix));
     }
+
+    @GetMapping(path = "/suggest")
+    @ApiOperation("Suggest active courts whose English or Welsh name or town name has a word starting with a prefix")
+    public ResponseEntity<List<CourtSuggestion>> getCourtSuggestions(
+        @RequestParam @Size(min = 1, max = 100) @NotBlank String prefix,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ok(courtSuggestionService.getCourtSuggestions(prefix, limit));
+    }
+
+    @GetMapping(path = "/within-box")
+    @ApiOperation("Return the displayed courts inside a bounding box, nearest the centre of the box first")
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public ResponseEntity<List<CourtLocation>> getCourtsInBox(
+        @RequestParam @DecimalMin(value = MIN_LATITUDE, message = INVALID_LATITUDE) @DecimalMax(value = MAX_LATITUDE, message = INVALID_LATITUDE) double minLat,
+        @RequestParam @DecimalMin(value = MIN_LONGITUDE, message = INVALID_LONGITUDE) @DecimalMax(value = MAX_LONGITUDE, message = INVALID_LONGITUDE) double minLon,
+        @RequestParam @DecimalMin(value = MIN_LATITUDE, message = INVALID_LATITUDE) @DecimalMax(value = MAX_LATITUDE, message = INVALID_LATITUDE) double maxLat,
+        @RequestParam @DecimalMin(value = MIN_LONGITUDE, message = INVALID_LONGITUDE) @DecimalMax(value = MAX_LONGITUDE, message = INVALID_LONGITUDE) double maxLon,
+        @RequestParam(name = "aol", required = false) String areaOfLaw,
+        @RequestParam(required = false) String courtType,
+        @RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit) {
+        return ok(courtMapService.getCourtsInBox(minLat, minLon, maxLat, maxLon, areaOfLaw, courtType, limit));
+    }
+
+    @GetMapping(path = "/within-distance")
+    @ApiOperation("Return the displayed courts within a number of miles of a point, nearest first")
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public ResponseEntity<List<CourtLocation>> getCourtsWithinDistance(
+        @RequestParam @DecimalMin(value = MIN_LATITUDE, message = INVALID_LATITUDE) @DecimalMax(value = MAX_LATITUDE, message = INVALID_LATITUDE) double lat,
+        @RequestParam @DecimalMin(value = MIN_LONGITUDE, message = INVALID_LONGITUDE) @DecimalMax(value = MAX_LONGITUDE, message = INVALID_LONGITUDE) double lon,
+        @RequestParam @DecimalMin("0") @DecimalMax("1000") double miles,
+        @RequestParam(name = "aol", required = false) String areaOfLaw,
+        @RequestParam(required = false) String courtType,
+        @RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit) {
+        return ok(courtMapService.getCourtsWithinDistance(lat, lon, miles, areaOfLaw, courtType, limit));
+    }
+
+    @GetMapping(path = "/clusters")
+    @ApiOperation("Return clusters of the displayed courts in a viewport, sized for the zoom level of the map")
+    public ResponseEntity<List<CourtCluster>> getCourtClusters(
+        @RequestParam @Min(0) @Max(20) int zoom,
+        @RequestParam @DecimalMin(value = MIN_LATITUDE, message = INVALID_LATITUDE) @DecimalMax(value = MAX_LATITUDE, message = INVALID_LATITUDE) double minLat,
+        @RequestParam @DecimalMin(value = MIN_LONGITUDE, message = INVALID_LONGITUDE) @DecimalMax(value = MAX_LONGITUDE, message = INVALID_LONGITUDE) double minLon,
+        @RequestParam @DecimalMin(value = MIN_LATITUDE, message = INVALID_LATITUDE) @DecimalMax(value = MAX_LATITUDE, message = INVALID_LATITUDE) double maxLat,
+        @RequestParam @DecimalMin(value = MIN_LONGITUDE, message = INVALID_LONGITUDE) @DecimalMax(value = MAX_LONGITUDE, message = INVALID_LONGITUDE) double maxLon) {
+        return ok(courtMapService.getCourtClusters(zoom, minLat, minLon, maxLat, maxLon));
+    }
+
+    private static ResponseEntity<byte[]> json(final WebRequest request, final CourtDocument document) {
+        // Court documents are served already serialised from the cache, which worked out their ETags as it serialised them
+        return forValidators(request, document.getEtag(), document.getLastModified(), document::getJson);
+    }
 }
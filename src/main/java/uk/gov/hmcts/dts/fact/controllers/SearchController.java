@@ -8,13 +8,20 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import uk.gov.hmcts.dts.fact.model.BulkSearchRequest;
+import uk.gov.hmcts.dts.fact.model.BulkSearchResult;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
 import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.services.BulkSearchService;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.LocationSearchService;
 
 import java.util.List;
 import java.util.Optional;
+import javax.validation.ConstraintViolationException;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Pattern;
 
 import static org.springframework.http.ResponseEntity.badRequest;
@@ -29,11 +36,24 @@ import static org.springframework.http.ResponseEntity.ok;
 public class SearchController {
 
     private final CourtService courtService;
+    private final LocationSearchService locationSearchService;
+    private final BulkSearchService bulkSearchService;
     private static final String CHILDRENAREAOFLAW = "Children";
+    private static final String CHILDCARE_ARRANGEMENTS = "childcare-arrangements";
+    private static final String POSTCODE_PATTERN =
+        "([Gg][Ii][Rr] 0[Aa]{2})|((([A-Za-z][0-9]{1,2})|(([A-Za-z]"
+        + "[A-Ha-hJ-Yj-y][0-9]{1,2})|(([A-Za-z][0-9][A-Za-z])|([A-Za-z][A-Ha-hJ-Yj-y]"
+        + "[0-9][A-Za-z]?))))\\s?[0-9][A-Za-z]{2})";
+    private static final String INVALID_POSTCODE = "Provided postcode is not valid";
+    private static final String INVALID_LATITUDE = "Provided latitude is not valid";
+    private static final String INVALID_LONGITUDE = "Provided longitude is not valid";
 
     @Autowired
-    public SearchController(final CourtService courtService) {
+    public SearchController(final CourtService courtService, final LocationSearchService locationSearchService,
+                            final BulkSearchService bulkSearchService) {
         this.courtService = courtService;
+        this.locationSearchService = locationSearchService;
+        this.bulkSearchService = bulkSearchService;
     }
 
     /**
@@ -67,11 +87,7 @@ public class SearchController {
     @ApiOperation("Find closest courts by postcode")
     @Description("Endpoint to return the 10 closest courts for a provided postcode")
     public ResponseEntity<List<CourtReferenceWithDistance>> findCourtsByPostcode(
-        @Pattern(regexp =
-            "([Gg][Ii][Rr] 0[Aa]{2})|((([A-Za-z][0-9]{1,2})|(([A-Za-z]"
-            + "[A-Ha-hJ-Yj-y][0-9]{1,2})|(([A-Za-z][0-9][A-Za-z])|([A-Za-z][A-Ha-hJ-Yj-y]"
-            + "[0-9][A-Za-z]?))))\\s?[0-9][A-Za-z]{2})",
-            message = "Provided postcode is not valid")
+        @Pattern(regexp = POSTCODE_PATTERN, message = INVALID_POSTCODE)
         @PathVariable String postcode) {
         return ok(courtService.getNearestCourtReferencesByPostcode(postcode));
     }
@@ -84,7 +100,7 @@ public class SearchController {
         @ApiParam("Service Area Slug") @RequestParam(name = "serviceArea") Optional<String> serviceAreaSlug
     ) {
         if (postcode.isPresent() && serviceAreaSlug.isPresent()) {
-            if (serviceAreaSlug.get().equals("childcare-arrangements")) {
+            if (serviceAreaSlug.get().equals(CHILDCARE_ARRANGEMENTS)) {
                 return ok(courtService.getNearestCourtsByAreaOfLawSinglePointOfEntry(postcode.get(), serviceAreaSlug.get(), CHILDRENAREAOFLAW));
             } else {
                 return ok(courtService.getNearestCourtsByPostcodeSearch(postcode.get(), serviceAreaSlug.get()));
@@ -93,4 +109,60 @@ public class SearchController {
             return badRequest().build();
         }
     }
+
+    @GetMapping(path = "/results/service-areas")
+    @ApiOperation("Find courts by postcode for several Service Areas")
+    @Description("Endpoint to return the courts near a postcode for each of several Service Areas, looking the postcode up once")
+    public ResponseEntity<List<ServiceAreaWithCourtReferencesWithDistance>> findCourtsByPostcodeAndServiceAreas(
+        @Pattern(regexp = POSTCODE_PATTERN, message = INVALID_POSTCODE) @RequestParam String postcode,
+        @ApiParam("Service Area Slugs") @RequestParam(name = "serviceArea") List<String> serviceAreaSlugs
+    ) {
+        return ok(bulkSearchService.searchServiceAreas(postcode, serviceAreaSlugs));
+    }
+
+    @PostMapping(path = "/results/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation("Find courts for many postcodes and Service Areas at once")
+    @Description("Endpoint for batch jobs to run many postcode and Service Area searches in one request, with the results in request order")
+    public ResponseEntity<List<BulkSearchResult>> findCourtsByPostcodesAndServiceAreas(@RequestBody List<BulkSearchRequest> searches) {
+        return ok(bulkSearchService.search(searches));
+    }
+
+    @GetMapping(path = "/results/location")
+    @ApiOperation("Find closest courts by latitude and longitude")
+    @Description("Endpoint to return the 10 closest courts to a location that has already been found, without looking up a postcode")
+    public ResponseEntity<List<CourtReferenceWithDistance>> findCourtsByLocation(
+        @DecimalMin(value = "-90", message = INVALID_LATITUDE) @DecimalMax(value = "90", message = INVALID_LATITUDE)
+        @RequestParam Double lat,
+        @DecimalMin(value = "-180", message = INVALID_LONGITUDE) @DecimalMax(value = "180", message = INVALID_LONGITUDE)
+        @RequestParam Double lon,
+        @ApiParam("Area of Law") @RequestParam(name = "aol") Optional<String> areaOfLaw
+    ) {
+        return ok(locationSearchService.getNearestCourtReferencesByLocation(lat, lon, areaOfLaw.orElse(null)));
+    }
+
+    @GetMapping(path = "/results/location/service-area")
+    @ApiOperation("Find courts by latitude, longitude and Service Area")
+    @Description("Endpoint to return the courts for a Service Area near a location that has already been found, without looking up a postcode")
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    public ResponseEntity<ServiceAreaWithCourtReferencesWithDistance> findCourtsByLocationAndServiceArea(
+        @DecimalMin(value = "-90", message = INVALID_LATITUDE) @DecimalMax(value = "90", message = INVALID_LATITUDE)
+        @RequestParam Double lat,
+        @DecimalMin(value = "-180", message = INVALID_LONGITUDE) @DecimalMax(value = "180", message = INVALID_LONGITUDE)
+        @RequestParam Double lon,
+        @ApiParam("Service Area Slug") @RequestParam(name = "serviceArea") String serviceAreaSlug,
+        @ApiParam("Local authority the location is in") @RequestParam(name = "localAuthority") Optional<String> localAuthority,
+        @ApiParam("Postcode of the location, used for postcode catchments") @RequestParam(name = "postcode") Optional<String> postcode
+    ) {
+        if (serviceAreaSlug.equals(CHILDCARE_ARRANGEMENTS)) {
+            return ok(locationSearchService.getNearestCourtsByLocationAndAreaOfLawSinglePointOfEntry(
+                lat, lon, serviceAreaSlug, CHILDRENAREAOFLAW, localAuthority.orElse(null), postcode.orElse(null)));
+        }
+        return ok(locationSearchService.getNearestCourtsByLocationSearch(
+            lat, lon, serviceAreaSlug, localAuthority.orElse(null), postcode.orElse(null)));
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    ResponseEntity<String> constraintViolationExceptionHandler(final ConstraintViolationException ex) {
+        return badRequest().body(ex.getMessage());
+    }
 }
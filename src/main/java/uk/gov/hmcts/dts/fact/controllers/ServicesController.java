@@ -5,13 +5,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.model.Service;
 import uk.gov.hmcts.dts.fact.model.ServiceArea;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.ServiceService;
 
 import java.util.List;
 
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 
 @RestController
 @RequestMapping(
@@ -20,16 +23,18 @@ import static org.springframework.http.ResponseEntity.ok;
 public class ServicesController {
 
     private final ServiceService serviceService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public ServicesController(final ServiceService serviceService) {
+    public ServicesController(final ServiceService serviceService, final DataVersionService dataVersionService) {
         this.serviceService = serviceService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping(path = "/services")
     @ApiOperation("Return all services")
-    public ResponseEntity<List<Service>> getAllServices() {
-        return ok(serviceService.getAllServices());
+    public ResponseEntity<List<Service>> getAllServices(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), serviceService::getAllServices);
     }
 
     @GetMapping(path = "/services/{slug}")
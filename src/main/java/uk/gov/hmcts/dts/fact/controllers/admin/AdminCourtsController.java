@@ -8,12 +8,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.admin.Court;
 import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.model.admin.ImageFile;
 import uk.gov.hmcts.dts.fact.model.admin.NewCourt;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminService;
 import uk.gov.hmcts.dts.fact.util.Utils;
 
@@ -22,6 +24,7 @@ import java.util.List;
 import javax.validation.Valid;
 
 import static org.springframework.http.ResponseEntity.*;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -34,26 +37,28 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 public class AdminCourtsController {
 
     private final AdminService adminService;
+    private final DataVersionService dataVersionService;
     private static final String FORBIDDEN = "Forbidden";
     private static final String UNAUTHORISED = "Unauthorised";
 
     @Autowired
-    public AdminCourtsController(final AdminService adminService) {
+    public AdminCourtsController(final AdminService adminService, final DataVersionService dataVersionService) {
         this.adminService = adminService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping(path = "/all")
     @ApiOperation("Return all courts")
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<CourtReference>> getAllCourts() {
-        return ok(adminService.getAllCourtReferences());
+    public ResponseEntity<List<CourtReference>> getAllCourts(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminService::getAllCourtReferences);
     }
 
     @GetMapping(path = "/")
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
     @ApiOperation("Return court data for download")
-    public ResponseEntity<List<uk.gov.hmcts.dts.fact.model.CourtForDownload>> getAllCourtsForDownload() {
-        return ok(adminService.getAllCourtsForDownload());
+    public ResponseEntity<List<uk.gov.hmcts.dts.fact.model.CourtForDownload>> getAllCourtsForDownload(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminService::getAllCourtsForDownload);
     }
 
     @PutMapping(path = "/info")
@@ -8,13 +8,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.AddressType;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminAddressTypeService;
 
 import java.util.List;
 
-import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -25,9 +27,11 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 )
 public class AdminAddressTypeController {
     private final AdminAddressTypeService adminService;
+    private final DataVersionService dataVersionService;
 
-    public AdminAddressTypeController(AdminAddressTypeService adminService) {
+    public AdminAddressTypeController(AdminAddressTypeService adminService, DataVersionService dataVersionService) {
         this.adminService = adminService;
+        this.dataVersionService = dataVersionService;
     }
 
     /**
@@ -42,7 +46,7 @@ public class AdminAddressTypeController {
         @ApiResponse(code = 403, message = "Forbidden")
     })
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<AddressType>> getAllCourtAddressTypes() {
-        return ok(adminService.getAllAddressTypes());
+    public ResponseEntity<List<AddressType>> getAllCourtAddressTypes(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminService::getAllAddressTypes);
     }
 }
@@ -8,8 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminAreasOfLawService;
 
 import java.net.URI;
@@ -17,6 +19,7 @@ import java.util.List;
 
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -28,10 +31,12 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public class AdminAreasOfLawController {
     private final AdminAreasOfLawService adminAreasOfLawService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public AdminAreasOfLawController(AdminAreasOfLawService adminAreasOfLawService) {
+    public AdminAreasOfLawController(AdminAreasOfLawService adminAreasOfLawService, DataVersionService dataVersionService) {
         this.adminAreasOfLawService = adminAreasOfLawService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping()
@@ -42,8 +47,8 @@ public class AdminAreasOfLawController {
         @ApiResponse(code = 403, message = "Forbidden")
     })
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<AreaOfLaw>> getAllAreasOfLaw() {
-        return ok(adminAreasOfLawService.getAllAreasOfLaw());
+    public ResponseEntity<List<AreaOfLaw>> getAllAreasOfLaw(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminAreasOfLawService::getAllAreasOfLaw);
     }
 
     @GetMapping(path = "/{id}")
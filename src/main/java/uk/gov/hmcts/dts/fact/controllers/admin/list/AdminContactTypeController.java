@@ -8,8 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.ContactType;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminContactTypeService;
 
 import java.net.URI;
@@ -17,6 +19,7 @@ import java.util.List;
 
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -29,10 +32,12 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 public class AdminContactTypeController {
 
     private final AdminContactTypeService adminContactTypeService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public AdminContactTypeController(AdminContactTypeService adminContactTypeService) {
+    public AdminContactTypeController(AdminContactTypeService adminContactTypeService, DataVersionService dataVersionService) {
         this.adminContactTypeService = adminContactTypeService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping()
@@ -43,8 +48,8 @@ public class AdminContactTypeController {
         @ApiResponse(code = 403, message = "Forbidden")
     })
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<ContactType>> getAllContactTypes() {
-        return ok(adminContactTypeService.getAllContactTypes());
+    public ResponseEntity<List<ContactType>> getAllContactTypes(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminContactTypeService::getAllContactTypes);
     }
 
 
@@ -8,8 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.FacilityType;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminFacilityService;
 
 import java.net.URI;
@@ -17,6 +19,7 @@ import java.util.List;
 
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -28,10 +31,12 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public class AdminFacilitiesController {
     private final AdminFacilityService adminFacilityService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public AdminFacilitiesController(AdminFacilityService adminFacilityService) {
+    public AdminFacilitiesController(AdminFacilityService adminFacilityService, DataVersionService dataVersionService) {
         this.adminFacilityService = adminFacilityService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping(path = "")
@@ -42,8 +47,8 @@ public class AdminFacilitiesController {
         @ApiResponse(code = 403, message = "Forbidden")
     })
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<FacilityType>> getAllFacilities() {
-        return ok(adminFacilityService.getAllFacilityTypes());
+    public ResponseEntity<List<FacilityType>> getAllFacilities(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminFacilityService::getAllFacilityTypes);
     }
 
     @GetMapping(path = "/{id}")
@@ -7,15 +7,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.exception.IllegalListItemException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminLocalAuthorityService;
 import uk.gov.hmcts.dts.fact.services.validation.ValidationService;
 
 import java.util.List;
 
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -27,18 +30,21 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 public class AdminLocalAuthoritiesController {
     private final AdminLocalAuthorityService adminLocalAuthorityService;
     private final ValidationService validationService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public AdminLocalAuthoritiesController(AdminLocalAuthorityService localAuthorityService, ValidationService validationService) {
+    public AdminLocalAuthoritiesController(AdminLocalAuthorityService localAuthorityService, ValidationService validationService,
+                                           DataVersionService dataVersionService) {
         this.adminLocalAuthorityService = localAuthorityService;
         this.validationService = validationService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping(path = "/all")
     @ApiOperation("Return all local authorities")
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<LocalAuthority>> getAllLocalAuthorities() {
-        return ok(adminLocalAuthorityService.getAllLocalAuthorities());
+    public ResponseEntity<List<LocalAuthority>> getAllLocalAuthorities(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminLocalAuthorityService::getAllLocalAuthorities);
     }
 
     @PutMapping(path = "/{localAuthorityId}")
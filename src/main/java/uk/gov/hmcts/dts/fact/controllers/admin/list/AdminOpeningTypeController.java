@@ -8,8 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningType;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminOpeningTypeService;
 
 import java.net.URI;
@@ -17,6 +19,7 @@ import java.util.List;
 
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
@@ -29,10 +32,12 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 public class AdminOpeningTypeController {
 
     private final AdminOpeningTypeService adminService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public AdminOpeningTypeController(AdminOpeningTypeService adminService) {
+    public AdminOpeningTypeController(AdminOpeningTypeService adminService, DataVersionService dataVersionService) {
         this.adminService = adminService;
+        this.dataVersionService = dataVersionService;
     }
 
 
@@ -44,8 +49,8 @@ public class AdminOpeningTypeController {
         @ApiResponse(code = 403, message = "Forbidden")
     })
     @Role({FACT_ADMIN, FACT_SUPER_ADMIN})
-    public ResponseEntity<List<OpeningType>> getAllOpeningTypes() {
-        return ok(adminService.getAllOpeningTypes());
+    public ResponseEntity<List<OpeningType>> getAllOpeningTypes(WebRequest request) {
+        return forDataVersion(request, dataVersionService.getDataVersion(), adminService::getAllOpeningTypes);
     }
 
     @GetMapping(path = "/{id}")
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.dts.fact.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * A postcode located by Mapit, keyed by the postcode in upper case without spaces.
+ */
+@Entity
+@Table(name = "search_postcodegeocode")
+@Getter
+@NoArgsConstructor
+public class PostcodeGeocode {
+    @Id
+    private String postcode;
+    private Double lat;
+    private Double lon;
+    private String localAuthority;
+    private LocalDateTime fetchedAt;
+}
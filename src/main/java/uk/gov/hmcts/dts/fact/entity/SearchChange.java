@@ -0,0 +1,46 @@
+package uk.gov.hmcts.dts.fact.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+/**
+ * A change written by the admin services, recorded in the same transaction as the change itself.
+ * Court changes have a court ID or slug; changes to shared data, such as a local authority, have a reference ID instead.
+ */
+@Entity
+@Table(name = "search_change")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SearchChange {
+    @Id
+    @SequenceGenerator(name = "seq-gen", sequenceName = "search_change_id_seq", allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq-gen")
+    private Long id;
+    private String instanceId;
+    private String changeType;
+    private Integer courtId;
+    private String slug;
+    private Integer referenceId;
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public SearchChange(final String instanceId, final String changeType, final Integer courtId, final String slug,
+                        final Integer referenceId) {
+        this.instanceId = instanceId;
+        this.changeType = changeType;
+        this.courtId = courtId;
+        this.slug = slug;
+        this.referenceId = referenceId;
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.dts.fact.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.sql.Timestamp;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * The count of changes to the tables the in-memory search indexes and the court and list endpoints are built from, and
+ * the time of the last change, kept up to date by database triggers. Read it with
+ * {@code SearchIndexVersionRepository.findCurrentById}, which counts in the changes not yet added to the stored row.
+ */
+@Entity
+@Immutable
+@Table(name = "search_indexversion")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexVersion {
+    @Id
+    private Integer id;
+    private Long version;
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.dts.fact.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when an area of law has been renamed or deleted. Areas of law are shared by many courts, so anything held by
+ * area of law name must be rebuilt for every court.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AreaOfLawChangedEvent {
+    private final Integer areaOfLawId;
+    private final boolean fromOtherInstance;
+
+    public AreaOfLawChangedEvent(final Integer areaOfLawId) {
+        this(areaOfLawId, false);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.dts.fact.events;
+
+public enum CourtChangeType {
+    CREATED,
+    DELETED,
+    GENERAL_INFO,
+    COORDINATES,
+    AREAS_OF_LAW,
+    LOCAL_AUTHORITIES,
+    POSTCODES,
+    ADDRESSES,
+    TYPES_AND_CODES,
+    SPOE_AREAS_OF_LAW,
+    INFO,
+    IMAGE,
+    ADDITIONAL_LINKS,
+    CONTACTS,
+    EMAILS,
+    FACILITIES,
+    OPENING_TIMES
+}
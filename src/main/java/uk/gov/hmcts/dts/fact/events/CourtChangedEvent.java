@@ -0,0 +1,25 @@
+package uk.gov.hmcts.dts.fact.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the admin services whenever data belonging to a court has been written. Listeners are expected to
+ * reload whatever they hold for the court rather than rely on the event for the new values.
+ * Either the court ID or the slug may be null when the writer does not have it to hand.
+ * Events replayed from a change written by another instance are marked as such, so they are not recorded again.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CourtChangedEvent {
+    private final Integer courtId;
+    private final String slug;
+    private final CourtChangeType changeType;
+    private final boolean fromOtherInstance;
+
+    public CourtChangedEvent(final Integer courtId, final String slug, final CourtChangeType changeType) {
+        this(courtId, slug, changeType, false);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.dts.fact.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a local authority has been renamed. Local authorities are shared by many courts, so anything held by
+ * local authority name must be rebuilt for every court.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class LocalAuthorityChangedEvent {
+    private final Integer localAuthorityId;
+    private final boolean fromOtherInstance;
+
+    public LocalAuthorityChangedEvent(final Integer localAuthorityId) {
+        this(localAuthorityId, false);
+    }
+}
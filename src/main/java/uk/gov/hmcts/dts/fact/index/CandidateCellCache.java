@@ -0,0 +1,140 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import uk.gov.hmcts.dts.fact.util.Geohash;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.util.EarthDistance.distanceInMiles;
+
+/**
+ * Cache of candidate courts for nearest court searches, keyed by geohash cell and area of law.
+ * - For a cell with centre c and a corner r from c, if the tenth nearest court to c is d away then every point in the cell
+ *   has ten courts within d + r, so its ten nearest courts are all within d + 2r of c. Those courts are cached as the
+ *   candidates for the cell, and a search only ranks the candidates.
+ * - When there are fewer than ten courts with coordinates, every court is a candidate.
+ * - The cache belongs to one snapshot. A court change carries the cache over to the new snapshot without the cells the court
+ *   was a candidate in, or could now be a candidate in.
+ * - Cells are only added while the cache is below its maximum size.
+ */
+@SuppressWarnings({"PMD.LawOfDemeter"})
+public final class CandidateCellCache {
+    /**
+     * The number of courts the candidates of a cell are guaranteed to include the nearest of.
+     */
+    public static final int DEPTH = 10;
+    static final int PRECISION = 5;
+    static final int MAX_CELLS = 50_000;
+    private static final String ANY_AREA_OF_LAW = "";
+    private static final double ROUNDING_ERROR = 1e-9;
+
+    private final CourtLocationIndex locationIndex;
+    private final Map<String, CandidateCell> cells;
+
+    public CandidateCellCache(final CourtLocationIndex locationIndex) {
+        this(locationIndex, new ConcurrentHashMap<>());
+    }
+
+    private CandidateCellCache(final CourtLocationIndex locationIndex, final Map<String, CandidateCell> cells) {
+        this.locationIndex = locationIndex;
+        this.cells = cells;
+    }
+
+    /**
+     * Find the courts nearest to a point by ranking the candidates of its cell, finding the candidates first if the cell is
+     * not cached.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param limit the maximum number of courts to return, at most {@link #DEPTH}
+     * @param areaOfLaw the area of law the courts must have (case insensitive), or null for any court
+     * @return the same courts, in the same order, as {@link CourtLocationIndex#nearest}, and whether the cell was cached
+     */
+    public CellSearchResult nearest(final double lat, final double lon, final int limit, final String areaOfLaw) {
+        final String geohash = Geohash.encode(lat, lon, PRECISION);
+        final String key = geohash + '/' + (areaOfLaw == null ? ANY_AREA_OF_LAW : IndexedCourt.normalise(areaOfLaw));
+        CandidateCell cell = cells.get(key);
+        final boolean cached = cell != null;
+        if (!cached) {
+            cell = findCandidates(geohash, areaOfLaw);
+            if (cells.size() < MAX_CELLS) {
+                cells.put(key, cell);
+            }
+        }
+        return new CellSearchResult(locationIndex.rank(cell.candidates, lat, lon, limit), cached);
+    }
+
+    /**
+     * Move the cache on to a location index in which one court has been added, changed or removed.
+     *
+     * @param updatedIndex the location index after the change
+     * @param courtId the ID of the court that changed
+     * @return a cache for the updated index, without the cells the change could affect
+     */
+    public CandidateCellCache withCourt(final CourtLocationIndex updatedIndex, final int courtId) {
+        final Map<String, CandidateCell> remaining = new ConcurrentHashMap<>();
+        cells.forEach((key, cell) -> {
+            if (!cell.isAffectedBy(updatedIndex, courtId)) {
+                remaining.put(key, cell);
+            }
+        });
+        return new CandidateCellCache(updatedIndex, remaining);
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    private CandidateCell findCandidates(final String geohash, final String areaOfLaw) {
+        final double[] bounds = Geohash.bounds(geohash);
+        final double centreLat = (bounds[0] + bounds[2]) / 2;
+        final double centreLon = (bounds[1] + bounds[3]) / 2;
+        final List<CourtDistance> nearest = locationIndex.nearest(centreLat, centreLon, DEPTH, areaOfLaw);
+        if (nearest.size() < DEPTH || nearest.get(DEPTH - 1).getDistance() == null) {
+            return new CandidateCell(areaOfLaw, centreLat, centreLon, Double.POSITIVE_INFINITY, locationIndex.courtsWith(areaOfLaw));
+        }
+
+        // The corners nearer the equator are the furthest from the centre
+        final double cornerDistance = Math.max(
+            distanceInMiles(centreLat, centreLon, bounds[0], bounds[1]),
+            distanceInMiles(centreLat, centreLon, bounds[2], bounds[1])
+        );
+        final double radius = nearest.get(DEPTH - 1).getDistance() + 2 * cornerDistance + ROUNDING_ERROR;
+        final List<Integer> candidates = locationIndex.within(centreLat, centreLon, radius, areaOfLaw)
+            .stream()
+            .map(CourtDistance::getCourtId)
+            .collect(toList());
+        return new CandidateCell(areaOfLaw, centreLat, centreLon, radius, candidates);
+    }
+
+    private static final class CandidateCell {
+        private final String areaOfLaw;
+        private final double centreLat;
+        private final double centreLon;
+        private final double radius;
+        private final List<Integer> candidates;
+
+        CandidateCell(final String areaOfLaw, final double centreLat, final double centreLon, final double radius,
+                      final List<Integer> candidates) {
+            this.areaOfLaw = areaOfLaw;
+            this.centreLat = centreLat;
+            this.centreLon = centreLon;
+            this.radius = radius;
+            this.candidates = candidates;
+        }
+
+        boolean isAffectedBy(final CourtLocationIndex updatedIndex, final int courtId) {
+            if (candidates.contains(courtId)) {
+                return true;
+            }
+            if (!updatedIndex.hasCourt(courtId, areaOfLaw)) {
+                return false;
+            }
+            // Every court is a candidate while there are fewer than ten, so any new court with the area of law affects the cell
+            final Double distance = updatedIndex.distanceTo(courtId, centreLat, centreLon);
+            return Double.isInfinite(radius) || distance != null && distance <= radius;
+        }
+    }
+}
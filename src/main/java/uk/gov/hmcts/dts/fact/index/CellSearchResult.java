@@ -0,0 +1,16 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The courts found by a candidate cell search, and whether the candidates came from the cache.
+ */
+@Getter
+@AllArgsConstructor
+public class CellSearchResult {
+    private final List<CourtDistance> courts;
+    private final boolean cached;
+}
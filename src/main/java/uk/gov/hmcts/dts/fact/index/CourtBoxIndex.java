@@ -0,0 +1,96 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable two dimensional k-d tree over the latitude and longitude of the courts with coordinates, for finding the courts
+ * inside a bounding box such as the visible part of a map. Levels of the tree split on latitude and longitude in turn, so a
+ * search only visits the branches that overlap the box.
+ */
+@SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+public final class CourtBoxIndex {
+    private static final int LAT = 0;
+    private static final int LON = 1;
+    private static final int DIMENSIONS = 2;
+
+    private final IndexedCourt[] tree;
+    private final double[] coordinates;
+
+    public CourtBoxIndex(final Collection<IndexedCourt> courts) {
+        tree = courts.stream()
+            .filter(IndexedCourt::hasCoordinates)
+            .toArray(IndexedCourt[]::new);
+        build(0, tree.length, 0);
+        coordinates = new double[tree.length * DIMENSIONS];
+        for (int i = 0; i < tree.length; i++) {
+            coordinates[i * DIMENSIONS + LAT] = tree[i].getLat();
+            coordinates[i * DIMENSIONS + LON] = tree[i].getLon();
+        }
+    }
+
+    /**
+     * Find the courts inside a bounding box, including courts on its edges.
+     *
+     * @param minLat the southern edge of the box
+     * @param minLon the western edge of the box
+     * @param maxLat the northern edge of the box
+     * @param maxLon the eastern edge of the box
+     * @return the courts inside the box, in no particular order
+     */
+    public List<IndexedCourt> within(final double minLat, final double minLon, final double maxLat, final double maxLon) {
+        final List<IndexedCourt> found = new ArrayList<>();
+        if (minLat <= maxLat && minLon <= maxLon) {
+            collect(new double[] {minLat, minLon}, new double[] {maxLat, maxLon}, found, 0, tree.length, 0);
+        }
+        return found;
+    }
+
+    public int size() {
+        return tree.length;
+    }
+
+    private void collect(final double[] min, final double[] max, final List<IndexedCourt> found,
+                         final int from, final int to, final int depth) {
+        if (from >= to) {
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        if (isInside(min, max, middle)) {
+            found.add(tree[middle]);
+        }
+
+        // The courts before the middle are at or below it on the splitting axis, and the courts after it at or above it
+        final int axis = depth % DIMENSIONS;
+        final double value = coordinates[middle * DIMENSIONS + axis];
+        if (min[axis] <= value) {
+            collect(min, max, found, from, middle, depth + 1);
+        }
+        if (max[axis] >= value) {
+            collect(min, max, found, middle + 1, to, depth + 1);
+        }
+    }
+
+    private boolean isInside(final double[] min, final double[] max, final int position) {
+        final double lat = coordinates[position * DIMENSIONS + LAT];
+        final double lon = coordinates[position * DIMENSIONS + LON];
+        return lat >= min[LAT] && lat <= max[LAT] && lon >= min[LON] && lon <= max[LON];
+    }
+
+    private void build(final int from, final int to, final int depth) {
+        final int middle = (from + to) >>> 1;
+        if (middle == from) {
+            return;
+        }
+        final Comparator<IndexedCourt> byAxis = depth % DIMENSIONS == LAT
+            ? Comparator.comparingDouble(IndexedCourt::getLat)
+            : Comparator.comparingDouble(IndexedCourt::getLon);
+        Arrays.sort(tree, from, to, byAxis);
+        build(from, middle, depth + 1);
+        build(middle + 1, to, depth + 1);
+    }
+}
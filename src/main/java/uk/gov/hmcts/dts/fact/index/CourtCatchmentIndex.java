@@ -0,0 +1,100 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Immutable lookup of the courts that serve a local authority for an area of law, taken from the court local authority
+ * catchments set in the admin portal.
+ * The courts with a regional service area catchment are held separately, both by area of law and local authority and by
+ * area of law alone, so the regional family searches do not need to filter the candidates.
+ */
+public final class CourtCatchmentIndex {
+    private final Map<String, Map<String, Set<Integer>>> localAuthorityCourts;
+    private final Map<String, Map<String, Set<Integer>>> regionalLocalAuthorityCourts;
+    private final Map<String, Set<Integer>> regionalCourts;
+
+    public CourtCatchmentIndex(final Collection<IndexedCourt> courts) {
+        localAuthorityCourts = groupByAreaOfLawAndLocalAuthority(courts);
+        regionalLocalAuthorityCourts = groupByAreaOfLawAndLocalAuthority(
+            courts.stream().filter(IndexedCourt::isRegional).collect(toUnmodifiableSet())
+        );
+        regionalCourts = courts.stream()
+            .filter(IndexedCourt::isRegional)
+            .flatMap(court -> court.getLocalAuthoritiesByAreaOfLaw()
+                .keySet()
+                .stream()
+                .map(areaOfLaw -> new Catchment(areaOfLaw, null, court.getId())))
+            .collect(groupingBy(Catchment::getAreaOfLaw, mapping(Catchment::getCourtId, toUnmodifiableSet())));
+    }
+
+    /**
+     * Find the courts that serve a local authority for an area of law.
+     *
+     * @param areaOfLaw the area of law (case insensitive)
+     * @param localAuthority the local authority (case insensitive)
+     * @return the IDs of the courts
+     */
+    public Set<Integer> findLocalAuthorityCourts(final String areaOfLaw, final String localAuthority) {
+        return find(localAuthorityCourts, areaOfLaw, localAuthority);
+    }
+
+    /**
+     * Find the courts with a regional catchment that serve a local authority for an area of law.
+     *
+     * @param areaOfLaw the area of law (case insensitive)
+     * @param localAuthority the local authority (case insensitive)
+     * @return the IDs of the courts
+     */
+    public Set<Integer> findRegionalLocalAuthorityCourts(final String areaOfLaw, final String localAuthority) {
+        return find(regionalLocalAuthorityCourts, areaOfLaw, localAuthority);
+    }
+
+    /**
+     * Find the courts with a regional catchment that serve any local authority for an area of law.
+     *
+     * @param areaOfLaw the area of law (case insensitive)
+     * @return the IDs of the courts
+     */
+    public Set<Integer> findRegionalCourts(final String areaOfLaw) {
+        return regionalCourts.getOrDefault(IndexedCourt.normalise(areaOfLaw), emptySet());
+    }
+
+    private static Set<Integer> find(final Map<String, Map<String, Set<Integer>>> courts,
+                                     final String areaOfLaw, final String localAuthority) {
+        return courts.getOrDefault(IndexedCourt.normalise(areaOfLaw), emptyMap())
+            .getOrDefault(IndexedCourt.normalise(localAuthority), emptySet());
+    }
+
+    private static Map<String, Map<String, Set<Integer>>> groupByAreaOfLawAndLocalAuthority(final Collection<IndexedCourt> courts) {
+        return courts.stream()
+            .flatMap(court -> court.getLocalAuthoritiesByAreaOfLaw()
+                .entrySet()
+                .stream()
+                .flatMap(entry -> entry.getValue()
+                    .stream()
+                    .map(localAuthority -> new Catchment(entry.getKey(), localAuthority, court.getId()))))
+            .collect(groupingBy(
+                Catchment::getAreaOfLaw,
+                groupingBy(Catchment::getLocalAuthority, mapping(Catchment::getCourtId, toUnmodifiableSet()))
+            ));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Catchment {
+        private final String areaOfLaw;
+        private final String localAuthority;
+        private final Integer courtId;
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import uk.gov.hmcts.dts.fact.util.Geohash;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Immutable clusters of the courts with coordinates, aggregated over the geohash cells of every precision up to
+ * {@link #MAX_PRECISION}, for drawing a map at low zoom levels without a marker for every court.
+ * - Each level holds only the cells that have courts in them, so a search walks down from the coarsest cells into the
+ *   cells that overlap the viewport, without looking at the courts themselves.
+ * - Changing a court copies the levels and replaces the cells the court was in and is now in, so the other cells are
+ *   shared with the previous version.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops"})
+public final class CourtClusterIndex {
+    /**
+     * The longest geohash clustered, with cells around 40 by 20 metres.
+     */
+    public static final int MAX_PRECISION = 8;
+    private static final int MAX_ZOOM = 20;
+
+    private final List<Map<String, GeohashCluster>> levels;
+
+    public CourtClusterIndex(final Collection<IndexedCourt> courts) {
+        final List<Map<String, GeohashCluster>> built = new ArrayList<>(MAX_PRECISION);
+        for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+            built.add(new HashMap<>());
+        }
+        courts.forEach(court -> adjust(built, court, true));
+        this.levels = freeze(built);
+    }
+
+    private CourtClusterIndex(final List<Map<String, GeohashCluster>> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Move a court between clusters.
+     *
+     * @param previous the court as it was, or null if it was not indexed
+     * @param updated the court as it is now, or null if it is no longer displayed
+     * @return the updated index
+     */
+    public CourtClusterIndex withCourt(final IndexedCourt previous, final IndexedCourt updated) {
+        final List<Map<String, GeohashCluster>> copied = new ArrayList<>(MAX_PRECISION);
+        levels.forEach(level -> copied.add(new HashMap<>(level)));
+        if (previous != null) {
+            adjust(copied, previous, false);
+        }
+        if (updated != null) {
+            adjust(copied, updated, true);
+        }
+        return new CourtClusterIndex(freeze(copied));
+    }
+
+    /**
+     * Find the clusters of one precision whose cells overlap a viewport.
+     *
+     * @param precision the length of the geohashes to cluster by, from 1 to {@link #MAX_PRECISION}
+     * @param minLat the southern edge of the viewport
+     * @param minLon the western edge of the viewport
+     * @param maxLat the northern edge of the viewport
+     * @param maxLon the eastern edge of the viewport
+     * @return the clusters, in geohash order
+     */
+    public List<GeohashCluster> within(final int precision, final double minLat, final double minLon,
+                                       final double maxLat, final double maxLon) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Cluster precision must be between 1 and " + MAX_PRECISION);
+        }
+        final List<GeohashCluster> found = new ArrayList<>();
+        if (minLat <= maxLat && minLon <= maxLon) {
+            collect("", precision, new double[] {minLat, minLon, maxLat, maxLon}, found);
+        }
+        return found;
+    }
+
+    public int size(final int precision) {
+        return levels.get(precision - 1).size();
+    }
+
+    /**
+     * The geohash precision that gives clusters a little smaller than a map tile at a zoom level. A tile at zoom z is
+     * 360 / 2^z degrees wide and a geohash of n characters is about 360 / 2^(5n/2), so n = (2z + 6) / 5 puts around eight
+     * cells across each tile.
+     *
+     * @param zoom the zoom level, from 0 to 20
+     * @return the precision to cluster by
+     */
+    public static int precisionForZoom(final int zoom) {
+        final int clampedZoom = Math.max(0, Math.min(MAX_ZOOM, zoom));
+        return Math.max(1, Math.min(MAX_PRECISION, (2 * clampedZoom + 6) / 5));
+    }
+
+    private void collect(final String parent, final int precision, final double[] viewport, final List<GeohashCluster> found) {
+        final Map<String, GeohashCluster> level = levels.get(parent.length());
+        for (final String geohash : Geohash.children(parent)) {
+            final GeohashCluster cluster = level.get(geohash);
+            if (cluster != null && overlaps(viewport, Geohash.bounds(geohash))) {
+                if (geohash.length() == precision) {
+                    found.add(cluster);
+                } else {
+                    collect(geohash, precision, viewport, found);
+                }
+            }
+        }
+    }
+
+    private static boolean overlaps(final double[] viewport, final double... cell) {
+        return cell[0] <= viewport[2] && cell[2] >= viewport[0] && cell[1] <= viewport[3] && cell[3] >= viewport[1];
+    }
+
+    private static void adjust(final List<Map<String, GeohashCluster>> levels, final IndexedCourt court, final boolean add) {
+        if (!court.hasCoordinates()) {
+            return;
+        }
+        final String geohash = Geohash.encode(court.getLat(), court.getLon(), MAX_PRECISION);
+        for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+            final Map<String, GeohashCluster> level = levels.get(precision - 1);
+            final String cell = geohash.substring(0, precision);
+            final GeohashCluster current = level.getOrDefault(cell, new GeohashCluster(cell));
+            final GeohashCluster adjusted = add ? current.plus(court) : current.minus(court);
+            if (adjusted.getCount() > 0) {
+                level.put(cell, adjusted);
+            } else {
+                level.remove(cell);
+            }
+        }
+    }
+
+    private static List<Map<String, GeohashCluster>> freeze(final List<Map<String, GeohashCluster>> levels) {
+        final List<Map<String, GeohashCluster>> frozen = new ArrayList<>(levels.size());
+        levels.forEach(level -> frozen.add(unmodifiableMap(level)));
+        return unmodifiableList(frozen);
+    }
+}
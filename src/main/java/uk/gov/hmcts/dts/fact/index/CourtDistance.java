@@ -0,0 +1,18 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A court ID ranked by an in-memory search. The distance is null for courts without coordinates.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CourtDistance {
+    private final int courtId;
+    private final Double distance;
+}
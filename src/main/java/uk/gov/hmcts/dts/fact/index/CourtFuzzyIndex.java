@@ -0,0 +1,306 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable fuzzy search over court names, addresses and town names, returning the same courts in the same order as
+ * CourtRepository.findCourtByNameAddressOrTownFuzzyMatch.
+ * - Names and addresses are held in trigram posting lists. A target can only have a word similarity above 0.5 if it shares at least
+ *   half of the query trigrams, so only courts with such a name or address are scored.
+ * - Town names are held in a BK-tree. A town only matches if its Levenshtein distance is below 0.21 of its length, which bounds the
+ *   distance by the length of the query, so only courts with a town within that distance are scored.
+ * Candidate courts are then scored against every address, exactly as the SQL scores each court and address row.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.LawOfDemeter"})
+public final class CourtFuzzyIndex {
+    private static final double NAME_OR_ADDRESS_THRESHOLD = 0.6;
+    private static final double NAME_PREFIX_THRESHOLD = 0.5;
+    private static final double TOWN_THRESHOLD = 0.79;
+    private static final double GOOD_MATCH_THRESHOLD = 0.85;
+    private static final Comparator<ScoredRow> ROW_ORDER = comparing((ScoredRow row) -> !row.goodNameMatch)
+        .thenComparing(row -> row.townDifference, nullsLast(Comparator.naturalOrder()))
+        .thenComparing(row -> !row.goodAddressMatch)
+        .thenComparing(row -> !row.startsWithFirstWord)
+        .thenComparing(row -> row.name, nullsLast(Collator.getInstance(Locale.UK)));
+
+    private final List<SearchableCourt> courts = new ArrayList<>();
+    private final List<Integer> documentCourts = new ArrayList<>();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<String, BitSet> townCourts = new HashMap<>();
+    private final TownNameTree townNameTree;
+
+    public CourtFuzzyIndex(final Collection<IndexedCourt> indexedCourts) {
+        for (final IndexedCourt court : indexedCourts) {
+            final SearchableCourt searchableCourt = new SearchableCourt(court);
+            final int position = courts.size();
+            courts.add(searchableCourt);
+            addDocument(position, searchableCourt.nameTrigrams);
+            addDocument(position, searchableCourt.nameCyTrigrams);
+            for (final SearchableAddress address : searchableCourt.addresses) {
+                addDocument(position, address.addressTrigrams);
+                addDocument(position, address.addressCyTrigrams);
+                addTown(position, address.townName);
+                addTown(position, address.townNameCy);
+            }
+        }
+        townNameTree = new TownNameTree(townCourts.keySet());
+    }
+
+    /**
+     * Search for courts by name, address or town name.
+     *
+     * @param query the search string
+     * @return the IDs of the matching courts, once for each matching address as the SQL returns them, in the SQL order
+     */
+    public List<Integer> search(final String query) {
+        final FuzzyQuery fuzzyQuery = new FuzzyQuery(query);
+        final BitSet candidates = findCandidates(fuzzyQuery);
+
+        final List<ScoredRow> rows = new ArrayList<>();
+        candidates.stream().forEach(position -> courts.get(position).score(fuzzyQuery, rows));
+        return rows.stream()
+            .sorted(ROW_ORDER)
+            .map(row -> row.courtId)
+            .collect(toList());
+    }
+
+    private BitSet findCandidates(final FuzzyQuery query) {
+        final BitSet candidates = new BitSet(courts.size());
+        final int queryTrigrams = query.similarity.getTrigrams().size();
+        if (queryTrigrams > 0) {
+            final int[] shared = new int[documentCourts.size()];
+            for (final String trigram : query.similarity.getTrigrams()) {
+                final BitSet documents = postings.get(trigram);
+                if (documents != null) {
+                    documents.stream().forEach(document -> shared[document]++);
+                }
+            }
+            for (int document = 0; document < shared.length; document++) {
+                if (shared[document] * 2 >= queryTrigrams) {
+                    candidates.set(documentCourts.get(document));
+                }
+            }
+        }
+
+        // A town can only match if distance < 0.21 * town length, and town length <= query length + distance
+        final int radius = (int) Math.ceil(query.lowerCase.length() * (1 - TOWN_THRESHOLD) / TOWN_THRESHOLD);
+        townNameTree.findWithin(query.lowerCase, radius).forEach(town -> candidates.or(townCourts.get(town)));
+        return candidates;
+    }
+
+    private void addDocument(final int position, final String... trigrams) {
+        if (trigrams.length == 0) {
+            return;
+        }
+        final int document = documentCourts.size();
+        documentCourts.add(position);
+        for (final String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new BitSet()).set(document);
+        }
+    }
+
+    private void addTown(final int position, final String townName) {
+        if (townName != null && !townName.isEmpty()) {
+            townCourts.computeIfAbsent(lowerCase(townName), key -> new BitSet()).set(position);
+        }
+    }
+
+    private static String lowerCase(final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] trigramsOf(final String value) {
+        return value == null ? new String[0] : WordSimilarity.trigrams(value);
+    }
+
+    /**
+     * A search string, with the forms of it each SQL condition compares against.
+     */
+    private static final class FuzzyQuery {
+        private final WordSimilarity similarity;
+        private final String lowerCase;
+        private final Pattern firstWordPrefix;
+
+        FuzzyQuery(final String query) {
+            similarity = new WordSimilarity(query);
+            lowerCase = lowerCase(query);
+            final int firstSpace = query.indexOf(' ');
+            firstWordPrefix = likePattern((firstSpace < 0 ? query : query.substring(0, firstSpace)) + "%");
+        }
+
+        double similarityTo(final String[] trigrams, final String value) {
+            // word_similarity returns a real, which is widened to a double to compare it with the thresholds
+            return value == null ? 0 : similarity.similarityTo(trigrams);
+        }
+
+        boolean startsWithFirstWord(final String value) {
+            // Null names are compared as empty strings, as the SQL ordering does with COALESCE
+            return firstWordPrefix.matcher(value == null ? "" : value).matches();
+        }
+
+        boolean townMatches(final String townName) {
+            if (townName == null || townName.isEmpty()) {
+                return false;
+            }
+            final double distance = TownNameTree.levenshtein(lowerCase(townName), lowerCase);
+            return (townName.length() - distance) / townName.length() > TOWN_THRESHOLD;
+        }
+
+        Integer townDifference(final SearchableAddress address) {
+            final boolean hasTown = address.townName != null && !address.townName.isEmpty();
+            final boolean hasTownCy = address.townNameCy != null && !address.townNameCy.isEmpty();
+            if (hasTown && !hasTownCy) {
+                return TownNameTree.levenshtein(lowerCase(address.townName), lowerCase);
+            }
+            if (hasTownCy && !hasTown) {
+                return TownNameTree.levenshtein(lowerCase(address.townNameCy), lowerCase);
+            }
+            // LEAST ignores the town names that are null, and is null if both are
+            Integer least = null;
+            for (final String townName : new String[] {address.townName, address.townNameCy}) {
+                if (townName != null) {
+                    final int difference = TownNameTree.levenshtein(lowerCase(townName), lowerCase);
+                    least = least == null ? difference : Math.min(least, difference);
+                }
+            }
+            return least;
+        }
+
+        /**
+         * Convert an ILIKE pattern to a regular expression: % matches any characters, _ matches one character and a backslash
+         * escapes the next character.
+         */
+        private static Pattern likePattern(final String like) {
+            final StringBuilder regex = new StringBuilder();
+            int position = 0;
+            while (position < like.length()) {
+                final char character = like.charAt(position++);
+                switch (character) {
+                    case '%':
+                        regex.append(".*");
+                        break;
+                    case '_':
+                        regex.append('.');
+                        break;
+                    case '\\':
+                        regex.append(Pattern.quote(String.valueOf(like.charAt(position++))));
+                        break;
+                    default:
+                        regex.append(Pattern.quote(String.valueOf(character)));
+                        break;
+                }
+            }
+            return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL);
+        }
+    }
+
+    private static final class SearchableCourt {
+        private final Integer id;
+        private final String name;
+        private final String nameCy;
+        private final String[] nameTrigrams;
+        private final String[] nameCyTrigrams;
+        private final List<SearchableAddress> addresses = new ArrayList<>();
+
+        SearchableCourt(final IndexedCourt court) {
+            id = court.getId();
+            name = court.getName();
+            nameCy = court.getNameCy();
+            nameTrigrams = trigramsOf(name);
+            nameCyTrigrams = trigramsOf(nameCy);
+            court.getAddresses().forEach(address -> addresses.add(new SearchableAddress(address)));
+        }
+
+        void score(final FuzzyQuery query, final List<ScoredRow> rows) {
+            final double nameSimilarity = query.similarityTo(nameTrigrams, name);
+            final double nameCySimilarity = query.similarityTo(nameCyTrigrams, nameCy);
+            final boolean nameStartsWithFirstWord = query.startsWithFirstWord(name);
+            final boolean nameCyStartsWithFirstWord = query.startsWithFirstWord(nameCy);
+            final boolean nameMatches = nameSimilarity > NAME_OR_ADDRESS_THRESHOLD
+                || nameCySimilarity > NAME_OR_ADDRESS_THRESHOLD
+                || nameStartsWithFirstWord && nameSimilarity > NAME_PREFIX_THRESHOLD
+                || nameCyStartsWithFirstWord && nameCySimilarity > NAME_PREFIX_THRESHOLD;
+            final boolean goodNameMatch = nameSimilarity > GOOD_MATCH_THRESHOLD || nameCySimilarity > GOOD_MATCH_THRESHOLD;
+            final boolean startsWithFirstWord = nameStartsWithFirstWord || nameCyStartsWithFirstWord;
+
+            if (addresses.isEmpty()) {
+                // A court without addresses is still returned by the outer join, with no address or town to match
+                if (nameMatches) {
+                    rows.add(new ScoredRow(id, name, goodNameMatch, null, false, startsWithFirstWord));
+                }
+                return;
+            }
+            for (final SearchableAddress address : addresses) {
+                final double addressSimilarity = query.similarityTo(address.addressTrigrams, address.address);
+                final double addressCySimilarity = query.similarityTo(address.addressCyTrigrams, address.addressCy);
+                if (nameMatches
+                    || addressSimilarity > NAME_OR_ADDRESS_THRESHOLD
+                    || addressCySimilarity > NAME_OR_ADDRESS_THRESHOLD
+                    || query.townMatches(address.townName)
+                    || query.townMatches(address.townNameCy)) {
+                    rows.add(new ScoredRow(
+                        id,
+                        name,
+                        goodNameMatch,
+                        query.townDifference(address),
+                        addressSimilarity > GOOD_MATCH_THRESHOLD || addressCySimilarity > GOOD_MATCH_THRESHOLD,
+                        startsWithFirstWord
+                    ));
+                }
+            }
+        }
+    }
+
+    private static final class SearchableAddress {
+        private final String address;
+        private final String addressCy;
+        private final String townName;
+        private final String townNameCy;
+        private final String[] addressTrigrams;
+        private final String[] addressCyTrigrams;
+
+        SearchableAddress(final IndexedAddress indexedAddress) {
+            address = indexedAddress.getAddress();
+            addressCy = indexedAddress.getAddressCy();
+            townName = indexedAddress.getTownName();
+            townNameCy = indexedAddress.getTownNameCy();
+            addressTrigrams = trigramsOf(address);
+            addressCyTrigrams = trigramsOf(addressCy);
+        }
+    }
+
+    /**
+     * A matching court and address row, with the values the SQL orders by.
+     */
+    private static final class ScoredRow {
+        private final Integer courtId;
+        private final String name;
+        private final boolean goodNameMatch;
+        private final Integer townDifference;
+        private final boolean goodAddressMatch;
+        private final boolean startsWithFirstWord;
+
+        ScoredRow(final Integer courtId, final String name, final boolean goodNameMatch, final Integer townDifference,
+                  final boolean goodAddressMatch, final boolean startsWithFirstWord) {
+            this.courtId = courtId;
+            this.name = name;
+            this.goodNameMatch = goodNameMatch;
+            this.townDifference = townDifference;
+            this.goodAddressMatch = goodAddressMatch;
+            this.startsWithFirstWord = startsWithFirstWord;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static uk.gov.hmcts.dts.fact.index.CourtIndexFileWriter.FORMAT_VERSION;
+import static uk.gov.hmcts.dts.fact.index.CourtIndexFileWriter.MAGIC;
+import static uk.gov.hmcts.dts.fact.index.CourtIndexFileWriter.NULL_LENGTH;
+
+/**
+ * Reads the courts and postcode districts written by {@link CourtIndexFileWriter} from a buffer, usually a memory mapped
+ * file. The header is read first, so a stale file is rejected without reading the courts.
+ */
+@SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.UseConcurrentHashMap"})
+final class CourtIndexFileReader {
+    private final ByteBuffer buffer;
+
+    CourtIndexFileReader(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Read the header.
+     *
+     * @return the database change count the courts were loaded at
+     * @throws IOException if the buffer does not hold a saved index in the current format
+     */
+    long readIndexVersion() throws IOException {
+        if (buffer.remaining() < Integer.BYTES * 2 + Long.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a saved search index");
+        }
+        final int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported saved search index format " + formatVersion);
+        }
+        return buffer.getLong();
+    }
+
+    List<IndexedCourt> readCourts() {
+        final int count = buffer.getInt();
+        final List<IndexedCourt> courts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            courts.add(readCourt());
+        }
+        return courts;
+    }
+
+    Map<String, DistrictCentroid> readDistricts() {
+        final int count = buffer.getInt();
+        final Map<String, DistrictCentroid> districts = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            districts.put(readString(), new DistrictCentroid(buffer.getDouble(), buffer.getDouble()));
+        }
+        return districts;
+    }
+
+    private IndexedCourt readCourt() {
+        final int id = buffer.getInt();
+        final String slug = readString();
+        final String name = readString();
+        final String nameCy = readString();
+        final Double lat = readNullableDouble();
+        final Double lon = readNullableDouble();
+        final Set<String> areasOfLaw = readStrings();
+        final boolean regional = buffer.get() != 0;
+        final Map<String, Set<String>> localAuthoritiesByAreaOfLaw = readLocalAuthorities();
+        final Set<String> postcodes = readStrings();
+        final List<IndexedAddress> addresses = readAddresses();
+        final Set<Integer> courtCodes = readCourtCodes();
+        final Set<String> courtTypes = readStrings();
+        final Set<String> areasOfLawSpoe = readStrings();
+        final Set<String> areaOfLawNames = readStrings();
+        return new IndexedCourt(id, slug, name, nameCy, lat, lon, areasOfLaw, regional, localAuthoritiesByAreaOfLaw,
+                                postcodes, addresses, courtCodes, courtTypes, areasOfLawSpoe, areaOfLawNames);
+    }
+
+    private Map<String, Set<String>> readLocalAuthorities() {
+        final int count = buffer.getInt();
+        final Map<String, Set<String>> localAuthorities = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            localAuthorities.put(readString(), readStrings());
+        }
+        return unmodifiableMap(localAuthorities);
+    }
+
+    private List<IndexedAddress> readAddresses() {
+        final int count = buffer.getInt();
+        final List<IndexedAddress> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            addresses.add(new IndexedAddress(readString(), readString(), readString(), readString(), readString()));
+        }
+        return unmodifiableList(addresses);
+    }
+
+    private Set<Integer> readCourtCodes() {
+        final int count = buffer.getInt();
+        final Set<Integer> courtCodes = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            courtCodes.add(buffer.getInt());
+        }
+        return unmodifiableSet(courtCodes);
+    }
+
+    private Set<String> readStrings() {
+        final int count = buffer.getInt();
+        final Set<String> values = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            values.add(readString());
+        }
+        return unmodifiableSet(values);
+    }
+
+    private Double readNullableDouble() {
+        return buffer.get() == 0 ? null : buffer.getDouble();
+    }
+
+    private String readString() {
+        final int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes the courts and postcode districts of a snapshot in the saved index format.
+ * - A header holds a magic number, the format version and the database change count the courts were loaded at.
+ * - Strings are written as a length in bytes then UTF-8 bytes, with a length of -1 for null.
+ * - Collections and maps are written as a size then their entries.
+ * - Nullable numbers are written as a presence flag then the value.
+ */
+final class CourtIndexFileWriter {
+    static final int MAGIC = 0x46_41_43_54;
+    static final int FORMAT_VERSION = 2;
+    static final int NULL_LENGTH = -1;
+
+    private final DataOutputStream out;
+
+    CourtIndexFileWriter(final DataOutputStream out) {
+        this.out = out;
+    }
+
+    void write(final long indexVersion, final CourtIndexSnapshot snapshot) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(indexVersion);
+
+        final Collection<IndexedCourt> courts = snapshot.getCourts().values();
+        out.writeInt(courts.size());
+        for (final IndexedCourt court : courts) {
+            writeCourt(court);
+        }
+
+        final Map<String, DistrictCentroid> districts = snapshot.getDistrictTable().getCentroids();
+        out.writeInt(districts.size());
+        for (final Map.Entry<String, DistrictCentroid> district : districts.entrySet()) {
+            writeString(district.getKey());
+            out.writeDouble(district.getValue().getLat());
+            out.writeDouble(district.getValue().getLon());
+        }
+    }
+
+    private void writeCourt(final IndexedCourt court) throws IOException {
+        out.writeInt(court.getId());
+        writeString(court.getSlug());
+        writeString(court.getName());
+        writeString(court.getNameCy());
+        writeNullableDouble(court.getLat());
+        writeNullableDouble(court.getLon());
+        writeStrings(court.getAreasOfLaw());
+        out.writeBoolean(court.isRegional());
+        out.writeInt(court.getLocalAuthoritiesByAreaOfLaw().size());
+        for (final Map.Entry<String, Set<String>> areaOfLaw : court.getLocalAuthoritiesByAreaOfLaw().entrySet()) {
+            writeString(areaOfLaw.getKey());
+            writeStrings(areaOfLaw.getValue());
+        }
+        writeStrings(court.getPostcodes());
+        out.writeInt(court.getAddresses().size());
+        for (final IndexedAddress address : court.getAddresses()) {
+            writeString(address.getAddress());
+            writeString(address.getAddressCy());
+            writeString(address.getTownName());
+            writeString(address.getTownNameCy());
+            writeString(address.getPostcode());
+        }
+        out.writeInt(court.getCourtCodes().size());
+        for (final Integer courtCode : court.getCourtCodes()) {
+            out.writeInt(courtCode);
+        }
+        writeStrings(court.getCourtTypes());
+        writeStrings(court.getAreasOfLawSpoe());
+        writeStrings(court.getAreaOfLawNames());
+    }
+
+    private void writeStrings(final Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (final String value : values) {
+            writeString(value);
+        }
+    }
+
+    private void writeNullableDouble(final Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private void writeString(final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        final byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+import uk.gov.hmcts.dts.fact.repositories.CourtAddressRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtPostcodeRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.repositories.SearchIndexVersionRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reads the courts the search indexes are built from. Each load runs in its own read-only transaction, so it sees
+ * committed data even when called while the transaction that published a change is completing.
+ */
+@Component
+public class CourtIndexLoader {
+    private static final int INDEX_VERSION_ID = 1;
+
+    private final CourtRepository courtRepository;
+    private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository;
+    private final CourtPostcodeRepository courtPostcodeRepository;
+    private final CourtAddressRepository courtAddressRepository;
+    private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+    private final SearchIndexVersionRepository searchIndexVersionRepository;
+
+    @Autowired
+    public CourtIndexLoader(final CourtRepository courtRepository,
+                            final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository,
+                            final CourtPostcodeRepository courtPostcodeRepository,
+                            final CourtAddressRepository courtAddressRepository,
+                            final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository,
+                            final SearchIndexVersionRepository searchIndexVersionRepository) {
+        this.courtRepository = courtRepository;
+        this.courtLocalAuthorityAreaOfLawRepository = courtLocalAuthorityAreaOfLawRepository;
+        this.courtPostcodeRepository = courtPostcodeRepository;
+        this.courtAddressRepository = courtAddressRepository;
+        this.courtAreaOfLawSpoeRepository = courtAreaOfLawSpoeRepository;
+        this.searchIndexVersionRepository = searchIndexVersionRepository;
+    }
+
+    /**
+     * Read the count of changes to the tables the courts are loaded from. Reading it before the courts means a change made
+     * during the load can only make a saved index look older than it is, never newer.
+     *
+     * @return the change count, or empty if the database does not keep one
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> loadIndexVersion() {
+        return searchIndexVersionRepository.findCurrentById(INDEX_VERSION_ID).map(SearchIndexVersion::getVersion);
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public List<IndexedCourt> loadDisplayedCourts() {
+        final List<Court> courts = courtRepository.findByDisplayedTrue();
+        final Map<Integer, List<CourtLocalAuthorityAreaOfLaw>> localAuthorities = courtLocalAuthorityAreaOfLawRepository.findAll()
+            .stream()
+            .collect(groupingBy(la -> la.getCourt().getId()));
+        final Map<Integer, List<CourtPostcode>> postcodes = courtPostcodeRepository.findAll()
+            .stream()
+            .collect(groupingBy(postcode -> postcode.getCourt().getId()));
+        final Map<Integer, List<CourtAddress>> addresses = courtAddressRepository.findAll()
+            .stream()
+            .collect(groupingBy(address -> address.getCourt().getId()));
+        final Map<Integer, List<CourtAreaOfLawSpoe>> areasOfLawSpoe = courtAreaOfLawSpoeRepository.findAll()
+            .stream()
+            .collect(groupingBy(spoe -> spoe.getCourt().getId()));
+        return courts.stream()
+            .map(court -> new IndexedCourt(
+                court,
+                localAuthorities.getOrDefault(court.getId(), emptyList()),
+                postcodes.getOrDefault(court.getId(), emptyList()),
+                addresses.getOrDefault(court.getId(), emptyList()),
+                areasOfLawSpoe.getOrDefault(court.getId(), emptyList())
+            ))
+            .collect(toList());
+    }
+
+    /**
+     * Load a single court by ID, or by slug if no ID is given.
+     *
+     * @param courtId the court ID, may be null
+     * @param slug the court slug, used if the court ID is null
+     * @return the court, or empty if it no longer exists or is not displayed
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Optional<IndexedCourt> loadDisplayedCourt(final Integer courtId, final String slug) {
+        final Optional<Court> court = courtId == null ? courtRepository.findBySlug(slug) : courtRepository.findById(courtId);
+        return court
+            .filter(c -> Boolean.TRUE.equals(c.getDisplayed()))
+            .map(c -> new IndexedCourt(
+                c,
+                courtLocalAuthorityAreaOfLawRepository.findByCourtId(c.getId()),
+                courtPostcodeRepository.findByCourtId(c.getId()),
+                courtAddressRepository.findByCourtId(c.getId()),
+                courtAreaOfLawSpoeRepository.getAllByCourtId(c.getId())
+            ));
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Holds the current in-memory search indexes. The indexes are built once the application has started and are then kept
+ * up to date, one court at a time, as the admin services publish court changes.
+ * Until the indexes have been built, or if they are disabled, no snapshot is available and searches use the SQL queries instead.
+ * When a snapshot file is configured, the first build reads the courts from the file if it is up to date with the database,
+ * and every build from the database saves the file again.
+ */
+@Service
+@Slf4j
+public class CourtIndexService {
+
+    private final CourtIndexLoader courtIndexLoader;
+    private final CourtIndexStore courtIndexStore;
+    private final boolean enabled;
+    private final AtomicReference<CourtIndexSnapshot> snapshot = new AtomicReference<>();
+    private final Object updateLock = new Object();
+
+    @Autowired
+    public CourtIndexService(final CourtIndexLoader courtIndexLoader,
+                             final CourtIndexStore courtIndexStore,
+                             @Value("${search.index.enabled:true}") final boolean enabled) {
+        this.courtIndexLoader = courtIndexLoader;
+        this.courtIndexStore = courtIndexStore;
+        this.enabled = enabled;
+    }
+
+    public Optional<CourtIndexSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("In-memory search indexes are disabled, searches will use the database");
+            return;
+        }
+        synchronized (updateLock) {
+            final Optional<Long> indexVersion = courtIndexStore.isEnabled() ? courtIndexLoader.loadIndexVersion() : Optional.empty();
+            final Optional<CourtIndexSnapshot> saved = snapshot.get() == null
+                ? indexVersion.flatMap(courtIndexStore::read)
+                : Optional.empty();
+            if (saved.isPresent()) {
+                snapshot.set(saved.get());
+                log.info("Built in-memory search indexes for {} courts from the saved index", saved.get().getCourts().size());
+                return;
+            }
+
+            // Postcode districts are added as they are searched, so are kept when the courts are reloaded
+            final Map<String, DistrictCentroid> districts = getSnapshot()
+                .map(current -> current.getDistrictTable().getCentroids())
+                .orElse(emptyMap());
+            final CourtIndexSnapshot rebuilt = new CourtIndexSnapshot(courtIndexLoader.loadDisplayedCourts(), districts);
+            snapshot.set(rebuilt);
+            log.info("Built in-memory search indexes for {} courts", rebuilt.getCourts().size());
+            indexVersion.ifPresent(version -> courtIndexStore.write(version, rebuilt));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void onCourtChanged(final CourtChangedEvent event) {
+        if (snapshot.get() == null) {
+            return;
+        }
+        try {
+            synchronized (updateLock) {
+                final CourtIndexSnapshot current = snapshot.get();
+                final Integer courtId = Optional.ofNullable(event.getCourtId())
+                    .orElseGet(() -> findCourtIdBySlug(current, event.getSlug()));
+                final CourtIndexSnapshot updated = courtIndexLoader.loadDisplayedCourt(event.getCourtId(), event.getSlug())
+                    .map(current::withCourt)
+                    .orElseGet(() -> courtId == null ? current : current.withoutCourt(courtId));
+                snapshot.set(updated);
+            }
+        } catch (final RuntimeException ex) {
+            log.error("Could not update the in-memory search indexes for {}", event, ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocalAuthorityChanged(final LocalAuthorityChangedEvent event) {
+        rebuildFor(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAreaOfLawChanged(final AreaOfLawChangedEvent event) {
+        rebuildFor(event);
+    }
+
+    /**
+     * Rank the courts around newly searched postcode districts, so searches in them can be answered from the district table.
+     *
+     * @param districts the centroids of the districts, keyed by outcode
+     */
+    public void addDistricts(final Map<String, DistrictCentroid> districts) {
+        if (districts.isEmpty() || snapshot.get() == null) {
+            return;
+        }
+        synchronized (updateLock) {
+            final CourtIndexSnapshot updated = snapshot.get().withDistricts(districts);
+            snapshot.set(updated);
+            log.info("Ranked courts around {} postcode districts, {} districts in total", districts.size(), updated.getDistrictTable().size());
+        }
+    }
+
+    private void rebuildFor(final Object event) {
+        if (snapshot.get() == null) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (final RuntimeException ex) {
+            log.error("Could not rebuild the in-memory search indexes for {}", event, ex);
+        }
+    }
+
+    private static Integer findCourtIdBySlug(final CourtIndexSnapshot current, final String slug) {
+        return current.getCourts()
+            .values()
+            .stream()
+            .filter(court -> Objects.equals(court.getSlug(), slug))
+            .map(IndexedCourt::getId)
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,161 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * An immutable, consistent view of every in-memory search index. Changes to a court produce a new snapshot, so a search
+ * always runs against indexes built from the same data.
+ */
+public final class CourtIndexSnapshot {
+    private final Map<Integer, IndexedCourt> courts;
+    private final CourtLocationIndex locationIndex;
+    private final CourtBoxIndex boxIndex;
+    private final CourtClusterIndex clusterIndex;
+    private final CourtCatchmentIndex catchmentIndex;
+    private final CourtSpoeIndex spoeIndex;
+    private final CourtPostcodeIndex postcodeIndex;
+    private final CourtFuzzyIndex fuzzyIndex;
+    private final CourtLookupIndex lookupIndex;
+    private final CourtSuggestionIndex suggestionIndex;
+    private final DistrictCourtTable districtTable;
+    private final CandidateCellCache cellCache;
+
+    private CourtIndexSnapshot(final Stream<IndexedCourt> courts, final CourtPostcodeIndex postcodeIndex,
+                               final CourtClusterIndex clusterIndex,
+                               final Function<CourtLocationIndex, DistrictCourtTable> districtTable,
+                               final Function<CourtLocationIndex, CandidateCellCache> cellCache) {
+        this.courts = unmodifiableMap(courts.collect(toMap(IndexedCourt::getId, Function.identity(), (first, second) -> second)));
+        this.locationIndex = new CourtLocationIndex(this.courts.values());
+        this.boxIndex = new CourtBoxIndex(this.courts.values());
+        this.clusterIndex = clusterIndex == null ? new CourtClusterIndex(this.courts.values()) : clusterIndex;
+        this.catchmentIndex = new CourtCatchmentIndex(this.courts.values());
+        this.spoeIndex = new CourtSpoeIndex(this.courts.values());
+        this.postcodeIndex = postcodeIndex == null ? new CourtPostcodeIndex(this.courts.values()) : postcodeIndex;
+        this.fuzzyIndex = new CourtFuzzyIndex(this.courts.values());
+        this.lookupIndex = new CourtLookupIndex(this.courts.values());
+        this.suggestionIndex = new CourtSuggestionIndex(this.courts.values());
+        this.districtTable = districtTable.apply(this.locationIndex);
+        this.cellCache = cellCache.apply(this.locationIndex);
+    }
+
+    private CourtIndexSnapshot(final CourtIndexSnapshot source, final DistrictCourtTable districtTable) {
+        this.courts = source.courts;
+        this.locationIndex = source.locationIndex;
+        this.boxIndex = source.boxIndex;
+        this.clusterIndex = source.clusterIndex;
+        this.catchmentIndex = source.catchmentIndex;
+        this.spoeIndex = source.spoeIndex;
+        this.postcodeIndex = source.postcodeIndex;
+        this.fuzzyIndex = source.fuzzyIndex;
+        this.lookupIndex = source.lookupIndex;
+        this.suggestionIndex = source.suggestionIndex;
+        this.districtTable = districtTable;
+        this.cellCache = source.cellCache;
+    }
+
+    public CourtIndexSnapshot(final Collection<IndexedCourt> courts) {
+        this(courts, emptyMap());
+    }
+
+    public CourtIndexSnapshot(final Collection<IndexedCourt> courts, final Map<String, DistrictCentroid> districts) {
+        this(
+            courts.stream(),
+            null,
+            null,
+            locationIndex -> new DistrictCourtTable(locationIndex).withDistricts(districts),
+            CandidateCellCache::new
+        );
+    }
+
+    public CourtIndexSnapshot withCourt(final IndexedCourt court) {
+        return new CourtIndexSnapshot(
+            Stream.concat(otherCourts(court.getId()), Stream.of(court)),
+            postcodeIndex.withCourt(courts.get(court.getId()), court),
+            clusterIndex.withCourt(courts.get(court.getId()), court),
+            locationIndex -> districtTable.withCourt(locationIndex, court.getId()),
+            locationIndex -> cellCache.withCourt(locationIndex, court.getId())
+        );
+    }
+
+    public CourtIndexSnapshot withoutCourt(final Integer courtId) {
+        return courts.containsKey(courtId)
+            ? new CourtIndexSnapshot(
+                otherCourts(courtId),
+                postcodeIndex.withCourt(courts.get(courtId), null),
+                clusterIndex.withCourt(courts.get(courtId), null),
+                locationIndex -> districtTable.withCourt(locationIndex, courtId),
+                locationIndex -> cellCache.withCourt(locationIndex, courtId)
+            )
+            : this;
+    }
+
+    /**
+     * Add postcode districts to the district table, keeping every other index.
+     *
+     * @param districts the centroids of the districts, keyed by outcode
+     * @return a snapshot with the districts ranked
+     */
+    public CourtIndexSnapshot withDistricts(final Map<String, DistrictCentroid> districts) {
+        return new CourtIndexSnapshot(this, districtTable.withDistricts(districts));
+    }
+
+    public Map<Integer, IndexedCourt> getCourts() {
+        return courts;
+    }
+
+    public CourtLocationIndex getLocationIndex() {
+        return locationIndex;
+    }
+
+    public CourtBoxIndex getBoxIndex() {
+        return boxIndex;
+    }
+
+    public CourtClusterIndex getClusterIndex() {
+        return clusterIndex;
+    }
+
+    public CourtCatchmentIndex getCatchmentIndex() {
+        return catchmentIndex;
+    }
+
+    public CourtSpoeIndex getSpoeIndex() {
+        return spoeIndex;
+    }
+
+    public CourtPostcodeIndex getPostcodeIndex() {
+        return postcodeIndex;
+    }
+
+    public CourtFuzzyIndex getFuzzyIndex() {
+        return fuzzyIndex;
+    }
+
+    public CourtLookupIndex getLookupIndex() {
+        return lookupIndex;
+    }
+
+    public CourtSuggestionIndex getSuggestionIndex() {
+        return suggestionIndex;
+    }
+
+    public DistrictCourtTable getDistrictTable() {
+        return districtTable;
+    }
+
+    public CandidateCellCache getCellCache() {
+        return cellCache;
+    }
+
+    private Stream<IndexedCourt> otherCourts(final Integer courtId) {
+        return courts.values().stream().filter(court -> !Objects.equals(court.getId(), courtId));
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Saves the courts and postcode districts of the search indexes to a local file, so a restarted instance can build its
+ * indexes without loading every court from the database.
+ * - The file records the database change count the courts were loaded at, and is only read back if the count is unchanged.
+ * - The file is memory mapped when read. The indexes themselves are rebuilt from the courts, which takes far less time than
+ *   loading them.
+ * - The file is written to a temporary file first and then moved into place, so a reader never sees a partly written file.
+ * A missing, stale or unreadable file is not an error; the indexes are then built from the database as usual.
+ */
+@Component
+@Slf4j
+public class CourtIndexStore {
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final boolean enabled;
+
+    @Autowired
+    public CourtIndexStore(@Value("${search.index.snapshot-file:}") final String file) {
+        this.file = Paths.get(file);
+        this.enabled = !file.isBlank();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Read the saved indexes, if they were saved at the current database change count.
+     *
+     * @param indexVersion the current database change count
+     * @return a snapshot built from the saved courts and districts, or empty if there is no up to date file
+     */
+    public Optional<CourtIndexSnapshot> read(final long indexVersion) {
+        if (!isEnabled() || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final CourtIndexFileReader reader = new CourtIndexFileReader(buffer);
+            final long savedVersion = reader.readIndexVersion();
+            if (savedVersion != indexVersion) {
+                log.info("Saved search index {} is at change {}, the database is at change {}", file, savedVersion, indexVersion);
+                return Optional.empty();
+            }
+            return Optional.of(new CourtIndexSnapshot(reader.readCourts(), reader.readDistricts()));
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException ex) {
+            log.warn("Could not read the saved search index {}", file, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Save the courts and districts of a snapshot, replacing any saved file.
+     *
+     * @param indexVersion the database change count read before the courts were loaded
+     * @param snapshot the snapshot to save
+     */
+    public void write(final long indexVersion, final CourtIndexSnapshot snapshot) {
+        if (!isEnabled()) {
+            return;
+        }
+        final Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                new CourtIndexFileWriter(out).write(indexVersion, snapshot);
+            }
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            log.info("Saved the search index for {} courts at change {} to {}", snapshot.getCourts().size(), indexVersion, file);
+        } catch (final IOException ex) {
+            log.warn("Could not save the search index to {}", file, ex);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.util.EarthDistance.chordLength;
+import static uk.gov.hmcts.dts.fact.util.EarthDistance.distanceInMiles;
+
+/**
+ * Immutable k-d tree over the coordinates of the displayed courts.
+ * - Each court is held as a point on the unit sphere in a primitive array. The straight line distance between two points on the
+ *   unit sphere grows with the great circle distance, so the nearest courts in the tree are also the nearest courts on the ground.
+ * - Courts are numbered in name order, so the number of a court doubles as its tie-breaker when two courts are the same distance away.
+ * - Area of law membership is held as a bitset per area of law, keyed by the upper case area of law name.
+ * Results are in the same order as the SQL in CourtWithDistanceRepository: by distance, then by name, with courts that have no
+ * coordinates last.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.UseConcurrentHashMap"})
+public final class CourtLocationIndex {
+    private static final int DIMENSIONS = 3;
+    private static final double ROUNDING_ERROR = 1e-12;
+
+    private final int[] courtIds;
+    private final double[] lats;
+    private final double[] lons;
+    private final double[] points;
+    private final int[] tree;
+    private final int[] unlocated;
+    private final BitSet unlocatedCourts = new BitSet();
+    private final Map<Integer, Integer> positions = new HashMap<>();
+    private final Map<String, BitSet> areaOfLawMembers = new HashMap<>();
+
+    public CourtLocationIndex(final Collection<IndexedCourt> courts) {
+        final List<IndexedCourt> courtsByName = new ArrayList<>(courts);
+        courtsByName.sort(Comparator.comparing(IndexedCourt::getName, nullsLast(Collator.getInstance(Locale.UK))));
+
+        final int size = courtsByName.size();
+        courtIds = new int[size];
+        lats = new double[size];
+        lons = new double[size];
+        points = new double[size * DIMENSIONS];
+
+        final List<Integer> located = new ArrayList<>(size);
+        final List<Integer> withoutCoordinates = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final IndexedCourt court = courtsByName.get(i);
+            courtIds[i] = court.getId();
+            positions.put(court.getId(), i);
+            for (final String areaOfLaw : court.getAreasOfLaw()) {
+                areaOfLawMembers.computeIfAbsent(areaOfLaw, key -> new BitSet(size)).set(i);
+            }
+            if (court.hasCoordinates()) {
+                lats[i] = court.getLat();
+                lons[i] = court.getLon();
+                System.arraycopy(toPoint(court.getLat(), court.getLon()), 0, points, i * DIMENSIONS, DIMENSIONS);
+                located.add(i);
+            } else {
+                withoutCoordinates.add(i);
+            }
+        }
+
+        final Integer[] order = located.toArray(new Integer[0]);
+        build(order, 0, order.length, 0);
+        tree = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        unlocated = withoutCoordinates.stream().mapToInt(Integer::intValue).toArray();
+        withoutCoordinates.forEach(unlocatedCourts::set);
+    }
+
+    public int size() {
+        return courtIds.length;
+    }
+
+    /**
+     * The areas of law held by at least one court, in upper case.
+     *
+     * @return the area of law names
+     */
+    public Set<String> getAreasOfLaw() {
+        return unmodifiableSet(areaOfLawMembers.keySet());
+    }
+
+    /**
+     * Whether a court is in the index, optionally with an area of law.
+     *
+     * @param courtId the ID of the court
+     * @param areaOfLaw the area of law the court must have (case insensitive), or null for any court
+     * @return true if the court is in the index with the area of law
+     */
+    public boolean hasCourt(final int courtId, final String areaOfLaw) {
+        final Integer position = positions.get(courtId);
+        if (position == null) {
+            return false;
+        }
+        final BitSet members = areaOfLaw == null ? null : areaOfLawMembers.get(IndexedCourt.normalise(areaOfLaw));
+        return areaOfLaw == null || members != null && members.get(position);
+    }
+
+    /**
+     * The distance of a court from a point.
+     *
+     * @param courtId the ID of the court
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @return the distance in miles, or null if the court is not in the index or has no coordinates
+     */
+    public Double distanceTo(final int courtId, final double lat, final double lon) {
+        final Integer position = positions.get(courtId);
+        return position == null || unlocatedCourts.get(position) ? null : distanceInMiles(lats[position], lons[position], lat, lon);
+    }
+
+    /**
+     * Whether two courts are both in the index at exactly the same coordinates, such as courts sharing a building.
+     *
+     * @param courtId the ID of the first court
+     * @param otherCourtId the ID of the second court
+     * @return true if the courts are at the same point
+     */
+    public boolean isColocated(final int courtId, final int otherCourtId) {
+        final Integer position = positions.get(courtId);
+        final Integer otherPosition = positions.get(otherCourtId);
+        return position != null && otherPosition != null
+            && !unlocatedCourts.get(position) && !unlocatedCourts.get(otherPosition)
+            && lats[position] == lats[otherPosition] && lons[position] == lons[otherPosition];
+    }
+
+    /**
+     * Find the courts nearest to a point, optionally restricted to an area of law.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param limit the maximum number of courts to return
+     * @param areaOfLaw the area of law the courts must have (case insensitive), or null for any court
+     * @return the nearest courts, ordered by distance and then name
+     */
+    public List<CourtDistance> nearest(final double lat, final double lon, final int limit, final String areaOfLaw) {
+        final BitSet members = areaOfLaw == null ? null : areaOfLawMembers.get(IndexedCourt.normalise(areaOfLaw));
+        if (limit <= 0 || areaOfLaw != null && members == null) {
+            return emptyList();
+        }
+
+        final Neighbours neighbours = new Neighbours(limit);
+        search(toPoint(lat, lon), members, neighbours, 0, tree.length, 0);
+        return results(neighbours, members, lat, lon, limit);
+    }
+
+    /**
+     * Rank a set of candidate courts, such as the courts in a catchment, by their distance from a point. Candidates are
+     * ordered in the same way as {@link #nearest}.
+     *
+     * @param candidates the IDs of the candidate courts, courts that are not in the index are ignored
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param limit the maximum number of courts to return
+     * @return the nearest candidates, ordered by distance and then name
+     */
+    public List<CourtDistance> rank(final Collection<Integer> candidates, final double lat, final double lon, final int limit) {
+        if (limit <= 0 || candidates.isEmpty()) {
+            return emptyList();
+        }
+
+        final BitSet members = new BitSet(courtIds.length);
+        candidates.stream()
+            .map(positions::get)
+            .filter(Objects::nonNull)
+            .forEach(members::set);
+
+        final double[] query = toPoint(lat, lon);
+        final Neighbours neighbours = new Neighbours(limit);
+        members.stream()
+            .filter(court -> !unlocatedCourts.get(court))
+            .forEach(court -> neighbours.offer(court, chordSquared(query, court)));
+        return results(neighbours, members, lat, lon, limit);
+    }
+
+    /**
+     * Find the courts within a distance of a point, optionally restricted to an area of law. Courts without coordinates are
+     * never within a distance.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param miles the distance in miles
+     * @param areaOfLaw the area of law the courts must have (case insensitive), or null for any court
+     * @return the courts within the distance, ordered by distance and then name
+     */
+    public List<CourtDistance> within(final double lat, final double lon, final double miles, final String areaOfLaw) {
+        final BitSet members = areaOfLaw == null ? null : areaOfLawMembers.get(IndexedCourt.normalise(areaOfLaw));
+        if (miles < 0 || areaOfLaw != null && members == null) {
+            return emptyList();
+        }
+
+        // Search a little beyond the distance so rounding can't leave a court out, then check each court exactly
+        final double chord = chordLength(miles) + ROUNDING_ERROR;
+        final List<Integer> found = new RangeSearch(lat, lon, members, chord * chord).collectAll();
+        return found.stream()
+            .filter(court -> distanceInMiles(lats[court], lons[court], lat, lon) <= miles)
+            .sorted(Comparator.<Integer>comparingDouble(court -> distanceInMiles(lats[court], lons[court], lat, lon))
+                        .thenComparingInt(Integer::intValue))
+            .map(court -> new CourtDistance(courtIds[court], distanceInMiles(lats[court], lons[court], lat, lon)))
+            .collect(toList());
+    }
+
+    /**
+     * The courts with an area of law, including courts without coordinates.
+     *
+     * @param areaOfLaw the area of law the courts must have (case insensitive), or null for any court
+     * @return the IDs of the courts, in name order
+     */
+    public List<Integer> courtsWith(final String areaOfLaw) {
+        if (areaOfLaw == null) {
+            return Arrays.stream(courtIds).boxed().collect(toList());
+        }
+        final BitSet members = areaOfLawMembers.get(IndexedCourt.normalise(areaOfLaw));
+        return members == null ? emptyList() : members.stream().mapToObj(court -> courtIds[court]).collect(toList());
+    }
+
+    private List<CourtDistance> results(final Neighbours neighbours, final BitSet members,
+                                        final double lat, final double lon, final int limit) {
+        final List<CourtDistance> results = new ArrayList<>(limit);
+        final int[] nearest = neighbours.byDistanceFrom(lat, lon);
+        for (final int court : nearest) {
+            results.add(new CourtDistance(courtIds[court], distanceInMiles(lats[court], lons[court], lat, lon)));
+        }
+        for (int i = 0; i < unlocated.length && results.size() < limit; i++) {
+            if (members == null || members.get(unlocated[i])) {
+                results.add(new CourtDistance(courtIds[unlocated[i]], null));
+            }
+        }
+        return results;
+    }
+
+    private void search(final double[] query, final BitSet members, final Neighbours neighbours,
+                        final int from, final int to, final int depth) {
+        if (from >= to) {
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        final int court = tree[middle];
+        if (members == null || members.get(court)) {
+            neighbours.offer(court, chordSquared(query, court));
+        }
+
+        final int axis = depth % DIMENSIONS;
+        final double difference = query[axis] - points[court * DIMENSIONS + axis];
+        final boolean queryIsBelow = difference < 0;
+        search(query, members, neighbours, queryIsBelow ? from : middle + 1, queryIsBelow ? middle : to, depth + 1);
+        // Courts on the far side of the splitting plane can only be closer than the current worst neighbour if the plane is
+        // no further from the query than that neighbour
+        if (difference * difference <= neighbours.worstChordSquared()) {
+            search(query, members, neighbours, queryIsBelow ? middle + 1 : from, queryIsBelow ? to : middle, depth + 1);
+        }
+    }
+
+    private void build(final Integer[] order, final int from, final int to, final int depth) {
+        final int middle = (from + to) >>> 1;
+        if (middle == from) {
+            return;
+        }
+        final int axis = depth % DIMENSIONS;
+        Arrays.sort(order, from, to, Comparator.comparingDouble(court -> points[court * DIMENSIONS + axis]));
+        build(order, from, middle, depth + 1);
+        build(order, middle + 1, to, depth + 1);
+    }
+
+    private double chordSquared(final double[] query, final int court) {
+        double total = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            final double difference = query[axis] - points[court * DIMENSIONS + axis];
+            total += difference * difference;
+        }
+        return total;
+    }
+
+    private static double[] toPoint(final double lat, final double lon) {
+        final double latRadians = Math.toRadians(lat);
+        final double lonRadians = Math.toRadians(lon);
+        return new double[] {
+            Math.cos(latRadians) * Math.cos(lonRadians),
+            Math.cos(latRadians) * Math.sin(lonRadians),
+            Math.sin(latRadians)
+        };
+    }
+
+    /**
+     * The best courts found so far, kept in order of straight line distance and then name.
+     */
+    private final class Neighbours {
+        private final int[] courts;
+        private final double[] chords;
+        private int count;
+
+        Neighbours(final int limit) {
+            courts = new int[limit];
+            chords = new double[limit];
+        }
+
+        void offer(final int court, final double chord) {
+            if (count == courts.length && !isCloser(chord, court, count - 1)) {
+                return;
+            }
+            int position = Math.min(count, courts.length - 1);
+            while (position > 0 && isCloser(chord, court, position - 1)) {
+                courts[position] = courts[position - 1];
+                chords[position] = chords[position - 1];
+                position--;
+            }
+            courts[position] = court;
+            chords[position] = chord;
+            count = Math.min(count + 1, courts.length);
+        }
+
+        double worstChordSquared() {
+            return count < courts.length ? Double.POSITIVE_INFINITY : chords[count - 1];
+        }
+
+        int[] byDistanceFrom(final double lat, final double lon) {
+            // Order by the exact great circle distance, so results match the SQL even where floating point rounding differs
+            return Arrays.stream(courts, 0, count)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(court -> distanceInMiles(lats[court], lons[court], lat, lon))
+                            .thenComparingInt(Integer::intValue))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        }
+
+        private boolean isCloser(final double chord, final int court, final int position) {
+            return chord < chords[position] || chord == chords[position] && court < courts[position];
+        }
+    }
+
+    /**
+     * The courts found within a straight line distance of a point.
+     */
+    private final class RangeSearch {
+        private final double[] query;
+        private final BitSet members;
+        private final double maxChordSquared;
+        private final List<Integer> found = new ArrayList<>();
+
+        RangeSearch(final double lat, final double lon, final BitSet members, final double maxChordSquared) {
+            this.query = toPoint(lat, lon);
+            this.members = members;
+            this.maxChordSquared = maxChordSquared;
+        }
+
+        List<Integer> collectAll() {
+            collect(0, tree.length, 0);
+            return found;
+        }
+
+        private void collect(final int from, final int to, final int depth) {
+            if (from >= to) {
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            final int court = tree[middle];
+            if (isMember(court) && chordSquared(query, court) <= maxChordSquared) {
+                found.add(court);
+            }
+
+            final int axis = depth % DIMENSIONS;
+            final double difference = query[axis] - points[court * DIMENSIONS + axis];
+            final boolean queryIsBelow = difference < 0;
+            collect(queryIsBelow ? from : middle + 1, queryIsBelow ? middle : to, depth + 1);
+            // As in the nearest court search, the far side of the splitting plane can only hold courts in range if the plane is
+            // itself in range of the query
+            if (difference * difference <= maxChordSquared) {
+                collect(queryIsBelow ? middle + 1 : from, queryIsBelow ? to : middle, depth + 1);
+            }
+        }
+
+        private boolean isMember(final int court) {
+            return members == null || members.get(court);
+        }
+    }
+}
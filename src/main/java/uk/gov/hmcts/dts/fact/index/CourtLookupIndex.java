@@ -0,0 +1,226 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable exact match lookups, returning the same courts in the same order as the CourtRepository queries they replace.
+ * - Court codes and full postcodes are held in maps straight to their courts, in name order.
+ * - Names, addresses, town names and postcodes are held with everything but ASCII letters and digits removed, as the SQL
+ *   does with regexp_replace, and lower cased. Each trigram of those strings is held in a posting list of the courts that
+ *   contain it, so only courts containing every trigram of a query are checked for the whole query.
+ * The SQL joins each court to each of its addresses, so a court is returned once for each matching address.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.LawOfDemeter"})
+public final class CourtLookupIndex {
+    private static final String NON_ALPHANUMERIC = "[^A-Za-z0-9]+";
+    private static final int NGRAM_LENGTH = 3;
+    private static final Comparator<MatchedRow> ROW_ORDER = comparing((MatchedRow row) -> !row.nameMatch)
+        .thenComparing(row -> !row.townMatch)
+        .thenComparing(row -> !row.addressMatch);
+
+    private final List<LookupCourt> courtsByName = new ArrayList<>();
+    private final Map<Integer, List<Integer>> courtsByCode = new HashMap<>();
+    private final Map<String, List<Integer>> courtsByPostcode = new HashMap<>();
+    private final Map<String, BitSet> ngramCourts = new HashMap<>();
+
+    public CourtLookupIndex(final Collection<IndexedCourt> courts) {
+        final List<IndexedCourt> sorted = new ArrayList<>(courts);
+        sorted.sort(comparing(IndexedCourt::getName, nullsLast(Collator.getInstance(Locale.UK))));
+
+        for (final IndexedCourt court : sorted) {
+            final LookupCourt lookupCourt = new LookupCourt(court);
+            final int position = courtsByName.size();
+            courtsByName.add(lookupCourt);
+
+            final int rows = Math.max(1, court.getAddresses().size());
+            for (final Integer code : court.getCourtCodes()) {
+                final List<Integer> codeCourts = courtsByCode.computeIfAbsent(code, key -> new ArrayList<>());
+                for (int row = 0; row < rows; row++) {
+                    codeCourts.add(court.getId());
+                }
+            }
+            for (final IndexedAddress address : court.getAddresses()) {
+                if (address.getPostcode() != null) {
+                    courtsByPostcode.computeIfAbsent(address.getPostcode().replace(" ", ""), key -> new ArrayList<>()).add(court.getId());
+                }
+            }
+            lookupCourt.searchableValues().forEach(value -> addNgrams(position, value));
+        }
+    }
+
+    /**
+     * Find the courts with a CCI code, court number or magistrate code, as CourtRepository.findCourtByCourtCode does.
+     *
+     * @param code the court code
+     * @return the IDs of the matching courts, in name order
+     */
+    public List<Integer> findByCourtCode(final Integer code) {
+        return courtsByCode.getOrDefault(code, emptyList());
+    }
+
+    /**
+     * Find the courts with an address at a full postcode, as CourtRepository.findCourtByFullPostcode does.
+     *
+     * @param postcode the postcode
+     * @return the IDs of the matching courts, in name order
+     */
+    public List<Integer> findByFullPostcode(final String postcode) {
+        return courtsByPostcode.getOrDefault(postcode.replace(" ", "").toUpperCase(Locale.ROOT), emptyList());
+    }
+
+    /**
+     * Find the courts whose name, address, town name or postcode contains a query, ignoring case and punctuation, as
+     * CourtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch does.
+     *
+     * @param query the search string, with punctuation already removed
+     * @return the IDs of the matching courts, ordered by name match, town match and address match, then by name
+     */
+    public List<Integer> findByExactMatch(final String query) {
+        final String normalisedQuery = query.toLowerCase(Locale.ROOT);
+        final List<MatchedRow> rows = new ArrayList<>();
+        findCandidates(normalisedQuery).stream()
+            .forEach(position -> courtsByName.get(position).match(normalisedQuery, rows));
+        // Candidates are visited in name order and the sort is stable, so courts with the same matches stay in name order
+        return rows.stream()
+            .sorted(ROW_ORDER)
+            .map(row -> row.courtId)
+            .collect(toList());
+    }
+
+    private BitSet findCandidates(final String query) {
+        final BitSet candidates = new BitSet(courtsByName.size());
+        candidates.set(0, courtsByName.size());
+        for (int i = 0; i + NGRAM_LENGTH <= query.length(); i++) {
+            final BitSet courts = ngramCourts.get(query.substring(i, i + NGRAM_LENGTH));
+            if (courts == null) {
+                return new BitSet();
+            }
+            candidates.and(courts);
+        }
+        return candidates;
+    }
+
+    private void addNgrams(final int position, final String value) {
+        for (int i = 0; i + NGRAM_LENGTH <= value.length(); i++) {
+            ngramCourts.computeIfAbsent(value.substring(i, i + NGRAM_LENGTH), key -> new BitSet()).set(position);
+        }
+    }
+
+    private static String normalise(final String value) {
+        return value == null ? null : value.replaceAll(NON_ALPHANUMERIC, "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether a normalised value contains the query. Null values never match the search conditions but, as the SQL ordering
+     * compares them with COALESCE, are treated as empty strings when ordering.
+     */
+    private static boolean contains(final String value, final String query) {
+        return value != null && value.contains(query);
+    }
+
+    private static boolean containsOrEmpty(final String value, final String query) {
+        return (value == null ? "" : value).contains(query);
+    }
+
+    private static final class LookupCourt {
+        private final Integer id;
+        private final String name;
+        private final String nameCy;
+        private final List<LookupAddress> addresses = new ArrayList<>();
+
+        LookupCourt(final IndexedCourt court) {
+            id = court.getId();
+            name = normalise(court.getName());
+            nameCy = normalise(court.getNameCy());
+            court.getAddresses().forEach(address -> addresses.add(new LookupAddress(address)));
+        }
+
+        List<String> searchableValues() {
+            final List<String> values = new ArrayList<>();
+            values.add(name);
+            values.add(nameCy);
+            for (final LookupAddress address : addresses) {
+                values.add(address.address);
+                values.add(address.addressCy);
+                values.add(address.townName);
+                values.add(address.townNameCy);
+                values.add(address.postcode);
+            }
+            values.removeIf(value -> value == null);
+            return values;
+        }
+
+        void match(final String query, final List<MatchedRow> rows) {
+            final boolean nameMatches = contains(name, query) || contains(nameCy, query);
+            final boolean nameMatch = containsOrEmpty(name, query) || containsOrEmpty(nameCy, query);
+            if (addresses.isEmpty()) {
+                // A court without addresses is still returned by the outer join, with no address, town or postcode to match
+                if (nameMatches) {
+                    rows.add(new MatchedRow(id, nameMatch, query.isEmpty(), query.isEmpty()));
+                }
+                return;
+            }
+            for (final LookupAddress address : addresses) {
+                if (nameMatches || address.matches(query)) {
+                    rows.add(new MatchedRow(
+                        id,
+                        nameMatch,
+                        containsOrEmpty(address.townName, query) || containsOrEmpty(address.townNameCy, query),
+                        containsOrEmpty(address.address, query) || containsOrEmpty(address.addressCy, query)
+                    ));
+                }
+            }
+        }
+    }
+
+    private static final class LookupAddress {
+        private final String address;
+        private final String addressCy;
+        private final String townName;
+        private final String townNameCy;
+        private final String postcode;
+
+        LookupAddress(final IndexedAddress indexedAddress) {
+            address = normalise(indexedAddress.getAddress());
+            addressCy = normalise(indexedAddress.getAddressCy());
+            townName = normalise(indexedAddress.getTownName());
+            townNameCy = normalise(indexedAddress.getTownNameCy());
+            postcode = normalise(indexedAddress.getPostcode());
+        }
+
+        boolean matches(final String query) {
+            return contains(address, query)
+                || contains(addressCy, query)
+                || contains(townName, query)
+                || contains(townNameCy, query)
+                || contains(postcode, query);
+        }
+    }
+
+    private static final class MatchedRow {
+        private final Integer courtId;
+        private final boolean nameMatch;
+        private final boolean townMatch;
+        private final boolean addressMatch;
+
+        MatchedRow(final Integer courtId, final boolean nameMatch, final boolean townMatch, final boolean addressMatch) {
+            this.courtId = courtId;
+            this.nameMatch = nameMatch;
+            this.townMatch = townMatch;
+            this.addressMatch = addressMatch;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Immutable prefix trie over the postcode catchments of the displayed courts, keyed by postcode with spaces removed.
+ * Changing the postcodes of one court copies only the nodes on the paths to those postcodes, so the rest of the trie
+ * is shared with the previous version.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap"})
+public final class CourtPostcodeIndex {
+    private static final TrieNode EMPTY = new TrieNode(emptyMap(), emptySet());
+    private static final int UNIT_LENGTH = 2;
+    private static final int INWARD_CODE_LENGTH = 3;
+    private static final List<Function<String, Optional<String>>> CATCHMENT_KEYS = List.of(
+        Optional::of,
+        postcode -> withoutLast(postcode, UNIT_LENGTH),
+        postcode -> withoutLast(postcode, INWARD_CODE_LENGTH).map(String::trim),
+        postcode -> Arrays.stream(postcode.split("[0-9]")).findFirst()
+    );
+
+    private final TrieNode root;
+
+    public CourtPostcodeIndex(final Collection<IndexedCourt> courts) {
+        TrieNode built = EMPTY;
+        for (final IndexedCourt court : courts) {
+            for (final String postcode : court.getPostcodes()) {
+                built = built.withCourt(normalise(postcode), 0, court.getId());
+            }
+        }
+        this.root = built;
+    }
+
+    private CourtPostcodeIndex(final TrieNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Replace the postcodes held for a court.
+     *
+     * @param previous the court as it was, or null if it was not indexed
+     * @param updated the court as it is now, or null if it is no longer displayed
+     * @return the updated index
+     */
+    public CourtPostcodeIndex withCourt(final IndexedCourt previous, final IndexedCourt updated) {
+        final Set<String> removed = previous == null ? emptySet() : normalise(previous.getPostcodes());
+        final Set<String> added = updated == null ? emptySet() : normalise(updated.getPostcodes());
+        if (removed.equals(added)) {
+            return this;
+        }
+
+        TrieNode updatedRoot = root;
+        for (final String postcode : removed) {
+            if (!added.contains(postcode)) {
+                updatedRoot = updatedRoot.withoutCourt(postcode, 0, previous.getId());
+            }
+        }
+        for (final String postcode : added) {
+            if (!removed.contains(postcode)) {
+                updatedRoot = updatedRoot.withCourt(postcode, 0, updated.getId());
+            }
+        }
+        return new CourtPostcodeIndex(updatedRoot);
+    }
+
+    /**
+     * Find the courts whose catchment covers a postcode, trying the same keys in the same order as the civil search
+     * queries: the full postcode, the postcode without its unit, the outcode and then the postcode area.
+     * Each key is only built once the keys before it have found no courts, and is skipped if the postcode is too short to
+     * have it, such as a partial postcode. The trie is walked once along the full postcode; each shorter key is a prefix
+     * of it.
+     *
+     * @param postcode the postcode searched for
+     * @param filter the courts that may be returned, such as those with the area of law being searched for
+     * @return the courts matching the longest key that has any courts passing the filter
+     */
+    public Set<Integer> findCatchmentCourts(final String postcode, final Predicate<Integer> filter) {
+        final String key = normalise(postcode);
+        final TrieNode[] path = walk(key);
+
+        for (final Function<String, Optional<String>> catchmentKey : CATCHMENT_KEYS) {
+            final Optional<String> normalisedKey = catchmentKey.apply(postcode)
+                .map(CourtPostcodeIndex::normalise)
+                .filter(k -> !k.isEmpty());
+            if (normalisedKey.isEmpty()) {
+                continue;
+            }
+            final TrieNode node = key.startsWith(normalisedKey.get()) ? path[normalisedKey.get().length()] : find(normalisedKey.get());
+            final Set<Integer> courts = node == null ? emptySet() : node.findCourts(filter);
+            if (!courts.isEmpty()) {
+                return courts;
+            }
+        }
+        return emptySet();
+    }
+
+    private TrieNode find(final String key) {
+        return walk(key)[key.length()];
+    }
+
+    /**
+     * Walk the trie along a key, returning the node reached after each character. Entries past the end of the
+     * matched prefix are null.
+     */
+    private TrieNode[] walk(final String key) {
+        final TrieNode[] path = new TrieNode[key.length() + 1];
+        path[0] = root;
+        for (int depth = 0; depth < key.length() && path[depth] != null; depth++) {
+            path[depth + 1] = path[depth].child(key.charAt(depth));
+        }
+        return path;
+    }
+
+    private static Optional<String> withoutLast(final String postcode, final int characters) {
+        return postcode.length() > characters
+            ? Optional.of(postcode.substring(0, postcode.length() - characters))
+            : Optional.empty();
+    }
+
+    /**
+     * Normalise a postcode in the same way as the civil search SQL, which compares postcodes in upper case with spaces removed.
+     *
+     * @param postcode the postcode
+     * @return the normalised postcode
+     */
+    static String normalise(final String postcode) {
+        return postcode.replace(" ", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalise(final Collection<String> postcodes) {
+        return postcodes.stream().map(CourtPostcodeIndex::normalise).collect(toUnmodifiableSet());
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children;
+        private final Set<Integer> courtIds;
+
+        TrieNode(final Map<Character, TrieNode> children, final Set<Integer> courtIds) {
+            this.children = children;
+            this.courtIds = courtIds;
+        }
+
+        TrieNode child(final char character) {
+            return children.get(character);
+        }
+
+        Set<Integer> findCourts(final Predicate<Integer> filter) {
+            return courtIds.stream().filter(filter).collect(toUnmodifiableSet());
+        }
+
+        TrieNode withCourt(final String key, final int depth, final Integer courtId) {
+            if (depth == key.length()) {
+                final Set<Integer> updated = new HashSet<>(courtIds);
+                updated.add(courtId);
+                return new TrieNode(children, unmodifiableSet(updated));
+            }
+            final TrieNode child = children.getOrDefault(key.charAt(depth), EMPTY);
+            return withChild(key.charAt(depth), child.withCourt(key, depth + 1, courtId));
+        }
+
+        TrieNode withoutCourt(final String key, final int depth, final Integer courtId) {
+            if (depth == key.length()) {
+                final Set<Integer> updated = new HashSet<>(courtIds);
+                updated.remove(courtId);
+                return new TrieNode(children, unmodifiableSet(updated));
+            }
+            final TrieNode child = children.get(key.charAt(depth));
+            return child == null ? this : withChild(key.charAt(depth), child.withoutCourt(key, depth + 1, courtId));
+        }
+
+        private TrieNode withChild(final char character, final TrieNode child) {
+            final Map<Character, TrieNode> updated = new HashMap<>(children);
+            if (child.isEmpty()) {
+                updated.remove(character);
+            } else {
+                updated.put(character, child);
+            }
+            return new TrieNode(unmodifiableMap(updated), courtIds);
+        }
+
+        private boolean isEmpty() {
+            return courtIds.isEmpty() && children.isEmpty();
+        }
+    }
+}
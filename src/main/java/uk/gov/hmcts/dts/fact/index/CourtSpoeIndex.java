@@ -0,0 +1,46 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Immutable lookup of the single point of entry courts for each area of law, taken from the single point of entry areas
+ * of law set in the admin portal. A search that only returns the single point of entry court can check the courts it ranks
+ * against this index, instead of loading the single point of entry areas of law of each court.
+ */
+public final class CourtSpoeIndex {
+    private final Map<String, Set<Integer>> spoeCourts;
+
+    public CourtSpoeIndex(final Collection<IndexedCourt> courts) {
+        spoeCourts = courts.stream()
+            .flatMap(court -> court.getAreasOfLawSpoe().stream().map(areaOfLaw -> Map.entry(areaOfLaw, court.getId())))
+            .collect(groupingBy(Map.Entry::getKey, mapping(Map.Entry::getValue, toUnmodifiableSet())));
+    }
+
+    /**
+     * Find the single point of entry courts for an area of law.
+     *
+     * @param areaOfLaw the area of law (case insensitive)
+     * @return the IDs of the courts
+     */
+    public Set<Integer> findCourts(final String areaOfLaw) {
+        return spoeCourts.getOrDefault(IndexedCourt.normalise(areaOfLaw), emptySet());
+    }
+
+    /**
+     * Check whether a court is a single point of entry for an area of law.
+     *
+     * @param courtId the ID of the court
+     * @param areaOfLaw the area of law (case insensitive)
+     * @return true if the court is a single point of entry for the area of law
+     */
+    public boolean isSinglePointOfEntry(final Integer courtId, final String areaOfLaw) {
+        return findCourts(areaOfLaw).contains(courtId);
+    }
+}
@@ -0,0 +1,169 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.text.Collator;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsLast;
+
+/**
+ * Immutable type-ahead index over the English and Welsh names and town names of the displayed courts.
+ * - Every word of a name or town name starts a key, holding the rest of the text from that word on, so a prefix can match
+ *   the start of any word and run on across words.
+ * - Keys are held in one sorted array, with the court and rank of each key in parallel arrays, so a prefix is found with a
+ *   binary search and the matching keys are the run of entries that follow it.
+ * - Keys are lower cased, with accents and apostrophes removed and any other punctuation treated as a word break.
+ * Courts are ranked by the best key they match: the start of a name, then a later word of a name, then a town name. Courts
+ * with the same rank are in name order.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+public final class CourtSuggestionIndex {
+    private static final int NAME_START = 0;
+    private static final int NAME_WORD = 1;
+    private static final int TOWN_WORD = 2;
+    private static final int RANKS = 3;
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern APOSTROPHES = Pattern.compile("['\u2019\u2018]"); // right and left single quotation marks
+    private static final Pattern WORD_BREAKS = Pattern.compile("[^a-z0-9]+");
+
+    private final int[] courtIds;
+    private final String[] keys;
+    private final int[] keyCourts;
+    private final int[] keyRanks;
+
+    public CourtSuggestionIndex(final Collection<IndexedCourt> courts) {
+        final List<IndexedCourt> courtsByName = new ArrayList<>(courts);
+        courtsByName.sort(comparing(IndexedCourt::getName, nullsLast(Collator.getInstance(Locale.UK))));
+
+        courtIds = new int[courtsByName.size()];
+        final List<SuggestionKey> entries = new ArrayList<>();
+        for (int position = 0; position < courtsByName.size(); position++) {
+            final IndexedCourt court = courtsByName.get(position);
+            courtIds[position] = court.getId();
+            addKeys(entries, position, court.getName(), true);
+            addKeys(entries, position, court.getNameCy(), true);
+            for (final IndexedAddress address : court.getAddresses()) {
+                addKeys(entries, position, address.getTownName(), false);
+                addKeys(entries, position, address.getTownNameCy(), false);
+            }
+        }
+        entries.sort(comparing(SuggestionKey::getText));
+
+        keys = new String[entries.size()];
+        keyCourts = new int[entries.size()];
+        keyRanks = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).getText();
+            keyCourts[i] = entries.get(i).getCourt();
+            keyRanks[i] = entries.get(i).getRank();
+        }
+    }
+
+    /**
+     * Find the courts with a name or town name that has a word starting with a prefix.
+     *
+     * @param prefix the text typed so far, of any length
+     * @param limit the maximum number of courts to return
+     * @return the IDs of the best matching courts, ranked name start first, then name word, then town, then by name
+     */
+    public List<Integer> suggest(final String prefix, final int limit) {
+        final String normalisedPrefix = normalise(prefix);
+        if (normalisedPrefix.isEmpty() || limit <= 0) {
+            return emptyList();
+        }
+
+        return bestCourts(bestRanks(normalisedPrefix), limit);
+    }
+
+    private int[] bestRanks(final String prefix) {
+        final int[] bestRanks = new int[courtIds.length];
+        Arrays.fill(bestRanks, RANKS);
+        for (int i = firstKeyFrom(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            bestRanks[keyCourts[i]] = Math.min(bestRanks[keyCourts[i]], keyRanks[i]);
+        }
+        return bestRanks;
+    }
+
+    private List<Integer> bestCourts(final int[] bestRanks, final int limit) {
+        final List<Integer> results = new ArrayList<>(Math.min(limit, courtIds.length));
+        for (int rank = NAME_START; rank < RANKS && results.size() < limit; rank++) {
+            for (int position = 0; position < courtIds.length && results.size() < limit; position++) {
+                if (bestRanks[position] == rank) {
+                    results.add(courtIds[position]);
+                }
+            }
+        }
+        return results;
+    }
+
+    private int firstKeyFrom(final String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static void addKeys(final List<SuggestionKey> entries, final int position, final String text, final boolean isName) {
+        if (text == null) {
+            return;
+        }
+        final String normalised = normalise(text);
+        int wordStart = 0;
+        while (wordStart < normalised.length()) {
+            entries.add(new SuggestionKey(normalised.substring(wordStart), position, rankOf(isName, wordStart)));
+            final int nextSpace = normalised.indexOf(' ', wordStart);
+            wordStart = nextSpace < 0 ? normalised.length() : nextSpace + 1;
+        }
+    }
+
+    private static int rankOf(final boolean isName, final int wordStart) {
+        if (!isName) {
+            return TOWN_WORD;
+        }
+        return wordStart == 0 ? NAME_START : NAME_WORD;
+    }
+
+    static String normalise(final String text) {
+        final String withoutAccents = ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        final String withoutApostrophes = APOSTROPHES.matcher(withoutAccents).replaceAll("");
+        return WORD_BREAKS.matcher(withoutApostrophes.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static final class SuggestionKey {
+        private final String text;
+        private final int court;
+        private final int rank;
+
+        SuggestionKey(final String text, final int court, final int rank) {
+            this.text = text;
+            this.court = court;
+            this.rank = rank;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        int getCourt() {
+            return court;
+        }
+
+        int getRank() {
+            return rank;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The centre point of a postcode district, such as SW1A.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class DistrictCentroid {
+    private final double lat;
+    private final double lon;
+}
@@ -0,0 +1,228 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+import static uk.gov.hmcts.dts.fact.util.EarthDistance.distanceInMiles;
+
+/**
+ * Immutable table of the nearest courts to the centroid of each known postcode district, for each area of law and for any
+ * area of law, built from a location index.
+ * - Each ranking holds one court more than a search returns, so it also records how far away the first court left out is.
+ * - A point a distance d from the centroid is at most d closer to, or further from, every court than the centroid is. So
+ *   when each gap between consecutive courts in a ranking is more than 2d, the point has the same nearest courts in the same
+ *   order as the centroid. Courts at exactly the same coordinates stay in name order wherever the point is, so gaps between
+ *   them are ignored. Otherwise the point is close enough to a boundary between courts that it has to be ranked exactly.
+ * - When a court changes, only the rankings that held the court, or that the court is now close enough to join, are
+ *   ranked again.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.LawOfDemeter"})
+public final class DistrictCourtTable {
+    /**
+     * The number of courts each ranking can return.
+     */
+    public static final int DEPTH = 10;
+    private static final String ANY_AREA_OF_LAW = "";
+    private static final double ROUNDING_ERROR = 1e-9;
+
+    private final CourtLocationIndex locationIndex;
+    private final Map<String, District> districts;
+
+    public DistrictCourtTable(final CourtLocationIndex locationIndex) {
+        this(locationIndex, emptyMap());
+    }
+
+    private DistrictCourtTable(final CourtLocationIndex locationIndex, final Map<String, District> districts) {
+        this.locationIndex = locationIndex;
+        this.districts = districts;
+    }
+
+    /**
+     * Add or replace postcode districts, ranking the courts around their centroids.
+     *
+     * @param centroids the centroids of the districts, keyed by outcode
+     * @return a table including the districts
+     */
+    public DistrictCourtTable withDistricts(final Map<String, DistrictCentroid> centroids) {
+        if (centroids.isEmpty()) {
+            return this;
+        }
+        final Map<String, District> updated = new HashMap<>(districts);
+        centroids.forEach((outcode, centroid) -> updated.put(normaliseOutcode(outcode), rankDistrict(centroid)));
+        return new DistrictCourtTable(locationIndex, unmodifiableMap(updated));
+    }
+
+    /**
+     * Move the table on to a location index in which one court has been added, changed or removed.
+     *
+     * @param updatedIndex the location index after the change
+     * @param courtId the ID of the court that changed
+     * @return a table ranked against the updated index
+     */
+    public DistrictCourtTable withCourt(final CourtLocationIndex updatedIndex, final int courtId) {
+        final DistrictCourtTable updated = new DistrictCourtTable(updatedIndex, emptyMap());
+        return new DistrictCourtTable(updatedIndex, districts.entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> updated.rerankDistrict(entry.getValue(), courtId))));
+    }
+
+    public boolean hasDistrict(final String outcode) {
+        return districts.containsKey(normaliseOutcode(outcode));
+    }
+
+    public Map<String, DistrictCentroid> getCentroids() {
+        return districts.entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().centroid));
+    }
+
+    public int size() {
+        return districts.size();
+    }
+
+    /**
+     * Find the courts nearest to a point in a postcode district from the precomputed ranking for the district.
+     *
+     * @param outcode the outcode of the district the point is in
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param limit the maximum number of courts to return, at most {@link #DEPTH}
+     * @param areaOfLaw the area of law the courts must have (case insensitive), or null for any court
+     * @return the same courts, in the same order, as {@link CourtLocationIndex#nearest}; or empty if the district is not in
+     *     the table or the point is too close to a boundary between courts for the ranking to be reused
+     */
+    public Optional<List<CourtDistance>> nearest(final String outcode, final double lat, final double lon,
+                                                 final int limit, final String areaOfLaw) {
+        final District district = districts.get(normaliseOutcode(outcode));
+        if (district == null || limit > DEPTH) {
+            return Optional.empty();
+        }
+        final String key = areaOfLaw == null ? ANY_AREA_OF_LAW : IndexedCourt.normalise(areaOfLaw);
+        final DistrictRanking ranking = district.rankings.get(key);
+        if (ranking == null) {
+            // Every area of law in the location index is ranked, so no court has this one
+            return Optional.of(emptyList());
+        }
+        final double offset = distanceInMiles(district.centroid.getLat(), district.centroid.getLon(), lat, lon);
+        return ranking.isStableWithin(offset, limit)
+            ? Optional.of(ranking.from(locationIndex, lat, lon, limit))
+            : Optional.empty();
+    }
+
+    private District rankDistrict(final DistrictCentroid centroid) {
+        final Map<String, DistrictRanking> rankings = new HashMap<>();
+        rankings.put(ANY_AREA_OF_LAW, rank(centroid, null));
+        locationIndex.getAreasOfLaw().forEach(areaOfLaw -> rankings.put(areaOfLaw, rank(centroid, areaOfLaw)));
+        return new District(centroid, unmodifiableMap(rankings));
+    }
+
+    private District rerankDistrict(final District district, final int courtId) {
+        final Map<String, DistrictRanking> rankings = new HashMap<>();
+        rankings.put(ANY_AREA_OF_LAW, rerank(district, ANY_AREA_OF_LAW, courtId));
+        locationIndex.getAreasOfLaw().forEach(areaOfLaw -> rankings.put(areaOfLaw, rerank(district, areaOfLaw, courtId)));
+        return new District(district.centroid, unmodifiableMap(rankings));
+    }
+
+    private DistrictRanking rerank(final District district, final String key, final int courtId) {
+        final DistrictRanking previous = district.rankings.get(key);
+        final String areaOfLaw = ANY_AREA_OF_LAW.equals(key) ? null : key;
+        if (previous == null || previous.contains(courtId) || joins(previous, district.centroid, courtId, areaOfLaw)) {
+            return rank(district.centroid, areaOfLaw);
+        }
+        return previous;
+    }
+
+    private boolean joins(final DistrictRanking ranking, final DistrictCentroid centroid, final int courtId, final String areaOfLaw) {
+        if (!locationIndex.hasCourt(courtId, areaOfLaw)) {
+            return false;
+        }
+        if (!ranking.isFull()) {
+            return true;
+        }
+        final Double distance = locationIndex.distanceTo(courtId, centroid.getLat(), centroid.getLon());
+        return distance != null && distance <= ranking.lastDistance();
+    }
+
+    private DistrictRanking rank(final DistrictCentroid centroid, final String areaOfLaw) {
+        return new DistrictRanking(locationIndex, locationIndex.nearest(centroid.getLat(), centroid.getLon(), DEPTH + 1, areaOfLaw));
+    }
+
+    private static String normaliseOutcode(final String outcode) {
+        return outcode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static final class District {
+        private final DistrictCentroid centroid;
+        private final Map<String, DistrictRanking> rankings;
+
+        District(final DistrictCentroid centroid, final Map<String, DistrictRanking> rankings) {
+            this.centroid = centroid;
+            this.rankings = rankings;
+        }
+    }
+
+    /**
+     * The courts nearest to a district centroid, held in primitive arrays. Courts without coordinates come last, with NaN
+     * distances.
+     */
+    private static final class DistrictRanking {
+        private final int[] courtIds;
+        private final double[] distances;
+        private final boolean[] colocatedWithNext;
+
+        DistrictRanking(final CourtLocationIndex locationIndex, final List<CourtDistance> ranked) {
+            courtIds = new int[ranked.size()];
+            distances = new double[ranked.size()];
+            colocatedWithNext = new boolean[ranked.size()];
+            for (int i = 0; i < ranked.size(); i++) {
+                courtIds[i] = ranked.get(i).getCourtId();
+                distances[i] = ranked.get(i).getDistance() == null ? Double.NaN : ranked.get(i).getDistance();
+                colocatedWithNext[i] = i + 1 < ranked.size()
+                    && locationIndex.isColocated(courtIds[i], ranked.get(i + 1).getCourtId());
+            }
+        }
+
+        boolean contains(final int courtId) {
+            for (final int id : courtIds) {
+                if (id == courtId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isFull() {
+            return courtIds.length > DEPTH && !Double.isNaN(distances[DEPTH]);
+        }
+
+        double lastDistance() {
+            return distances[courtIds.length - 1];
+        }
+
+        boolean isStableWithin(final double offset, final int limit) {
+            // Check each pair of courts up to and including the first court left out
+            for (int i = 0; i < limit && i + 1 < courtIds.length && !Double.isNaN(distances[i + 1]); i++) {
+                if (!colocatedWithNext[i] && distances[i + 1] - distances[i] <= 2 * offset + ROUNDING_ERROR) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        List<CourtDistance> from(final CourtLocationIndex locationIndex, final double lat, final double lon, final int limit) {
+            final List<CourtDistance> courts = new ArrayList<>(limit);
+            for (int i = 0; i < limit && i < courtIds.length; i++) {
+                courts.add(new CourtDistance(courtIds[i], locationIndex.distanceTo(courtIds[i], lat, lon)));
+            }
+            return courts;
+        }
+    }
+}
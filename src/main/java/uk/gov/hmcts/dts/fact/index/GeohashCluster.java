@@ -0,0 +1,75 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The number of courts with coordinates in a geohash cell, with the centroid of their coordinates and the number of
+ * courts with each area of law, by its stored name. Coordinates are held as sums so a court can be taken out again when it
+ * changes.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.DataflowAnomalyAnalysis"})
+public class GeohashCluster {
+    private final String geohash;
+    private final int count;
+    @Getter(AccessLevel.NONE)
+    private final double latSum;
+    @Getter(AccessLevel.NONE)
+    private final double lonSum;
+    private final Map<String, Integer> areasOfLaw;
+
+    GeohashCluster(final String geohash) {
+        this(geohash, 0, 0, 0, emptyMap());
+    }
+
+    private GeohashCluster(final String geohash, final int count, final double latSum, final double lonSum,
+                           final Map<String, Integer> areasOfLaw) {
+        this.geohash = geohash;
+        this.count = count;
+        this.latSum = latSum;
+        this.lonSum = lonSum;
+        this.areasOfLaw = areasOfLaw;
+    }
+
+    public double getLat() {
+        return latSum / count;
+    }
+
+    public double getLon() {
+        return lonSum / count;
+    }
+
+    GeohashCluster plus(final IndexedCourt court) {
+        return adjust(court, 1);
+    }
+
+    GeohashCluster minus(final IndexedCourt court) {
+        return adjust(court, -1);
+    }
+
+    private GeohashCluster adjust(final IndexedCourt court, final int change) {
+        final Map<String, Integer> adjusted = new HashMap<>(areasOfLaw);
+        court.getAreaOfLawNames().forEach(areaOfLaw -> adjusted.merge(areaOfLaw, change, (total, value) -> {
+            final int sum = total + value;
+            return sum == 0 ? null : sum;
+        }));
+        return new GeohashCluster(
+            geohash,
+            count + change,
+            latSum + change * court.getLat(),
+            lonSum + change * court.getLon(),
+            unmodifiableMap(adjusted)
+        );
+    }
+}
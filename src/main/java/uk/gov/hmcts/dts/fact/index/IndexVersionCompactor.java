@@ -0,0 +1,34 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.repositories.SearchIndexVersionRepository;
+
+/**
+ * Adds the changes the database triggers record to the stored index version from time to time, so counting the changes
+ * not yet added stays quick. The current version is the same before and after, so instances can do this at the same
+ * time.
+ */
+@Component
+@Slf4j
+public class IndexVersionCompactor {
+    private static final int INDEX_VERSION_ID = 1;
+
+    private final SearchIndexVersionRepository searchIndexVersionRepository;
+
+    public IndexVersionCompactor(final SearchIndexVersionRepository searchIndexVersionRepository) {
+        this.searchIndexVersionRepository = searchIndexVersionRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.version-compact-interval:600000}",
+        initialDelayString = "${search.index.version-compact-interval:600000}")
+    public void compact() {
+        try {
+            searchIndexVersionRepository.addChanges(INDEX_VERSION_ID);
+        } catch (final DataAccessException ex) {
+            log.warn("Could not add the recorded changes to the search index version", ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+
+/**
+ * The searchable text of a court address.
+ */
+@Getter
+@AllArgsConstructor
+public class IndexedAddress {
+    private final String address;
+    private final String addressCy;
+    private final String townName;
+    private final String townNameCy;
+    private final String postcode;
+
+    public IndexedAddress(final CourtAddress courtAddress) {
+        this.address = courtAddress.getAddress();
+        this.addressCy = courtAddress.getAddressCy();
+        this.townName = courtAddress.getTownName();
+        this.townNameCy = courtAddress.getTownNameCy();
+        this.postcode = courtAddress.getPostcode();
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
+import uk.gov.hmcts.dts.fact.entity.CourtType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toUnmodifiableList;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * The subset of a displayed court that the in-memory search indexes are built from.
+ * Area of law, single point of entry area of law, court type and local authority names are held in upper case, matching the case-insensitive comparison made by the SQL searches.
+ * The area of law names are also held as stored, for responses that show them.
+ * Postcodes are held as stored; the postcode index normalises them.
+ * Addresses are the ones the SQL name, address and town searches join to, so exclude the address type those searches skip.
+ */
+@Getter
+@AllArgsConstructor
+public class IndexedCourt {
+    private static final String REGIONAL_CATCHMENT = "regional";
+    private static final int UNSEARCHED_ADDRESS_TYPE_ID = 5881;
+
+    private final Integer id;
+    private final String slug;
+    private final String name;
+    private final String nameCy;
+    private final Double lat;
+    private final Double lon;
+    private final Set<String> areasOfLaw;
+    private final boolean regional;
+    private final Map<String, Set<String>> localAuthoritiesByAreaOfLaw;
+    private final Set<String> postcodes;
+    private final List<IndexedAddress> addresses;
+    private final Set<Integer> courtCodes;
+    private final Set<String> courtTypes;
+    private final Set<String> areasOfLawSpoe;
+    private final Set<String> areaOfLawNames;
+
+    public IndexedCourt(final Court courtEntity,
+                        final Collection<CourtLocalAuthorityAreaOfLaw> localAuthorities,
+                        final Collection<CourtPostcode> postcodes,
+                        final Collection<CourtAddress> addresses,
+                        final Collection<CourtAreaOfLawSpoe> areasOfLawSpoe) {
+        this.id = courtEntity.getId();
+        this.slug = courtEntity.getSlug();
+        this.name = courtEntity.getName();
+        this.nameCy = courtEntity.getNameCy();
+        this.lat = courtEntity.getLat();
+        this.lon = courtEntity.getLon();
+        this.areasOfLaw = courtEntity.getAreasOfLaw()
+            .stream()
+            .map(AreaOfLaw::getName)
+            .map(IndexedCourt::normalise)
+            .collect(toUnmodifiableSet());
+        this.regional = courtEntity.getServiceAreaCourts()
+            .stream()
+            .anyMatch(serviceAreaCourt -> REGIONAL_CATCHMENT.equals(serviceAreaCourt.getCatchmentType()));
+        this.localAuthoritiesByAreaOfLaw = localAuthorities.stream()
+            .collect(groupingBy(
+                la -> normalise(la.getAreaOfLaw().getName()),
+                mapping(la -> normalise(la.getLocalAuthority().getName()), toUnmodifiableSet())
+            ))
+            .entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        this.postcodes = postcodes.stream()
+            .map(CourtPostcode::getPostcode)
+            .collect(toUnmodifiableSet());
+        this.addresses = addresses.stream()
+            .filter(address -> address.getAddressType() != null
+                && address.getAddressType().getId() != UNSEARCHED_ADDRESS_TYPE_ID)
+            .map(IndexedAddress::new)
+            .collect(toUnmodifiableList());
+        this.courtCodes = Stream.of(courtEntity.getCciCode(), courtEntity.getNumber(), courtEntity.getMagistrateCode())
+            .filter(Objects::nonNull)
+            .collect(toUnmodifiableSet());
+        this.courtTypes = Optional.ofNullable(courtEntity.getCourtTypes())
+            .orElse(emptyList())
+            .stream()
+            .map(CourtType::getName)
+            .map(IndexedCourt::normalise)
+            .collect(toUnmodifiableSet());
+        this.areasOfLawSpoe = areasOfLawSpoe.stream()
+            .map(spoe -> normalise(spoe.getAreaOfLaw().getName()))
+            .collect(toUnmodifiableSet());
+        this.areaOfLawNames = courtEntity.getAreasOfLaw()
+            .stream()
+            .map(AreaOfLaw::getName)
+            .collect(toUnmodifiableSet());
+    }
+
+    public boolean hasAreaOfLaw(final String areaOfLaw) {
+        return areasOfLaw.contains(normalise(areaOfLaw));
+    }
+
+    public boolean hasCourtType(final String courtType) {
+        return courtTypes.contains(normalise(courtType));
+    }
+
+    public boolean hasCoordinates() {
+        return lat != null && lon != null;
+    }
+
+    public static String normalise(final String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable BK-tree over lower case town names, for finding every town within a Levenshtein distance of a search string.
+ * Each child of a node is keyed by its distance from that node, so by the triangle inequality a search only needs to descend
+ * into children whose key is within the search radius of the distance from the node to the search string.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.LawOfDemeter"})
+final class TownNameTree {
+    private final TreeNode root;
+
+    TownNameTree(final Collection<String> townNames) {
+        TreeNode built = null;
+        for (final String townName : townNames) {
+            if (built == null) {
+                built = new TreeNode(townName);
+            } else {
+                built.add(townName);
+            }
+        }
+        this.root = built;
+    }
+
+    /**
+     * Find the town names within a Levenshtein distance of a search string.
+     *
+     * @param search the lower case search string
+     * @param radius the greatest distance to accept
+     * @return the town names found
+     */
+    List<String> findWithin(final String search, final int radius) {
+        final List<String> results = new ArrayList<>();
+        if (root == null) {
+            return results;
+        }
+
+        final Deque<TreeNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final TreeNode node = pending.pop();
+            final int distance = levenshtein(node.townName, search);
+            if (distance <= radius) {
+                results.add(node.townName);
+            }
+            node.children.forEach((key, child) -> {
+                if (Math.abs(key - distance) <= radius) {
+                    pending.push(child);
+                }
+            });
+        }
+        return results;
+    }
+
+    /**
+     * Calculate the Levenshtein distance between two strings, with a cost of one for each insertion, deletion or substitution,
+     * as the Postgres fuzzystrmatch levenshtein function does.
+     *
+     * @param source the first string
+     * @param target the second string
+     * @return the distance
+     */
+    static int levenshtein(final String source, final String target) {
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= target.length(); j++) {
+                final int substitution = previous[j - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[target.length()];
+    }
+
+    private static final class TreeNode {
+        private final String townName;
+        private final Map<Integer, TreeNode> children = new HashMap<>();
+
+        TreeNode(final String townName) {
+            this.townName = townName;
+        }
+
+        void add(final String other) {
+            TreeNode node = this;
+            while (true) {
+                final int distance = levenshtein(node.townName, other);
+                if (distance == 0) {
+                    return;
+                }
+                final TreeNode child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new TreeNode(other));
+                    return;
+                }
+                node = child;
+            }
+        }
+    }
+}
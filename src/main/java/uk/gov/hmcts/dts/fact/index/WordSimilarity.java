@@ -0,0 +1,169 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A port of the Postgres pg_trgm word_similarity function for a single query string.
+ * - Words are runs of letters and digits, lower cased and padded with two spaces before and one space after. Each run of three
+ *   characters in a padded word is a trigram.
+ * - The similarity of the query to a target is the greatest similarity between the set of query trigrams and any continuous extent
+ *   of the ordered target trigrams, found with the same greedy scan as pg_trgm so borderline scores round the same way.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseConcurrentHashMap"})
+final class WordSimilarity {
+    private static final String LEFT_PADDING = "  ";
+    private static final String RIGHT_PADDING = " ";
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<String, Integer> queryTrigrams = new HashMap<>();
+
+    WordSimilarity(final String query) {
+        for (final String trigram : trigrams(query)) {
+            queryTrigrams.putIfAbsent(trigram, queryTrigrams.size());
+        }
+    }
+
+    /**
+     * Get the distinct trigrams of the query.
+     *
+     * @return the query trigrams
+     */
+    Set<String> getTrigrams() {
+        return queryTrigrams.keySet();
+    }
+
+    /**
+     * Calculate the word similarity of the query to a target, as word_similarity(query, target) would.
+     *
+     * @param target the trigrams of the target, in order, as returned by {@link #trigrams}
+     * @return the similarity, between 0 and 1
+     */
+    float similarityTo(final String... target) {
+        final ExtentScan scan = new ExtentScan(queryTrigrams, target);
+        float best = 0;
+        for (int upper = 0; upper < target.length; upper++) {
+            if (scan.extendTo(upper)) {
+                best = Math.max(best, scan.bestEndingAt(upper));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Split a string into trigrams in the same way as pg_trgm.
+     *
+     * @param text the string
+     * @return the trigrams of each word, in order, including repeats
+     */
+    static String[] trigrams(final String text) {
+        final List<String> trigrams = new ArrayList<>();
+        final String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = 0;
+        while (start < lowerCase.length()) {
+            int end = start;
+            while (end < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                final String word = LEFT_PADDING + lowerCase.substring(start, end) + RIGHT_PADDING;
+                for (int i = 0; i + TRIGRAM_LENGTH <= word.length(); i++) {
+                    trigrams.add(word.substring(i, i + TRIGRAM_LENGTH));
+                }
+            }
+            start = end + 1;
+        }
+        return trigrams.toArray(new String[0]);
+    }
+
+    private static float similarity(final int count, final int queryLength, final int targetLength) {
+        return (float) count / (float) (queryLength + targetLength - count);
+    }
+
+    /**
+     * The greedy scan pg_trgm makes over the target trigrams. The extent grows one trigram at a time; each time it reaches a
+     * trigram the query shares, its start is moved forward if dropping leading trigrams scores higher.
+     */
+    private static final class ExtentScan {
+        private final int[] indexes;
+        private final int queryLength;
+        private final int[] lastPositions;
+        private int targetLength;
+        private int count;
+        private int lower = -1;
+
+        ExtentScan(final Map<String, Integer> queryTrigrams, final String... target) {
+            // Number each distinct target trigram, with the trigrams the query shares keeping their query number
+            queryLength = queryTrigrams.size();
+            final Map<String, Integer> otherTrigrams = new HashMap<>();
+            indexes = new int[target.length];
+            for (int i = 0; i < target.length; i++) {
+                final Integer index = queryTrigrams.get(target[i]);
+                indexes[i] = index == null
+                    ? otherTrigrams.computeIfAbsent(target[i], trigram -> queryLength + otherTrigrams.size())
+                    : index;
+            }
+            lastPositions = new int[queryLength + otherTrigrams.size()];
+            Arrays.fill(lastPositions, -1);
+        }
+
+        /**
+         * Add the next target trigram to the extent.
+         *
+         * @return true if the query shares the trigram, so the extent can end here
+         */
+        boolean extendTo(final int upper) {
+            final int index = indexes[upper];
+            final boolean shared = isShared(index);
+            if ((lower >= 0 || shared) && lastPositions[index] < 0) {
+                targetLength++;
+                count += shared ? 1 : 0;
+            }
+            if (lower >= 0 || shared) {
+                lastPositions[index] = upper;
+            }
+            if (shared && lower == -1) {
+                lower = upper;
+                targetLength = 1;
+            }
+            return shared;
+        }
+
+        float bestEndingAt(final int upper) {
+            float current = similarity(count, queryLength, targetLength);
+            int trialCount = count;
+            int trialLength = targetLength;
+            final int previousLower = lower;
+            for (int trialLower = lower; trialLower <= upper; trialLower++) {
+                final float trial = similarity(trialCount, queryLength, trialLength);
+                if (trial > current) {
+                    current = trial;
+                    targetLength = trialLength;
+                    lower = trialLower;
+                    count = trialCount;
+                }
+                final int trialIndex = indexes[trialLower];
+                if (lastPositions[trialIndex] == trialLower) {
+                    trialLength--;
+                    trialCount -= isShared(trialIndex) ? 1 : 0;
+                }
+            }
+
+            for (int dropped = previousLower; dropped < lower; dropped++) {
+                if (lastPositions[indexes[dropped]] == dropped) {
+                    lastPositions[indexes[dropped]] = -1;
+                }
+            }
+            return current;
+        }
+
+        private boolean isShared(final int index) {
+            return index < queryLength;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable R-tree over the bounding boxes of local authority boundaries, for finding the boundaries around a point.
+ * The tree is packed once with the Sort-Tile-Recursive method: the nodes of each level are cut into vertical slices by
+ * longitude, and each slice into groups by latitude, so nodes seldom overlap and a lookup only visits the few branches
+ * whose boxes hold the point before testing it against the polygons.
+ */
+@SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.DataflowAnomalyAnalysis"})
+final class BoundaryTree {
+    private static final int NODE_CAPACITY = 16;
+
+    private final BoundaryNode root;
+    private final int count;
+
+    BoundaryTree(final Collection<LocalAuthorityBoundary> boundaries) {
+        List<BoundaryNode> level = boundaries.stream().map(BoundaryTree::leaf).collect(toList());
+        count = level.size();
+        while (level.size() > NODE_CAPACITY) {
+            level = pack(level);
+        }
+        root = branch(level);
+    }
+
+    /**
+     * Find the boundaries that contain a point.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @return the boundaries containing the point, in no particular order
+     */
+    List<LocalAuthorityBoundary> containing(final double lat, final double lon) {
+        final List<LocalAuthorityBoundary> found = new ArrayList<>();
+        root.collect(lat, lon, found);
+        return found;
+    }
+
+    int size() {
+        return count;
+    }
+
+    private static List<BoundaryNode> pack(final List<BoundaryNode> nodes) {
+        final int parents = (nodes.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        final int sliceSize = (int) Math.ceil(Math.sqrt(parents)) * NODE_CAPACITY;
+        final List<BoundaryNode> byLon = new ArrayList<>(nodes);
+        byLon.sort(Comparator.comparingDouble(BoundaryNode::centreLon));
+        final List<BoundaryNode> packed = new ArrayList<>(parents);
+        for (int slice = 0; slice < byLon.size(); slice += sliceSize) {
+            final List<BoundaryNode> byLat = new ArrayList<>(byLon.subList(slice, Math.min(slice + sliceSize, byLon.size())));
+            byLat.sort(Comparator.comparingDouble(BoundaryNode::centreLat));
+            for (int group = 0; group < byLat.size(); group += NODE_CAPACITY) {
+                packed.add(branch(byLat.subList(group, Math.min(group + NODE_CAPACITY, byLat.size()))));
+            }
+        }
+        return packed;
+    }
+
+    private static BoundaryNode leaf(final LocalAuthorityBoundary boundary) {
+        return new BoundaryNode(boundary.getMinLat(), boundary.getMinLon(), boundary.getMaxLat(),
+                                boundary.getMaxLon(), List.of(), boundary);
+    }
+
+    private static BoundaryNode branch(final List<BoundaryNode> children) {
+        double south = Double.POSITIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (final BoundaryNode child : children) {
+            south = Math.min(south, child.minLat);
+            west = Math.min(west, child.minLon);
+            north = Math.max(north, child.maxLat);
+            east = Math.max(east, child.maxLon);
+        }
+        return new BoundaryNode(south, west, north, east, List.copyOf(children), null);
+    }
+
+    private static final class BoundaryNode {
+        private final double minLat;
+        private final double minLon;
+        private final double maxLat;
+        private final double maxLon;
+        private final List<BoundaryNode> children;
+        private final LocalAuthorityBoundary boundary;
+
+        private BoundaryNode(final double minLat, final double minLon, final double maxLat, final double maxLon,
+                             final List<BoundaryNode> children, final LocalAuthorityBoundary boundary) {
+            this.minLat = minLat;
+            this.minLon = minLon;
+            this.maxLat = maxLat;
+            this.maxLon = maxLon;
+            this.children = children;
+            this.boundary = boundary;
+        }
+
+        double centreLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        double centreLon() {
+            return (minLon + maxLon) / 2;
+        }
+
+        void collect(final double lat, final double lon, final List<LocalAuthorityBoundary> found) {
+            if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+                return;
+            }
+            if (boundary == null) {
+                children.forEach(child -> child.collect(lat, lon, found));
+            } else if (boundary.contains(lat, lon)) {
+                found.add(boundary);
+            }
+        }
+    }
+}
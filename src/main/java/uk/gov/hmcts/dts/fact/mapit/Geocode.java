@@ -0,0 +1,58 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import static uk.gov.hmcts.dts.fact.mapit.MapitData.forLocation;
+
+/**
+ * The parts of a Mapit postcode lookup the searches use, small enough to keep for many postcodes.
+ */
+@EqualsAndHashCode
+@Getter
+public final class Geocode {
+    private final double lat;
+    private final double lon;
+    private final String localAuthority;
+    private final String postcode;
+
+    private Geocode(final double lat, final double lon, final String localAuthority, final String postcode) {
+        this.lat = lat;
+        this.lon = lon;
+        this.localAuthority = localAuthority;
+        this.postcode = postcode;
+    }
+
+    /**
+     * Build a geocode from a location that has already been looked up.
+     *
+     * @param lat the latitude of the postcode
+     * @param lon the longitude of the postcode
+     * @param localAuthority the name of the local authority the postcode is in, or null if not known
+     * @param postcode the postcode
+     * @return the geocode
+     */
+    public static Geocode fromLocation(final double lat, final double lon, final String localAuthority, final String postcode) {
+        return new Geocode(lat, lon, localAuthority, postcode);
+    }
+
+    /**
+     * Keep the location, local authority and postcode of a Mapit lookup.
+     *
+     * @param mapitData a Mapit lookup with a latitude and longitude
+     * @return the geocode
+     */
+    public static Geocode from(final MapitData mapitData) {
+        return new Geocode(mapitData.getLat(), mapitData.getLon(), mapitData.getLocalAuthority().orElse(null),
+                           mapitData.getPostcode());
+    }
+
+    /**
+     * Rebuild the Mapit lookup, with the local authority in the same shape Mapit returns it.
+     *
+     * @return the location as Mapit data
+     */
+    public MapitData toMapitData() {
+        return forLocation(lat, lon, localAuthority, postcode);
+    }
+}
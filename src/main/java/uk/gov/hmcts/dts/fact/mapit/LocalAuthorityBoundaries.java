@@ -0,0 +1,120 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PostConstruct;
+
+/**
+ * Finds the local authority a point is in from local boundary polygons, so a location can be given its council without
+ * calling Mapit.
+ * - The boundaries are read at startup from a GeoJSON feature collection of polygons and multipolygons, named by a
+ *   property of each feature, and are held in a {@link BoundaryTree}.
+ * - The names should be those Mapit gives the councils, as the local authorities in the database are matched by name.
+ * - Where boundaries overlap, as a county overlaps its districts, the largest is chosen, as Mapit chooses the county.
+ * A missing or unreadable file is not an error; no local authority is then found for any point.
+ */
+@Component
+@Slf4j
+@SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.DataflowAnomalyAnalysis"})
+public class LocalAuthorityBoundaries {
+    private static final String POLYGON = "Polygon";
+    private static final String MULTI_POLYGON = "MultiPolygon";
+    private static final String COORDINATES = "coordinates";
+    private static final int MIN_RING_POSITIONS = 3;
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final String nameProperty;
+    private final boolean enabled;
+    private final AtomicReference<BoundaryTree> boundaries = new AtomicReference<>(new BoundaryTree(List.of()));
+
+    @Autowired
+    public LocalAuthorityBoundaries(final ObjectMapper objectMapper,
+                                    @Value("${mapit.boundaries.file:}") final String file,
+                                    @Value("${mapit.boundaries.name-property:name}") final String nameProperty) {
+        this.objectMapper = objectMapper;
+        this.file = Paths.get(file);
+        this.nameProperty = nameProperty;
+        this.enabled = !file.isBlank();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!isEnabled() || !Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            final List<LocalAuthorityBoundary> read = readBoundaries(objectMapper.readTree(file.toFile()));
+            boundaries.set(new BoundaryTree(read));
+            log.info("Loaded {} local authority boundaries from {}", read.size(), file);
+        } catch (final IOException | IllegalArgumentException ex) {
+            log.warn("Could not read the local authority boundaries {}", file, ex);
+        }
+    }
+
+    /**
+     * Find the local authority a point is in.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @return the name of the local authority, or empty if the point is outside every boundary
+     */
+    public Optional<String> localAuthorityAt(final double lat, final double lon) {
+        return boundaries.get().containing(lat, lon).stream()
+            .max(Comparator.comparingDouble(LocalAuthorityBoundary::getBoxArea))
+            .map(LocalAuthorityBoundary::getName);
+    }
+
+    private List<LocalAuthorityBoundary> readBoundaries(final JsonNode featureCollection) {
+        final List<LocalAuthorityBoundary> read = new ArrayList<>();
+        for (final JsonNode feature : featureCollection.path("features")) {
+            final String name = feature.path("properties").path(nameProperty).asText("").trim();
+            final List<double[]> rings = readRings(feature.path("geometry"));
+            if (!name.isEmpty() && !rings.isEmpty()) {
+                read.add(new LocalAuthorityBoundary(name, rings));
+            }
+        }
+        return read;
+    }
+
+    private static List<double[]> readRings(final JsonNode geometry) {
+        final String type = geometry.path("type").asText();
+        final List<double[]> rings = new ArrayList<>();
+        if (POLYGON.equals(type)) {
+            geometry.path(COORDINATES).forEach(ring -> rings.add(readRing(ring)));
+        } else if (MULTI_POLYGON.equals(type)) {
+            geometry.path(COORDINATES).forEach(polygon -> polygon.forEach(ring -> rings.add(readRing(ring))));
+        }
+        return rings;
+    }
+
+    private static double[] readRing(final JsonNode positions) {
+        if (positions.size() < MIN_RING_POSITIONS) {
+            throw new IllegalArgumentException("A boundary ring has fewer than three positions");
+        }
+        final double[] ring = new double[positions.size() * 2];
+        for (int i = 0; i < positions.size(); i++) {
+            ring[i * 2] = positions.get(i).path(0).asDouble();
+            ring[i * 2 + 1] = positions.get(i).path(1).asDouble();
+        }
+        return ring;
+    }
+}
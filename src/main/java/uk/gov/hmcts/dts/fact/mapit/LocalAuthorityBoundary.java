@@ -0,0 +1,112 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import java.util.List;
+
+/**
+ * The boundary of a local authority, as the rings of its polygons with their bounding box.
+ * Each ring is held as alternating longitudes and latitudes. Points are tested against every ring with the even-odd rule,
+ * so holes, such as a unitary authority inside a county, and authorities in several parts, such as those with islands,
+ * need no special handling.
+ */
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.UseVarargs"})
+final class LocalAuthorityBoundary {
+    private final String name;
+    private final List<double[]> rings;
+    private final double minLat;
+    private final double minLon;
+    private final double maxLat;
+    private final double maxLon;
+
+    /**
+     * Build a boundary.
+     *
+     * @param name the name of the local authority
+     * @param rings the rings of its polygons, outer rings and holes alike, each as alternating longitudes and latitudes
+     */
+    LocalAuthorityBoundary(final String name, final List<double[]> rings) {
+        this.name = name;
+        this.rings = List.copyOf(rings);
+        double south = Double.POSITIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (final double[] ring : rings) {
+            for (int i = 0; i < ring.length; i += 2) {
+                west = Math.min(west, ring[i]);
+                east = Math.max(east, ring[i]);
+                south = Math.min(south, ring[i + 1]);
+                north = Math.max(north, ring[i + 1]);
+            }
+        }
+        this.minLat = south;
+        this.minLon = west;
+        this.maxLat = north;
+        this.maxLon = east;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    double getMinLat() {
+        return minLat;
+    }
+
+    double getMinLon() {
+        return minLon;
+    }
+
+    double getMaxLat() {
+        return maxLat;
+    }
+
+    double getMaxLon() {
+        return maxLon;
+    }
+
+    /**
+     * The area of the bounding box, in square degrees, for choosing between boundaries that overlap.
+     *
+     * @return the area of the bounding box
+     */
+    double getBoxArea() {
+        return (maxLat - minLat) * (maxLon - minLon);
+    }
+
+    /**
+     * Test whether a point is inside the boundary. A point exactly on an edge may be counted either way.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @return whether the point is inside
+     */
+    boolean contains(final double lat, final double lon) {
+        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+            return false;
+        }
+        boolean inside = false;
+        for (final double[] ring : rings) {
+            if (crossesOddTimes(ring, lat, lon)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static boolean crossesOddTimes(final double[] ring, final double lat, final double lon) {
+        // Counts the edges crossed by a line running east from the point
+        boolean odd = false;
+        int previous = ring.length - 2;
+        for (int current = 0; current < ring.length; current += 2) {
+            final double lonA = ring[current];
+            final double latA = ring[current + 1];
+            final double lonB = ring[previous];
+            final double latB = ring[previous + 1];
+            if (latA > lat != latB > lat && lon < (lonB - lonA) * (lat - latA) / (latB - latA) + lonA) {
+                odd = !odd;
+            }
+            previous = current;
+        }
+        return odd;
+    }
+}
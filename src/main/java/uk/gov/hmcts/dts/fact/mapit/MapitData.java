@@ -2,6 +2,8 @@ package uk.gov.hmcts.dts.fact.mapit;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
@@ -18,6 +20,9 @@ import static java.util.Optional.ofNullable;
 public class MapitData {
     private static final String COUNCIL = "council";
     private static final String COUNTY = "county";
+    private static final String NAME = "name";
+    private static final String LOCATION_AREA = "0";
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
     @JsonProperty("wgs84_lat")
     Double lat;
     @JsonProperty("wgs84_lon")
@@ -27,6 +32,32 @@ public class MapitData {
 
     JsonNode areas;
 
+    String postcode;
+
+    public MapitData(final Double lat, final Double lon, final JsonNode shortcuts, final JsonNode areas) {
+        this(lat, lon, shortcuts, areas, null);
+    }
+
+    /**
+     * Build the equivalent of a Mapit response for a point that has already been located, so it can be searched without
+     * calling Mapit.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param localAuthority the name of the local authority the point is in, or null if not known
+     * @param postcode the postcode of the point, or null if not known
+     * @return the location, with the local authority in the same shape Mapit returns it
+     */
+    public static MapitData forLocation(final Double lat, final Double lon, final String localAuthority, final String postcode) {
+        if (localAuthority == null) {
+            return new MapitData(lat, lon, null, null, postcode);
+        }
+        final ObjectNode shortcuts = NODES.objectNode().put(COUNCIL, LOCATION_AREA);
+        final ObjectNode areas = NODES.objectNode();
+        areas.putObject(LOCATION_AREA).put(NAME, localAuthority);
+        return new MapitData(lat, lon, shortcuts, areas, postcode);
+    }
+
     public boolean hasLatAndLonValues() {
         return null != getLat() && null != getLon();
     }
@@ -36,6 +67,18 @@ public class MapitData {
             .flatMap(this::getCouncilNameFromAreas);
     }
 
+    /**
+     * The outcode of the postcode Mapit located, such as SW1A for SW1A 1AA.
+     *
+     * @return the outcode, or empty if Mapit did not return the postcode
+     */
+    public Optional<String> getOutcode() {
+        return ofNullable(postcode)
+            .map(String::trim)
+            .filter(p -> !p.isEmpty())
+            .map(p -> p.split("\\s+")[0]);
+    }
+
     private Optional<String> getCouncilNumberFromObject() {
         return ofNullable(shortcuts)
             .map(s -> s.get(COUNCIL))
@@ -53,7 +96,7 @@ public class MapitData {
     private Optional<String> getCouncilNameFromAreas(String area) {
         return ofNullable(areas)
             .map(string -> areas.get(area))
-            .map(a -> a.get("name"))
+            .map(a -> a.get(NAME))
             .map(JsonNode::asText);
     }
 }
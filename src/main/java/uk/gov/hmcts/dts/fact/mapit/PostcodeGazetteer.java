@@ -0,0 +1,147 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PostConstruct;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Locates postcodes from a local copy of the postcode directory instead of Mapit, in environments where a gazetteer file
+ * is configured. Postcodes it does not hold are still looked up in Mapit.
+ * - The gazetteer is a sorted binary file, see {@link PostcodeGazetteerWriter}, which is memory mapped and searched in
+ *   place, so the postcodes take almost no heap.
+ * - Sectors and districts are located at the centroid of their postcodes, in place of a partial postcode lookup.
+ * - If a postcode CSV file is configured, the gazetteer is rebuilt from it whenever it is newer than the gazetteer, at
+ *   startup and on a schedule, so a new release of the postcode directory is picked up by dropping in its CSV file.
+ *   The gazetteer is written to a temporary file first and then moved into place, and the new file is mapped in place of
+ *   the old one.
+ * A missing or unreadable gazetteer is not an error; postcodes are then looked up in Mapit as usual.
+ */
+@Component
+@Slf4j
+public class PostcodeGazetteer {
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final Optional<Path> csv;
+    private final boolean enabled;
+    private final AtomicReference<PostcodeGazetteerFile> gazetteer = new AtomicReference<>();
+    private final AtomicReference<FileTime> mappedModified = new AtomicReference<>();
+    private final Object lock = new Object();
+
+    @Autowired
+    public PostcodeGazetteer(@Value("${mapit.gazetteer.file:}") final String file,
+                             @Value("${mapit.gazetteer.csv:}") final String csv) {
+        this.file = Paths.get(file);
+        this.csv = csv.isBlank() ? Optional.empty() : Optional.of(Paths.get(csv));
+        this.enabled = !file.isBlank();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Rebuild the gazetteer if the postcode CSV file is newer, then map the gazetteer if it has changed since it was
+     * last mapped.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${mapit.gazetteer.check-interval:3600000}",
+        initialDelayString = "${mapit.gazetteer.check-interval:3600000}")
+    public void load() {
+        if (isEnabled()) {
+            synchronized (lock) {
+                csv.filter(source -> isNewer(source, file)).ifPresent(this::rebuild);
+                map();
+            }
+        }
+    }
+
+    /**
+     * Find a full postcode.
+     *
+     * @param postcode the postcode, with or without spaces
+     * @return the location and local authority of the postcode, or empty if it is not in the gazetteer
+     */
+    public Optional<Geocode> find(final String postcode) {
+        final PostcodeGazetteerFile mapped = gazetteer.get();
+        return mapped == null ? Optional.empty() : mapped.findPostcode(upperCaseAndStripAllSpaces(postcode));
+    }
+
+    /**
+     * Find a postcode sector, such as {@code OX1 1}, or district, such as {@code OX1}.
+     *
+     * @param postcode the sector or district
+     * @return the centroid of the sector or district, or empty if it is not in the gazetteer
+     */
+    public Optional<Geocode> findPartial(final String postcode) {
+        final PostcodeGazetteerFile mapped = gazetteer.get();
+        final String key = postcode.trim().replaceAll("\\s+", " ").toUpperCase(Locale.UK);
+        return mapped == null ? Optional.empty() : mapped.findPartial(key);
+    }
+
+    private void map() {
+        final Optional<FileTime> modified = lastModified(file);
+        if (modified.isEmpty() || modified.get().equals(mappedModified.get())) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            final PostcodeGazetteerFile mapped =
+                new PostcodeGazetteerFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            gazetteer.set(mapped);
+            mappedModified.set(modified.get());
+            log.info("Mapped the postcode gazetteer {} of {} postcodes", file, mapped.getPostcodeCount());
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+            log.warn("Could not read the postcode gazetteer {}", file, ex);
+        }
+    }
+
+    private void rebuild(final Path source) {
+        final Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            final int postcodes;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                postcodes = new PostcodeGazetteerWriter(out).write(source);
+            }
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            log.info("Rebuilt the postcode gazetteer {} with {} postcodes from {}", file, postcodes, source);
+        } catch (final IOException ex) {
+            log.warn("Could not rebuild the postcode gazetteer {} from {}", file, source, ex);
+        }
+    }
+
+    private static boolean isNewer(final Path source, final Path target) {
+        final Optional<FileTime> sourceModified = lastModified(source);
+        final Optional<FileTime> targetModified = lastModified(target);
+        return sourceModified.isPresent()
+            && (targetModified.isEmpty() || sourceModified.get().compareTo(targetModified.get()) > 0);
+    }
+
+    private static Optional<FileTime> lastModified(final Path path) {
+        try {
+            return Files.isRegularFile(path) ? Optional.of(Files.getLastModifiedTime(path)) : Optional.empty();
+        } catch (final IOException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static uk.gov.hmcts.dts.fact.mapit.Geocode.fromLocation;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.FORMAT_VERSION;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.KEY_BYTES;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.MAGIC;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.MICRODEGREES;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.NO_LOCAL_AUTHORITY;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.RECORD_BYTES;
+import static uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteerWriter.packKey;
+import static uk.gov.hmcts.dts.fact.util.Utils.normalisePostcode;
+
+/**
+ * Searches the postcodes written by {@link PostcodeGazetteerWriter} in a buffer, usually a memory mapped file. Only the
+ * header and the local authority names are read onto the heap; the records are binary searched where they lie, with
+ * absolute reads, so one file can be searched by many threads at once.
+ */
+@SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.AvoidUsingShortType", "PMD.DataflowAnomalyAnalysis"})
+final class PostcodeGazetteerFile {
+    private final ByteBuffer buffer;
+    private final List<String> localAuthorities;
+    private final int postcodeCount;
+    private final int postcodesStart;
+    private final int partialCount;
+    private final int partialsStart;
+
+    /**
+     * Read the header of a gazetteer.
+     *
+     * @param buffer the gazetteer, from its first byte
+     * @throws IOException if the buffer does not hold a gazetteer in the current format
+     */
+    PostcodeGazetteerFile(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        final ByteBuffer header = buffer.duplicate();
+        if (header.remaining() < Integer.BYTES * 2 || header.getInt() != MAGIC) {
+            throw new IOException("Not a postcode gazetteer");
+        }
+        final int formatVersion = header.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported postcode gazetteer format " + formatVersion);
+        }
+        final int localAuthorityCount = header.getInt();
+        final List<String> names = new ArrayList<>(localAuthorityCount);
+        for (int i = 0; i < localAuthorityCount; i++) {
+            final byte[] bytes = new byte[header.getInt()];
+            header.get(bytes);
+            names.add(new String(bytes, UTF_8));
+        }
+        this.localAuthorities = names;
+        this.postcodeCount = header.getInt();
+        this.partialCount = header.getInt();
+        this.postcodesStart = header.position();
+        this.partialsStart = postcodesStart + postcodeCount * RECORD_BYTES;
+        if (header.remaining() != (long) (postcodeCount + partialCount) * RECORD_BYTES) {
+            throw new IOException("Truncated postcode gazetteer");
+        }
+    }
+
+    int getPostcodeCount() {
+        return postcodeCount;
+    }
+
+    /**
+     * Find a full postcode.
+     *
+     * @param key the postcode in upper case without spaces
+     * @return the location and local authority of the postcode, or empty if it is not in the gazetteer
+     */
+    Optional<Geocode> findPostcode(final String key) {
+        return find(postcodesStart, postcodeCount, key, normalisePostcode(key));
+    }
+
+    /**
+     * Find a postcode sector or district.
+     *
+     * @param key the sector or district in upper case, as {@code OX1 1} or {@code OX1}
+     * @return the centroid of the sector or district, or empty if it is not in the gazetteer
+     */
+    Optional<Geocode> findPartial(final String key) {
+        return find(partialsStart, partialCount, key, key);
+    }
+
+    private Optional<Geocode> find(final int start, final int count, final String key, final String postcode) {
+        if (key.isEmpty() || key.length() > KEY_BYTES) {
+            return Optional.empty();
+        }
+        final long packed = packKey(key);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int offset = start + middle * RECORD_BYTES;
+            final int comparison = Long.compareUnsigned(buffer.getLong(offset), packed);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(toGeocode(offset + KEY_BYTES, postcode));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Geocode toGeocode(final int offset, final String postcode) {
+        final double lat = buffer.getInt(offset) / MICRODEGREES;
+        final double lon = buffer.getInt(offset + Integer.BYTES) / MICRODEGREES;
+        final short localAuthority = buffer.getShort(offset + Integer.BYTES * 2);
+        return fromLocation(lat, lon, localAuthority == NO_LOCAL_AUTHORITY ? null : localAuthorities.get(localAuthority),
+                            postcode);
+    }
+}
@@ -0,0 +1,187 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Packs a postcode CSV file into the sorted binary form read by {@link PostcodeGazetteerFile}.
+ * - The CSV file has a header row, then one row per postcode of {@code postcode,lat,lon,localAuthority}, as for the bulk
+ *   routing geocode file. Rows that do not parse are skipped, and a postcode given twice keeps its last row.
+ * - The file starts with a header and the names of the local authorities, then has two sections of fixed size records
+ *   sorted by key: full postcodes, keyed without spaces, then sectors and districts, keyed as {@code OX1 1} and
+ *   {@code OX1}. The location of a sector or district is the centroid of its postcodes.
+ * - Each record is the key in ASCII padded to eight bytes, the latitude and longitude in millionths of a degree and the
+ *   index of the local authority, so the records can be searched in place.
+ */
+@SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.AvoidUsingShortType", "PMD.UseConcurrentHashMap"})
+final class PostcodeGazetteerWriter {
+    static final int MAGIC = 0x46504731;
+    static final int FORMAT_VERSION = 1;
+    static final int KEY_BYTES = 8;
+    static final int RECORD_BYTES = KEY_BYTES + Integer.BYTES * 2 + Short.BYTES;
+    static final short NO_LOCAL_AUTHORITY = -1;
+    static final double MICRODEGREES = 1_000_000;
+
+    private static final Pattern FULL_POSTCODE = Pattern.compile("[A-Z0-9]{5,7}");
+    private static final Pattern COORDINATE = Pattern.compile("-?\\d{1,3}(\\.\\d+)?");
+    private static final int INWARD_LENGTH = 3;
+    private static final int POSTCODE = 0;
+    private static final int LAT = 1;
+    private static final int LON = 2;
+    private static final int LOCAL_AUTHORITY = 3;
+    private static final int FIELDS = 4;
+
+    private final DataOutputStream out;
+    private final SortedMap<String, Location> postcodes = new TreeMap<>();
+    private final SortedMap<String, Centroid> partials = new TreeMap<>();
+    private final Map<String, Short> localAuthorityIndexes = new HashMap<>();
+    private final List<String> localAuthorities = new ArrayList<>();
+
+    PostcodeGazetteerWriter(final DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Read a postcode CSV file and write it out in the binary form.
+     *
+     * @param csv the postcode CSV file
+     * @return the number of postcodes written
+     * @throws IOException if the CSV file cannot be read, has too many local authorities, or the output cannot be written
+     */
+    int write(final Path csv) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(csv, UTF_8)) {
+            reader.readLine();
+            String line = reader.readLine();
+            while (line != null) {
+                addRow(line.split(",", FIELDS));
+                line = reader.readLine();
+            }
+        }
+        postcodes.forEach(this::addToPartials);
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(localAuthorities.size());
+        for (final String localAuthority : localAuthorities) {
+            final byte[] bytes = localAuthority.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(postcodes.size());
+        out.writeInt(partials.size());
+        for (final Map.Entry<String, Location> postcode : postcodes.entrySet()) {
+            writeRecord(postcode.getKey(), postcode.getValue().lat, postcode.getValue().lon, postcode.getValue().localAuthority);
+        }
+        for (final Map.Entry<String, Centroid> partial : partials.entrySet()) {
+            writeRecord(partial.getKey(), partial.getValue().getLat(), partial.getValue().getLon(), NO_LOCAL_AUTHORITY);
+        }
+        return postcodes.size();
+    }
+
+    /**
+     * Pack a key into the first eight bytes of a record, so keys compare in the same order as their packed forms.
+     *
+     * @param key an ASCII key of no more than eight characters
+     * @return the packed key
+     */
+    static long packKey(final String key) {
+        long packed = 0;
+        for (int i = 0; i < KEY_BYTES; i++) {
+            packed = packed << Byte.SIZE | (i < key.length() ? key.charAt(i) & 0xFF : 0);
+        }
+        return packed;
+    }
+
+    private void addRow(final String... fields) throws IOException {
+        if (fields.length <= LON) {
+            return;
+        }
+        final String postcode = upperCaseAndStripAllSpaces(fields[POSTCODE]);
+        // Postcodes without a location, such as those for PO boxes, are left to Mapit
+        if (!FULL_POSTCODE.matcher(postcode).matches()
+            || !COORDINATE.matcher(fields[LAT].trim()).matches()
+            || !COORDINATE.matcher(fields[LON].trim()).matches()) {
+            return;
+        }
+        final String localAuthority = fields.length > LOCAL_AUTHORITY ? fields[LOCAL_AUTHORITY].trim() : "";
+        postcodes.put(postcode, new Location(Double.parseDouble(fields[LAT].trim()), Double.parseDouble(fields[LON].trim()),
+                                             indexOf(localAuthority)));
+    }
+
+    private short indexOf(final String localAuthority) throws IOException {
+        if (localAuthority.isEmpty()) {
+            return NO_LOCAL_AUTHORITY;
+        }
+        final Short index = localAuthorityIndexes.get(localAuthority);
+        if (index != null) {
+            return index;
+        }
+        if (localAuthorities.size() == Short.MAX_VALUE) {
+            throw new IOException("Too many local authorities in the postcode file");
+        }
+        final short added = (short) localAuthorities.size();
+        localAuthorities.add(localAuthority);
+        localAuthorityIndexes.put(localAuthority, added);
+        return added;
+    }
+
+    private void addToPartials(final String postcode, final Location location) {
+        final String outcode = postcode.substring(0, postcode.length() - INWARD_LENGTH);
+        final String sector = outcode + ' ' + postcode.charAt(outcode.length());
+        partials.computeIfAbsent(outcode, key -> new Centroid()).add(location);
+        partials.computeIfAbsent(sector, key -> new Centroid()).add(location);
+    }
+
+    private void writeRecord(final String key, final double lat, final double lon, final short localAuthority)
+        throws IOException {
+        out.writeLong(packKey(key));
+        out.writeInt((int) Math.round(lat * MICRODEGREES));
+        out.writeInt((int) Math.round(lon * MICRODEGREES));
+        out.writeShort(localAuthority);
+    }
+
+    private static final class Location {
+        private final double lat;
+        private final double lon;
+        private final short localAuthority;
+
+        Location(final double lat, final double lon, final short localAuthority) {
+            this.lat = lat;
+            this.lon = lon;
+            this.localAuthority = localAuthority;
+        }
+    }
+
+    private static final class Centroid {
+        private double latTotal;
+        private double lonTotal;
+        private int count;
+
+        void add(final Location location) {
+            latTotal += location.lat;
+            lonTotal += location.lon;
+            count++;
+        }
+
+        double getLat() {
+            return latTotal / count;
+        }
+
+        double getLon() {
+            return lonTotal / count;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.PostcodeGeocode;
+import uk.gov.hmcts.dts.fact.repositories.PostcodeGeocodeRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+
+import static uk.gov.hmcts.dts.fact.mapit.Geocode.from;
+import static uk.gov.hmcts.dts.fact.mapit.Geocode.fromLocation;
+import static uk.gov.hmcts.dts.fact.util.Utils.normalisePostcode;
+
+/**
+ * Postcodes located by Mapit, kept in the database so every instance can use them, including one that has just started.
+ * - Postcodes are keyed by their upper case form without spaces.
+ * - Lookups are written in the background, so a slow or unavailable database does not hold up a search. Writes are
+ *   dropped when too many are waiting, as the postcode will be written again the next time it is looked up.
+ * - Stored postcodes are served however old they are. A few of the oldest are looked up in Mapit again on a schedule,
+ *   so a postcode that moves to another local authority is picked up without every postcode being looked up at once.
+ *   Each instance claims its batch before calling Mapit, so instances on the same schedule refresh different postcodes.
+ */
+@Component
+@Slf4j
+public class PostcodeGeocodeStore {
+    private static final Set<Integer> UNKNOWN_POSTCODE_STATUSES = Set.of(400, 404);
+
+    private final PostcodeGeocodeRepository postcodeGeocodeRepository;
+    private final MapitClient mapitClient;
+    private final Duration refreshAge;
+    private final Duration refreshLease;
+    private final int refreshBatchSize;
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public PostcodeGeocodeStore(final PostcodeGeocodeRepository postcodeGeocodeRepository,
+                                final MapitClient mapitClient,
+                                @Value("${mapit.store.refresh-age-days:90}") final long refreshAgeDays,
+                                @Value("${mapit.store.refresh-interval:3600000}") final long refreshIntervalMillis,
+                                @Value("${mapit.store.refresh-batch-size:100}") final int refreshBatchSize,
+                                @Value("${mapit.store.queue-size:1000}") final int queueSize) {
+        this.postcodeGeocodeRepository = postcodeGeocodeRepository;
+        this.mapitClient = mapitClient;
+        this.refreshAge = Duration.ofDays(refreshAgeDays);
+        this.refreshLease = Duration.ofMillis(refreshIntervalMillis);
+        this.refreshBatchSize = refreshBatchSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize));
+    }
+
+    /**
+     * Find a stored postcode.
+     *
+     * @param postcode the postcode in upper case without spaces
+     * @return the geocode, or empty if the postcode is not stored or the database could not be read
+     */
+    public Optional<Geocode> find(final String postcode) {
+        try {
+            return postcodeGeocodeRepository.findById(postcode).map(PostcodeGeocodeStore::toGeocode);
+        } catch (final DataAccessException ex) {
+            log.warn("Could not read postcode {} from the geocode store", postcode, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store a postcode in the background.
+     *
+     * @param postcode the postcode in upper case without spaces
+     * @param geocode the geocode Mapit returned for the postcode
+     */
+    public void save(final String postcode, final Geocode geocode) {
+        try {
+            executor.execute(() -> write(postcode, geocode));
+        } catch (final RejectedExecutionException ex) {
+            log.debug("Dropped the write of postcode {} to the geocode store as too many are waiting", postcode);
+        }
+    }
+
+    /**
+     * Look up the postcodes stored longest ago in Mapit again. Postcodes Mapit no longer knows are removed, and the
+     * refresh stops at the first other failure so an outage or exhausted quota is not made worse. Claimed postcodes the
+     * refresh did not reach are due again after one refresh interval.
+     */
+    @Scheduled(fixedDelayString = "${mapit.store.refresh-interval:3600000}",
+        initialDelayString = "${mapit.store.refresh-interval:3600000}")
+    public void refresh() {
+        final List<PostcodeGeocode> stale =
+            postcodeGeocodeRepository.claimFetchedBefore(refreshAge.toSeconds(), refreshLease.toSeconds(), refreshBatchSize);
+        for (final PostcodeGeocode stored : stale) {
+            if (!refreshPostcode(stored.getPostcode())) {
+                return;
+            }
+        }
+        log.info("Refreshed {} postcodes in the geocode store", stale.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean refreshPostcode(final String postcode) {
+        try {
+            final MapitData mapitData = mapitClient.getMapitData(normalisePostcode(postcode));
+            if (mapitData.hasLatAndLonValues()) {
+                write(postcode, from(mapitData));
+            } else {
+                delete(postcode);
+            }
+            return true;
+        } catch (final FeignException ex) {
+            if (UNKNOWN_POSTCODE_STATUSES.contains(ex.status())) {
+                delete(postcode);
+                return true;
+            }
+            log.warn("Stopped refreshing the geocode store at postcode {}. HTTP Status: {}", postcode, ex.status(), ex);
+            return false;
+        }
+    }
+
+    private void write(final String postcode, final Geocode geocode) {
+        try {
+            postcodeGeocodeRepository.upsert(postcode, geocode.getLat(), geocode.getLon(), geocode.getLocalAuthority());
+        } catch (final DataAccessException ex) {
+            log.warn("Could not write postcode {} to the geocode store", postcode, ex);
+        }
+    }
+
+    private void delete(final String postcode) {
+        try {
+            postcodeGeocodeRepository.deletePostcode(postcode);
+        } catch (final DataAccessException ex) {
+            log.warn("Could not remove postcode {} from the geocode store", postcode, ex);
+        }
+    }
+
+    private static Geocode toGeocode(final PostcodeGeocode stored) {
+        return fromLocation(stored.getLat(), stored.getLon(), stored.getLocalAuthority(), normalisePostcode(stored.getPostcode()));
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSearchRequest {
+    private String postcode;
+    private String serviceArea;
+}
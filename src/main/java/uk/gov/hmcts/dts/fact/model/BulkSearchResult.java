@@ -0,0 +1,19 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"postcode", "serviceArea", "result", "error"})
+public class BulkSearchResult {
+    private String postcode;
+    private String serviceArea;
+    private ServiceAreaWithCourtReferencesWithDistance result;
+    private String error;
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.dts.fact.index.GeohashCluster;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Getter
+@NoArgsConstructor
+@JsonPropertyOrder({"geohash", "lat", "lon", "count", "areasOfLaw"})
+public class CourtCluster {
+    private String geohash;
+    private Double lat;
+    private Double lon;
+    private Integer count;
+    private Map<String, Integer> areasOfLaw;
+
+    public CourtCluster(final GeohashCluster cluster) {
+        this.geohash = cluster.getGeohash();
+        this.lat = cluster.getLat();
+        this.lon = cluster.getLon();
+        this.count = cluster.getCount();
+        this.areasOfLaw = new TreeMap<>(cluster.getAreasOfLaw());
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.dts.fact.index.IndexedCourt;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static java.util.Optional.ofNullable;
+import static uk.gov.hmcts.dts.fact.util.Utils.chooseString;
+
+@Getter
+@NoArgsConstructor
+@JsonPropertyOrder({"name", "slug", "lat", "lon", "distance"})
+public class CourtLocation {
+    private String name;
+    private String slug;
+    private Double lat;
+    private Double lon;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal distance;
+
+    public CourtLocation(final IndexedCourt court, final Double distance) {
+        this.name = chooseString(court.getNameCy(), court.getName());
+        this.slug = court.getSlug();
+        this.lat = court.getLat();
+        this.lon = court.getLon();
+
+        ofNullable(distance)
+            .ifPresent(value -> this.distance = BigDecimal.valueOf(value).setScale(1, RoundingMode.HALF_UP));
+    }
+}
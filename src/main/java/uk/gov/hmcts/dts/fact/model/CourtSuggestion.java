@@ -0,0 +1,26 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.chooseString;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"name", "slug"})
+public class CourtSuggestion {
+    private String name;
+    private String slug;
+
+    public CourtSuggestion(uk.gov.hmcts.dts.fact.entity.Court courtEntity) {
+        this(courtEntity.getName(), courtEntity.getNameCy(), courtEntity.getSlug());
+    }
+
+    public CourtSuggestion(String name, String nameCy, String slug) {
+        this.name = chooseString(nameCy, name);
+        this.slug = slug;
+    }
+}
@@ -3,5 +3,8 @@ package uk.gov.hmcts.dts.fact.repositories;
 import org.springframework.data.jpa.repository.JpaRepository;
 import uk.gov.hmcts.dts.fact.entity.CourtAddress;
 
+import java.util.List;
+
 public interface CourtAddressRepository extends JpaRepository<CourtAddress, Integer> {
+    List<CourtAddress> findByCourtId(Integer courtId);
 }
@@ -6,6 +6,8 @@ import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
 import java.util.List;
 
 public interface CourtPostcodeRepository extends JpaRepository<CourtPostcode, Integer> {
+    List<CourtPostcode> findByCourtId(Integer courtId);
+
     List<CourtPostcode> findByCourtIdAndPostcode(Integer courtId, String postcode);
 
     List<CourtPostcode> findByCourtIdAndPostcodeIn(Integer courtId, List<String> postcodes);
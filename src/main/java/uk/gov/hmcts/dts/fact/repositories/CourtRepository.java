@@ -26,6 +26,8 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
 
     List<Court> findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(String prefix, boolean active);
 
+    List<Court> findByDisplayedTrue();
+
     @Query(nativeQuery = true,
         value = "SELECT * FROM search_court c LEFT JOIN search_courtaddress ca ON ca.court_id = c.id AND ca.address_type_id != 5881 "
         + "WHERE displayed = true AND ("
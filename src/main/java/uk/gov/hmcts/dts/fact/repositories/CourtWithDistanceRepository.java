@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourtWithDistanceRepository extends JpaRepository<CourtWithDistance, Integer> {
@@ -89,4 +90,18 @@ public interface CourtWithDistanceRepository extends JpaRepository<CourtWithDist
             + ORDER_BY_DISTANCE_C_NAME
             + LIMIT_1)
     List<CourtWithDistance> findNearestRegionalByAreaOfLaw(@Param(LAT) Double lat, @Param(LON) Double lon, String aol);
+
+    /**
+     * Load courts already ranked by an in-memory search. This is a primary key lookup, so the courts come back in no particular order.
+     *
+     * @param lat the latitude the distance is measured from
+     * @param lon the longitude the distance is measured from
+     * @param ids the court IDs
+     * @return the courts with their distance from the given point
+     */
+    @Query(nativeQuery = true,
+        value = SELECT_POINT_C_LON_C_LAT_POINT_LON_LAT_AS_DISTANCE
+            + FROM_SEARCH_COURT_AS_C
+            + "WHERE c.id IN (:ids)")
+    List<CourtWithDistance> findAllByIdWithDistance(@Param(LAT) Double lat, @Param(LON) Double lon, @Param("ids") Collection<Integer> ids);
 }
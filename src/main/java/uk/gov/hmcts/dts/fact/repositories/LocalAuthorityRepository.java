@@ -4,7 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import uk.gov.hmcts.dts.fact.entity.LocalAuthority;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface LocalAuthorityRepository extends JpaRepository<LocalAuthority, Integer> {
     List<LocalAuthority> findByName(String name);
+
+    Optional<LocalAuthority> findFirstByNameIgnoreCase(String name);
 }
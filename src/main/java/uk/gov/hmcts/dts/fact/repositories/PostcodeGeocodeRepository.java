@@ -0,0 +1,41 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.PostcodeGeocode;
+
+import java.util.List;
+
+public interface PostcodeGeocodeRepository extends JpaRepository<PostcodeGeocode, String> {
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO search_postcodegeocode (postcode, lat, lon, local_authority, fetched_at) "
+        + "VALUES (:postcode, :lat, :lon, :localAuthority, clock_timestamp()) "
+        + "ON CONFLICT (postcode) DO UPDATE SET lat = EXCLUDED.lat, lon = EXCLUDED.lon, "
+        + "local_authority = EXCLUDED.local_authority, fetched_at = EXCLUDED.fetched_at", nativeQuery = true)
+    void upsert(@Param("postcode") String postcode, @Param("lat") double lat, @Param("lon") double lon,
+                @Param("localAuthority") String localAuthority);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM search_postcodegeocode WHERE postcode = :postcode", nativeQuery = true)
+    int deletePostcode(@Param("postcode") String postcode);
+
+    /**
+     * Claim the postcodes fetched longest ago for a refresh. Their fetched_at is moved so they only become due again once
+     * the lease has passed, and rows another instance is claiming at the same time are skipped, so instances refreshing
+     * on the same schedule work through different postcodes.
+     */
+    @Transactional
+    @Query(value = "UPDATE search_postcodegeocode "
+        + "SET fetched_at = clock_timestamp() - make_interval(secs => :maxAgeSeconds) + make_interval(secs => :leaseSeconds) "
+        + "WHERE postcode IN (SELECT postcode FROM search_postcodegeocode "
+        + "WHERE fetched_at < clock_timestamp() - make_interval(secs => :maxAgeSeconds) "
+        + "ORDER BY fetched_at LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *", nativeQuery = true)
+    List<PostcodeGeocode> claimFetchedBefore(@Param("maxAgeSeconds") double maxAgeSeconds,
+                                             @Param("leaseSeconds") double leaseSeconds,
+                                             @Param("limit") int limit);
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SearchChangeRepository extends JpaRepository<SearchChange, Long> {
+    List<SearchChange> findByCreatedAtGreaterThanEqualOrderById(LocalDateTime since);
+
+    Optional<SearchChange> findFirstByOrderByCreatedAtDesc();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SearchChange c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
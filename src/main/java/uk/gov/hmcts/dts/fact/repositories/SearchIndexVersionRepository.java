@@ -0,0 +1,31 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+
+import java.util.Optional;
+
+public interface SearchIndexVersionRepository extends JpaRepository<SearchIndexVersion, Integer> {
+    /**
+     * Find the index version and the time of the last change, with the changes recorded since they were last added to it
+     * counted in. Both are read in one statement, so the version only moves once a change commits.
+     */
+    @Query(value = "SELECT v.id, v.version + c.changes AS version, greatest(v.updated_at, c.changed_at) AS updated_at "
+        + "FROM search_indexversion v, (SELECT count(*) AS changes, max(changed_at) AS changed_at FROM search_indexchange) c "
+        + "WHERE v.id = :id", nativeQuery = true)
+    Optional<SearchIndexVersion> findCurrentById(@Param("id") Integer id);
+
+    /**
+     * Add the committed changes to the index version and delete them, leaving the current version as it was.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "WITH added AS (DELETE FROM search_indexchange RETURNING changed_at) "
+        + "UPDATE search_indexversion SET version = version + (SELECT count(*) FROM added), "
+        + "updated_at = greatest(updated_at, (SELECT max(changed_at) FROM added)) WHERE id = :id", nativeQuery = true)
+    int addChanges(@Param("id") Integer id);
+}
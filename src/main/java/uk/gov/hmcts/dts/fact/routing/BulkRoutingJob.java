@@ -0,0 +1,155 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.IsolatedServiceAreaSearch;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static uk.gov.hmcts.dts.fact.routing.RoutingInput.FIELDS;
+import static uk.gov.hmcts.dts.fact.routing.RoutingInput.POSTCODE;
+import static uk.gov.hmcts.dts.fact.routing.RoutingInput.SERVICE_AREA;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.FAILED;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.INVALID_ROW;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.NO_COURT;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.ROUTED;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.UNKNOWN_POSTCODE;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.UNKNOWN_SERVICE_AREA;
+import static uk.gov.hmcts.dts.fact.util.Utils.normalisePostcode;
+
+/**
+ * Routes a file of postcodes to courts offline, using the same service area searches as {@code /search/results}.
+ * - The input is a CSV file with a header row, then one row per case of {@code reference,postcode,serviceArea}, without
+ *   quoting. The output is a CSV file with a row for each input row, in the same order, giving the nearest court found
+ *   and a {@link RoutingStatus}.
+ * - Postcodes are located from a local {@link GeocodeFile}, not Mapit. Only the postcodes in the input are kept in memory.
+ * - The input is streamed in chunks. The rows of a chunk are searched in parallel on a fixed size pool, each search in its own
+ *   read only transaction, and the chunk is written out in input order before the next chunk is read.
+ * - Progress is saved after each chunk, see {@link RoutingOutput}, so an interrupted run can be restarted without routing
+ *   rows twice. Delete the output file to start again from the beginning.
+ */
+@Component
+@Slf4j
+@SuppressWarnings({"PMD.LawOfDemeter", "PMD.UseConcurrentHashMap"})
+public class BulkRoutingJob {
+    private static final String METRIC = "routing.job.rows";
+
+    private final IsolatedServiceAreaSearch isolatedServiceAreaSearch;
+    private final ServiceAreaRepository serviceAreaRepository;
+    private final Map<RoutingStatus, Counter> counters = new EnumMap<>(RoutingStatus.class);
+    private final int parallelism;
+    private final int chunkSize;
+
+    @Autowired
+    public BulkRoutingJob(final IsolatedServiceAreaSearch isolatedServiceAreaSearch,
+                          final ServiceAreaRepository serviceAreaRepository,
+                          final MeterRegistry meterRegistry,
+                          @Value("${routing.job.parallelism:4}") final int parallelism,
+                          @Value("${routing.job.chunk-size:1000}") final int chunkSize) {
+        this.isolatedServiceAreaSearch = isolatedServiceAreaSearch;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        for (final RoutingStatus status : RoutingStatus.values()) {
+            counters.put(status, Counter.builder(METRIC)
+                .description("Rows routed by the bulk routing job")
+                .tag("status", status.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Route every row of an input file, carrying on from where an earlier run of the same output file stopped.
+     *
+     * @param input the file of postcodes to route
+     * @param output the file to write the routed rows to
+     * @param geocodes the file to locate the postcodes from
+     * @return what the run did
+     * @throws IOException if a file cannot be read or written
+     */
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    public RoutingSummary run(final Path input, final Path output, final Path geocodes) throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final Map<RoutingStatus, Long> statuses = new EnumMap<>(RoutingStatus.class);
+        try (RoutingOutput out = new RoutingOutput(output);
+             RoutingInput in = new RoutingInput(input, out.getResumedRows())) {
+            final long resumedRows = out.getResumedRows();
+            final Map<String, MapitData> locations = GeocodeFile.read(geocodes, RoutingInput.postcodesIn(input, resumedRows));
+            log.info("Routing {} from row {}, located {} postcodes", input, resumedRows + 1, locations.size());
+
+            // Service areas are looked up as rows are read, so the workers only search
+            final Map<String, Optional<ServiceArea>> serviceAreas = new HashMap<>();
+            long routedRows = 0;
+            List<String[]> chunk = in.nextChunk(chunkSize);
+            while (!chunk.isEmpty()) {
+                final List<CompletableFuture<RoutedRow>> routed = new ArrayList<>(chunk.size());
+                for (final String[] fields : chunk) {
+                    final Optional<ServiceArea> serviceArea = fields.length < FIELDS
+                        ? Optional.empty()
+                        : serviceAreas.computeIfAbsent(fields[SERVICE_AREA].trim().toLowerCase(Locale.ROOT),
+                                                       serviceAreaRepository::findBySlugIgnoreCase);
+                    routed.add(supplyAsync(() -> route(fields, serviceArea, locations), executor));
+                }
+                final List<String> lines = new ArrayList<>(chunk.size());
+                for (final CompletableFuture<RoutedRow> row : routed) {
+                    final RoutedRow result = row.join();
+                    lines.add(result.getLine());
+                    statuses.merge(result.getStatus(), 1L, Long::sum);
+                    counters.get(result.getStatus()).increment();
+                }
+                routedRows += chunk.size();
+                out.append(lines, resumedRows + routedRows);
+                log.info("Routed {} rows of {}", resumedRows + routedRows, input);
+                chunk = in.nextChunk(chunkSize);
+            }
+            return new RoutingSummary(resumedRows, routedRows, statuses);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RoutedRow route(final String[] fields, final Optional<ServiceArea> serviceArea,
+                            final Map<String, MapitData> locations) {
+        if (fields.length < FIELDS || fields[POSTCODE].isBlank() || fields[SERVICE_AREA].isBlank()) {
+            return new RoutedRow(INVALID_ROW, fields, null);
+        }
+        if (serviceArea.isEmpty()) {
+            return new RoutedRow(UNKNOWN_SERVICE_AREA, fields, null);
+        }
+        final String postcode = normalisePostcode(fields[POSTCODE]);
+        final MapitData location = locations.get(postcode);
+        if (location == null) {
+            return new RoutedRow(UNKNOWN_POSTCODE, fields, null);
+        }
+        try {
+            final ServiceAreaWithCourtReferencesWithDistance result =
+                isolatedServiceAreaSearch.searchWith(serviceArea.get(), location, postcode);
+            return result.getCourts().isEmpty()
+                ? new RoutedRow(NO_COURT, fields, null)
+                : new RoutedRow(ROUTED, fields, result.getCourts().get(0));
+        } catch (final RuntimeException ex) {
+            log.warn("Could not route {} in {}", postcode, fields[SERVICE_AREA], ex);
+            return new RoutedRow(FAILED, fields, null);
+        }
+    }
+}
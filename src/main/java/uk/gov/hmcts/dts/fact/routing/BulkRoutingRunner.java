@@ -0,0 +1,57 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Runs the {@link BulkRoutingJob} once the application has started, then shuts the application down. Enabled with
+ * {@code routing.job.enabled=true}, and best run with {@code spring.main.web-application-type=none}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "routing.job", name = "enabled", havingValue = "true")
+public class BulkRoutingRunner implements ApplicationRunner {
+
+    private final BulkRoutingJob bulkRoutingJob;
+    private final CourtIndexService courtIndexService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final String input;
+    private final String output;
+    private final String geocodes;
+
+    @Autowired
+    public BulkRoutingRunner(final BulkRoutingJob bulkRoutingJob,
+                             final CourtIndexService courtIndexService,
+                             final ConfigurableApplicationContext applicationContext,
+                             @Value("${routing.job.input}") final String input,
+                             @Value("${routing.job.output}") final String output,
+                             @Value("${routing.job.geocodes}") final String geocodes) {
+        this.bulkRoutingJob = bulkRoutingJob;
+        this.courtIndexService = courtIndexService;
+        this.applicationContext = applicationContext;
+        this.input = input;
+        this.output = output;
+        this.geocodes = geocodes;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws IOException {
+        // Runners are called before the application is ready, so the search indexes have not been built yet
+        courtIndexService.rebuild();
+        final RoutingSummary summary = bulkRoutingJob.run(Path.of(input), Path.of(output), Path.of(geocodes));
+        log.info("Routed {} rows of {} to {}, after {} rows routed by earlier runs: {}",
+                 summary.getRoutedRows(), input, output, summary.getResumedRows(), summary.getStatuses());
+        SpringApplication.exit(applicationContext, () -> 0);
+    }
+}
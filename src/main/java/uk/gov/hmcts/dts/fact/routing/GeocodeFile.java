@@ -0,0 +1,84 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.normalisePostcode;
+
+/**
+ * Reads postcode locations from a local CSV file instead of Mapit, for jobs that look up too many postcodes to send to Mapit.
+ * The file has a header row, then one row per postcode of {@code postcode,lat,lon,localAuthority}. The local authority is
+ * the name Mapit gives the council and may be empty; it is the rest of the row, so it may contain commas.
+ * Rows that cannot be read are skipped, so the postcodes on them are looked up as if they were not in the file.
+ */
+@Slf4j
+public final class GeocodeFile {
+    private static final int POSTCODE = 0;
+    private static final int LAT = 1;
+    private static final int LON = 2;
+    private static final int LOCAL_AUTHORITY = 3;
+    private static final int FIELDS = 4;
+
+    private GeocodeFile() {
+    }
+
+    /**
+     * Read the locations of some postcodes. The whole file is streamed but only the postcodes asked for are kept, so
+     * memory use depends on the postcodes being looked up rather than the size of the file.
+     *
+     * @param file the geocode file
+     * @param postcodes the normalised postcodes to read the locations of
+     * @return the locations found, keyed by normalised postcode
+     * @throws IOException if the file cannot be read
+     */
+    @SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.DataflowAnomalyAnalysis"})
+    public static Map<String, MapitData> read(final Path file, final Set<String> postcodes) throws IOException {
+        final Map<String, MapitData> locations = new HashMap<>();
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line = reader.readLine();
+            while (line != null) {
+                final String[] fields = line.split(",", FIELDS);
+                if (fields.length >= LON + 1) {
+                    final String postcode = normalisePostcode(fields[POSTCODE]);
+                    if (postcodes.contains(postcode)) {
+                        try {
+                            locations.put(postcode, toLocation(fields, postcode));
+                        } catch (final NumberFormatException ex) {
+                            skipped++;
+                        }
+                    }
+                } else if (!line.isBlank()) {
+                    skipped++;
+                }
+                line = reader.readLine();
+            }
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} rows of geocode file {} without a postcode, latitude and longitude", skipped, file);
+        }
+        return locations;
+    }
+
+    private static MapitData toLocation(final String[] fields, final String postcode) {
+        final String localAuthority = fields.length > LOCAL_AUTHORITY && !fields[LOCAL_AUTHORITY].isBlank()
+            ? fields[LOCAL_AUTHORITY].trim()
+            : null;
+        return MapitData.forLocation(
+            Double.parseDouble(fields[LAT].trim()),
+            Double.parseDouble(fields[LON].trim()),
+            localAuthority,
+            postcode
+        );
+    }
+}
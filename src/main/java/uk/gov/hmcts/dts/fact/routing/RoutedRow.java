@@ -0,0 +1,43 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static uk.gov.hmcts.dts.fact.routing.RoutingInput.FIELDS;
+
+/**
+ * A row of a bulk routing output file: the input fields, then the status and the court the row was routed to, if any.
+ */
+final class RoutedRow {
+    private final RoutingStatus status;
+    private final String line;
+
+    RoutedRow(final RoutingStatus status, final String[] fields, final CourtReferenceWithDistance court) {
+        this.status = status;
+        final List<String> values = new ArrayList<>(List.of(fields).subList(0, Math.min(fields.length, FIELDS)));
+        while (values.size() < FIELDS) {
+            values.add("");
+        }
+        values.add(status.name());
+        values.add(court == null ? "" : court.getSlug());
+        values.add(court == null ? "" : court.getName());
+        values.add(court == null || court.getDistance() == null ? "" : court.getDistance().toPlainString());
+        this.line = String.join(",", values.stream().map(RoutedRow::quote).toArray(String[]::new));
+    }
+
+    RoutingStatus getStatus() {
+        return status;
+    }
+
+    String getLine() {
+        return line;
+    }
+
+    private static String quote(final String value) {
+        return value.contains(",") || value.contains("\"")
+            ? '"' + value.replace("\"", "\"\"") + '"'
+            : value;
+    }
+}
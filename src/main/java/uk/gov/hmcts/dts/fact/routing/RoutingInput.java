@@ -0,0 +1,90 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.normalisePostcode;
+
+/**
+ * Streams the rows of a bulk routing input file, after its header row and any rows already routed.
+ */
+final class RoutingInput implements Closeable {
+    static final int POSTCODE = 1;
+    static final int SERVICE_AREA = 2;
+    static final int FIELDS = 3;
+
+    private final BufferedReader reader;
+
+    RoutingInput(final Path input, final long routedRows) throws IOException {
+        reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+        skipRows(reader, routedRows + 1);
+    }
+
+    /**
+     * Find the postcodes still to be routed, so only their locations need to be read.
+     *
+     * @param input the input file
+     * @param routedRows the number of rows already routed
+     * @return the normalised postcodes of the remaining rows
+     * @throws IOException if the file cannot be read
+     */
+    static Set<String> postcodesIn(final Path input, final long routedRows) throws IOException {
+        final Set<String> postcodes = new HashSet<>();
+        try (RoutingInput rows = new RoutingInput(input, routedRows)) {
+            String[] row = rows.nextRow();
+            while (row != null) {
+                if (row.length >= FIELDS) {
+                    postcodes.add(normalisePostcode(row[POSTCODE]));
+                }
+                row = rows.nextRow();
+            }
+        }
+        return postcodes;
+    }
+
+    /**
+     * Read the next rows, split into fields.
+     *
+     * @param size the maximum number of rows to read
+     * @return the rows, or an empty list at the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    List<String[]> nextChunk(final int size) throws IOException {
+        final List<String[]> chunk = new ArrayList<>(size);
+        String[] row = nextRow();
+        while (row != null) {
+            chunk.add(row);
+            if (chunk.size() == size) {
+                break;
+            }
+            row = nextRow();
+        }
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String[] nextRow() throws IOException {
+        final String line = reader.readLine();
+        return line == null ? null : line.split(",", -1);
+    }
+
+    private static void skipRows(final BufferedReader reader, final long rows) throws IOException {
+        for (long row = 0; row < rows; row++) {
+            if (reader.readLine() == null) {
+                return;
+            }
+        }
+    }
+}
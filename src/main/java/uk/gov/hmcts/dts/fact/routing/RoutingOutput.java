@@ -0,0 +1,83 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends routed rows to a bulk routing output file, saving how many rows have been written, and the length of the file
+ * after them, in a progress file alongside it.
+ * Opening an output file that has a progress file cuts the output back to the saved length, dropping anything written
+ * after the last save, so the job can carry on from the row after the last saved one.
+ */
+final class RoutingOutput implements Closeable {
+    static final String HEADER = "reference,postcode,serviceArea,status,courtSlug,courtName,distance";
+    static final String PROGRESS_SUFFIX = ".progress";
+
+    private final FileChannel channel;
+    private final Path progress;
+    private final long resumedRows;
+
+    RoutingOutput(final Path output) throws IOException {
+        channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        progress = output.resolveSibling(output.getFileName() + PROGRESS_SUFFIX);
+        if (channel.size() > 0 && Files.exists(progress)) {
+            final String[] saved = Files.readString(progress, StandardCharsets.UTF_8).trim().split(" ");
+            channel.truncate(Long.parseLong(saved[1]));
+            channel.position(channel.size());
+            resumedRows = Long.parseLong(saved[0]);
+        } else {
+            channel.truncate(0);
+            write(HEADER + '\n');
+            save(0);
+            resumedRows = 0;
+        }
+    }
+
+    /**
+     * The number of rows written by earlier runs, which this run carries on from.
+     *
+     * @return the number of rows already routed
+     */
+    long getResumedRows() {
+        return resumedRows;
+    }
+
+    /**
+     * Write routed rows to disk and save the progress.
+     *
+     * @param lines the routed rows
+     * @param rows the total number of rows written once these are
+     * @throws IOException if the file cannot be written
+     */
+    void append(final List<String> lines, final long rows) throws IOException {
+        write(String.join("\n", lines) + '\n');
+        save(rows);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void write(final String text) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+    }
+
+    private void save(final long rows) throws IOException {
+        final Path saving = progress.resolveSibling(progress.getFileName() + ".tmp");
+        Files.writeString(saving, rows + " " + channel.size(), StandardCharsets.UTF_8);
+        Files.move(saving, progress, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+/**
+ * The outcome of routing one row of a bulk routing input file.
+ */
+public enum RoutingStatus {
+    ROUTED,
+    NO_COURT,
+    UNKNOWN_POSTCODE,
+    UNKNOWN_SERVICE_AREA,
+    INVALID_ROW,
+    FAILED
+}
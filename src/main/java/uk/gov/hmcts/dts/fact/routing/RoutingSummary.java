@@ -0,0 +1,20 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * What a run of the bulk routing job did.
+ */
+@Getter
+@AllArgsConstructor
+public class RoutingSummary {
+    /**
+     * The rows that an earlier, interrupted run had already routed, which this run skipped.
+     */
+    private long resumedRows;
+    private long routedRows;
+    private Map<RoutingStatus, Long> statuses;
+}
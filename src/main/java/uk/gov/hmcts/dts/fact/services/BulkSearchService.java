@@ -0,0 +1,182 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.BulkSearchRequest;
+import uk.gov.hmcts.dts.fact.model.BulkSearchResult;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.IsolatedServiceAreaSearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.util.Utils.normalisePostcode;
+
+/**
+ * Runs many postcode and service area searches in one go, for batch jobs and pages that would otherwise make one request
+ * per search.
+ * - Each distinct postcode is looked up in Mapit once, and each distinct service area is loaded once.
+ * - Mapit lookups and searches run on a fixed size pool, so a batch uses at most that many Mapit calls and database
+ *   connections at a time.
+ * - Each search runs in its own read only transaction, see {@link IsolatedServiceAreaSearch}.
+ * A search that fails is reported against its own postcode without failing the rest of the batch.
+ */
+@Service
+@Slf4j
+public class BulkSearchService {
+
+    private final MapitService mapitService;
+    private final ServiceAreaRepository serviceAreaRepository;
+    private final IsolatedServiceAreaSearch isolatedServiceAreaSearch;
+    private final ExecutorService executor;
+    private final int maxSearches;
+
+    @Autowired
+    public BulkSearchService(final MapitService mapitService,
+                             final ServiceAreaRepository serviceAreaRepository,
+                             final IsolatedServiceAreaSearch isolatedServiceAreaSearch,
+                             @Value("${search.bulk.parallelism:4}") final int parallelism,
+                             @Value("${search.bulk.max-searches:1000}") final int maxSearches) {
+        this.mapitService = mapitService;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.isolatedServiceAreaSearch = isolatedServiceAreaSearch;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.maxSearches = maxSearches;
+    }
+
+    /**
+     * Find the courts for each postcode and service area, as {@code /search/results} would.
+     *
+     * @param requests the postcodes and service areas to search for
+     * @return the results, in the same order as the requests
+     */
+    @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.UseConcurrentHashMap", "PMD.DataflowAnomalyAnalysis"})
+    public List<BulkSearchResult> search(final List<BulkSearchRequest> requests) {
+        if (requests.size() > maxSearches) {
+            throw new IllegalArgumentException("A bulk search can have at most " + maxSearches + " searches");
+        }
+
+        // Results use the language of the request, which is held per thread
+        final LocaleContext locale = LocaleContextHolder.getLocaleContext();
+        final Map<String, Optional<ServiceArea>> serviceAreas = new HashMap<>();
+        final Map<String, CompletableFuture<Optional<MapitData>>> locations = new HashMap<>();
+        final Map<String, CompletableFuture<ServiceAreaWithCourtReferencesWithDistance>> searches = new HashMap<>();
+        final List<CompletableFuture<ServiceAreaWithCourtReferencesWithDistance>> results = new ArrayList<>(requests.size());
+
+        for (final BulkSearchRequest request : requests) {
+            if (request.getPostcode() == null || request.getPostcode().isBlank() || request.getServiceArea() == null) {
+                results.add(failedFuture(new IllegalArgumentException("A postcode and service area are required")));
+                continue;
+            }
+            final String postcode = normalisePostcode(request.getPostcode());
+            final String serviceAreaSlug = request.getServiceArea().trim().toLowerCase(Locale.ROOT);
+            results.add(searches.computeIfAbsent(postcode + ' ' + serviceAreaSlug, key -> {
+                final Optional<ServiceArea> serviceArea = serviceAreas.computeIfAbsent(
+                    serviceAreaSlug, serviceAreaRepository::findBySlugIgnoreCase
+                );
+                if (serviceArea.isEmpty()) {
+                    return completedFuture(new ServiceAreaWithCourtReferencesWithDistance(serviceAreaSlug));
+                }
+                return locations
+                    .computeIfAbsent(postcode, ignored -> supplyAsync(() -> mapitService.getMapitData(postcode), executor))
+                    .thenApplyAsync(mapitData -> inLocale(locale, () -> searchOne(serviceArea.get(), mapitData, postcode)), executor);
+            }));
+        }
+
+        final List<BulkSearchResult> bulkResults = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            bulkResults.add(toResult(requests.get(i), results.get(i)));
+        }
+        return bulkResults;
+    }
+
+    /**
+     * Find the courts near one postcode for several service areas, as {@code /search/results} would for each of them. The
+     * postcode is looked up in Mapit once, while the service areas are loaded, and the searches then run in parallel.
+     *
+     * @param postcode the postcode to search near
+     * @param serviceAreaSlugs the service areas to search
+     * @return the results, in the same order as the service areas
+     */
+    @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops", "PMD.UseConcurrentHashMap", "PMD.DataflowAnomalyAnalysis"})
+    public List<ServiceAreaWithCourtReferencesWithDistance> searchServiceAreas(final String postcode, final List<String> serviceAreaSlugs) {
+        if (serviceAreaSlugs.size() > maxSearches) {
+            throw new IllegalArgumentException("A search can have at most " + maxSearches + " service areas");
+        }
+
+        final LocaleContext locale = LocaleContextHolder.getLocaleContext();
+        final String normalisedPostcode = normalisePostcode(postcode);
+        final CompletableFuture<Optional<MapitData>> location =
+            supplyAsync(() -> mapitService.getMapitData(normalisedPostcode), executor);
+        final Map<String, CompletableFuture<ServiceAreaWithCourtReferencesWithDistance>> searches = new HashMap<>();
+        final List<CompletableFuture<ServiceAreaWithCourtReferencesWithDistance>> results = new ArrayList<>(serviceAreaSlugs.size());
+        for (final String slug : serviceAreaSlugs) {
+            results.add(searches.computeIfAbsent(slug.trim().toLowerCase(Locale.ROOT), serviceAreaSlug -> serviceAreaRepository
+                .findBySlugIgnoreCase(serviceAreaSlug)
+                .map(serviceArea -> location.thenApplyAsync(
+                    mapitData -> inLocale(locale, () -> searchOne(serviceArea, mapitData, normalisedPostcode)), executor))
+                .orElseGet(() -> completedFuture(new ServiceAreaWithCourtReferencesWithDistance(serviceAreaSlug)))));
+        }
+
+        try {
+            return results.stream().map(CompletableFuture::join).collect(toList());
+        } catch (final CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance searchOne(final ServiceArea serviceArea, final Optional<MapitData> mapitData,
+                                                                 final String postcode) {
+        return mapitData
+            .map(location -> isolatedServiceAreaSearch.searchWith(serviceArea, location, postcode))
+            .orElseGet(() -> new ServiceAreaWithCourtReferencesWithDistance(serviceArea.getSlug()));
+    }
+
+    private static BulkSearchResult toResult(final BulkSearchRequest request,
+                                             final CompletableFuture<ServiceAreaWithCourtReferencesWithDistance> result) {
+        try {
+            return new BulkSearchResult(request.getPostcode(), request.getServiceArea(), result.join(), null);
+        } catch (final CompletionException ex) {
+            log.warn("Bulk search for {} in {} failed", request.getPostcode(), request.getServiceArea(), ex.getCause());
+            return new BulkSearchResult(request.getPostcode(), request.getServiceArea(), null, ex.getCause().getMessage());
+        }
+    }
+
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private static <T> T inLocale(final LocaleContext locale, final Supplier<T> task) {
+        final LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocaleContext(locale);
+        try {
+            return task.get();
+        } finally {
+            LocaleContextHolder.setLocaleContext(previous);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.index.CourtClusterIndex;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.index.IndexedCourt;
+import uk.gov.hmcts.dts.fact.model.CourtCluster;
+import uk.gov.hmcts.dts.fact.model.CourtLocation;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingDouble;
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.util.EarthDistance.distanceInMiles;
+
+/**
+ * Finds the displayed courts in an area of a map: inside a bounding box, or within a distance of a point, or as clusters
+ * for the zoom level of the map. These are answered from the in-memory indexes once they have been built, and until then
+ * from the displayed courts.
+ * Courts are ordered by distance from the centre of the area, then by name, and capped at the requested limit.
+ */
+@Service
+public class CourtMapService {
+
+    private static final Comparator<IndexedCourt> BY_NAME = comparing(IndexedCourt::getName, nullsLast(Collator.getInstance(Locale.UK)));
+
+    private final CourtIndexService courtIndexService;
+    private final CourtRepository courtRepository;
+
+    @Autowired
+    public CourtMapService(final CourtIndexService courtIndexService, final CourtRepository courtRepository) {
+        this.courtIndexService = courtIndexService;
+        this.courtRepository = courtRepository;
+    }
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public List<CourtLocation> getCourtsInBox(final double minLat, final double minLon, final double maxLat, final double maxLon,
+                                              final String areaOfLaw, final String courtType, final int limit) {
+        checkCorners(minLat, minLon, maxLat, maxLon);
+        final double centreLat = (minLat + maxLat) / 2;
+        final double centreLon = (minLon + maxLon) / 2;
+        final List<IndexedCourt> courts = courtIndexService.getSnapshot()
+            .map(snapshot -> snapshot.getBoxIndex().within(minLat, minLon, maxLat, maxLon))
+            .orElseGet(() -> loadDisplayedCourts(court -> court.getLat() >= minLat && court.getLat() <= maxLat
+                && court.getLon() >= minLon && court.getLon() <= maxLon));
+
+        return courts.stream()
+            .filter(matches(areaOfLaw, courtType))
+            .sorted(byDistanceFrom(centreLat, centreLon))
+            .limit(limit)
+            .map(court -> new CourtLocation(court, null))
+            .collect(toList());
+    }
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public List<CourtLocation> getCourtsWithinDistance(final double lat, final double lon, final double miles,
+                                                       final String areaOfLaw, final String courtType, final int limit) {
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> findWithinDistance(snapshot, lat, lon, miles, areaOfLaw, courtType, limit))
+            .orElseGet(() -> loadDisplayedCourts(court -> distanceInMiles(court.getLat(), court.getLon(), lat, lon) <= miles)
+                .stream()
+                .filter(matches(areaOfLaw, courtType))
+                .sorted(byDistanceFrom(lat, lon))
+                .limit(limit)
+                .map(court -> new CourtLocation(court, distanceInMiles(court.getLat(), court.getLon(), lat, lon)))
+                .collect(toList()));
+    }
+
+    /**
+     * Cluster the displayed courts in a viewport by geohash cell, with cells sized for the zoom level of the map.
+     *
+     * @param zoom the zoom level of the map, from 0 to 20
+     * @param minLat the southern edge of the viewport
+     * @param minLon the western edge of the viewport
+     * @param maxLat the northern edge of the viewport
+     * @param maxLon the eastern edge of the viewport
+     * @return the clusters overlapping the viewport, in geohash order
+     */
+    public List<CourtCluster> getCourtClusters(final int zoom, final double minLat, final double minLon,
+                                               final double maxLat, final double maxLon) {
+        checkCorners(minLat, minLon, maxLat, maxLon);
+        final CourtClusterIndex clusterIndex = courtIndexService.getSnapshot()
+            .map(CourtIndexSnapshot::getClusterIndex)
+            .orElseGet(() -> new CourtClusterIndex(loadDisplayedCourts(court -> true)));
+
+        return clusterIndex.within(CourtClusterIndex.precisionForZoom(zoom), minLat, minLon, maxLat, maxLon)
+            .stream()
+            .map(CourtCluster::new)
+            .collect(toList());
+    }
+
+    @SuppressWarnings({"PMD.ExcessiveParameterList", "PMD.DataflowAnomalyAnalysis"})
+    private List<CourtLocation> findWithinDistance(final CourtIndexSnapshot snapshot, final double lat, final double lon,
+                                                   final double miles, final String areaOfLaw, final String courtType,
+                                                   final int limit) {
+        final Map<Integer, IndexedCourt> courts = snapshot.getCourts();
+        // The location index filters by area of law and orders by distance then name, so only the court type is left to check
+        return snapshot.getLocationIndex()
+            .within(lat, lon, miles, areaOfLaw)
+            .stream()
+            .filter(court -> courtType == null || courts.get(court.getCourtId()).hasCourtType(courtType))
+            .limit(limit)
+            .map(court -> new CourtLocation(courts.get(court.getCourtId()), court.getDistance()))
+            .collect(toList());
+    }
+
+    private List<IndexedCourt> loadDisplayedCourts(final Predicate<IndexedCourt> inArea) {
+        return courtRepository.findByDisplayedTrue()
+            .stream()
+            .map(court -> new IndexedCourt(court, emptyList(), emptyList(), emptyList(), emptyList()))
+            .filter(IndexedCourt::hasCoordinates)
+            .filter(inArea)
+            .collect(toList());
+    }
+
+    private static void checkCorners(final double minLat, final double minLon, final double maxLat, final double maxLon) {
+        if (minLat > maxLat || minLon > maxLon) {
+            throw new IllegalArgumentException("The south west corner of the box must be below and left of the north east corner");
+        }
+    }
+
+    private static Predicate<IndexedCourt> matches(final String areaOfLaw, final String courtType) {
+        return court -> (areaOfLaw == null || court.hasAreaOfLaw(areaOfLaw))
+            && (courtType == null || court.hasCourtType(courtType));
+    }
+
+    private static Comparator<IndexedCourt> byDistanceFrom(final double lat, final double lon) {
+        return comparingDouble((IndexedCourt court) -> distanceInMiles(court.getLat(), court.getLon(), lat, lon))
+            .thenComparing(BY_NAME);
+    }
+}
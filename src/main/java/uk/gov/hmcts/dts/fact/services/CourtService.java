@@ -2,38 +2,45 @@ package uk.gov.hmcts.dts.fact.services;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.exception.InvalidPostcodeException;
-import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.model.Court;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
 import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.CourtWithDistance;
-import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
 import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
-import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.IProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
+import uk.gov.hmcts.dts.fact.services.search.ShadowSearch;
+import uk.gov.hmcts.dts.fact.services.search.SinglePointOfEntryFilter;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static uk.gov.hmcts.dts.fact.services.validation.PostcodeValidator.isFullPostcodeFormat;
 import static uk.gov.hmcts.dts.fact.util.Utils.isNorthernIrishPostcode;
 import static uk.gov.hmcts.dts.fact.util.Utils.isScottishPostcode;
 
 @Service
 @Slf4j
+@SuppressWarnings({"PMD.ExcessiveImports", "PMD.ExcessiveParameterList"})
 public class CourtService {
 
     private static final String IMMIGRATION_AREA_OF_LAW = "Immigration";
@@ -41,20 +48,28 @@ public class CourtService {
 
     private final MapitService mapitService;
     private final CourtRepository courtRepository;
-    private final ProximitySearch proximitySearch;
+    private final IProximitySearch proximitySearch;
     private final CourtWithDistanceRepository courtWithDistanceRepository;
     private final ServiceAreaRepository serviceAreaRepository;
     private final ServiceAreaSearchFactory serviceAreaSearchFactory;
     private final FallbackProximitySearch fallbackProximitySearch;
+    private final CourtIndexService courtIndexService;
+    private final SinglePointOfEntryFilter singlePointOfEntryFilter;
+    private final ShadowSearch shadowSearch;
+    private final boolean fuzzyIndexEnabled;
 
     @Autowired
     public CourtService(final MapitService mapitService,
                         final CourtRepository courtRepository,
-                        final ProximitySearch proximitySearch,
+                        final IProximitySearch proximitySearch,
                         final CourtWithDistanceRepository courtWithDistanceRepository,
                         final ServiceAreaRepository serviceAreaRepository,
                         final ServiceAreaSearchFactory serviceAreaSearchFactory,
-                        final FallbackProximitySearch fallbackProximitySearch) {
+                        final FallbackProximitySearch fallbackProximitySearch,
+                        final CourtIndexService courtIndexService,
+                        final SinglePointOfEntryFilter singlePointOfEntryFilter,
+                        final ShadowSearch shadowSearch,
+                        @Value("${search.index.fuzzy-enabled:true}") final boolean fuzzyIndexEnabled) {
         this.mapitService = mapitService;
         this.courtWithDistanceRepository = courtWithDistanceRepository;
         this.proximitySearch = proximitySearch;
@@ -62,21 +77,10 @@ public class CourtService {
         this.serviceAreaRepository = serviceAreaRepository;
         this.serviceAreaSearchFactory = serviceAreaSearchFactory;
         this.fallbackProximitySearch = fallbackProximitySearch;
-
-    }
-
-    public OldCourt getCourtBySlugDeprecated(final String slug) {
-        return courtRepository
-            .findBySlug(slug)
-            .map(OldCourt::new)
-            .orElseThrow(() -> new NotFoundException(slug));
-    }
-
-    public Court getCourtBySlug(final String slug) {
-        return courtRepository
-            .findBySlug(slug)
-            .map(Court::new)
-            .orElseThrow(() -> new NotFoundException(slug));
+        this.courtIndexService = courtIndexService;
+        this.singlePointOfEntryFilter = singlePointOfEntryFilter;
+        this.shadowSearch = shadowSearch;
+        this.fuzzyIndexEnabled = fuzzyIndexEnabled;
     }
 
     public List<CourtReference> getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch(final String query) {
@@ -92,8 +96,8 @@ public class CourtService {
 
     public List<CourtWithDistance> getNearestCourtsByPostcode(final String postcode) {
         return mapitService.getMapitData(postcode)
-            .map(value -> courtWithDistanceRepository
-                .findNearestTen(value.getLat(), value.getLon())
+            .map(value -> proximitySearch
+                .searchWith(value)
                 .stream()
                 .map(CourtWithDistance::new)
                 .collect(toList()))
@@ -106,8 +110,8 @@ public class CourtService {
         }
 
         return mapitService.getMapitData(postcode)
-            .map(value -> courtWithDistanceRepository
-                .findNearestTenByAreaOfLaw(value.getLat(), value.getLon(), areaOfLaw)
+            .map(value -> proximitySearch
+                .searchWith(value, areaOfLaw)
                 .stream()
                 .filter(getCourtWithDistancePredicate(postcode, areaOfLaw))
                 .map(CourtWithDistance::new)
@@ -153,6 +157,23 @@ public class CourtService {
     }
 
     public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByPostcodeSearch(final String postcode, final String serviceAreaSlug) {
+        return searchServiceArea(postcode, serviceAreaSlug, this::convert);
+    }
+
+    public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByAreaOfLawSinglePointOfEntry(final String postcode, final String serviceArea, final String areaOfLaw) {
+        return searchServiceArea(postcode, serviceArea, courts -> singlePointOfEntryFilter.nearestSinglePointOfEntry(courts, areaOfLaw));
+    }
+
+    public List<CourtReference> getCourtsByPrefixAndActiveSearch(String prefix) {
+        return courtRepository.findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(prefix, true)
+            .stream()
+            .map(CourtReference::new)
+            .collect(toList());
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance searchServiceArea(
+        final String postcode, final String serviceAreaSlug,
+        final Function<List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance>, List<CourtReferenceWithDistance>> toCourtReferences) {
 
         final Optional<ServiceArea> serviceAreaOptional = serviceAreaRepository.findBySlugIgnoreCase(serviceAreaSlug);
         final Optional<MapitData> optionalMapitData = mapitService.getMapitData(postcode);
@@ -168,25 +189,7 @@ public class CourtService {
             .getSearchFor(serviceArea, mapitData)
             .searchWith(serviceArea, mapitData, postcode);
 
-        return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, convert(courts));
-    }
-
-    public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByAreaOfLawSinglePointOfEntry(final String postcode, final String serviceArea, final String areaOfLaw) {
-        ServiceAreaWithCourtReferencesWithDistance results = this.getNearestCourtsByPostcodeSearch(postcode, serviceArea);
-        results.setCourts(results.getCourts()
-                              .stream()
-                              .filter(c -> c.getAreasOfLawSpoe().contains(areaOfLaw))
-                              .findFirst()
-                              .stream()
-                              .collect(toList()));
-        return results;
-    }
-
-    public List<CourtReference> getCourtsByPrefixAndActiveSearch(String prefix) {
-        return courtRepository.findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(prefix, true)
-            .stream()
-            .map(CourtReference::new)
-            .collect(toList());
+        return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, toCourtReferences.apply(courts));
     }
 
     private List<CourtReferenceWithDistance> convert(final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courtsWithDistance) {
@@ -204,21 +207,72 @@ public class CourtService {
     }
 
     private List<uk.gov.hmcts.dts.fact.entity.Court> getCourtsFromRepository(final String query) {
+        // Each lookup is answered by the in-memory indexes, which return the same courts in the same order as the SQL, once they
+        // have been built. A sample of the lookups are checked against the SQL while shadow searches are enabled.
         if (query.matches("^\\d+$")) {
-            return courtRepository.findCourtByCourtCode(Integer.valueOf(query));
+            return lookUp(
+                "court-code",
+                query,
+                snapshot -> snapshot.getLookupIndex().findByCourtCode(Integer.valueOf(query)),
+                () -> courtRepository.findCourtByCourtCode(Integer.valueOf(query))
+            );
         } else if (isFullPostcodeFormat(query)) {
-            return courtRepository.findCourtByFullPostcode(query);
+            return lookUp(
+                "full-postcode",
+                query,
+                snapshot -> snapshot.getLookupIndex().findByFullPostcode(query),
+                () -> courtRepository.findCourtByFullPostcode(query)
+            );
         }
 
         // For court name, address or town name search, we first search using exact match only (ignore punctuations and casing). If this
         // doesn't return any result, fuzzy match searching will then be attempted.
-        List<uk.gov.hmcts.dts.fact.entity.Court> courts = courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query.replaceAll("[^A-Za-z0-9]+", ""));
+        List<uk.gov.hmcts.dts.fact.entity.Court> courts = findCourtsByExactMatch(query.replaceAll("[^A-Za-z0-9]+", ""));
         if (courts.isEmpty()) {
-            courts = courtRepository.findCourtByNameAddressOrTownFuzzyMatch(query);
+            courts = findCourtsByFuzzyMatch(query);
         }
         return courts;
     }
 
+    private List<uk.gov.hmcts.dts.fact.entity.Court> findCourtsByExactMatch(final String strippedQuery) {
+        return lookUp(
+            "exact-match",
+            strippedQuery,
+            snapshot -> snapshot.getLookupIndex().findByExactMatch(strippedQuery),
+            () -> courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(strippedQuery)
+        );
+    }
+
+    private List<uk.gov.hmcts.dts.fact.entity.Court> findCourtsByFuzzyMatch(final String query) {
+        // The fuzzy SQL can be switched back on with search.index.fuzzy-enabled if needed
+        final Supplier<List<uk.gov.hmcts.dts.fact.entity.Court>> database = () -> courtRepository.findCourtByNameAddressOrTownFuzzyMatch(query);
+        return fuzzyIndexEnabled
+            ? lookUp("fuzzy-match", query, snapshot -> snapshot.getFuzzyIndex().search(query), database)
+            : database.get();
+    }
+
+    private List<uk.gov.hmcts.dts.fact.entity.Court> lookUp(final String search, final String query,
+                                                            final Function<CourtIndexSnapshot, List<Integer>> index,
+                                                            final Supplier<List<uk.gov.hmcts.dts.fact.entity.Court>> database) {
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> shadowSearch.serve(search, query, () -> findCourtsByIdInOrder(index.apply(snapshot)),
+                                                uk.gov.hmcts.dts.fact.entity.Court::getSlug, database))
+            .orElseGet(database);
+    }
+
+    private List<uk.gov.hmcts.dts.fact.entity.Court> findCourtsByIdInOrder(final List<Integer> courtIds) {
+        if (courtIds.isEmpty()) {
+            return emptyList();
+        }
+        final Map<Integer, uk.gov.hmcts.dts.fact.entity.Court> courts = courtRepository.findAllById(courtIds)
+            .stream()
+            .collect(toMap(uk.gov.hmcts.dts.fact.entity.Court::getId, Function.identity(), (first, second) -> first));
+        return courtIds.stream()
+            .map(courts::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
+    }
+
 
     private boolean filterResultByPostcode(final String postcode, final String areaOfLaw) {
         return isScottishPostcode(postcode)
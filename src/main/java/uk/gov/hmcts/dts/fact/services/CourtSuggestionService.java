@@ -0,0 +1,43 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Suggests displayed courts as a name is typed. Suggestions come from the in-memory type-ahead index, so keystrokes do not
+ * reach the database once it has been built; until then only court names starting with the prefix are suggested.
+ */
+@Service
+public class CourtSuggestionService {
+
+    private final CourtIndexService courtIndexService;
+    private final CourtRepository courtRepository;
+
+    @Autowired
+    public CourtSuggestionService(final CourtIndexService courtIndexService, final CourtRepository courtRepository) {
+        this.courtIndexService = courtIndexService;
+        this.courtRepository = courtRepository;
+    }
+
+    public List<CourtSuggestion> getCourtSuggestions(final String prefix, final int limit) {
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> snapshot.getSuggestionIndex()
+                .suggest(prefix, limit)
+                .stream()
+                .map(snapshot.getCourts()::get)
+                .map(court -> new CourtSuggestion(court.getName(), court.getNameCy(), court.getSlug()))
+                .collect(toList()))
+            .orElseGet(() -> courtRepository.findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(prefix, true)
+                .stream()
+                .limit(limit)
+                .map(CourtSuggestion::new)
+                .collect(toList()));
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+import uk.gov.hmcts.dts.fact.repositories.SearchIndexVersionRepository;
+
+import java.util.Optional;
+
+@Service
+public class DataVersionService {
+    private static final int DATA_VERSION_ID = 1;
+
+    private final SearchIndexVersionRepository searchIndexVersionRepository;
+
+    @Autowired
+    public DataVersionService(final SearchIndexVersionRepository searchIndexVersionRepository) {
+        this.searchIndexVersionRepository = searchIndexVersionRepository;
+    }
+
+    /**
+     * Get the version of the data behind the court and list endpoints, which changes with every write to their tables.
+     * This is the same version the search indexes are checked against.
+     *
+     * @return the data version, or empty if it has not been recorded
+     */
+    public Optional<SearchIndexVersion> getDataVersion() {
+        return searchIndexVersionRepository.findCurrentById(DATA_VERSION_ID);
+    }
+}
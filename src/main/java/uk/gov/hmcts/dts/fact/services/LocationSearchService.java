@@ -0,0 +1,117 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.LocalAuthority;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.mapit.LocalAuthorityBoundaries;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.LocalAuthorityRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.IProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
+import uk.gov.hmcts.dts.fact.services.search.SinglePointOfEntryFilter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Searches for courts near a point the caller has already located, so unlike the postcode searches in {@link CourtService}
+ * no call is made to Mapit. The local authority, where a search needs one, is supplied by the caller and matched against
+ * the local authorities held in the database. If the caller does not supply one, it is found from the local authority
+ * boundaries, where they are configured.
+ */
+@Service
+public class LocationSearchService {
+
+    private final IProximitySearch proximitySearch;
+    private final ServiceAreaRepository serviceAreaRepository;
+    private final ServiceAreaSearchFactory serviceAreaSearchFactory;
+    private final LocalAuthorityRepository localAuthorityRepository;
+    private final SinglePointOfEntryFilter singlePointOfEntryFilter;
+    private final LocalAuthorityBoundaries localAuthorityBoundaries;
+
+    @Autowired
+    public LocationSearchService(final IProximitySearch proximitySearch,
+                                 final ServiceAreaRepository serviceAreaRepository,
+                                 final ServiceAreaSearchFactory serviceAreaSearchFactory,
+                                 final LocalAuthorityRepository localAuthorityRepository,
+                                 final SinglePointOfEntryFilter singlePointOfEntryFilter,
+                                 final LocalAuthorityBoundaries localAuthorityBoundaries) {
+        this.proximitySearch = proximitySearch;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.serviceAreaSearchFactory = serviceAreaSearchFactory;
+        this.localAuthorityRepository = localAuthorityRepository;
+        this.singlePointOfEntryFilter = singlePointOfEntryFilter;
+        this.localAuthorityBoundaries = localAuthorityBoundaries;
+    }
+
+    public List<CourtReferenceWithDistance> getNearestCourtReferencesByLocation(final double lat, final double lon, final String areaOfLaw) {
+        final MapitData location = MapitData.forLocation(lat, lon, null, null);
+        final List<CourtWithDistance> courts = areaOfLaw == null
+            ? proximitySearch.searchWith(location)
+            : proximitySearch.searchWith(location, areaOfLaw);
+        return convert(courts);
+    }
+
+    public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByLocationSearch(final double lat, final double lon,
+                                                                                       final String serviceAreaSlug,
+                                                                                       final String localAuthority,
+                                                                                       final String postcode) {
+        return searchServiceArea(lat, lon, serviceAreaSlug, localAuthority, postcode, this::convert);
+    }
+
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByLocationAndAreaOfLawSinglePointOfEntry(final double lat, final double lon,
+                                                                                                             final String serviceArea,
+                                                                                                             final String areaOfLaw,
+                                                                                                             final String localAuthority,
+                                                                                                             final String postcode) {
+        return searchServiceArea(lat, lon, serviceArea, localAuthority, postcode,
+            courts -> singlePointOfEntryFilter.nearestSinglePointOfEntry(courts, areaOfLaw));
+    }
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private ServiceAreaWithCourtReferencesWithDistance searchServiceArea(
+        final double lat, final double lon, final String serviceAreaSlug, final String localAuthority, final String postcode,
+        final Function<List<CourtWithDistance>, List<CourtReferenceWithDistance>> toCourtReferences) {
+        final Optional<ServiceArea> serviceAreaOptional = serviceAreaRepository.findBySlugIgnoreCase(serviceAreaSlug);
+        if (serviceAreaOptional.isEmpty()) {
+            return new ServiceAreaWithCourtReferencesWithDistance(serviceAreaSlug);
+        }
+
+        final ServiceArea serviceArea = serviceAreaOptional.get();
+        final MapitData location = MapitData.forLocation(lat, lon, resolveLocalAuthority(localAuthority, lat, lon), postcode);
+
+        final List<CourtWithDistance> courts = serviceAreaSearchFactory
+            .getSearchFor(serviceArea, location)
+            .searchWith(serviceArea, location, postcode);
+
+        return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, toCourtReferences.apply(courts));
+    }
+
+    private String resolveLocalAuthority(final String localAuthority, final double lat, final double lon) {
+        if (localAuthority == null) {
+            // A boundary that is not a local authority in the database is as good as no local authority
+            return localAuthorityBoundaries.localAuthorityAt(lat, lon)
+                .flatMap(localAuthorityRepository::findFirstByNameIgnoreCase)
+                .map(LocalAuthority::getName)
+                .orElse(null);
+        }
+        return localAuthorityRepository.findFirstByNameIgnoreCase(localAuthority.trim())
+            .map(LocalAuthority::getName)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown local authority: " + localAuthority));
+    }
+
+    private List<CourtReferenceWithDistance> convert(final List<CourtWithDistance> courtsWithDistance) {
+        return courtsWithDistance.stream()
+            .map(CourtReferenceWithDistance::new)
+            .collect(toList());
+    }
+}
@@ -1,39 +1,123 @@
 package uk.gov.hmcts.dts.fact.services;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.cache.FrequencyAwareCache;
+import uk.gov.hmcts.dts.fact.cache.SingleFlight;
+import uk.gov.hmcts.dts.fact.mapit.Geocode;
+import uk.gov.hmcts.dts.fact.mapit.LocalAuthorityBoundaries;
 import uk.gov.hmcts.dts.fact.mapit.MapitClient;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteer;
+import uk.gov.hmcts.dts.fact.mapit.PostcodeGeocodeStore;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Looks up postcodes and local authorities in Mapit, keeping the results in memory.
+ * - Where a postcode gazetteer is configured, full postcodes, sectors and districts are located from it first, and only
+ *   those it does not hold are looked up in Mapit. Its results are not cached, as it is searched in place.
+ * - A full postcode located without a local authority, such as one missing from the Mapit areas, is given the local
+ *   authority whose boundary it is in, where the boundaries are configured.
+ * - Postcodes are cached by their upper case form without spaces, holding only the location, local authority and
+ *   postcode the searches use. Full and partial postcodes are cached separately.
+ * - Postcodes Mapit does not know, and local authority names it does not match, are cached for a shorter time, so a
+ *   newly issued postcode is found soon after it is added. Failed calls are not cached.
+ * - Full postcodes missing from memory are looked for in the geocode store shared by every instance before Mapit is
+ *   called, and postcodes Mapit locates are added to it. Partial postcodes, mostly outcodes, are few enough to only be
+ *   kept in memory.
+ * - Each cache is bounded by its number of entries and keeps those read most often. Hits, misses, evictions and sizes
+ *   are reported in the standard cache metrics, tagged with the cache name.
+ * - Concurrent lookups of the same postcode or local authority that miss the cache share a single call to the store and
+ *   Mapit. The callers that waited on another's call are counted in mapit.lookups.coalesced, tagged with the cache name.
+ */
 @Service
 public class MapitService {
+    static final String GETS_METRIC = "cache.gets";
+    static final String EVICTIONS_METRIC = "cache.evictions";
+    static final String SIZE_METRIC = "cache.size";
+    static final String CACHE_TAG = "cache";
+    static final String RESULT_TAG = "result";
+    static final String POSTCODE_CACHE = "mapit.postcode";
+    static final String PARTIAL_POSTCODE_CACHE = "mapit.partial-postcode";
+    static final String LOCAL_AUTHORITY_CACHE = "mapit.local-authority";
+    static final String POSTCODE_STORE = "mapit.postcode-store";
+    static final String POSTCODE_GAZETTEER = "mapit.postcode-gazetteer";
+    static final String COALESCED_METRIC = "mapit.lookups.coalesced";
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+    private static final String LOCAL_AUTHORITY_TYPES = "MTD,UTA,LBO,CTY";
+    // Mapit answers 400 for a malformed postcode and 404 for one it does not know, which are as good as an answer
+    private static final Set<Integer> UNKNOWN_POSTCODE_STATUSES = Set.of(400, 404);
 
     private final Logger logger;
     private final MapitClient mapitClient;
+    private final PostcodeGeocodeStore postcodeGeocodeStore;
+    private final PostcodeGazetteer postcodeGazetteer;
+    private final LocalAuthorityBoundaries localAuthorityBoundaries;
+    private final MeterRegistry meterRegistry;
+    private final Duration negativeTtl;
+    private final FrequencyAwareCache<String, Optional<Geocode>> postcodes;
+    private final FrequencyAwareCache<String, Optional<Geocode>> partialPostcodes;
+    private final FrequencyAwareCache<String, Boolean> localAuthorities;
+    private final SingleFlight<String, Optional<MapitData>> postcodeFlights;
+    private final SingleFlight<String, Optional<MapitData>> partialPostcodeFlights;
+    private final SingleFlight<String, Boolean> localAuthorityFlights;
 
     @Autowired
-    public MapitService(final Logger logger, final MapitClient mapitClient) {
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public MapitService(final Logger logger, final MapitClient mapitClient, final PostcodeGeocodeStore postcodeGeocodeStore,
+                        final PostcodeGazetteer postcodeGazetteer, final LocalAuthorityBoundaries localAuthorityBoundaries,
+                        final MeterRegistry meterRegistry,
+                        @Value("${mapit.cache.max-entries:100000}") final int maxEntries,
+                        @Value("${mapit.cache.ttl:2592000000}") final long ttl,
+                        @Value("${mapit.cache.negative-ttl:86400000}") final long negativeTtl) {
+        this(logger, mapitClient, postcodeGeocodeStore, postcodeGazetteer, localAuthorityBoundaries, meterRegistry, maxEntries,
+             Duration.ofMillis(ttl), Duration.ofMillis(negativeTtl), Clock.systemUTC());
+    }
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    MapitService(final Logger logger, final MapitClient mapitClient, final PostcodeGeocodeStore postcodeGeocodeStore,
+                 final PostcodeGazetteer postcodeGazetteer, final LocalAuthorityBoundaries localAuthorityBoundaries,
+                 final MeterRegistry meterRegistry, final int maxEntries, final Duration ttl, final Duration negativeTtl,
+                 final Clock clock) {
         this.logger = logger;
         this.mapitClient = mapitClient;
+        this.postcodeGeocodeStore = postcodeGeocodeStore;
+        this.postcodeGazetteer = postcodeGazetteer;
+        this.localAuthorityBoundaries = localAuthorityBoundaries;
+        this.meterRegistry = meterRegistry;
+        this.negativeTtl = negativeTtl;
+        this.postcodes = register(POSTCODE_CACHE, new FrequencyAwareCache<>(maxEntries, maxEntries, entry -> 1, ttl, clock));
+        this.partialPostcodes = register(PARTIAL_POSTCODE_CACHE,
+                                         new FrequencyAwareCache<>(maxEntries, maxEntries, entry -> 1, ttl, clock));
+        this.localAuthorities = register(LOCAL_AUTHORITY_CACHE,
+                                         new FrequencyAwareCache<>(maxEntries, maxEntries, entry -> 1, ttl, clock));
+        this.postcodeFlights = registerFlights(POSTCODE_CACHE, new SingleFlight<>());
+        this.partialPostcodeFlights = registerFlights(PARTIAL_POSTCODE_CACHE, new SingleFlight<>());
+        this.localAuthorityFlights = registerFlights(LOCAL_AUTHORITY_CACHE, new SingleFlight<>());
     }
 
     public Optional<MapitData> getMapitData(final String postcode) {
 
         if (!postcode.isBlank()) {
-            try {
-                final MapitData mapitData = mapitClient.getMapitData(postcode);
-
-                if (mapitData.hasLatAndLonValues()) {
-                    return Optional.of(mapitData);
-                }
-            } catch (final FeignException ex) {
-                logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-            }
+            return lookUp(POSTCODE_CACHE, postcodes, postcodeFlights, postcode, postcodeGazetteer::find,
+                          mapitClient::getMapitData, true)
+                .map(this::withLocalAuthority);
         }
 
         return Optional.empty();
@@ -42,15 +126,8 @@ public class MapitService {
     public Optional<MapitData> getMapitDataWithPartial(final String postcode) {
 
         if (!StringUtils.isBlank(postcode)) {
-            try {
-                final MapitData mapitData = mapitClient.getMapitDataWithPartial(postcode);
-
-                if (mapitData.hasLatAndLonValues()) {
-                    return Optional.of(mapitData);
-                }
-            } catch (final FeignException ex) {
-                logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-            }
+            return lookUp(PARTIAL_POSTCODE_CACHE, partialPostcodes, partialPostcodeFlights, postcode,
+                          postcodeGazetteer::findPartial, mapitClient::getMapitDataWithPartial, false);
         }
 
         return Optional.empty();
@@ -59,17 +136,129 @@ public class MapitService {
     public Boolean localAuthorityExists(final String localAuthorityName) {
 
         if (StringUtils.isNotBlank(localAuthorityName)) {
-            try {
-                return mapitClient.getMapitDataForLocalAuthorities(localAuthorityName, "MTD,UTA,LBO,CTY")
-                    .values()
-                    .stream()
-                    .anyMatch(la -> la.getName().equalsIgnoreCase(localAuthorityName));
-            } catch (final FeignException ex) {
-                logger.warn("Mapit API call (local authority validation) failed. HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-                return false;
+            final String key = localAuthorityName.trim().toLowerCase(Locale.UK);
+            final Optional<Boolean> cached = localAuthorities.get(key);
+            countGet(LOCAL_AUTHORITY_CACHE, cached.isPresent());
+            if (cached.isPresent()) {
+                return cached.get();
             }
+
+            return localAuthorityFlights.load(key, () -> loadLocalAuthority(key, localAuthorityName));
         }
 
         return false;
     }
+
+    private boolean loadLocalAuthority(final String key, final String localAuthorityName) {
+        final long generation = localAuthorities.getGeneration();
+        try {
+            final boolean exists = mapitClient.getMapitDataForLocalAuthorities(localAuthorityName, LOCAL_AUTHORITY_TYPES)
+                .values()
+                .stream()
+                .anyMatch(la -> la.getName().equalsIgnoreCase(localAuthorityName));
+            if (exists) {
+                localAuthorities.put(key, true, generation);
+            } else {
+                localAuthorities.put(key, false, generation, negativeTtl);
+            }
+            return exists;
+        } catch (final FeignException ex) {
+            logger.warn("Mapit API call (local authority validation) failed. HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
+            return false;
+        }
+    }
+
+    private Optional<MapitData> lookUp(final String cacheName, final FrequencyAwareCache<String, Optional<Geocode>> cache,
+                                       final SingleFlight<String, Optional<MapitData>> flights, final String postcode,
+                                       final Function<String, Optional<Geocode>> gazetteerLookup,
+                                       final Function<String, MapitData> lookup, final boolean shared) {
+        final Optional<Geocode> located = locate(gazetteerLookup, postcode);
+        if (located.isPresent()) {
+            return Optional.of(located.get().toMapitData());
+        }
+
+        final String key = upperCaseAndStripAllSpaces(postcode);
+        final Optional<Optional<Geocode>> cached = cache.get(key);
+        countGet(cacheName, cached.isPresent());
+        if (cached.isPresent()) {
+            return cached.get().map(Geocode::toMapitData);
+        }
+
+        return flights.load(key, () -> load(cache, key, postcode, lookup, shared));
+    }
+
+    private Optional<MapitData> load(final FrequencyAwareCache<String, Optional<Geocode>> cache, final String key,
+                                     final String postcode, final Function<String, MapitData> lookup, final boolean shared) {
+        final long generation = cache.getGeneration();
+        if (shared) {
+            final Optional<Geocode> stored = postcodeGeocodeStore.find(key);
+            countGet(POSTCODE_STORE, stored.isPresent());
+            if (stored.isPresent()) {
+                cache.put(key, stored, generation);
+                return Optional.of(stored.get().toMapitData());
+            }
+        }
+
+        try {
+            final MapitData mapitData = lookup.apply(postcode);
+
+            if (mapitData.hasLatAndLonValues()) {
+                final Geocode geocode = Geocode.from(mapitData);
+                cache.put(key, Optional.of(geocode), generation);
+                if (shared) {
+                    postcodeGeocodeStore.save(key, geocode);
+                }
+                return Optional.of(geocode.toMapitData());
+            }
+            cache.put(key, Optional.empty(), generation, negativeTtl);
+        } catch (final FeignException ex) {
+            logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
+            if (UNKNOWN_POSTCODE_STATUSES.contains(ex.status())) {
+                cache.put(key, Optional.empty(), generation, negativeTtl);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private MapitData withLocalAuthority(final MapitData mapitData) {
+        if (mapitData.getLocalAuthority().isPresent()) {
+            return mapitData;
+        }
+        return localAuthorityBoundaries.localAuthorityAt(mapitData.getLat(), mapitData.getLon())
+            .map(localAuthority -> MapitData.forLocation(mapitData.getLat(), mapitData.getLon(), localAuthority,
+                                                         mapitData.getPostcode()))
+            .orElse(mapitData);
+    }
+
+    private Optional<Geocode> locate(final Function<String, Optional<Geocode>> gazetteerLookup, final String postcode) {
+        if (!postcodeGazetteer.isEnabled()) {
+            return Optional.empty();
+        }
+        final Optional<Geocode> located = gazetteerLookup.apply(postcode);
+        countGet(POSTCODE_GAZETTEER, located.isPresent());
+        return located;
+    }
+
+    private void countGet(final String cacheName, final boolean hit) {
+        meterRegistry.counter(GETS_METRIC, CACHE_TAG, cacheName, RESULT_TAG, hit ? HIT : MISS).increment();
+    }
+
+    private <V> FrequencyAwareCache<String, V> register(final String cacheName, final FrequencyAwareCache<String, V> cache) {
+        FunctionCounter.builder(EVICTIONS_METRIC, cache, FrequencyAwareCache::getEvictionCount)
+            .tag(CACHE_TAG, cacheName)
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, cache, FrequencyAwareCache::size)
+            .tag(CACHE_TAG, cacheName)
+            .register(meterRegistry);
+        return cache;
+    }
+
+    private <V> SingleFlight<String, V> registerFlights(final String cacheName, final SingleFlight<String, V> flights) {
+        FunctionCounter.builder(COALESCED_METRIC, flights, SingleFlight::getCoalescedCount)
+            .description("Lookups that shared a call already in progress for the same key")
+            .tag(CACHE_TAG, cacheName)
+            .register(meterRegistry);
+        return flights;
+    }
 }
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAdditionalLink;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.AdditionalLink;
 import uk.gov.hmcts.dts.fact.repositories.CourtAdditionalLinkRepository;
@@ -21,14 +24,17 @@ public class AdminCourtAdditionalLinkService {
     private final CourtRepository courtRepository;
     private final CourtAdditionalLinkRepository courtAdditionalLinkRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtAdditionalLinkService(final CourtRepository courtRepository,
                                            final CourtAdditionalLinkRepository courtAdditionalLinkRepository,
-                                           final AdminAuditService adminAuditService) {
+                                           final AdminAuditService adminAuditService,
+                                           final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAdditionalLinkRepository = courtAdditionalLinkRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<AdditionalLink> getCourtAdditionalLinksBySlug(final String slug) {
@@ -53,6 +59,7 @@ public class AdminCourtAdditionalLinkService {
             .map(CourtAdditionalLink::getAdditionalLink)
             .map(AdditionalLink::new)
             .collect(toList());
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.ADDITIONAL_LINKS));
         adminAuditService.saveAudit(
             AuditType.findByName("Update court additional links"),
             courtEntity.getCourtAdditionalLinks()
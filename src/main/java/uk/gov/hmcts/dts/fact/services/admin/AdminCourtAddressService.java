@@ -2,10 +2,13 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.model.admin.CourtAddress;
@@ -32,6 +35,7 @@ public class AdminCourtAddressService {
     private final MapitService mapitService;
     private final ValidationService validationService;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtAddressService(final CourtRepository courtRepository,
@@ -40,7 +44,8 @@ public class AdminCourtAddressService {
                                     final AdminService adminService,
                                     final MapitService mapitService,
                                     final ValidationService validationService,
-                                    final AdminAuditService adminAuditService) {
+                                    final AdminAuditService adminAuditService,
+                                    final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAddressRepository = courtAddressRepository;
         this.addressTypeService = addressTypeService;
@@ -48,6 +53,7 @@ public class AdminCourtAddressService {
         this.mapitService = mapitService;
         this.validationService = validationService;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<CourtAddress> getCourtAddressesBySlug(final String slug) {
@@ -89,6 +95,7 @@ public class AdminCourtAddressService {
                 .map(CourtAddress::new)
                 .collect(toList()),
             updatedAddresses, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.ADDRESSES));
         return updatedAddresses;
     }
 
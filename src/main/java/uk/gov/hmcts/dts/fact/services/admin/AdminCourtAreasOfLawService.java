@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLaw;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawRepository;
@@ -23,14 +26,17 @@ public class AdminCourtAreasOfLawService {
     private final CourtAreaOfLawRepository courtAreaOfLawRepository;
     private final AdminAuditService adminAuditService;
     private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtAreasOfLawService(final CourtRepository courtRepository, final CourtAreaOfLawRepository courtAreaOfLawRepository,
-                                       final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService) {
+                                       final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService,
+                                       final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAreaOfLawRepository = courtAreaOfLawRepository;
         this.courtAreaOfLawSpoeRepository = courtAreaOfLawSpoeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<AreaOfLaw> getCourtAreasOfLawBySlug(final String slug) {
@@ -67,6 +73,7 @@ public class AdminCourtAreasOfLawService {
                                           .isPresent()))
             .collect(toList());
 
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.AREAS_OF_LAW));
         adminAuditService.saveAudit(AuditType.findByName("Update court areas of law"),
                                     originalCourtAol,
                                     newAreaOfLawList,
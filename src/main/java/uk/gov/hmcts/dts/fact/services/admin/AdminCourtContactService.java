@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtContact;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Contact;
 import uk.gov.hmcts.dts.fact.model.admin.ContactType;
@@ -27,16 +30,19 @@ public class AdminCourtContactService {
     private final CourtContactRepository courtContactRepository;
     private final ContactTypeRepository contactTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtContactService(final CourtRepository courtRepository,
                                     final CourtContactRepository courtContactRepository,
                                     final ContactTypeRepository contactTypeRepository,
-                                    final AdminAuditService adminAuditService) {
+                                    final AdminAuditService adminAuditService,
+                                    final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtContactRepository = courtContactRepository;
         this.contactTypeRepository = contactTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Contact> getCourtContactsBySlug(final String slug) {
@@ -55,6 +61,7 @@ public class AdminCourtContactService {
             .orElseThrow(() -> new NotFoundException(slug));
         List<Contact> originalContactList = getCourtContactsBySlug(slug);
         List<Contact> newContactList = saveNewCourtContacts(courtEntity, contacts);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.CONTACTS));
         adminAuditService.saveAudit(
             AuditType.findByName("Update court contacts"),
             originalContactList,
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtEmail;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Email;
 import uk.gov.hmcts.dts.fact.model.admin.EmailType;
@@ -28,16 +31,19 @@ public class AdminCourtEmailService {
     private final CourtEmailRepository emailRepository;
     private final EmailTypeRepository emailTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtEmailService(final CourtRepository courtRepository,
                                   final CourtEmailRepository emailRepository,
                                   final EmailTypeRepository emailTypeRepository,
-                                  final AdminAuditService adminAuditService) {
+                                  final AdminAuditService adminAuditService,
+                                  final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.emailRepository = emailRepository;
         this.emailTypeRepository = emailTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Email> getCourtEmailsBySlug(final String slug) {
@@ -66,6 +72,7 @@ public class AdminCourtEmailService {
             .map(CourtEmail::getEmail)
             .map(Email::new)
             .collect(toList());
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.EMAILS));
         adminAuditService.saveAudit(
             AuditType.findByName("Update court email list"),
             courtEntity.getCourtEmails().stream()
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtFacility;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Facility;
 import uk.gov.hmcts.dts.fact.repositories.CourtFacilityRepository;
@@ -25,16 +28,19 @@ public class AdminCourtFacilityService {
     private final CourtFacilityRepository courtFacilityRepository;
     private final FacilityTypeRepository facilityTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtFacilityService(final CourtRepository courtRepository,
                                      final CourtFacilityRepository courtFacilityRepository,
                                      final FacilityTypeRepository facilityTypeRepository,
-                                     final AdminAuditService adminAuditService) {
+                                     final AdminAuditService adminAuditService,
+                                     final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtFacilityRepository = courtFacilityRepository;
         this.facilityTypeRepository = facilityTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
@@ -56,6 +62,7 @@ public class AdminCourtFacilityService {
 
         List<CourtFacility> existingList = getExistingCourtFacilities(courtEntity);
         List<Facility> newFacilities = saveCourtFacilities(courtEntity, courtFacilities, existingList);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.FACILITIES));
         adminAuditService.saveAudit(
             AuditType.findByName("Update court facilities"),
             existingList.stream()
@@ -1,12 +1,15 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.ServiceCentre;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.html.sanitizer.OwaspHtmlSanitizer;
 import uk.gov.hmcts.dts.fact.model.admin.CourtGeneralInfo;
@@ -22,13 +25,15 @@ public class AdminCourtGeneralInfoService {
     private final CourtRepository courtRepository;
     private final RolesProvider rolesProvider;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtGeneralInfoService(final CourtRepository courtRepository, final RolesProvider rolesProvider,
-                                        final AdminAuditService adminAuditService) {
+                                        final AdminAuditService adminAuditService, final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.rolesProvider = rolesProvider;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public CourtGeneralInfo getCourtGeneralInfoBySlug(final String slug) {
@@ -84,6 +89,7 @@ public class AdminCourtGeneralInfoService {
         }
 
         CourtGeneralInfo updatedGeneralInfo = new CourtGeneralInfo(courtRepository.save(courtEntity));
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), courtEntity.getSlug(), CourtChangeType.GENERAL_INFO));
         adminAuditService.saveAudit(
             AuditType.findByName("Update court general info"),
             originalGeneralInfo,
@@ -1,11 +1,14 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
@@ -22,14 +25,17 @@ public class AdminCourtLocalAuthoritiesService {
     private final CourtRepository courtRepository;
     private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtLocalAuthoritiesService(final CourtRepository courtRepository,
                                              final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository,
-                                             final AdminAuditService adminAuditService) {
+                                             final AdminAuditService adminAuditService,
+                                             final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtLocalAuthorityAreaOfLawRepository = courtLocalAuthorityAreaOfLawRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<LocalAuthority> getCourtLocalAuthoritiesBySlugAndAreaOfLaw(final String slug, final String areaOfLaw) {
@@ -58,6 +64,7 @@ public class AdminCourtLocalAuthoritiesService {
 
         List<LocalAuthority> updatedLocalAuthorities =
             saveNewCourtLocalAuthorities(courtEntity, areaOfLawEntity, localAuthorities, originalCourtLocalAuthorities);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.LOCAL_AUTHORITIES));
 
         adminAuditService.saveAudit(
             AuditType.findByName("Update court local authorities"),
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtOpeningTime;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningTime;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningType;
@@ -25,14 +28,17 @@ public class AdminCourtOpeningTimeService {
     private final CourtRepository courtRepository;
     private final OpeningTypeRepository openingTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtOpeningTimeService(final CourtRepository courtRepository,
                                         final OpeningTypeRepository openingTypeRepository,
-                                        final AdminAuditService adminAuditService) {
+                                        final AdminAuditService adminAuditService,
+                                        final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.openingTypeRepository = openingTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<OpeningTime> getCourtOpeningTimesBySlug(final String slug) {
@@ -51,6 +57,7 @@ public class AdminCourtOpeningTimeService {
             .orElseThrow(() -> new NotFoundException(slug));
         List<OpeningTime> originalOpeningTimes = getCourtOpeningTimesBySlug(slug);
         List<OpeningTime> updatedOpeningTimes = saveNewOpeningTimes(courtEntity, openingTimes);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.OPENING_TIMES));
         adminAuditService.saveAudit(
             AuditType.findByName("Update court opening times"),
             originalOpeningTimes,
@@ -3,11 +3,14 @@ package uk.gov.hmcts.dts.fact.services.admin;
 import com.launchdarkly.shaded.com.google.gson.JsonObject;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
@@ -29,14 +32,17 @@ public class AdminCourtPostcodeService {
     private final CourtRepository courtRepository;
     private final CourtPostcodeRepository courtPostcodeRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtPostcodeService(final CourtRepository courtRepository,
                                      final CourtPostcodeRepository courtPostcodeRepository,
-                                     final AdminAuditService adminAuditService) {
+                                     final AdminAuditService adminAuditService,
+                                     final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtPostcodeRepository = courtPostcodeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public void checkPostcodesExist(final String slug, final List<String> postcodes) {
@@ -98,6 +104,7 @@ public class AdminCourtPostcodeService {
             AuditType.findByName("Create court postcodes"),
             originalPostcodes,
             newPostcodes, slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.POSTCODES));
         return newPostcodes;
     }
 
@@ -122,6 +129,7 @@ public class AdminCourtPostcodeService {
             originalPostcodes,
             getCourtPostcodesBySlug(slug),
             null);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.POSTCODES));
         return deletedPostcodes;
     }
 
@@ -154,6 +162,8 @@ public class AdminCourtPostcodeService {
             AuditType.findByName("Move court postcodes"),
             auditData,
             postcodesMoved, sourceSlug);
+        eventPublisher.publishEvent(new CourtChangedEvent(null, sourceSlug, CourtChangeType.POSTCODES));
+        eventPublisher.publishEvent(new CourtChangedEvent(destCourt.getId(), destinationSlug, CourtChangeType.POSTCODES));
         return postcodesMoved;
     }
 
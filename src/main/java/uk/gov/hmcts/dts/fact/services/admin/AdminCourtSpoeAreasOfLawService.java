@@ -1,10 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.SpoeAreaOfLaw;
@@ -23,12 +26,15 @@ public class AdminCourtSpoeAreasOfLawService {
     private final CourtRepository courtRepository;
     private final AdminAuditService adminAuditService;
     private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AdminCourtSpoeAreasOfLawService(final CourtRepository courtRepository, final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository, final AdminAuditService adminAuditService) {
+    public AdminCourtSpoeAreasOfLawService(final CourtRepository courtRepository, final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository,
+                                           final AdminAuditService adminAuditService, final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtAreaOfLawSpoeRepository = courtAreaOfLawSpoeRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<SpoeAreaOfLaw> getAllSpoeAreasOfLaw() {
@@ -71,6 +77,7 @@ public class AdminCourtSpoeAreasOfLawService {
                                     originalCourtAol,
                                     newSpoeAreaOfLawList,
                                     slug);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.SPOE_AREAS_OF_LAW));
         return newSpoeAreaOfLawList;
     }
 
@@ -1,9 +1,12 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtDxCode;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtType;
 import uk.gov.hmcts.dts.fact.model.admin.CourtTypesAndCodes;
@@ -24,14 +27,17 @@ public class AdminCourtTypesAndCodesService {
     private final CourtTypeRepository courtTypeRepository;
     private final MapCourtCode mapCourtCode;
     private final CourtDxCodesRepository courtDxCodesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminCourtTypesAndCodesService(final CourtRepository courtRepository, final CourtTypeRepository courtTypeRepository,
-                                          final MapCourtCode mapCourtCode, final CourtDxCodesRepository courtDxCodesRepository) {
+                                          final MapCourtCode mapCourtCode, final CourtDxCodesRepository courtDxCodesRepository,
+                                          final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.courtTypeRepository = courtTypeRepository;
         this.mapCourtCode = mapCourtCode;
         this.courtDxCodesRepository = courtDxCodesRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<CourtType> getAllCourtTypes() {
@@ -68,7 +74,9 @@ public class AdminCourtTypesAndCodesService {
     public CourtTypesAndCodes updateCourtTypesAndCodes(final String slug, final CourtTypesAndCodes courtTypesAndCodes) {
         final Court courtEntity = courtRepository.findBySlug(slug)
             .orElseThrow(() -> new NotFoundException(slug));
-        return saveNewCourtTypesAndCodes(courtEntity, courtTypesAndCodes);
+        final CourtTypesAndCodes result = saveNewCourtTypesAndCodes(courtEntity, courtTypesAndCodes);
+        eventPublisher.publishEvent(new CourtChangedEvent(courtEntity.getId(), slug, CourtChangeType.TYPES_AND_CODES));
+        return result;
 
     }
 
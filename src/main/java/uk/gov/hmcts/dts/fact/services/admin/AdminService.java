@@ -1,12 +1,15 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.CourtOpeningTime;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.OpeningTime;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.CourtForDownload;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
@@ -27,14 +30,17 @@ public class AdminService {
     private final CourtRepository courtRepository;
     private final RolesProvider rolesProvider;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminService(final CourtRepository courtRepository,
                         final RolesProvider rolesProvider,
-                        final AdminAuditService adminAuditService) {
+                        final AdminAuditService adminAuditService,
+                        final ApplicationEventPublisher eventPublisher) {
         this.courtRepository = courtRepository;
         this.rolesProvider = rolesProvider;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<CourtReference> getAllCourtReferences() {
@@ -102,6 +108,7 @@ public class AdminService {
         }
 
         uk.gov.hmcts.dts.fact.entity.Court updatedCourt = courtRepository.save(courtEntity);
+        eventPublisher.publishEvent(new CourtChangedEvent(updatedCourt.getId(), slug, CourtChangeType.GENERAL_INFO));
         Court updatedCourtModel = new Court(updatedCourt);
         adminAuditService.saveAudit(
             AuditType.findByName("Update court details"),
@@ -113,11 +120,13 @@ public class AdminService {
     @Transactional
     public void updateMultipleCourtsInfo(CourtInfoUpdate info) {
         courtRepository.updateInfoForSlugs(info.getCourts(), info.getInfo(), info.getInfoCy());
+        info.getCourts().forEach(slug -> eventPublisher.publishEvent(new CourtChangedEvent(null, slug, CourtChangeType.INFO)));
     }
 
     @Transactional
     public void updateCourtLatLon(final String slug, final Double lat, final Double lon) {
         courtRepository.updateLatLonBySlug(slug, lat, lon);
+        eventPublisher.publishEvent(new CourtChangedEvent(null, slug, CourtChangeType.COORDINATES));
     }
 
     public String getCourtImage(final String slug) {
@@ -133,7 +142,9 @@ public class AdminService {
         if (court.isEmpty()) {
             throw new NotFoundException(slug);
         }
-        return courtRepository.updateCourtImageBySlug(slug, imageFile);
+        final String updatedImageFile = courtRepository.updateCourtImageBySlug(slug, imageFile);
+        eventPublisher.publishEvent(new CourtChangedEvent(court.get().getId(), slug, CourtChangeType.IMAGE));
+        return updatedImageFile;
     }
 
     @Transactional
@@ -162,6 +173,7 @@ public class AdminService {
         newCourt.setInPerson(inPerson);
 
         Court createdCourtModel = new Court(courtRepository.save(newCourt));
+        eventPublisher.publishEvent(new CourtChangedEvent(newCourt.getId(), newCourtSlug, CourtChangeType.CREATED));
 
         adminAuditService.saveAudit(
             AuditType.findByName("Create new court"),
@@ -178,5 +190,6 @@ public class AdminService {
         adminAuditService.saveAudit(AuditType.findByName("Delete existing court"), new Court(court),
                                     null, courtSlug);
         courtRepository.deleteById(court.getId());
+        eventPublisher.publishEvent(new CourtChangedEvent(court.getId(), courtSlug, CourtChangeType.DELETED));
     }
 }
@@ -2,10 +2,12 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -30,6 +32,7 @@ public class AdminAreasOfLawService {
     private final CourtAreaOfLawRepository courtAreaOfLawRepository;
     private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepo;
     private final ServiceAreaRepository serviceAreaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminAreasOfLawService(
@@ -37,13 +40,15 @@ public class AdminAreasOfLawService {
         final CourtAreaOfLawRepository courtAreaOfLawRepository,
         final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepo,
         final ServiceAreaRepository serviceAreaRepository,
-        final AdminAuditService adminAuditService) {
+        final AdminAuditService adminAuditService,
+        final ApplicationEventPublisher eventPublisher) {
 
         this.areasOfLawRepository = areasOfLawRepository;
         this.courtAreaOfLawRepository = courtAreaOfLawRepository;
         this.courtLocalAuthorityAreaOfLawRepo = courtLocalAuthorityAreaOfLawRepo;
         this.serviceAreaRepository = serviceAreaRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public AreaOfLaw getAreaOfLaw(final Integer id) {
@@ -81,6 +86,7 @@ public class AdminAreasOfLawService {
                                     originalAreasOfLaw,
                                     getAllAreasOfLaw(),
                                     null);
+        eventPublisher.publishEvent(new AreaOfLawChangedEvent(newAreaOfLaw.getId()));
         return newAreaOfLaw;
     }
 
@@ -1,8 +1,10 @@
 package uk.gov.hmcts.dts.fact.services.admin.list;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
@@ -20,12 +22,15 @@ public class AdminLocalAuthorityService {
 
     private final LocalAuthorityRepository localAuthorityRepository;
     private final AdminAuditService adminAuditService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminLocalAuthorityService(final LocalAuthorityRepository localAuthorityRepository,
-                                      final AdminAuditService adminAuditService) {
+                                      final AdminAuditService adminAuditService,
+                                      final ApplicationEventPublisher eventPublisher) {
         this.localAuthorityRepository = localAuthorityRepository;
         this.adminAuditService = adminAuditService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<LocalAuthority> getAllLocalAuthorities() {
@@ -52,6 +57,7 @@ public class AdminLocalAuthorityService {
         final uk.gov.hmcts.dts.fact.entity.LocalAuthority existingEntity = localAuthorityEntity.get();
         existingEntity.setName(name);
         LocalAuthority newLocalAuthority = new LocalAuthority(localAuthorityRepository.save(existingEntity));
+        eventPublisher.publishEvent(new LocalAuthorityChangedEvent(localAuthorityId));
         adminAuditService.saveAudit(
             AuditType.findByName("Update local authority"),
             originalList,
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.index.CandidateCellCache;
+import uk.gov.hmcts.dts.fact.index.CellSearchResult;
+import uk.gov.hmcts.dts.fact.index.CourtDistance;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers nearest court searches by ranking the cached candidate courts of the geohash cell the searched point is in.
+ * Cache hits and misses are counted in the search.cell.cache metric, tagged with the result.
+ */
+@Component
+public class CandidateCellSearch {
+
+    private static final String METRIC = "search.cell.cache";
+    private static final String RESULT_TAG = "result";
+
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CandidateCellSearch(final MeterRegistry meterRegistry,
+                               @Value("${search.cell-cache.enabled:true}") final boolean enabled) {
+        this.enabled = enabled;
+        this.hits = Counter.builder(METRIC)
+            .description("Nearest court searches answered from cached cell candidates")
+            .tag(RESULT_TAG, "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(METRIC)
+            .description("Nearest court searches that had to find the candidates of their cell")
+            .tag(RESULT_TAG, "miss")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Find the courts nearest to a located postcode from the candidates of its cell.
+     *
+     * @param snapshot the search indexes to use
+     * @param mapitData the located postcode
+     * @param limit the maximum number of courts to return
+     * @param areaOfLaw the area of law the courts must have, or null for any court
+     * @return the nearest courts, or empty if the cache is disabled or cannot answer for the limit
+     */
+    public Optional<List<CourtDistance>> nearest(final CourtIndexSnapshot snapshot, final MapitData mapitData,
+                                                 final int limit, final String areaOfLaw) {
+        if (!enabled || limit > CandidateCellCache.DEPTH) {
+            return Optional.empty();
+        }
+        final CellSearchResult result = snapshot.getCellCache().nearest(mapitData.getLat(), mapitData.getLon(), limit, areaOfLaw);
+        if (result.isCached()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return Optional.of(result.getCourts());
+    }
+}
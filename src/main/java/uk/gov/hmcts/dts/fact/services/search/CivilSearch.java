@@ -3,23 +3,45 @@ package uk.gov.hmcts.dts.fact.services.search;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
+/**
+ * Finds the courts whose civil catchments cover a postcode, nearest first, falling back to the nearest courts for the area
+ * of law. Catchments answered by the in-memory indexes are sampled by the {@link ShadowSearch} to check them against the
+ * database.
+ */
 @Component
 public class CivilSearch implements Search {
 
+    private static final int LIMIT = 10;
+    private static final String CIVIL_CATCHMENT_SEARCH = "civil-catchment";
+
     private final CourtWithDistanceRepository courtWithDistanceRepository;
     private final FallbackProximitySearch fallbackProximitySearch;
+    private final CourtIndexService courtIndexService;
+    private final CourtDistanceResolver courtDistanceResolver;
+    private final ShadowSearch shadowSearch;
 
     public CivilSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
-                       final FallbackProximitySearch fallbackProximitySearch) {
+                       final FallbackProximitySearch fallbackProximitySearch,
+                       final CourtIndexService courtIndexService,
+                       final CourtDistanceResolver courtDistanceResolver,
+                       final ShadowSearch shadowSearch) {
         this.courtWithDistanceRepository = courtWithDistanceRepository;
         this.fallbackProximitySearch = fallbackProximitySearch;
+        this.courtIndexService = courtIndexService;
+        this.courtDistanceResolver = courtDistanceResolver;
+        this.shadowSearch = shadowSearch;
     }
 
     @Override
@@ -27,6 +49,32 @@ public class CivilSearch implements Search {
 
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
+        // Searches by coordinates may not have a postcode to find a catchment for, so go straight to the nearest courts
+        List<CourtWithDistance> courtsWithDistance = postcode == null
+            ? emptyList()
+            : courtIndexService.getSnapshot()
+                .map(snapshot -> shadowed(() -> searchIndex(snapshot, areaOfLaw, mapitData, postcode), areaOfLaw, mapitData, postcode))
+                .orElseGet(() -> searchRepository(areaOfLaw, mapitData, postcode));
+
+        courtsWithDistance = fallbackProximitySearch.fallbackIfEmpty(courtsWithDistance, areaOfLaw, mapitData);
+
+        return courtsWithDistance.stream().distinct().limit(LIMIT).collect(toList());
+    }
+
+    private List<CourtWithDistance> shadowed(final Supplier<List<CourtWithDistance>> index, final String areaOfLaw,
+                                             final MapitData mapitData, final String postcode) {
+        final Supplier<List<CourtWithDistance>> database = () -> searchRepository(areaOfLaw, mapitData, postcode);
+        return shadowSearch.serve(CIVIL_CATCHMENT_SEARCH, postcode + " " + areaOfLaw, index, CourtWithDistance::getSlug, database);
+    }
+
+    private List<CourtWithDistance> searchIndex(final CourtIndexSnapshot snapshot, final String areaOfLaw,
+                                                final MapitData mapitData, final String postcode) {
+        final Set<Integer> catchmentCourts = snapshot.getPostcodeIndex()
+            .findCatchmentCourts(postcode, courtId -> snapshot.getCourts().get(courtId).hasAreaOfLaw(areaOfLaw));
+        return courtDistanceResolver.resolveNearest(snapshot.getLocationIndex(), catchmentCourts, mapitData, LIMIT);
+    }
+
+    private List<CourtWithDistance> searchRepository(final String areaOfLaw, final MapitData mapitData, final String postcode) {
         List<CourtWithDistance> courtsWithDistance = courtWithDistanceRepository
             .findNearestTenByAreaOfLawAndCourtPostcode(mapitData.getLat(), mapitData.getLon(), areaOfLaw, postcode);
 
@@ -58,8 +106,6 @@ public class CivilSearch implements Search {
                 .findNearestTenByAreaOfLawAndCourtPostcode(mapitData.getLat(), mapitData.getLon(), areaOfLaw, areacode);
         }
 
-        courtsWithDistance = fallbackProximitySearch.fallbackIfEmpty(courtsWithDistance, areaOfLaw, mapitData);
-
-        return courtsWithDistance.stream().distinct().limit(10).collect(toList());
+        return courtsWithDistance;
     }
 }
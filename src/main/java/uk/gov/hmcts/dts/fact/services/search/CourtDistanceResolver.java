@@ -0,0 +1,68 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.index.CourtDistance;
+import uk.gov.hmcts.dts.fact.index.CourtLocationIndex;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+@Component
+public class CourtDistanceResolver {
+
+    private final CourtWithDistanceRepository courtWithDistanceRepository;
+
+    public CourtDistanceResolver(final CourtWithDistanceRepository courtWithDistanceRepository) {
+        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    }
+
+    /**
+     * Load the courts ranked by an in-memory search by primary key, keeping the order of the ranking.
+     *
+     * @param rankedCourts the ranked court IDs
+     * @param mapitData the location the courts were ranked from
+     * @return the courts in ranked order
+     */
+    public List<CourtWithDistance> resolve(final List<CourtDistance> rankedCourts, final MapitData mapitData) {
+        if (rankedCourts.isEmpty()) {
+            return emptyList();
+        }
+
+        final List<Integer> courtIds = rankedCourts.stream()
+            .map(CourtDistance::getCourtId)
+            .collect(toList());
+        final Map<Integer, CourtWithDistance> courtsById = courtWithDistanceRepository
+            .findAllByIdWithDistance(mapitData.getLat(), mapitData.getLon(), courtIds)
+            .stream()
+            .collect(toMap(CourtWithDistance::getId, Function.identity()));
+
+        return courtIds.stream()
+            .map(courtsById::get)
+            .filter(Objects::nonNull)
+            .collect(toList());
+    }
+
+    /**
+     * Rank a set of candidate courts by their distance from a location and load the nearest.
+     *
+     * @param locationIndex the location index to rank the candidates with
+     * @param candidates the candidate court IDs
+     * @param mapitData the location to rank the candidates from
+     * @param limit the maximum number of courts to return
+     * @return the nearest candidates, ordered by distance and then name
+     */
+    public List<CourtWithDistance> resolveNearest(final CourtLocationIndex locationIndex, final Collection<Integer> candidates,
+                                                  final MapitData mapitData, final int limit) {
+        return resolve(locationIndex.rank(candidates, mapitData.getLat(), mapitData.getLon(), limit), mapitData);
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.index.CourtDistance;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.index.DistrictCentroid;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.services.MapitService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers nearest court searches from the precomputed district table where the searched point is far enough from a
+ * boundary between courts. Postcode districts are added to the table as they are searched: the first search in a district
+ * queues it, and a background job looks up the centroid of each queued district from Mapit and ranks the courts around it.
+ */
+@Component
+@Slf4j
+public class DistrictSearch {
+
+    private static final int MAX_QUEUED_DISTRICTS = 1000;
+
+    private final CourtIndexService courtIndexService;
+    private final MapitService mapitService;
+    private final boolean enabled;
+    private final Set<String> queuedDistricts = ConcurrentHashMap.newKeySet();
+
+    public DistrictSearch(final CourtIndexService courtIndexService,
+                          final MapitService mapitService,
+                          @Value("${search.district-table.enabled:true}") final boolean enabled) {
+        this.courtIndexService = courtIndexService;
+        this.mapitService = mapitService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Find the courts nearest to a located postcode from the district table.
+     *
+     * @param snapshot the search indexes to use
+     * @param mapitData the located postcode
+     * @param limit the maximum number of courts to return
+     * @param areaOfLaw the area of law the courts must have, or null for any court
+     * @return the nearest courts, or empty if they have to be ranked exactly
+     */
+    public Optional<List<CourtDistance>> nearest(final CourtIndexSnapshot snapshot, final MapitData mapitData,
+                                                 final int limit, final String areaOfLaw) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return mapitData.getOutcode().flatMap(outcode -> {
+            if (!snapshot.getDistrictTable().hasDistrict(outcode)) {
+                queue(outcode);
+                return Optional.empty();
+            }
+            return snapshot.getDistrictTable().nearest(outcode, mapitData.getLat(), mapitData.getLon(), limit, areaOfLaw);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${search.district-table.precompute-interval:60000}")
+    @SuppressWarnings({"PMD.UseConcurrentHashMap", "PMD.AvoidInstantiatingObjectsInLoops"})
+    public void precomputeQueuedDistricts() {
+        if (queuedDistricts.isEmpty()) {
+            return;
+        }
+        final Map<String, DistrictCentroid> centroids = new HashMap<>();
+        for (final String outcode : Set.copyOf(queuedDistricts)) {
+            queuedDistricts.remove(outcode);
+            mapitService.getMapitDataWithPartial(outcode)
+                .ifPresent(district -> centroids.put(outcode, new DistrictCentroid(district.getLat(), district.getLon())));
+        }
+        courtIndexService.addDistricts(centroids);
+    }
+
+    private void queue(final String outcode) {
+        if (queuedDistricts.size() < MAX_QUEUED_DISTRICTS) {
+            queuedDistricts.add(outcode);
+        }
+    }
+}
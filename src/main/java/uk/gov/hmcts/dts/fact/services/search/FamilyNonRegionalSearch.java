@@ -3,23 +3,43 @@ package uk.gov.hmcts.dts.fact.services.search;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 
+/**
+ * Finds the courts whose catchments cover the local authority of a search, nearest first, falling back to the nearest
+ * courts for the area of law. Catchments answered by the in-memory indexes are sampled by the {@link ShadowSearch} to check
+ * them against the database.
+ */
 @Component
 public class FamilyNonRegionalSearch implements Search {
 
+    private static final int LIMIT = 10;
+    private static final String FAMILY_LOCAL_AUTHORITY_SEARCH = "family-local-authority";
+
     private final CourtWithDistanceRepository courtWithDistanceRepository;
     private final FallbackProximitySearch fallbackProximitySearch;
+    private final CourtIndexService courtIndexService;
+    private final CourtDistanceResolver courtDistanceResolver;
+    private final ShadowSearch shadowSearch;
 
     public FamilyNonRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
-                                   final FallbackProximitySearch fallbackProximitySearch) {
+                                   final FallbackProximitySearch fallbackProximitySearch,
+                                   final CourtIndexService courtIndexService,
+                                   final CourtDistanceResolver courtDistanceResolver,
+                                   final ShadowSearch shadowSearch) {
         this.courtWithDistanceRepository = courtWithDistanceRepository;
         this.fallbackProximitySearch = fallbackProximitySearch;
+        this.courtIndexService = courtIndexService;
+        this.courtDistanceResolver = courtDistanceResolver;
+        this.shadowSearch = shadowSearch;
     }
 
     @Override
@@ -28,10 +48,35 @@ public class FamilyNonRegionalSearch implements Search {
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
         final List<CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority))
+            .map(localAuthority -> courtIndexService.getSnapshot()
+                .map(snapshot -> shadowed(() -> searchIndex(snapshot, areaOfLaw, mapitData, localAuthority),
+                                          areaOfLaw, mapitData, localAuthority))
+                .orElseGet(() -> searchRepository(areaOfLaw, mapitData, localAuthority)))
             .orElse(emptyList());
 
         return fallbackProximitySearch.fallbackIfEmpty(courtsWithDistance, areaOfLaw, mapitData);
     }
+
+    private List<CourtWithDistance> shadowed(final Supplier<List<CourtWithDistance>> index, final String areaOfLaw,
+                                             final MapitData mapitData, final String localAuthority) {
+        final Supplier<List<CourtWithDistance>> database = () -> searchRepository(areaOfLaw, mapitData, localAuthority);
+        return shadowSearch.serve(FAMILY_LOCAL_AUTHORITY_SEARCH, localAuthority + " " + areaOfLaw, index,
+                                  CourtWithDistance::getSlug, database);
+    }
+
+    private List<CourtWithDistance> searchIndex(final CourtIndexSnapshot snapshot, final String areaOfLaw,
+                                                final MapitData mapitData, final String localAuthority) {
+        return courtDistanceResolver.resolveNearest(
+            snapshot.getLocationIndex(),
+            snapshot.getCatchmentIndex().findLocalAuthorityCourts(areaOfLaw, localAuthority),
+            mapitData,
+            LIMIT
+        );
+    }
+
+    private List<CourtWithDistance> searchRepository(final String areaOfLaw, final MapitData mapitData,
+                                                     final String localAuthority) {
+        return courtWithDistanceRepository
+            .findNearestTenByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority);
+    }
 }
@@ -3,41 +3,92 @@ package uk.gov.hmcts.dts.fact.services.search;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 
+/**
+ * Finds the nearest regional court for the local authority of a search, falling back to the nearest regional court for the
+ * area of law. Searches answered by the in-memory indexes are sampled by the {@link ShadowSearch} to check them against the
+ * database.
+ */
 @Component
 public class FamilyRegionalSearch implements Search {
 
+    private static final int LIMIT = 1;
+    private static final String FAMILY_REGIONAL_SEARCH = "family-regional";
+
     private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtIndexService courtIndexService;
+    private final CourtDistanceResolver courtDistanceResolver;
+    private final ShadowSearch shadowSearch;
 
-    public FamilyRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
+    public FamilyRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
+                                final CourtIndexService courtIndexService,
+                                final CourtDistanceResolver courtDistanceResolver,
+                                final ShadowSearch shadowSearch) {
         this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtIndexService = courtIndexService;
+        this.courtDistanceResolver = courtDistanceResolver;
+        this.shadowSearch = shadowSearch;
     }
 
     @Override
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public List<CourtWithDistance> searchWith(final ServiceArea serviceArea, final MapitData mapitData, final String postcode) {
 
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
-        final List<CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
-                .findNearestRegionalByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority))
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> shadowed(() -> searchIndex(snapshot, areaOfLaw, mapitData), areaOfLaw, mapitData))
+            .orElseGet(() -> searchRepository(areaOfLaw, mapitData));
+    }
+
+    private List<CourtWithDistance> shadowed(final Supplier<List<CourtWithDistance>> index, final String areaOfLaw,
+                                             final MapitData mapitData) {
+        final String query = mapitData.getLat() + "," + mapitData.getLon() + " " + areaOfLaw
+            + mapitData.getLocalAuthority().map(localAuthority -> " " + localAuthority).orElse("");
+        final Supplier<List<CourtWithDistance>> database = () -> searchRepository(areaOfLaw, mapitData);
+        return shadowSearch.serve(FAMILY_REGIONAL_SEARCH, query, index, CourtWithDistance::getSlug, database);
+    }
+
+    private List<CourtWithDistance> searchIndex(final CourtIndexSnapshot snapshot, final String areaOfLaw,
+                                                final MapitData mapitData) {
+        final List<CourtWithDistance> courts = mapitData.getLocalAuthority()
+            .map(localAuthority -> courtDistanceResolver.resolveNearest(
+                snapshot.getLocationIndex(),
+                snapshot.getCatchmentIndex().findRegionalLocalAuthorityCourts(areaOfLaw, localAuthority),
+                mapitData,
+                LIMIT
+            ))
             .orElse(emptyList());
 
-        return fallbackIfEmpty(courtsWithDistance, areaOfLaw, mapitData);
+        if (courts.isEmpty()) {
+            return courtDistanceResolver.resolveNearest(
+                snapshot.getLocationIndex(),
+                snapshot.getCatchmentIndex().findRegionalCourts(areaOfLaw),
+                mapitData,
+                LIMIT
+            );
+        }
+
+        return courts;
     }
 
-    private List<CourtWithDistance> fallbackIfEmpty(final List<CourtWithDistance> courts,
-                                                    final String areaOfLaw,
-                                                    final MapitData mapitData) {
+    private List<CourtWithDistance> searchRepository(final String areaOfLaw, final MapitData mapitData) {
+        final List<CourtWithDistance> courts = mapitData.getLocalAuthority()
+            .map(localAuthority -> courtWithDistanceRepository
+                .findNearestRegionalByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority))
+            .orElse(emptyList());
+
         if (courts.isEmpty()) {
-            return courtWithDistanceRepository
-                .findNearestRegionalByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw);
+            return courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw);
         }
 
         return courts;
@@ -8,4 +8,6 @@ import java.util.List;
 public interface IProximitySearch {
 
     List<CourtWithDistance> searchWith(final MapitData mapitData);
+
+    List<CourtWithDistance> searchWith(final MapitData mapitData, final String areaOfLaw);
 }
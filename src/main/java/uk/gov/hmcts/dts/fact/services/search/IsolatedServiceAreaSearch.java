@@ -0,0 +1,53 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs a service area search in its own read only transaction, for callers that run many searches outside a web request.
+ * Court distances are calculated by the query that loads the courts, so a persistence context shared between searches
+ * would return the distances from whichever search loaded a court first.
+ * As with {@code /search/results}, a childcare arrangements search returns only the nearest single point of entry court.
+ */
+@Component
+public class IsolatedServiceAreaSearch {
+
+    private static final String CHILDCARE_ARRANGEMENTS = "childcare-arrangements";
+    private static final String CHILDREN_AREA_OF_LAW = "Children";
+
+    private final ServiceAreaSearchFactory serviceAreaSearchFactory;
+    private final SinglePointOfEntryFilter singlePointOfEntryFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    public IsolatedServiceAreaSearch(final ServiceAreaSearchFactory serviceAreaSearchFactory,
+                                     final SinglePointOfEntryFilter singlePointOfEntryFilter,
+                                     final PlatformTransactionManager transactionManager) {
+        this.serviceAreaSearchFactory = serviceAreaSearchFactory;
+        this.singlePointOfEntryFilter = singlePointOfEntryFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public ServiceAreaWithCourtReferencesWithDistance searchWith(final ServiceArea serviceArea, final MapitData mapitData,
+                                                                 final String postcode) {
+        return transactionTemplate.execute(status -> {
+            final List<CourtWithDistance> courts = serviceAreaSearchFactory
+                .getSearchFor(serviceArea, mapitData)
+                .searchWith(serviceArea, mapitData, postcode);
+            final List<CourtReferenceWithDistance> courtReferences = CHILDCARE_ARRANGEMENTS.equals(serviceArea.getSlug())
+                ? singlePointOfEntryFilter.nearestSinglePointOfEntry(courts, CHILDREN_AREA_OF_LAW)
+                : courts.stream().map(CourtReferenceWithDistance::new).collect(toList());
+            return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, courtReferences);
+        });
+    }
+}
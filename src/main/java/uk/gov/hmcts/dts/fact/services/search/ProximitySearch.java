@@ -2,25 +2,84 @@ package uk.gov.hmcts.dts.fact.services.search;
 
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.index.CourtDistance;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * Finds the ten nearest displayed courts. The courts are ranked by the in-memory indexes when they are available: from the
+ * district table where it can answer the search, otherwise from the cached candidates of the searched cell, or the location
+ * index if that cache is disabled. Until the indexes are built they are ranked by the database.
+ * Searches answered by the indexes are sampled by the {@link ShadowSearch} to check them against the database.
+ */
 @Component
 public class ProximitySearch implements IProximitySearch {
 
+    private static final int LIMIT = 10;
+    private static final String NEAREST_SEARCH = "nearest";
+    private static final String NEAREST_BY_AREA_OF_LAW_SEARCH = "nearest-by-area-of-law";
+
     private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtIndexService courtIndexService;
+    private final CourtDistanceResolver courtDistanceResolver;
+    private final DistrictSearch districtSearch;
+    private final CandidateCellSearch candidateCellSearch;
+    private final ShadowSearch shadowSearch;
 
-    public ProximitySearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
+    public ProximitySearch(final CourtWithDistanceRepository courtWithDistanceRepository,
+                           final CourtIndexService courtIndexService,
+                           final CourtDistanceResolver courtDistanceResolver,
+                           final DistrictSearch districtSearch,
+                           final CandidateCellSearch candidateCellSearch,
+                           final ShadowSearch shadowSearch) {
         this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtIndexService = courtIndexService;
+        this.courtDistanceResolver = courtDistanceResolver;
+        this.districtSearch = districtSearch;
+        this.candidateCellSearch = candidateCellSearch;
+        this.shadowSearch = shadowSearch;
     }
 
     @Override
     public List<CourtWithDistance> searchWith(final MapitData mapitData) {
-        return courtWithDistanceRepository.findNearestTen(
+        final Supplier<List<CourtWithDistance>> database = () -> courtWithDistanceRepository.findNearestTen(
             mapitData.getLat(),
             mapitData.getLon()
         );
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> shadowed(NEAREST_SEARCH, mapitData, null,
+                () -> courtDistanceResolver.resolve(nearest(snapshot, mapitData, null), mapitData), database))
+            .orElseGet(database);
+    }
+
+    @Override
+    public List<CourtWithDistance> searchWith(final MapitData mapitData, final String areaOfLaw) {
+        final Supplier<List<CourtWithDistance>> database = () -> courtWithDistanceRepository.findNearestTenByAreaOfLaw(
+            mapitData.getLat(),
+            mapitData.getLon(),
+            areaOfLaw
+        );
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> shadowed(NEAREST_BY_AREA_OF_LAW_SEARCH, mapitData, areaOfLaw,
+                () -> courtDistanceResolver.resolve(nearest(snapshot, mapitData, areaOfLaw), mapitData), database))
+            .orElseGet(database);
+    }
+
+    private List<CourtWithDistance> shadowed(final String search, final MapitData mapitData, final String areaOfLaw,
+                                             final Supplier<List<CourtWithDistance>> index,
+                                             final Supplier<List<CourtWithDistance>> database) {
+        final String query = mapitData.getLat() + "," + mapitData.getLon() + (areaOfLaw == null ? "" : " " + areaOfLaw);
+        return shadowSearch.serve(search, query, index, CourtWithDistance::getSlug, database);
+    }
+
+    private List<CourtDistance> nearest(final CourtIndexSnapshot snapshot, final MapitData mapitData, final String areaOfLaw) {
+        return districtSearch.nearest(snapshot, mapitData, LIMIT, areaOfLaw)
+            .or(() -> candidateCellSearch.nearest(snapshot, mapitData, LIMIT, areaOfLaw))
+            .orElseGet(() -> snapshot.getLocationIndex().nearest(mapitData.getLat(), mapitData.getLon(), LIMIT, areaOfLaw));
     }
 }
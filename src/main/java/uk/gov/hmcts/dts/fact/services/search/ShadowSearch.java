@@ -0,0 +1,150 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.launchdarkly.LaunchDarklyClient;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Checks the searches answered by the in-memory indexes against the SQL they replace, on live traffic.
+ * - With {@code search.shadow.serve-database=true}, the default, the SQL results are served. While the fact-search-shadow
+ *   feature is enabled, a sample of searches also run the index and the ordered court slugs of the two are compared, so
+ *   the indexes can be checked before they are trusted.
+ * - Otherwise the index results are served. While the feature is enabled, a sample of searches also run the SQL on a
+ *   background thread once they have returned, and the ordered court slugs of the two are compared.
+ * - Comparisons are counted in the search.shadow metric, tagged with the search and whether the results matched, diverged
+ *   or the SQL failed. A sample of divergences are logged with both slug lists.
+ * - Comparisons are queued for a single thread. When the queue is full they are dropped and counted, so the searches
+ *   themselves are never held up.
+ */
+@Component
+@Slf4j
+public class ShadowSearch {
+    static final String FEATURE = "fact-search-shadow";
+    static final String METRIC = "search.shadow";
+    static final String SEARCH_TAG = "search";
+    static final String RESULT_TAG = "result";
+
+    private final LaunchDarklyClient launchDarklyClient;
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final double diffSampleRate;
+    private final boolean serveDatabase;
+    private final ThreadPoolExecutor executor;
+
+    public ShadowSearch(final LaunchDarklyClient launchDarklyClient,
+                        final MeterRegistry meterRegistry,
+                        @Value("${search.shadow.sample-rate:0.01}") final double sampleRate,
+                        @Value("${search.shadow.diff-sample-rate:0.1}") final double diffSampleRate,
+                        @Value("${search.shadow.queue-size:100}") final int queueSize,
+                        @Value("${search.shadow.serve-database:true}") final boolean serveDatabase) {
+        this.launchDarklyClient = launchDarklyClient;
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.diffSampleRate = diffSampleRate;
+        this.serveDatabase = serveDatabase;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize));
+    }
+
+    /**
+     * Run a search on the index or the SQL it replaces, depending on which is served, and compare the courts with the
+     * other if the search is sampled.
+     *
+     * @param search the name of the search, used to tag the metric
+     * @param query a description of what was searched for, used when logging a divergence
+     * @param index runs the search on the in-memory indexes
+     * @param slugOf gets the slug of a court
+     * @param database runs the SQL the search replaces
+     * @param <T> the type of court returned
+     * @return the courts to serve
+     */
+    public <T> List<T> serve(final String search, final String query, final Supplier<List<T>> index,
+                             final Function<T, String> slugOf, final Supplier<List<T>> database) {
+        if (serveDatabase) {
+            final List<T> courts = database.get();
+            if (sampled()) {
+                compareIndex(search, query, index, slugs(courts, slugOf), slugOf);
+            }
+            return courts;
+        }
+        final List<T> courts = index.get();
+        if (sampled()) {
+            try {
+                executor.execute(() -> compareInBackground(search, query, slugs(courts, slugOf), () -> slugs(database.get(), slugOf)));
+            } catch (final RejectedExecutionException ex) {
+                count(search, "dropped");
+            }
+        }
+        return courts;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean sampled() {
+        return ThreadLocalRandom.current().nextDouble() < sampleRate && launchDarklyClient.isFeatureEnabled(FEATURE);
+    }
+
+    @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.DataflowAnomalyAnalysis"})
+    private <T> void compareIndex(final String search, final String query, final Supplier<List<T>> index,
+                                  final List<String> expected, final Function<T, String> slugOf) {
+        final List<String> indexed;
+        try {
+            indexed = slugs(index.get(), slugOf);
+        } catch (final RuntimeException ex) {
+            count(search, "failed");
+            log.warn("Could not run the {} search for {} on the index to compare", search, query, ex);
+            return;
+        }
+        record(search, query, indexed, expected);
+    }
+
+    @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.DataflowAnomalyAnalysis"})
+    private void compareInBackground(final String search, final String query, final List<String> served,
+                                     final Supplier<List<String>> database) {
+        final List<String> expected;
+        try {
+            expected = database.get();
+        } catch (final RuntimeException ex) {
+            count(search, "failed");
+            log.warn("Could not run the {} search for {} in the database to compare", search, query, ex);
+            return;
+        }
+        record(search, query, served, expected);
+    }
+
+    private void record(final String search, final String query, final List<String> indexed, final List<String> expected) {
+        if (indexed.equals(expected)) {
+            count(search, "match");
+            return;
+        }
+        count(search, "diverged");
+        if (ThreadLocalRandom.current().nextDouble() < diffSampleRate) {
+            log.warn("The {} search for {} returned {} from the index but the database returned {}", search, query, indexed,
+                     expected);
+        }
+    }
+
+    private void count(final String search, final String result) {
+        meterRegistry.counter(METRIC, SEARCH_TAG, search, RESULT_TAG, result).increment();
+    }
+
+    private static <T> List<String> slugs(final List<T> courts, final Function<T, String> slugOf) {
+        return courts.stream().map(slugOf).collect(toList());
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Picks the nearest single point of entry court for an area of law from the courts a service area search found.
+ * The courts are checked against the single point of entry index, so only the court that is returned has its single point
+ * of entry areas of law loaded. Until the indexes are built each court's own areas of law are checked instead.
+ * Picks made from the index are sampled by the {@link ShadowSearch} to check them against the database.
+ */
+@Component
+public class SinglePointOfEntryFilter {
+
+    private static final String SINGLE_POINT_OF_ENTRY_SEARCH = "single-point-of-entry";
+
+    private final CourtIndexService courtIndexService;
+    private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+    private final ShadowSearch shadowSearch;
+
+    public SinglePointOfEntryFilter(final CourtIndexService courtIndexService,
+                                    final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository,
+                                    final ShadowSearch shadowSearch) {
+        this.courtIndexService = courtIndexService;
+        this.courtAreaOfLawSpoeRepository = courtAreaOfLawSpoeRepository;
+        this.shadowSearch = shadowSearch;
+    }
+
+    /**
+     * Find the first court that is a single point of entry for an area of law.
+     *
+     * @param courts the courts, nearest first
+     * @param areaOfLaw the area of law
+     * @return the nearest single point of entry court, or an empty list if there is none
+     */
+    public List<CourtReferenceWithDistance> nearestSinglePointOfEntry(final List<CourtWithDistance> courts, final String areaOfLaw) {
+        return courtIndexService.getSnapshot()
+            .map(snapshot -> shadowed(
+                () -> first(courts, court -> snapshot.getSpoeIndex().isSinglePointOfEntry(court.getId(), areaOfLaw)), courts, areaOfLaw))
+            .orElseGet(() -> first(courts, court -> court.getAreasOfLawSpoe().contains(areaOfLaw)))
+            .stream()
+            .map(CourtReferenceWithDistance::new)
+            .collect(toList());
+    }
+
+    private List<CourtWithDistance> shadowed(final Supplier<List<CourtWithDistance>> index, final List<CourtWithDistance> courts,
+                                             final String areaOfLaw) {
+        // The comparison may run outside the request, so the single point of entry areas of law are read from the repository
+        // rather than loaded lazily from each court
+        final Supplier<List<CourtWithDistance>> database = () -> first(courts, court -> isSinglePointOfEntry(court.getId(), areaOfLaw));
+        return shadowSearch.serve(SINGLE_POINT_OF_ENTRY_SEARCH, areaOfLaw, index, CourtWithDistance::getSlug, database);
+    }
+
+    private boolean isSinglePointOfEntry(final Integer courtId, final String areaOfLaw) {
+        return courtAreaOfLawSpoeRepository.getAllByCourtId(courtId)
+            .stream()
+            .anyMatch(spoe -> areaOfLaw.equals(spoe.getAreaOfLaw().getName()));
+    }
+
+    private static List<CourtWithDistance> first(final List<CourtWithDistance> courts, final Predicate<CourtWithDistance> filter) {
+        return courts.stream()
+            .filter(filter)
+            .findFirst()
+            .stream()
+            .collect(toList());
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.dts.fact.util;
+
+public final class EarthDistance {
+    // Radius used by the Postgres earthdistance module, so distances match the SQL '<@>' operator exactly
+    private static final double EARTH_RADIUS_IN_MILES = 3_958.747_716;
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private EarthDistance() {
+    }
+
+    /**
+     * Calculates the great circle distance between two points in statute miles. This follows the calculation of the
+     * Postgres earthdistance point operator (point(lon, lat) {@literal <@>} point(lon, lat)).
+     *
+     * @param lat1 latitude of the first point
+     * @param lon1 longitude of the first point
+     * @param lat2 latitude of the second point
+     * @param lon2 longitude of the second point
+     * @return the distance between the two points in miles
+     */
+    public static double distanceInMiles(final double lat1, final double lon1, final double lat2, final double lon2) {
+        final double lat1Radians = Math.toRadians(lat1);
+        final double lat2Radians = Math.toRadians(lat2);
+
+        double longitudeDifference = Math.abs(Math.toRadians(lon1) - Math.toRadians(lon2));
+        if (longitudeDifference > Math.PI) {
+            longitudeDifference = TWO_PI - longitudeDifference;
+        }
+
+        final double halfLatitudeSine = Math.sin(Math.abs(lat1Radians - lat2Radians) / 2);
+        final double halfLongitudeSine = Math.sin(longitudeDifference / 2);
+        final double sino = Math.min(1.0, Math.sqrt(halfLatitudeSine * halfLatitudeSine
+            + Math.cos(lat1Radians) * Math.cos(lat2Radians) * halfLongitudeSine * halfLongitudeSine));
+
+        return 2 * EARTH_RADIUS_IN_MILES * Math.asin(sino);
+    }
+
+    /**
+     * Calculates the straight line distance through the earth between two points a great circle distance apart, on a
+     * sphere of radius one.
+     *
+     * @param miles the great circle distance in miles
+     * @return the straight line distance, at most 2
+     */
+    public static double chordLength(final double miles) {
+        return miles >= Math.PI * EARTH_RADIUS_IN_MILES ? 2 : 2 * Math.sin(miles / (2 * EARTH_RADIUS_IN_MILES));
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash encoding, which names the cell of a grid of nested cells containing a point. Each extra character splits a cell
+ * into 32 smaller cells.
+ */
+@SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+public final class Geohash {
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final int BITS_PER_CHARACTER = 5;
+    private static final int MIN_LAT = 0;
+    private static final int MIN_LON = 1;
+    private static final int MAX_LAT = 2;
+    private static final int MAX_LON = 3;
+
+    private Geohash() {
+    }
+
+    /**
+     * Encodes a point as the geohash of the cell containing it.
+     *
+     * @param lat the latitude of the point
+     * @param lon the longitude of the point
+     * @param precision the number of characters in the geohash
+     * @return the geohash
+     */
+    public static String encode(final double lat, final double lon, final int precision) {
+        final double[] bounds = {-90, -180, 90, 180};
+        final StringBuilder geohash = new StringBuilder(precision);
+        boolean isLonBit = true;
+        int character = 0;
+        int bits = 0;
+        while (geohash.length() < precision) {
+            character = (character << 1) | (isLonBit ? halve(bounds, MIN_LON, MAX_LON, lon) : halve(bounds, MIN_LAT, MAX_LAT, lat));
+            isLonBit = !isLonBit;
+            bits++;
+            if (bits == BITS_PER_CHARACTER) {
+                geohash.append(BASE32.charAt(character));
+                character = 0;
+                bits = 0;
+            }
+        }
+        return geohash.toString();
+    }
+
+    /**
+     * Decodes the bounds of a geohash cell.
+     *
+     * @param geohash the geohash
+     * @return the minimum latitude, minimum longitude, maximum latitude and maximum longitude of the cell, in that order
+     */
+    public static double[] bounds(final String geohash) {
+        final double[] bounds = {-90, -180, 90, 180};
+        boolean isLonBit = true;
+        for (int i = 0; i < geohash.length(); i++) {
+            final int character = BASE32.indexOf(geohash.charAt(i));
+            if (character < 0) {
+                throw new IllegalArgumentException("Invalid geohash: " + geohash);
+            }
+            for (int bit = BITS_PER_CHARACTER - 1; bit >= 0; bit--) {
+                final boolean isUpper = (character >> bit & 1) == 1;
+                if (isLonBit) {
+                    bounds[isUpper ? MIN_LON : MAX_LON] = (bounds[MIN_LON] + bounds[MAX_LON]) / 2;
+                } else {
+                    bounds[isUpper ? MIN_LAT : MAX_LAT] = (bounds[MIN_LAT] + bounds[MAX_LAT]) / 2;
+                }
+                isLonBit = !isLonBit;
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Lists the 32 cells one character longer than a geohash, which together make up its cell.
+     *
+     * @param geohash the geohash, or an empty string for the whole world
+     * @return the geohashes of the cells inside it
+     */
+    public static List<String> children(final String geohash) {
+        final List<String> children = new ArrayList<>(BASE32.length());
+        for (int i = 0; i < BASE32.length(); i++) {
+            children.add(geohash + BASE32.charAt(i));
+        }
+        return children;
+    }
+
+    private static int halve(final double[] bounds, final int min, final int max, final double value) {
+        final double middle = (bounds[min] + bounds[max]) / 2;
+        if (value >= middle) {
+            bounds[min] = middle;
+            return 1;
+        }
+        bounds[max] = middle;
+        return 0;
+    }
+}
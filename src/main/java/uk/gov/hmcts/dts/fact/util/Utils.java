@@ -59,6 +59,19 @@ public final class Utils {
         return input.replaceAll("\\s+","").toUpperCase(Locale.getDefault());
     }
 
+    /**
+     * Put a postcode in the form the postcode catchment queries expect: upper case, with a single space before the inward code.
+     *
+     * @param postcode the postcode, with or without spaces
+     * @return the normalised postcode
+     */
+    public static String normalisePostcode(final String postcode) {
+        final String stripped = upperCaseAndStripAllSpaces(postcode);
+        return stripped.length() > 3
+            ? stripped.substring(0, stripped.length() - 3) + ' ' + stripped.substring(stripped.length() - 3)
+            : stripped;
+    }
+
     public static List<String> constructAddressLines(final String address) {
         return StringUtils.isBlank(address)
             ? emptyList()
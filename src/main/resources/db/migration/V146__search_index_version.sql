@@ -0,0 +1,68 @@
+CREATE TABLE public.search_indexversion
+(
+    id      integer PRIMARY KEY NOT NULL,
+    version bigint              NOT NULL
+);
+
+INSERT INTO public.search_indexversion (id, version) VALUES (1, 0);
+
+-- One row per statement that changes a table the in-memory search indexes are built from. The index version is the
+-- version above plus the number of rows here, so a saved index can tell if it is stale. Writers only insert, so they
+-- never wait on each other, and the count only grows once a change commits. The rows are added to the version above
+-- and deleted from time to time, to keep the count quick.
+CREATE TABLE public.search_indexchange
+(
+    id         bigserial PRIMARY KEY    NOT NULL,
+    changed_at timestamp with time zone NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE FUNCTION public.search_increment_index_version() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO public.search_indexchange DEFAULT VALUES;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER search_court_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_court
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtaddress_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtaddress
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtpostcode_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtpostcode
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtareaoflaw_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtareaoflaw
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtareaoflawspoe_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtareaoflawspoe
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtlocalauthorityareaoflaw_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtlocalauthorityareaoflaw
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtcourttype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtcourttype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_serviceareacourt_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_serviceareacourt
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_areaoflaw_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_areaoflaw
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courttype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courttype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_localauthority_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_localauthority
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
@@ -0,0 +1,33 @@
+CREATE SEQUENCE public.search_change_id_seq
+    AS bigint
+    START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1;
+
+-- Changes written by the admin services, read by every instance to keep its in-memory search data up to date
+CREATE TABLE public.search_change
+(
+    id           bigint PRIMARY KEY    NOT NULL DEFAULT nextval('public.search_change_id_seq'),
+    instance_id  character varying(36) NOT NULL,
+    change_type  character varying(40) NOT NULL,
+    court_id     integer,
+    slug         character varying(200),
+    reference_id integer,
+    created_at   timestamp             NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX search_change_created_at_idx ON public.search_change (created_at);
+
+-- Notifications are only delivered once the transaction that wrote the change commits
+CREATE FUNCTION public.search_notify_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('search_change', NEW.id::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER search_change_notify
+    AFTER INSERT ON public.search_change
+    FOR EACH ROW EXECUTE PROCEDURE public.search_notify_change();
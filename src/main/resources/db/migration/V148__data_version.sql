@@ -0,0 +1,194 @@
+-- Keeps search_court.updated_at current for every change to a court, including the bulk updates that bypass Hibernate
+CREATE FUNCTION public.search_court_set_updated_at() RETURNS trigger AS $$
+BEGIN
+    NEW.updated_at = now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER search_court_updated_at
+    BEFORE UPDATE ON public.search_court
+    FOR EACH ROW EXECUTE PROCEDURE public.search_court_set_updated_at();
+
+-- Marks the court as updated when a row belonging to it changes. Each court is only updated once per transaction, as now()
+-- is the time the transaction started.
+CREATE FUNCTION public.search_touch_court() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        UPDATE public.search_court SET updated_at = now() WHERE id = NEW.court_id AND updated_at IS DISTINCT FROM now();
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE public.search_court SET updated_at = now() WHERE id = OLD.court_id AND updated_at IS DISTINCT FROM now();
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER search_courtadditionallink_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtadditionallink
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtaddress_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtaddress
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtapplicationupdate_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtapplicationupdate
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtareaoflaw_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtareaoflaw
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtareaoflawspoe_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtareaoflawspoe
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtcontact_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtcontact
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtcourttype_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtcourttype
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtdxcode_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtdxcode
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtemail_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtemail
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtfacility_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtfacility
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtlocalauthorityareaoflaw_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtlocalauthorityareaoflaw
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtopeningtime_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtopeningtime
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_courtpostcode_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_courtpostcode
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_inperson_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_inperson
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_serviceareacourt_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_serviceareacourt
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+CREATE TRIGGER search_servicecentre_touch_court
+    AFTER INSERT OR UPDATE OR DELETE ON public.search_servicecentre
+    FOR EACH ROW EXECUTE PROCEDURE public.search_touch_court();
+
+-- The index version also answers conditional requests to the court and list endpoints, so it counts the changes to the
+-- other tables behind those endpoints too. The time of the last change is the latest recorded change, or the time kept
+-- here of the latest change added to the version.
+ALTER TABLE public.search_indexversion ADD COLUMN updated_at timestamp with time zone NOT NULL DEFAULT now();
+
+CREATE TRIGGER search_courtadditionallink_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtadditionallink
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtapplicationupdate_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtapplicationupdate
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtcontact_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtcontact
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtdxcode_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtdxcode
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtemail_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtemail
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtfacility_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtfacility
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_courtopeningtime_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_courtopeningtime
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_inperson_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_inperson
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_servicecentre_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_servicecentre
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_additionallink_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_additionallink
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_addresstype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_addresstype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_applicationupdate_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_applicationupdate
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_contact_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_contact
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_dxcode_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_dxcode
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_email_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_email
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_facility_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_facility
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_facilityfacilitytype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_facilityfacilitytype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_openingtime_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_openingtime
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_service_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_service
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_servicearea_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_servicearea
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER search_serviceservicearea_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.search_serviceservicearea
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER admin_contacttype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.admin_contacttype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER admin_emailtype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.admin_emailtype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER admin_facilitytype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.admin_facilitytype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
+
+CREATE TRIGGER admin_openingtype_index_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.admin_openingtype
+    FOR EACH STATEMENT EXECUTE PROCEDURE public.search_increment_index_version();
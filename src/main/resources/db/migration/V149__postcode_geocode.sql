@@ -0,0 +1,11 @@
+-- Postcodes located by Mapit, shared by every instance so each postcode only costs one Mapit lookup between refreshes
+CREATE TABLE public.search_postcodegeocode
+(
+    postcode        character varying(8)   PRIMARY KEY NOT NULL,
+    lat             double precision       NOT NULL,
+    lon             double precision       NOT NULL,
+    local_authority character varying(255),
+    fetched_at      timestamp              NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX search_postcodegeocode_fetched_at_idx ON public.search_postcodegeocode (fetched_at);
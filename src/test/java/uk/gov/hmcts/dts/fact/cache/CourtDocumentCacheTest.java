@@ -0,0 +1,173 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.DigestUtils;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("PMD.TooManyMethods")
+class CourtDocumentCacheTest {
+    private static final String SLUG = "some-slug";
+    private static final String OTHER_SLUG = "other-slug";
+    private static final String NAME = "Some Court";
+    private static final String NAME_FIELD = "name";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final CourtRepository courtRepository = mock(CourtRepository.class);
+    private final Clock clock = mock(Clock.class);
+    private CourtDocumentCache courtDocumentCache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        courtDocumentCache = new CourtDocumentCache(courtRepository, OBJECT_MAPPER, 1_000_000, 100, Duration.ofHours(1), clock);
+        final Court court = court(1, SLUG);
+        when(court.getNameCy()).thenReturn("Rhyw Lys");
+        when(courtRepository.findBySlug(SLUG)).thenReturn(Optional.of(court));
+        final Court otherCourt = court(2, OTHER_SLUG);
+        when(courtRepository.findBySlug(OTHER_SLUG)).thenReturn(Optional.of(otherCourt));
+    }
+
+    @AfterEach
+    void resetLocale() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldServeTheCourtFromTheCacheOnceLoaded() throws IOException {
+        final CourtDocument first = courtDocumentCache.getCourt(SLUG);
+        final CourtDocument second = courtDocumentCache.getCourt(SLUG);
+
+        assertThat(second).isSameAs(first);
+        assertThat(OBJECT_MAPPER.readTree(first.getJson()).get(NAME_FIELD).asText()).isEqualTo(NAME);
+        assertThat(OBJECT_MAPPER.readTree(first.getJson()).get("slug").asText()).isEqualTo(SLUG);
+        verify(courtRepository).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldCacheEachLanguageSeparately() throws IOException {
+        courtDocumentCache.getCourt(SLUG);
+        LocaleContextHolder.setLocale(new Locale("cy"));
+
+        assertThat(OBJECT_MAPPER.readTree(courtDocumentCache.getCourt(SLUG).getJson()).get(NAME_FIELD).asText()).isEqualTo("Rhyw Lys");
+        verify(courtRepository, times(2)).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldCacheTheOldCourtSeparately() throws IOException {
+        courtDocumentCache.getCourt(SLUG);
+        final CourtDocument oldCourt = courtDocumentCache.getOldCourt(SLUG);
+
+        assertThat(OBJECT_MAPPER.readTree(oldCourt.getJson()).get(NAME_FIELD).asText()).isEqualTo(NAME);
+        assertThat(courtDocumentCache.getOldCourt(SLUG)).isSameAs(oldCourt);
+        verify(courtRepository, times(2)).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldGiveEachDocumentTheValidatorsOfItsContent() {
+        final Court court = court(3, "updated-slug");
+        when(court.getUpdatedAt()).thenReturn(new Timestamp(1_600_000_000_000L));
+        when(courtRepository.findBySlug("updated-slug")).thenReturn(Optional.of(court));
+
+        final CourtDocument document = courtDocumentCache.getCourt("updated-slug");
+
+        assertThat(document.getEtag()).isEqualTo("\"" + DigestUtils.md5DigestAsHex(document.getJson()) + "\"");
+        assertThat(document.getLastModified()).isEqualTo(1_600_000_000_000L);
+        assertThat(courtDocumentCache.getCourt(SLUG).getEtag()).isNotEqualTo(document.getEtag());
+        assertThat(courtDocumentCache.getCourt(SLUG).getLastModified()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldThrowNotFoundForAnUnknownSlug() {
+        assertThatThrownBy(() -> courtDocumentCache.getCourt("unknown"))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void shouldInvalidateOnlyTheChangedCourt() {
+        courtDocumentCache.getCourt(SLUG);
+        courtDocumentCache.getCourt(OTHER_SLUG);
+
+        courtDocumentCache.onCourtChanged(new CourtChangedEvent(1, SLUG, CourtChangeType.CONTACTS));
+        courtDocumentCache.getCourt(SLUG);
+        courtDocumentCache.getCourt(OTHER_SLUG);
+
+        verify(courtRepository, times(2)).findBySlug(SLUG);
+        verify(courtRepository).findBySlug(OTHER_SLUG);
+    }
+
+    @Test
+    void shouldInvalidateARenamedCourtByItsId() {
+        courtDocumentCache.getCourt(SLUG);
+        courtDocumentCache.getOldCourt(SLUG);
+
+        courtDocumentCache.onCourtChanged(new CourtChangedEvent(1, "new-slug", CourtChangeType.GENERAL_INFO));
+        courtDocumentCache.getCourt(SLUG);
+        courtDocumentCache.getOldCourt(SLUG);
+
+        verify(courtRepository, times(4)).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldInvalidateACourtBySlugWhenTheIdIsNotKnown() {
+        courtDocumentCache.getCourt(SLUG);
+
+        courtDocumentCache.onCourtChanged(new CourtChangedEvent(null, SLUG, CourtChangeType.COORDINATES));
+        courtDocumentCache.getCourt(SLUG);
+
+        verify(courtRepository, times(2)).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldInvalidateEveryCourtWhenAnAreaOfLawChanges() {
+        courtDocumentCache.getCourt(SLUG);
+        courtDocumentCache.getCourt(OTHER_SLUG);
+
+        courtDocumentCache.onAreaOfLawChanged(new AreaOfLawChangedEvent(1));
+        courtDocumentCache.getCourt(SLUG);
+        courtDocumentCache.getCourt(OTHER_SLUG);
+
+        verify(courtRepository, times(2)).findBySlug(SLUG);
+        verify(courtRepository, times(2)).findBySlug(OTHER_SLUG);
+    }
+
+    @Test
+    void shouldLoadTheCourtAgainAfterTheMaximumAge() {
+        courtDocumentCache.getCourt(SLUG);
+
+        when(clock.millis()).thenReturn(Duration.ofHours(1).toMillis());
+        courtDocumentCache.getCourt(SLUG);
+
+        verify(courtRepository, times(2)).findBySlug(SLUG);
+    }
+
+    private static Court court(final int id, final String slug) {
+        final Court court = mock(Court.class);
+        when(court.getId()).thenReturn(id);
+        when(court.getSlug()).thenReturn(slug);
+        when(court.getName()).thenReturn(NAME);
+        return court;
+    }
+}
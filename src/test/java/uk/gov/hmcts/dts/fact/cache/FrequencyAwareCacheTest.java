@@ -0,0 +1,186 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FrequencyAwareCacheTest {
+    private static final String FIRST = "first";
+    private static final String SECOND = "second";
+    private static final String THIRD = "third";
+    private static final int READERS = 4;
+    private static final int KEYS = 20;
+
+    @Test
+    void shouldReturnAnAddedValue() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(100, 10, String::length);
+
+        assertThat(cache.get(FIRST)).isEmpty();
+        assertThat(cache.put(FIRST, "value", cache.getGeneration())).isTrue();
+        assertThat(cache.get(FIRST)).contains("value");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getWeight()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotAddAValueLoadedBeforeAnInvalidation() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(100, 10, String::length);
+        final long generation = cache.getGeneration();
+
+        cache.invalidateAll();
+
+        assertThat(cache.put(FIRST, "stale", generation)).isFalse();
+        assertThat(cache.get(FIRST)).isEmpty();
+    }
+
+    @Test
+    void shouldNotAddAValueHeavierThanTheCache() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(3, 10, String::length);
+
+        assertThat(cache.put(FIRST, "four", cache.getGeneration())).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepFrequentlyReadEntriesOverOneOffReads() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(3, 10, String::length);
+        for (final String key : new String[]{FIRST, SECOND, THIRD}) {
+            cache.get(key);
+            cache.get(key);
+            cache.put(key, "v", cache.getGeneration());
+        }
+
+        for (int i = 0; i < 20; i++) {
+            final String oneOff = "one-off-" + i;
+            cache.get(oneOff);
+            assertThat(cache.put(oneOff, "v", cache.getGeneration())).isFalse();
+        }
+
+        assertThat(cache.get(FIRST)).isPresent();
+        assertThat(cache.get(SECOND)).isPresent();
+        assertThat(cache.get(THIRD)).isPresent();
+    }
+
+    @Test
+    void shouldReplaceTheLeastRecentlyUsedEntriesWithAMoreFrequentlyReadEntry() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(2, 10, String::length);
+        cache.put(FIRST, "v", cache.getGeneration());
+        cache.put(SECOND, "v", cache.getGeneration());
+        cache.get(FIRST);
+        cache.get(SECOND);
+        cache.get(FIRST);
+        for (int i = 0; i < 3; i++) {
+            cache.get(THIRD);
+        }
+
+        assertThat(cache.put(THIRD, "vv", cache.getGeneration())).isTrue();
+
+        assertThat(cache.get(FIRST)).isEmpty();
+        assertThat(cache.get(SECOND)).isEmpty();
+        assertThat(cache.get(THIRD)).contains("vv");
+        assertThat(cache.getWeight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTheMaximumAge() {
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1000L);
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(100, 10, String::length,
+                                                                                    Duration.ofSeconds(60), clock);
+        cache.put(FIRST, "value", cache.getGeneration());
+
+        when(clock.millis()).thenReturn(60_999L);
+        assertThat(cache.get(FIRST)).isPresent();
+
+        when(clock.millis()).thenReturn(61_000L);
+        assertThat(cache.get(FIRST)).isEmpty();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void shouldExpireAnEntryAfterItsOwnMaximumAge() {
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(100, 10, String::length,
+                                                                                    Duration.ofHours(1), clock);
+        cache.put(FIRST, "long", cache.getGeneration());
+        cache.put(SECOND, "short", cache.getGeneration(), Duration.ofMinutes(1));
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(1).toMillis());
+
+        assertThat(cache.get(FIRST)).contains("long");
+        assertThat(cache.get(SECOND)).isEmpty();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountTheEntriesReplacedButNotThoseInvalidated() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(1, 10, String::length);
+        cache.put(FIRST, "v", cache.getGeneration());
+        cache.get(SECOND);
+        cache.get(SECOND);
+
+        assertThat(cache.put(SECOND, "v", cache.getGeneration())).isTrue();
+        cache.invalidateAll();
+
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInvalidateOnlyTheMatchingEntries() {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(100, 10, String::length);
+        cache.put(FIRST, "a", cache.getGeneration());
+        cache.put(SECOND, "bb", cache.getGeneration());
+
+        cache.invalidateIf((key, value) -> "a".equals(value));
+
+        assertThat(cache.get(FIRST)).isEmpty();
+        assertThat(cache.get(SECOND)).contains("bb");
+        assertThat(cache.getWeight()).isEqualTo(2);
+        assertThat(cache.getGeneration()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepItsWeightConsistentWhileReadOnOtherThreads() throws Exception {
+        final FrequencyAwareCache<String, String> cache = new FrequencyAwareCache<>(10, KEYS, String::length);
+        final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < READERS; reader++) {
+                readers.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        cache.get("key-" + i % KEYS);
+                    }
+                }));
+            }
+            for (int i = 0; i < 1000; i++) {
+                cache.put("key-" + i % KEYS, "v".repeat(1 + i % 3), cache.getGeneration());
+                if (i % 100 == 0) {
+                    cache.invalidateIf((key, value) -> value.length() > 1);
+                }
+            }
+            for (final Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long weight = 0;
+        for (int key = 0; key < KEYS; key++) {
+            weight += cache.get("key-" + key).map(String::length).orElse(0);
+        }
+        assertThat(cache.getWeight()).isEqualTo(weight).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.dts.fact.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.LawOfDemeter"})
+class SingleFlightTest {
+    private static final String KEY = "OX11RZ";
+    private static final int WAITERS = 4;
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+        final Future<String> leader = executor.submit(() -> flights.load(KEY, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "located";
+        }));
+        awaitInFlight();
+        final List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(executor.submit(() -> flights.load(KEY, () -> "loaded again")));
+        }
+        awaitCoalesced(WAITERS);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("located");
+        for (final Future<String> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("located");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(flights.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldShareTheFailureOfALoadWithTheCallersWaitingOnIt() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("Mapit is down");
+        executor.submit(() -> flights.load(KEY, () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitInFlight();
+        final Future<String> waiter = executor.submit(() -> flights.load(KEY, () -> "loaded again"));
+        awaitCoalesced(1);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    void shouldLoadAgainOnceALoadHasFinished() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        flights.load(KEY, () -> "first " + loads.incrementAndGet());
+        final String second = flights.load(KEY, () -> "second " + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("second 2");
+        assertThat(flights.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldNotShareLoadsOfDifferentKeys() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Future<String> blocked = executor.submit(() -> flights.load(KEY, () -> {
+            await(release);
+            return "blocked";
+        }));
+        awaitInFlight();
+
+        assertThat(flights.load("OX12RZ", () -> "other")).isEqualTo("other");
+
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo("blocked");
+        assertThat(flights.getCoalescedCount()).isZero();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.getInFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(final long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.dts.fact.changes;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.changes.ChangeSubscriber.FROM_THE_START;
+
+class ChangeFeedTest {
+    private static final LocalDateTime NOON = LocalDateTime.of(2022, 3, 1, 12, 0);
+    private static final Duration OVERLAP = Duration.ofSeconds(30);
+
+    @Test
+    void shouldReturnEveryChangeTheFirstTime() {
+        final ChangeFeed feed = new ChangeFeed(FROM_THE_START, OVERLAP);
+        final List<SearchChange> changes = List.of(change(1L, NOON), change(2L, NOON.plusSeconds(1)));
+
+        assertThat(feed.unseen(changes)).containsExactlyElementsOf(changes);
+    }
+
+    @Test
+    void shouldReadFromAnOverlapBeforeTheLatestChange() {
+        final ChangeFeed feed = new ChangeFeed(FROM_THE_START, OVERLAP);
+
+        feed.unseen(List.of(change(1L, NOON), change(2L, NOON.plusSeconds(40))));
+
+        assertThat(feed.getSince()).isEqualTo(NOON.plusSeconds(10));
+    }
+
+    @Test
+    void shouldSkipChangesAlreadySeenInTheOverlap() {
+        final ChangeFeed feed = new ChangeFeed(FROM_THE_START, OVERLAP);
+        final SearchChange first = change(2L, NOON);
+        feed.unseen(List.of(first));
+        // Change 1 was recorded first but committed after change 2 was read
+        final SearchChange late = change(1L, NOON.minusSeconds(1));
+
+        assertThat(feed.unseen(List.of(late, first))).containsExactly(late);
+    }
+
+    @Test
+    void shouldNotMoveBackwards() {
+        final ChangeFeed feed = new ChangeFeed(NOON, OVERLAP);
+
+        feed.unseen(List.of(change(1L, NOON.plusSeconds(5))));
+
+        assertThat(feed.getSince()).isEqualTo(NOON);
+    }
+
+    private static SearchChange change(final Long id, final LocalDateTime createdAt) {
+        final SearchChange change = new SearchChange("instance", "GENERAL_INFO", 1, "court", null);
+        change.setId(id);
+        change.setCreatedAt(createdAt);
+        return change;
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.dts.fact.changes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+import uk.gov.hmcts.dts.fact.repositories.SearchChangeRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = ChangeOutbox.class)
+public class ChangeOutboxTest {
+    private static final String SLUG = "some-slug";
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @MockBean
+    private SearchChangeRepository searchChangeRepository;
+
+    @Test
+    void shouldRecordACourtChange() {
+        changeOutbox.onCourtChanged(new CourtChangedEvent(1, SLUG, CourtChangeType.POSTCODES));
+
+        final SearchChange change = savedChange();
+        assertThat(change.getInstanceId()).isEqualTo(changeOutbox.getInstanceId());
+        assertThat(change.getChangeType()).isEqualTo("POSTCODES");
+        assertThat(change.getCourtId()).isEqualTo(1);
+        assertThat(change.getSlug()).isEqualTo(SLUG);
+    }
+
+    @Test
+    void shouldRecordALocalAuthorityChange() {
+        changeOutbox.onLocalAuthorityChanged(new LocalAuthorityChangedEvent(100));
+
+        final SearchChange change = savedChange();
+        assertThat(change.getChangeType()).isEqualTo(ChangeOutbox.LOCAL_AUTHORITY);
+        assertThat(change.getReferenceId()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRecordAnAreaOfLawChange() {
+        changeOutbox.onAreaOfLawChanged(new AreaOfLawChangedEvent(200));
+
+        final SearchChange change = savedChange();
+        assertThat(change.getChangeType()).isEqualTo(ChangeOutbox.AREA_OF_LAW);
+        assertThat(change.getReferenceId()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldNotRecordChangesFromOtherInstances() {
+        changeOutbox.onCourtChanged(new CourtChangedEvent(1, SLUG, CourtChangeType.POSTCODES, true));
+        changeOutbox.onLocalAuthorityChanged(new LocalAuthorityChangedEvent(100, true));
+        changeOutbox.onAreaOfLawChanged(new AreaOfLawChangedEvent(200, true));
+
+        verifyNoInteractions(searchChangeRepository);
+    }
+
+    private SearchChange savedChange() {
+        final ArgumentCaptor<SearchChange> captor = ArgumentCaptor.forClass(SearchChange.class);
+        verify(searchChangeRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
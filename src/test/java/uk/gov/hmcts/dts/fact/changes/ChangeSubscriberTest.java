@@ -0,0 +1,134 @@
+package uk.gov.hmcts.dts.fact.changes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.SearchChange;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.repositories.SearchChangeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class ChangeSubscriberTest {
+    private static final String OWN_INSTANCE = "own-instance";
+    private static final String OTHER_INSTANCE = "other-instance";
+    private static final LocalDateTime LATEST = LocalDateTime.of(2022, 3, 1, 12, 0);
+
+    @MockBean
+    private SearchChangeRepository searchChangeRepository;
+
+    @MockBean
+    private ChangeOutbox changeOutbox;
+
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private ApplicationEventPublisher eventPublisher;
+
+    private ChangeSubscriber changeSubscriber;
+
+    @BeforeEach
+    void setUp() {
+        when(changeOutbox.getInstanceId()).thenReturn(OWN_INSTANCE);
+        changeSubscriber = new ChangeSubscriber(mock(DataSourceProperties.class), searchChangeRepository, changeOutbox,
+                                                courtIndexService, eventPublisher, 1000, 24);
+    }
+
+    @Test
+    void shouldOnlyApplyChangesMadeAfterStarting() {
+        when(searchChangeRepository.findFirstByOrderByCreatedAtDesc()).thenReturn(Optional.of(change(1L, OTHER_INSTANCE, "CREATED")));
+
+        changeSubscriber.startFeed();
+        changeSubscriber.applyChanges();
+
+        verify(searchChangeRepository).findByCreatedAtGreaterThanEqualOrderById(LATEST);
+    }
+
+    @Test
+    void shouldPublishChangesFromOtherInstances() {
+        final SearchChange courtChange = change(1L, OTHER_INSTANCE, "POSTCODES");
+        final SearchChange localAuthorityChange = change(2L, OTHER_INSTANCE, ChangeOutbox.LOCAL_AUTHORITY);
+        final SearchChange areaOfLawChange = change(3L, OTHER_INSTANCE, ChangeOutbox.AREA_OF_LAW);
+        when(searchChangeRepository.findByCreatedAtGreaterThanEqualOrderById(ChangeSubscriber.FROM_THE_START))
+            .thenReturn(List.of(courtChange, localAuthorityChange, areaOfLawChange));
+
+        changeSubscriber.startFeed();
+        changeSubscriber.applyChanges();
+
+        final ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues().get(0)).isInstanceOfSatisfying(CourtChangedEvent.class, event -> {
+            assertThat(event.getCourtId()).isEqualTo(10);
+            assertThat(event.getChangeType()).isEqualTo(CourtChangeType.POSTCODES);
+            assertThat(event.isFromOtherInstance()).isTrue();
+        });
+        assertThat(events.getAllValues().get(1)).isInstanceOfSatisfying(
+            LocalAuthorityChangedEvent.class, event -> assertThat(event.getLocalAuthorityId()).isEqualTo(20)
+        );
+        assertThat(events.getAllValues().get(2)).isInstanceOfSatisfying(
+            AreaOfLawChangedEvent.class, event -> assertThat(event.getAreaOfLawId()).isEqualTo(20)
+        );
+    }
+
+    @Test
+    void shouldNotPublishChangesFromThisInstanceOrOfUnknownTypes() {
+        when(searchChangeRepository.findByCreatedAtGreaterThanEqualOrderById(any()))
+            .thenReturn(List.of(change(1L, OWN_INSTANCE, "POSTCODES"), change(2L, OTHER_INSTANCE, "SOMETHING_NEW")));
+
+        changeSubscriber.startFeed();
+        changeSubscriber.applyChanges();
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldNotPublishAChangeTwice() {
+        when(searchChangeRepository.findByCreatedAtGreaterThanEqualOrderById(any()))
+            .thenReturn(List.of(change(1L, OTHER_INSTANCE, "POSTCODES")));
+
+        changeSubscriber.startFeed();
+        changeSubscriber.applyChanges();
+        changeSubscriber.applyChanges();
+
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldRebuildAndDeleteOldChangesWhenReconciling() {
+        when(searchChangeRepository.findFirstByOrderByCreatedAtDesc()).thenReturn(Optional.of(change(1L, OTHER_INSTANCE, "CREATED")));
+        changeSubscriber.startFeed();
+
+        changeSubscriber.reconcile();
+
+        verify(courtIndexService).rebuild();
+        verify(searchChangeRepository).deleteCreatedBefore(LATEST.minusHours(24));
+    }
+
+    private static SearchChange change(final Long id, final String instanceId, final String changeType) {
+        final SearchChange change = new SearchChange(instanceId, changeType, 10, "some-slug", 20);
+        change.setId(id);
+        change.setCreatedAt(LATEST);
+        return change;
+    }
+}
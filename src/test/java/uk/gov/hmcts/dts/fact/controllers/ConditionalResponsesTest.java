@@ -0,0 +1,109 @@
+package uk.gov.hmcts.dts.fact.controllers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forDataVersion;
+import static uk.gov.hmcts.dts.fact.controllers.ConditionalResponses.forValidators;
+
+class ConditionalResponsesTest {
+    private static final String ETAG = "\"abc\"";
+    private static final long LAST_MODIFIED = 1_600_000_000_000L;
+    private static final String BODY = "body";
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/services");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicInteger built = new AtomicInteger();
+
+    @AfterEach
+    void resetLocale() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldBuildTheResponseWithItsValidatorsForANewClient() {
+        final ResponseEntity<String> entity = validate();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(entity.getBody()).isEqualTo(BODY);
+        assertThat(entity.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(LAST_MODIFIED);
+        assertThat(built).hasValue(1);
+    }
+
+    @Test
+    void shouldNotBuildTheResponseForAMatchingETag() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", " + ETAG);
+
+        final ResponseEntity<String> entity = validate();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(entity.getBody()).isNull();
+        assertThat(built).hasValue(0);
+    }
+
+    @Test
+    void shouldNotBuildTheResponseWhenNotModifiedSince() {
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED);
+
+        assertThat(validate().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(built).hasValue(0);
+    }
+
+    @Test
+    void shouldPreferTheETagOverTheModifiedTime() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED);
+
+        assertThat(validate().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(built).hasValue(1);
+    }
+
+    @Test
+    void shouldTagTheDataVersionWithTheLanguage() {
+        LocaleContextHolder.setLocale(new Locale("cy"));
+        final SearchIndexVersion dataVersion = new SearchIndexVersion(1, 3L, new Timestamp(LAST_MODIFIED));
+
+        final ResponseEntity<String> entity = forDataVersion(
+            new ServletWebRequest(request, response), Optional.of(dataVersion), this::build);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v3-cy\"");
+    }
+
+    @Test
+    void shouldAlwaysBuildTheResponseWithoutADataVersion() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+
+        final ResponseEntity<String> entity = forDataVersion(
+            new ServletWebRequest(request, response), Optional.empty(), this::build);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(built).hasValue(1);
+    }
+
+    private ResponseEntity<String> validate() {
+        return forValidators(new ServletWebRequest(request, response), ETAG, LAST_MODIFIED, this::build);
+    }
+
+    private String build() {
+        built.incrementAndGet();
+        return BODY;
+    }
+}
@@ -6,12 +6,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.NestedServletException;
+import uk.gov.hmcts.dts.fact.cache.CourtDocument;
+import uk.gov.hmcts.dts.fact.cache.CourtDocumentCache;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.model.CourtCluster;
+import uk.gov.hmcts.dts.fact.model.CourtLocation;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
+import uk.gov.hmcts.dts.fact.services.CourtMapService;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.CourtSuggestionService;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -20,14 +30,21 @@ import java.util.Arrays;
 import java.util.List;
 
 import static java.nio.file.Files.readAllBytes;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourtWithTypes;
 
 @WebMvcTest(CourtsController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@SuppressWarnings({"PMD.ExcessiveImports", "PMD.TooManyMethods"})
 class CourtsControllerTest {
 
     private static final String URL = "/courts";
@@ -40,6 +57,15 @@ class CourtsControllerTest {
     @MockBean
     private CourtService courtService;
 
+    @MockBean
+    private CourtSuggestionService courtSuggestionService;
+
+    @MockBean
+    private CourtMapService courtMapService;
+
+    @MockBean
+    private CourtDocumentCache courtDocumentCache;
+
     @Test
     void shouldFindCourtBySlugDeprecated() throws Exception {
 
@@ -51,7 +77,7 @@ class CourtsControllerTest {
 
         final String searchSlug = "some-slug";
 
-        when(courtService.getCourtBySlugDeprecated(searchSlug)).thenReturn(court);
+        when(courtDocumentCache.getOldCourt(searchSlug)).thenReturn(new CourtDocument(1, OBJECT_MAPPER.writeValueAsBytes(court), -1));
         mockMvc.perform(get(String.format(URL + "/%s.json", searchSlug)))
             .andExpect(status().isOk())
             .andExpect(content().json(expectJson))
@@ -62,7 +88,7 @@ class CourtsControllerTest {
     void shouldRespondWithNotFoundForFindCourtByNonExistentSlug() throws Exception {
 
         final String searchSlug = "some-slug";
-        when(courtService.getCourtBySlugDeprecated(searchSlug)).thenThrow(new NotFoundException(searchSlug));
+        when(courtDocumentCache.getOldCourt(searchSlug)).thenThrow(new NotFoundException(searchSlug));
 
         mockMvc.perform(get(String.format(URL + "/%s.json", searchSlug)))
             .andExpect(status().isNotFound())
@@ -105,7 +131,7 @@ class CourtsControllerTest {
         final Court court = OBJECT_MAPPER.readValue(path.toFile(), Court.class);
         final String searchSlug = "some-slug";
 
-        when(courtService.getCourtBySlug(searchSlug)).thenReturn(court);
+        when(courtDocumentCache.getCourt(searchSlug)).thenReturn(new CourtDocument(1, OBJECT_MAPPER.writeValueAsBytes(court), -1));
 
         mockMvc.perform(get(String.format(URL + "/%s", searchSlug)))
             .andExpect(status().isOk())
@@ -113,6 +139,27 @@ class CourtsControllerTest {
             .andReturn();
     }
 
+    @Test
+    void shouldAnswerNotModifiedForTheCurrentCourtDocument() throws Exception {
+        final CourtDocument document = new CourtDocument(1, "{\"slug\":\"cached-slug\"}".getBytes(), 1_600_000_000_000L);
+        when(courtDocumentCache.getCourt("cached-slug")).thenReturn(document);
+
+        mockMvc.perform(get(URL + "/cached-slug"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, document.getEtag()))
+            .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Sun, 13 Sep 2020 12:26:40 GMT"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE));
+
+        mockMvc.perform(get(URL + "/cached-slug").header(HttpHeaders.IF_NONE_MATCH, document.getEtag()))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        mockMvc.perform(get(URL + "/cached-slug").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json("{\"slug\":\"cached-slug\"}"));
+    }
+
     @Test
     void shouldFindCourtsByPrefixAndDisplayed() throws Exception {
         final Path path = Paths.get("src/test/resources/courts.json");
@@ -126,4 +173,69 @@ class CourtsControllerTest {
             .andExpect(content().json(expectedJson))
             .andReturn();
     }
+
+    @Test
+    void shouldSuggestCourtsByPrefix() throws Exception {
+        when(courtSuggestionService.getCourtSuggestions("leeds c", 5))
+            .thenReturn(singletonList(new CourtSuggestion("Leeds Combined Court Centre", "leeds-combined-court-centre")));
+
+        mockMvc.perform(get(URL + "/suggest?prefix=leeds c&limit=5"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[{\"name\":\"Leeds Combined Court Centre\",\"slug\":\"leeds-combined-court-centre\"}]"))
+            .andReturn();
+    }
+
+    @Test
+    void shouldSuggestTenCourtsByDefault() throws Exception {
+        when(courtSuggestionService.getCourtSuggestions("le", 10)).thenReturn(emptyList());
+
+        mockMvc.perform(get(URL + "/suggest?prefix=le"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"))
+            .andReturn();
+    }
+
+    @Test
+    void shouldRejectSuggestionLimitsOverTheMaximum() {
+        assertThrows(NestedServletException.class, () -> mockMvc.perform(get(URL + "/suggest?prefix=le&limit=51")));
+        verifyNoInteractions(courtSuggestionService);
+    }
+
+    @Test
+    void shouldFindCourtsInBoxAndWithinDistance() throws Exception {
+        final CourtLocation court = new CourtLocation(
+            indexedCourtWithTypes(1, "Leeds Combined Court Centre", 53.799_5, -1.549_2, singleton("CIVIL"), singleton("COUNTY COURT")),
+            1.26
+        );
+        when(courtMapService.getCourtsInBox(53.7, -1.6, 53.9, -1.5, "Civil", null, 100)).thenReturn(singletonList(court));
+        when(courtMapService.getCourtsWithinDistance(53.8, -1.55, 5.0, null, "County Court", 20)).thenReturn(singletonList(court));
+        final String expectedJson = "[{\"name\":\"Leeds Combined Court Centre\",\"slug\":\"court-1\","
+            + "\"lat\":53.7995,\"lon\":-1.5492,\"distance\":1.3}]";
+
+        mockMvc.perform(get(URL + "/within-box?minLat=53.7&minLon=-1.6&maxLat=53.9&maxLon=-1.5&aol=Civil"))
+            .andExpect(status().isOk())
+            .andExpect(content().json(expectedJson));
+        mockMvc.perform(get(URL + "/within-distance?lat=53.8&lon=-1.55&miles=5&courtType=County Court&limit=20"))
+            .andExpect(status().isOk())
+            .andExpect(content().json(expectedJson));
+    }
+
+    @Test
+    void shouldClusterCourtsInViewport() throws Exception {
+        final List<CourtCluster> clusters = singletonList(new CourtCluster());
+        when(courtMapService.getCourtClusters(6, 50.0, -3.0, 53.0, 1.0)).thenReturn(clusters);
+
+        mockMvc.perform(get(URL + "/clusters?zoom=6&minLat=50&minLon=-3&maxLat=53&maxLon=1"))
+            .andExpect(status().isOk());
+        verify(courtMapService).getCourtClusters(6, 50.0, -3.0, 53.0, 1.0);
+        assertThrows(NestedServletException.class, () -> mockMvc.perform(get(URL + "/clusters?zoom=21&minLat=50&minLon=-3&maxLat=53&maxLon=1")));
+    }
+
+    @Test
+    void shouldRejectMapQueriesOutOfRange() {
+        assertThrows(NestedServletException.class, () -> mockMvc.perform(get(URL + "/within-box?minLat=-91&minLon=0&maxLat=1&maxLon=1")));
+        assertThrows(NestedServletException.class, () -> mockMvc.perform(get(URL + "/within-distance?lat=51&lon=0&miles=1001")));
+        assertThrows(NestedServletException.class, () -> mockMvc.perform(get(URL + "/within-distance?lat=51&lon=0&miles=5&limit=501")));
+        verifyNoInteractions(courtMapService);
+    }
 }
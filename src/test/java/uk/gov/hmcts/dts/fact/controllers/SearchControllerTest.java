@@ -4,24 +4,35 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.util.NestedServletException;
+import uk.gov.hmcts.dts.fact.model.BulkSearchRequest;
+import uk.gov.hmcts.dts.fact.services.BulkSearchService;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.LocationSearchService;
 
 import javax.validation.ConstraintViolationException;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
 @WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@SuppressWarnings("PMD.TooManyMethods")
 class SearchControllerTest {
 
     private static final String BASE_URL = "/search";
@@ -29,6 +40,12 @@ class SearchControllerTest {
     @MockBean
     private CourtService courtService;
 
+    @MockBean
+    private LocationSearchService locationSearchService;
+
+    @MockBean
+    private BulkSearchService bulkSearchService;
+
     @Autowired
     private transient MockMvc mockMvc;
 
@@ -122,4 +139,70 @@ class SearchControllerTest {
         }
         verifyNoInteractions(courtService);
     }
+
+    @Test
+    void shouldSearchCourtsByLocation() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/results/location?lat=51.5&lon=-0.1"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/results/location?lat=51.5&lon=-0.1&aol=Crime"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/results/location/service-area?lat=51.5&lon=-0.1&serviceArea=adoption&localAuthority=Westminster"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/results/location/service-area?lat=51.5&lon=-0.1&serviceArea=childcare-arrangements&postcode=B1 1AA"))
+            .andExpect(status().isOk());
+
+        verify(locationSearchService).getNearestCourtReferencesByLocation(51.5, -0.1, null);
+        verify(locationSearchService).getNearestCourtReferencesByLocation(51.5, -0.1, "Crime");
+        verify(locationSearchService).getNearestCourtsByLocationSearch(51.5, -0.1, "adoption", "Westminster", null);
+        verify(locationSearchService)
+            .getNearestCourtsByLocationAndAreaOfLawSinglePointOfEntry(51.5, -0.1, "childcare-arrangements", "Children", null, "B1 1AA");
+        verifyNoInteractions(courtService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/results/location?lat=51.5",
+        "/results/location?lat=north&lon=-0.1",
+        "/results/location/service-area?lat=51.5&lon=-0.1",
+        "/results/location/service-area?lon=-0.1&serviceArea=adoption"
+    })
+    void shouldReturnBadRequestErrorForIncompleteLocationRequests(final String path) throws Exception {
+        mockMvc.perform(get(BASE_URL + path))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(locationSearchService);
+    }
+
+    @Test
+    void shouldSearchCourtsForManyPostcodesAndServiceAreas() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/results/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[{\"postcode\":\"OX2 6GG\",\"serviceArea\":\"money-claims\"},"
+                                         + "{\"postcode\":\"B1 1AA\",\"serviceArea\":\"childcare-arrangements\"}]"))
+            .andExpect(status().isOk());
+
+        verify(bulkSearchService).search(asList(
+            new BulkSearchRequest("OX2 6GG", "money-claims"),
+            new BulkSearchRequest("B1 1AA", "childcare-arrangements")
+        ));
+        verifyNoInteractions(courtService);
+    }
+
+    @Test
+    void shouldFindCourtsByPostcodeForSeveralServiceAreas() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/results/service-areas?postcode=OX2 6GG&serviceArea=money-claims&serviceArea=divorce"))
+            .andExpect(status().isOk());
+
+        verify(bulkSearchService).searchServiceAreas("OX2 6GG", asList("money-claims", "divorce"));
+        verifyNoInteractions(courtService);
+    }
+
+    @Test
+    void shouldReturnBadRequestErrorForAnInvalidPostcodeForSeveralServiceAreas() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/results/service-areas?postcode=abc123&serviceArea=money-claims"))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().string(containsString("Provided postcode is not valid")));
+
+        verifyNoInteractions(bulkSearchService);
+    }
 }
@@ -5,22 +5,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.Service;
 import uk.gov.hmcts.dts.fact.model.ServiceArea;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.ServiceService;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 
 import static java.nio.file.Files.readAllBytes;
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ServicesController.class)
@@ -36,6 +44,9 @@ class ServicesControllerTest {
     @MockBean
     private ServiceService serviceService;
 
+    @MockBean
+    private DataVersionService dataVersionService;
+
     @Test
     void shouldGetServices() throws Exception {
 
@@ -49,6 +60,26 @@ class ServicesControllerTest {
             .andExpect(content().json(expected));
     }
 
+    @Test
+    void shouldAnswerNotModifiedForTheCurrentDataVersion() throws Exception {
+        when(dataVersionService.getDataVersion())
+            .thenReturn(Optional.of(new SearchIndexVersion(1, 42L, new Timestamp(1_600_000_000_000L))));
+
+        mockMvc.perform(get(URL))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"v42-en\""))
+            .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Sun, 13 Sep 2020 12:26:40 GMT"));
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"v42-en\""))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"v41-en\""))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"v42-en\"").header(HttpHeaders.ACCEPT_LANGUAGE, "cy"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"v42-cy\""));
+        verify(serviceService, times(3)).getAllServices();
+    }
+
     @Test
     void shouldGetAService() throws Exception {
 
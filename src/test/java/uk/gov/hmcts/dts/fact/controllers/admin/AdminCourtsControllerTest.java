@@ -15,6 +15,7 @@ import uk.gov.hmcts.dts.fact.model.admin.Court;
 import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.model.admin.ImageFile;
 import uk.gov.hmcts.dts.fact.model.admin.NewCourt;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminService;
 
 import java.util.Collections;
@@ -33,6 +34,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static uk.gov.hmcts.dts.fact.util.TestHelper.getResourceAsJson;
 
 @SuppressWarnings("PMD.TooManyMethods")
+@MockBean(DataVersionService.class)
 @WebMvcTest(AdminCourtsController.class)
 @AutoConfigureMockMvc(addFilters = false)
 class AdminCourtsControllerTest {
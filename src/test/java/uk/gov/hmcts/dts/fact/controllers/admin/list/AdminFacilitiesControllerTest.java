@@ -12,6 +12,7 @@ import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.FacilityType;
+import uk.gov.hmcts.dts.fact.services.DataVersionService;
 import uk.gov.hmcts.dts.fact.services.admin.list.AdminFacilityService;
 
 import java.util.Arrays;
@@ -23,6 +24,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SuppressWarnings("PMD.TooManyMethods")
+@MockBean(DataVersionService.class)
 @WebMvcTest(AdminFacilitiesController.class)
 @AutoConfigureMockMvc(addFilters = false)
 public class AdminFacilitiesControllerTest {
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CandidateCellCacheTest {
+    private static final String ADOPTION = "ADOPTION";
+    private static final String CRIME = "CRIME";
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldReturnTheSameCourtsAsTheLocationIndex() {
+        final Random random = new Random(3);
+        final List<IndexedCourt> courts = randomCourts(random, 300);
+        final CourtLocationIndex index = new CourtLocationIndex(courts);
+        final CandidateCellCache cache = new CandidateCellCache(index);
+
+        for (int i = 0; i < 300; i++) {
+            // Points close together, so that many searches share a cell
+            final double lat = 51.5 + random.nextDouble() * 0.2;
+            final double lon = -0.2 + random.nextDouble() * 0.2;
+            for (final String areaOfLaw : asList(null, ADOPTION, CRIME)) {
+                assertThat(cache.nearest(lat, lon, 10, areaOfLaw).getCourts()).isEqualTo(index.nearest(lat, lon, 10, areaOfLaw));
+                assertThat(cache.nearest(lat, lon, 3, areaOfLaw).getCourts()).isEqualTo(index.nearest(lat, lon, 3, areaOfLaw));
+            }
+        }
+        assertThat(cache.size()).isLessThan(300);
+    }
+
+    @Test
+    void shouldReportWhetherTheCellWasCached() {
+        final CandidateCellCache cache = new CandidateCellCache(new CourtLocationIndex(courts()));
+
+        assertThat(cache.nearest(51.5, -0.1, 10, null).isCached()).isFalse();
+        assertThat(cache.nearest(51.5001, -0.1001, 10, null).isCached()).isTrue();
+        assertThat(cache.nearest(51.5, -0.1, 10, ADOPTION).isCached()).isFalse();
+        assertThat(cache.nearest(51.5, -0.1, 10, "adoption").isCached()).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnEveryCourtWhenThereAreFewerThanTheDepth() {
+        final CourtLocationIndex index = new CourtLocationIndex(courts());
+        final CandidateCellCache cache = new CandidateCellCache(index);
+
+        assertThat(cache.nearest(51.5, -0.1, 10, null).getCourts()).isEqualTo(index.nearest(51.5, -0.1, 10, null));
+        assertThat(cache.nearest(51.5, -0.1, 10, CRIME).getCourts()).isEqualTo(index.nearest(51.5, -0.1, 10, CRIME));
+        assertThat(cache.nearest(51.5, -0.1, 10, "Unknown").getCourts()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    void shouldDropTheCellsACourtChangeAffects() {
+        final Random random = new Random(5);
+        final List<IndexedCourt> courts = randomCourts(random, 100);
+        final CandidateCellCache cache = new CandidateCellCache(new CourtLocationIndex(courts));
+        cache.nearest(51.5, -0.1, 10, null);
+        cache.nearest(54.5, -3.0, 10, null);
+
+        // Move the court nearest to the first cell next to the second
+        final int movedId = cache.nearest(51.5, -0.1, 1, null).getCourts().get(0).getCourtId();
+        final List<IndexedCourt> updatedCourts = new ArrayList<>(courts);
+        updatedCourts.set(movedId, indexedCourt(movedId, "court-" + movedId, "Court " + movedId, 54.5, -3.0, Set.of(CRIME)));
+        final CourtLocationIndex updatedIndex = new CourtLocationIndex(updatedCourts);
+
+        final CandidateCellCache updated = cache.withCourt(updatedIndex, movedId);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(updated.size()).isZero();
+        assertThat(updated.nearest(51.5, -0.1, 10, null).getCourts()).isEqualTo(updatedIndex.nearest(51.5, -0.1, 10, null));
+        assertThat(updated.nearest(54.5, -3.0, 10, null).getCourts()).isEqualTo(updatedIndex.nearest(54.5, -3.0, 10, null));
+    }
+
+    @Test
+    void shouldKeepTheCellsACourtChangeCannotAffect() {
+        final Random random = new Random(9);
+        final List<IndexedCourt> courts = randomCourts(random, 100);
+        final CandidateCellCache cache = new CandidateCellCache(new CourtLocationIndex(courts));
+        cache.nearest(51.5, -0.1, 10, null);
+        final List<IndexedCourt> updatedCourts = new ArrayList<>(courts);
+        updatedCourts.add(indexedCourt(100, "court-100", "Court 100", 58.0, -6.0, Set.of(CRIME)));
+
+        final CandidateCellCache updated = cache.withCourt(new CourtLocationIndex(updatedCourts), 100);
+
+        assertThat(updated.size()).isEqualTo(1);
+        assertThat(updated.nearest(51.5, -0.1, 10, null).isCached()).isTrue();
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static List<IndexedCourt> randomCourts(final Random random, final int count) {
+        final List<IndexedCourt> courts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            courts.add(indexedCourt(i, "court-" + i, "Court " + i,
+                                    50.0 + random.nextDouble() * 5, -5.0 + random.nextDouble() * 6,
+                                    i % 3 == 0 ? Set.of(ADOPTION) : Set.of(CRIME)));
+        }
+        return courts;
+    }
+
+    private static List<IndexedCourt> courts() {
+        return asList(
+            indexedCourt(1, "unlocated", "Unlocated court", null, null, Set.of(CRIME)),
+            indexedCourt(2, "b", "B court", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(3, "a", "A court", 51.6, -0.1, Set.of(ADOPTION))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+class CourtBoxIndexTest {
+    private static final String CRIME = "CRIME";
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldReturnTheSameCourtsAsABruteForceSearch() {
+        final Random random = new Random(42);
+        final List<IndexedCourt> courts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            courts.add(indexedCourt(i, "court-" + i, "Court " + i,
+                                    50.0 + random.nextDouble() * 5, -5.0 + random.nextDouble() * 6, Set.of(CRIME)));
+        }
+        final CourtBoxIndex index = new CourtBoxIndex(courts);
+
+        for (int i = 0; i < 50; i++) {
+            final double minLat = 49.0 + random.nextDouble() * 7;
+            final double minLon = -6.0 + random.nextDouble() * 8;
+            final double maxLat = minLat + random.nextDouble() * 2;
+            final double maxLon = minLon + random.nextDouble() * 2;
+            final List<Integer> expected = courts.stream()
+                .filter(court -> court.getLat() >= minLat && court.getLat() <= maxLat
+                    && court.getLon() >= minLon && court.getLon() <= maxLon)
+                .map(IndexedCourt::getId)
+                .collect(toList());
+
+            assertThat(ids(index.within(minLat, minLon, maxLat, maxLon))).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldIncludeCourtsOnTheEdgesAndSkipCourtsWithoutCoordinates() {
+        final CourtBoxIndex index = new CourtBoxIndex(asList(
+            indexedCourt(1, "a", "Alpha court", 51.0, -1.0, Set.of(CRIME)),
+            indexedCourt(2, "b", "Bravo court", 52.0, 0.0, Set.of(CRIME)),
+            indexedCourt(3, "c", "Charlie court", 52.000_1, 0.0, Set.of(CRIME)),
+            indexedCourt(4, "d", "Delta court", null, null, Set.of(CRIME))
+        ));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(ids(index.within(51.0, -1.0, 52.0, 0.0))).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.within(52.0, 0.0, 51.0, 1.0)).isEmpty();
+    }
+
+    private static List<Integer> ids(final List<IndexedCourt> courts) {
+        return courts.stream().map(IndexedCourt::getId).collect(toList());
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CourtCatchmentIndexTest {
+    private static final String ADOPTION = "ADOPTION";
+    private static final String DIVORCE = "DIVORCE";
+    private static final String SUFFOLK = "SUFFOLK COUNTY COUNCIL";
+    private static final String ESSEX = "ESSEX COUNTY COUNCIL";
+
+    private static final CourtCatchmentIndex INDEX = new CourtCatchmentIndex(List.of(
+        indexedCourt(1, "court-1", "Court 1", 52.0, 1.0, Set.of(ADOPTION, DIVORCE), false,
+                     Map.of(ADOPTION, Set.of(SUFFOLK, ESSEX), DIVORCE, Set.of(SUFFOLK))),
+        indexedCourt(2, "court-2", "Court 2", 52.0, 1.0, Set.of(ADOPTION, DIVORCE), true,
+                     Map.of(ADOPTION, Set.of(SUFFOLK), DIVORCE, Set.of(ESSEX))),
+        indexedCourt(3, "court-3", "Court 3", 52.0, 1.0, Set.of(DIVORCE), true,
+                     Map.of(DIVORCE, Set.of(SUFFOLK)))
+    ));
+
+    @Test
+    void shouldFindCourtsByAreaOfLawAndLocalAuthorityIgnoringCase() {
+        assertThat(INDEX.findLocalAuthorityCourts("Adoption", "Suffolk County Council")).containsExactlyInAnyOrder(1, 2);
+        assertThat(INDEX.findLocalAuthorityCourts("adoption", "essex county council")).containsExactly(1);
+        assertThat(INDEX.findLocalAuthorityCourts(DIVORCE, SUFFOLK)).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    void shouldFindRegionalCourtsByAreaOfLawAndLocalAuthority() {
+        assertThat(INDEX.findRegionalLocalAuthorityCourts(ADOPTION, SUFFOLK)).containsExactly(2);
+        assertThat(INDEX.findRegionalLocalAuthorityCourts(DIVORCE, SUFFOLK)).containsExactly(3);
+        assertThat(INDEX.findRegionalLocalAuthorityCourts(ADOPTION, ESSEX)).isEmpty();
+    }
+
+    @Test
+    void shouldFindRegionalCourtsByAreaOfLaw() {
+        assertThat(INDEX.findRegionalCourts("Divorce")).containsExactlyInAnyOrder(2, 3);
+        assertThat(INDEX.findRegionalCourts(ADOPTION)).containsExactly(2);
+    }
+
+    @Test
+    void shouldReturnNoCourtsForUnknownAreaOfLawOrLocalAuthority() {
+        assertThat(INDEX.findLocalAuthorityCourts("Unknown", SUFFOLK)).isEmpty();
+        assertThat(INDEX.findLocalAuthorityCourts(ADOPTION, "Unknown")).isEmpty();
+        assertThat(INDEX.findRegionalCourts("Unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.util.Geohash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+@SuppressWarnings("PMD.UseConcurrentHashMap")
+class CourtClusterIndexTest {
+    private static final String ADOPTION = "Adoption";
+    private static final String CRIME = "Crime";
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldReturnTheSameClustersAsABruteForceCount() {
+        final Random random = new Random(42);
+        final List<IndexedCourt> courts = randomCourts(random);
+        final CourtClusterIndex index = new CourtClusterIndex(courts);
+
+        for (int i = 0; i < 30; i++) {
+            final int precision = 1 + random.nextInt(CourtClusterIndex.MAX_PRECISION);
+            final double minLat = 49.0 + random.nextDouble() * 7;
+            final double minLon = -6.0 + random.nextDouble() * 8;
+            final double maxLat = minLat + random.nextDouble() * 2;
+            final double maxLon = minLon + random.nextDouble() * 2;
+
+            assertThat(counts(index.within(precision, minLat, minLon, maxLat, maxLon)))
+                .isEqualTo(bruteForce(courts, precision, minLat, minLon, maxLat, maxLon));
+        }
+    }
+
+    @Test
+    void shouldAggregateCentroidsAndAreasOfLaw() {
+        final CourtClusterIndex index = new CourtClusterIndex(asList(
+            indexedCourt(1, "a", "Alpha court", 51.0, -1.0, Set.of(CRIME, ADOPTION)),
+            indexedCourt(2, "b", "Bravo court", 52.0, -0.5, Set.of(CRIME)),
+            indexedCourt(3, "c", "Charlie court", null, null, Set.of(CRIME))
+        ));
+
+        final List<GeohashCluster> clusters = index.within(1, -90, -180, 90, 180);
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).getCount()).isEqualTo(2);
+        assertThat(clusters.get(0).getLat()).isCloseTo(51.5, within(1e-9));
+        assertThat(clusters.get(0).getLon()).isCloseTo(-0.75, within(1e-9));
+        assertThat(clusters.get(0).getAreasOfLaw()).isEqualTo(Map.of(CRIME, 2, ADOPTION, 1));
+        assertThat(index.size(CourtClusterIndex.MAX_PRECISION)).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldMatchARebuiltIndexAfterCourtsChange() {
+        final Random random = new Random(7);
+        final List<IndexedCourt> courts = randomCourts(random);
+        CourtClusterIndex index = new CourtClusterIndex(courts);
+
+        for (int i = 0; i < 20; i++) {
+            final int position = random.nextInt(courts.size());
+            final IndexedCourt previous = courts.get(position);
+            final IndexedCourt moved = indexedCourt(previous.getId(), previous.getSlug(), previous.getName(),
+                                                    50.0 + random.nextDouble() * 5, -5.0 + random.nextDouble() * 6,
+                                                    Set.of(ADOPTION));
+            courts.set(position, moved);
+            index = index.withCourt(previous, moved);
+        }
+        final IndexedCourt removed = courts.remove(0);
+        index = index.withCourt(removed, null);
+
+        final CourtClusterIndex rebuilt = new CourtClusterIndex(courts);
+        for (int precision = 1; precision <= CourtClusterIndex.MAX_PRECISION; precision++) {
+            assertThat(counts(index.within(precision, -90, -180, 90, 180)))
+                .isEqualTo(counts(rebuilt.within(precision, -90, -180, 90, 180)));
+            assertThat(index.within(precision, -90, -180, 90, 180))
+                .extracting(GeohashCluster::getAreasOfLaw)
+                .isEqualTo(rebuilt.within(precision, -90, -180, 90, 180).stream().map(GeohashCluster::getAreasOfLaw).collect(toList()));
+        }
+    }
+
+    @Test
+    void shouldChoosePrecisionsForZoomLevels() {
+        assertThat(CourtClusterIndex.precisionForZoom(0)).isEqualTo(1);
+        assertThat(CourtClusterIndex.precisionForZoom(5)).isEqualTo(3);
+        assertThat(CourtClusterIndex.precisionForZoom(10)).isEqualTo(5);
+        assertThat(CourtClusterIndex.precisionForZoom(20)).isEqualTo(CourtClusterIndex.MAX_PRECISION);
+        assertThatThrownBy(() -> new CourtClusterIndex(List.of()).within(0, 0, 0, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static List<IndexedCourt> randomCourts(final Random random) {
+        final List<IndexedCourt> courts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            courts.add(indexedCourt(i, "court-" + i, "Court " + i,
+                                    50.0 + random.nextDouble() * 5, -5.0 + random.nextDouble() * 6,
+                                    i % 3 == 0 ? Set.of(ADOPTION) : Set.of(CRIME)));
+        }
+        return courts;
+    }
+
+    private static Map<String, Integer> counts(final List<GeohashCluster> clusters) {
+        final Map<String, Integer> counts = new TreeMap<>();
+        clusters.forEach(cluster -> counts.put(cluster.getGeohash(), cluster.getCount()));
+        return counts;
+    }
+
+    private static Map<String, Integer> bruteForce(final List<IndexedCourt> courts, final int precision, final double minLat,
+                                                   final double minLon, final double maxLat, final double maxLon) {
+        final Map<String, Integer> counts = new TreeMap<>();
+        courts.forEach(court -> {
+            final String geohash = Geohash.encode(court.getLat(), court.getLon(), precision);
+            final double[] cell = Geohash.bounds(geohash);
+            if (cell[0] <= maxLat && cell[2] >= minLat && cell[1] <= maxLon && cell[3] >= minLon) {
+                counts.merge(geohash, 1, Integer::sum);
+            }
+        });
+        return counts;
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CourtFuzzyIndexTest {
+    private static final String LONDON = "London";
+    private static final String HIGH_STREET = "1 High Street";
+    private static final String COURT_1 = "Court 1";
+
+    @Test
+    void shouldMatchCourtNames() {
+        final CourtFuzzyIndex index = new CourtFuzzyIndex(asList(
+            indexedCourt(1, "Manchester Civil Justice Centre", null, emptyList()),
+            indexedCourt(2, "Leeds Combined Court Centre", null, emptyList())
+        ));
+
+        assertThat(index.search("Manchester Civil")).containsExactly(1);
+    }
+
+    @Test
+    void shouldMatchWelshCourtNames() {
+        final CourtFuzzyIndex index = new CourtFuzzyIndex(singletonList(
+            indexedCourt(1, "Cardiff Civil Justice Centre", "Canolfan Cyfiawnder Sifil Caerdydd", emptyList())
+        ));
+
+        assertThat(index.search("Canolfan Cyfiawnder")).containsExactly(1);
+    }
+
+    @Test
+    void shouldMatchAddresses() {
+        final CourtFuzzyIndex index = new CourtFuzzyIndex(asList(
+            indexedCourt(1, COURT_1, null, singletonList(address("Piccadilly Gardens", "Manchester"))),
+            indexedCourt(2, "Court 2", null, singletonList(address("The Headrow", "Leeds")))
+        ));
+
+        assertThat(index.search("Piccadily Gardens")).containsExactly(1);
+    }
+
+    @Test
+    void shouldMatchMisspeltTownNames() {
+        final CourtFuzzyIndex index = new CourtFuzzyIndex(asList(
+            indexedCourt(1, COURT_1, null, singletonList(address(HIGH_STREET, LONDON))),
+            indexedCourt(2, "Court 2", null, singletonList(address(HIGH_STREET, "Londonderry")))
+        ));
+
+        assertThat(index.search("Londn")).containsExactly(1);
+    }
+
+    @Test
+    void shouldOrderGoodNameMatchesThenByTownDifferenceThenByName() {
+        final CourtFuzzyIndex index = new CourtFuzzyIndex(asList(
+            indexedCourt(1, "Zeta Court", null, singletonList(address(HIGH_STREET, "Lindon"))),
+            indexedCourt(2, "Beta Court", null, singletonList(address(HIGH_STREET, LONDON))),
+            indexedCourt(3, "Central London County Court", null, singletonList(address(HIGH_STREET, "Westminster"))),
+            indexedCourt(4, "Alpha Court", null, singletonList(address(HIGH_STREET, LONDON)))
+        ));
+
+        assertThat(index.search(LONDON)).containsExactly(3, 4, 2, 1);
+    }
+
+    @Test
+    void shouldReturnACourtOnceForEachMatchingAddress() {
+        final CourtFuzzyIndex index = new CourtFuzzyIndex(singletonList(
+            indexedCourt(1, COURT_1, null, asList(address(HIGH_STREET, LONDON), address("2 High Street", LONDON)))
+        ));
+
+        assertThat(index.search(LONDON)).containsExactly(1, 1);
+    }
+
+    @Test
+    void shouldReturnNothingWhenNothingMatches() {
+        final List<IndexedCourt> courts = singletonList(indexedCourt(1, COURT_1, null, singletonList(address(HIGH_STREET, LONDON))));
+
+        assertThat(new CourtFuzzyIndex(courts).search("Aberystwyth")).isEmpty();
+    }
+
+    private static IndexedAddress address(final String address, final String townName) {
+        return new IndexedAddress(address, null, townName, null, null);
+    }
+}
@@ -0,0 +1,228 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.AddressType;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
+import uk.gov.hmcts.dts.fact.entity.LocalAuthority;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+import uk.gov.hmcts.dts.fact.entity.ServiceAreaCourt;
+import uk.gov.hmcts.dts.fact.repositories.CourtAddressRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtPostcodeRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.repositories.SearchIndexVersionRepository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = CourtIndexLoader.class)
+@SuppressWarnings("PMD.TooManyMethods")
+public class CourtIndexLoaderTest {
+    private static final String SLUG = "some-slug";
+    private static final String MONEY_CLAIMS = "MONEY CLAIMS";
+    private static final String IPSWICH_OUTCODE = "IP1";
+
+    @Autowired
+    private CourtIndexLoader courtIndexLoader;
+
+    @MockBean
+    private CourtRepository courtRepository;
+
+    @MockBean
+    private CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepository;
+
+    @MockBean
+    private CourtPostcodeRepository courtPostcodeRepository;
+
+    @MockBean
+    private CourtAddressRepository courtAddressRepository;
+
+    @MockBean
+    private CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
+
+    @MockBean
+    private SearchIndexVersionRepository searchIndexVersionRepository;
+
+    @Test
+    void shouldLoadDisplayedCourts() {
+        when(courtRepository.findByDisplayedTrue()).thenReturn(asList(createCourt(1, true), createCourt(2, true)));
+
+        assertThat(courtIndexLoader.loadDisplayedCourts())
+            .extracting(IndexedCourt::getId)
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldLoadLocalAuthorityCatchmentsWithDisplayedCourts() {
+        final Court court1 = createCourt(1, true);
+        final Court court2 = createCourt(2, true);
+        when(courtRepository.findByDisplayedTrue()).thenReturn(asList(court1, court2));
+        when(courtLocalAuthorityAreaOfLawRepository.findAll()).thenReturn(asList(
+            createCatchment(court1, "Suffolk County Council"),
+            createCatchment(court1, "Essex County Council")
+        ));
+
+        final List<IndexedCourt> results = courtIndexLoader.loadDisplayedCourts();
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getLocalAuthoritiesByAreaOfLaw())
+            .isEqualTo(Map.of(MONEY_CLAIMS, Set.of("SUFFOLK COUNTY COUNCIL", "ESSEX COUNTY COUNCIL")));
+        assertThat(results.get(1).getLocalAuthoritiesByAreaOfLaw()).isEmpty();
+    }
+
+    @Test
+    void shouldLoadPostcodeCatchmentsWithDisplayedCourts() {
+        final Court court1 = createCourt(1, true);
+        final Court court2 = createCourt(2, true);
+        when(courtRepository.findByDisplayedTrue()).thenReturn(asList(court1, court2));
+        when(courtPostcodeRepository.findAll()).thenReturn(asList(
+            new CourtPostcode(IPSWICH_OUTCODE, court1),
+            new CourtPostcode("IP12", court2)
+        ));
+
+        final List<IndexedCourt> results = courtIndexLoader.loadDisplayedCourts();
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getPostcodes()).containsExactly(IPSWICH_OUTCODE);
+        assertThat(results.get(1).getPostcodes()).containsExactly("IP12");
+    }
+
+    @Test
+    void shouldLoadSearchedAddressesWithDisplayedCourts() {
+        final Court court = createCourt(1, true);
+        when(courtRepository.findByDisplayedTrue()).thenReturn(singletonList(court));
+        when(courtAddressRepository.findAll()).thenReturn(asList(
+            new CourtAddress(court, new AddressType(5880, "Visit us", null), singletonList("1 High Street"), null, "Ipswich", null, "IP1 2AG"),
+            new CourtAddress(court, new AddressType(5881, "Write to us", null), singletonList("PO Box 1"), null, "Harlow", null, "CM20 9QE")
+        ));
+
+        final List<IndexedCourt> results = courtIndexLoader.loadDisplayedCourts();
+
+        assertThat(results.get(0).getAddresses())
+            .extracting(IndexedAddress::getTownName)
+            .containsExactly("Ipswich");
+        assertThat(results.get(0).getAddresses())
+            .extracting(IndexedAddress::getPostcode)
+            .containsExactly("IP1 2AG");
+    }
+
+    @Test
+    void shouldLoadSinglePointOfEntryAreasOfLawWithDisplayedCourts() {
+        final Court court1 = createCourt(1, true);
+        final Court court2 = createCourt(2, true);
+        final AreaOfLaw children = new AreaOfLaw();
+        children.setName("Children");
+        when(courtRepository.findByDisplayedTrue()).thenReturn(asList(court1, court2));
+        when(courtAreaOfLawSpoeRepository.findAll()).thenReturn(singletonList(new CourtAreaOfLawSpoe(children, court2)));
+
+        final List<IndexedCourt> results = courtIndexLoader.loadDisplayedCourts();
+
+        assertThat(results.get(0).getAreasOfLawSpoe()).isEmpty();
+        assertThat(results.get(1).getAreasOfLawSpoe()).containsExactly("CHILDREN");
+    }
+
+    @Test
+    void shouldLoadCourtCodesWithDisplayedCourts() {
+        final Court court = createCourt(1, true);
+        court.setCciCode(123);
+        court.setMagistrateCode(456);
+        when(courtRepository.findByDisplayedTrue()).thenReturn(singletonList(court));
+
+        final List<IndexedCourt> results = courtIndexLoader.loadDisplayedCourts();
+
+        assertThat(results.get(0).getCourtCodes()).containsExactlyInAnyOrder(123, 456);
+    }
+
+    @Test
+    void shouldLoadACourtById() {
+        final Court courtEntity = createCourt(1, true);
+        final ServiceAreaCourt serviceAreaCourt = new ServiceAreaCourt();
+        serviceAreaCourt.setCatchmentType("regional");
+        courtEntity.setServiceAreaCourts(singletonList(serviceAreaCourt));
+        when(courtRepository.findById(1)).thenReturn(Optional.of(courtEntity));
+        when(courtLocalAuthorityAreaOfLawRepository.findByCourtId(1))
+            .thenReturn(singletonList(createCatchment(courtEntity, "Suffolk County Council")));
+        when(courtPostcodeRepository.findByCourtId(1)).thenReturn(singletonList(new CourtPostcode(IPSWICH_OUTCODE, courtEntity)));
+
+        final Optional<IndexedCourt> result = courtIndexLoader.loadDisplayedCourt(1, SLUG);
+
+        assertThat(result).hasValueSatisfying(court -> {
+            assertThat(court.getId()).isEqualTo(1);
+            assertThat(court.getSlug()).isEqualTo(SLUG);
+            assertThat(court.getLat()).isEqualTo(51.5);
+            assertThat(court.getAreasOfLaw()).containsExactly(MONEY_CLAIMS);
+            assertThat(court.getAreaOfLawNames()).containsExactly("Money claims");
+            assertThat(court.isRegional()).isTrue();
+            assertThat(court.getLocalAuthoritiesByAreaOfLaw()).isEqualTo(Map.of(MONEY_CLAIMS, Set.of("SUFFOLK COUNTY COUNCIL")));
+            assertThat(court.getPostcodes()).containsExactly(IPSWICH_OUTCODE);
+        });
+    }
+
+    @Test
+    void shouldLoadACourtBySlugWhenNoIdIsGiven() {
+        when(courtRepository.findBySlug(SLUG)).thenReturn(Optional.of(createCourt(1, true)));
+
+        assertThat(courtIndexLoader.loadDisplayedCourt(null, SLUG)).isPresent();
+        verify(courtRepository).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldNotLoadACourtThatIsNotDisplayed() {
+        when(courtRepository.findById(1)).thenReturn(Optional.of(createCourt(1, false)));
+
+        assertThat(courtIndexLoader.loadDisplayedCourt(1, SLUG)).isEmpty();
+    }
+
+    private static Court createCourt(final Integer id, final boolean displayed) {
+        final AreaOfLaw areaOfLaw = new AreaOfLaw();
+        areaOfLaw.setName("Money claims");
+        final Court court = new Court();
+        court.setId(id);
+        court.setSlug(SLUG);
+        court.setName("Some court");
+        court.setLat(51.5);
+        court.setLon(-0.1);
+        court.setDisplayed(displayed);
+        court.setAreasOfLaw(singletonList(areaOfLaw));
+        court.setServiceAreaCourts(emptyList());
+        return court;
+    }
+
+    private static CourtLocalAuthorityAreaOfLaw createCatchment(final Court court, final String localAuthority) {
+        return new CourtLocalAuthorityAreaOfLaw(court.getAreasOfLaw().get(0), court, new LocalAuthority(1, localAuthority));
+    }
+
+    @Test
+    void shouldLoadTheIndexVersion() {
+        when(searchIndexVersionRepository.findCurrentById(1)).thenReturn(Optional.of(new SearchIndexVersion(1, 7L, new Timestamp(0))));
+
+        assertThat(courtIndexLoader.loadIndexVersion()).contains(7L);
+    }
+
+    @Test
+    void shouldHaveNoIndexVersionIfTheDatabaseDoesNotKeepOne() {
+        assertThat(courtIndexLoader.loadIndexVersion()).isEmpty();
+    }
+}
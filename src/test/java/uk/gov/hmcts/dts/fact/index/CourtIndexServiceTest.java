@@ -0,0 +1,239 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+@ExtendWith(SpringExtension.class)
+@SuppressWarnings("PMD.TooManyMethods")
+public class CourtIndexServiceTest {
+    private static final String SLUG_1 = "court-1";
+    private static final String DISTRICT = "SW1A";
+    private static final long INDEX_VERSION = 42L;
+    private static final IndexedCourt COURT_1 = indexedCourt(1, SLUG_1, "Court 1", 51.5, -0.1, Set.of("CRIME"));
+    private static final IndexedCourt COURT_2 = indexedCourt(2, "court-2", "Court 2", 52.5, -1.1, Set.of("CRIME"));
+
+    @MockBean
+    private CourtIndexLoader courtIndexLoader;
+
+    @MockBean
+    private CourtIndexStore courtIndexStore;
+
+    private CourtIndexService courtIndexService;
+
+    @BeforeEach
+    void setUp() {
+        courtIndexService = new CourtIndexService(courtIndexLoader, courtIndexStore, true);
+    }
+
+    @Test
+    void shouldHaveNoSnapshotUntilBuilt() {
+        assertThat(courtIndexService.getSnapshot()).isEmpty();
+    }
+
+    @Test
+    void shouldNotBuildIndexesWhenDisabled() {
+        final CourtIndexService disabledService = new CourtIndexService(courtIndexLoader, courtIndexStore, false);
+
+        disabledService.rebuild();
+
+        assertThat(disabledService.getSnapshot()).isEmpty();
+        verifyNoInteractions(courtIndexLoader);
+    }
+
+    @Test
+    void shouldBuildIndexesFromDisplayedCourts() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+
+        courtIndexService.rebuild();
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getCourts()).containsOnlyKeys(1, 2)
+        );
+    }
+
+    @Test
+    void shouldIgnoreChangesBeforeIndexesAreBuilt() {
+        courtIndexService.onCourtChanged(new CourtChangedEvent(1, SLUG_1, CourtChangeType.GENERAL_INFO));
+
+        verifyNoInteractions(courtIndexLoader);
+    }
+
+    @Test
+    void shouldReplaceAChangedCourt() {
+        final IndexedCourt changed = indexedCourt(1, SLUG_1, "Court 1", 53.0, -2.0, Set.of("ADOPTION"));
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+        when(courtIndexLoader.loadDisplayedCourt(1, SLUG_1)).thenReturn(Optional.of(changed));
+        courtIndexService.rebuild();
+
+        courtIndexService.onCourtChanged(new CourtChangedEvent(1, SLUG_1, CourtChangeType.AREAS_OF_LAW));
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getCourts().get(1)).isEqualTo(changed)
+        );
+    }
+
+    @Test
+    void shouldRemoveACourtThatIsNoLongerDisplayed() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+        when(courtIndexLoader.loadDisplayedCourt(1, SLUG_1)).thenReturn(Optional.empty());
+        courtIndexService.rebuild();
+
+        courtIndexService.onCourtChanged(new CourtChangedEvent(1, SLUG_1, CourtChangeType.DELETED));
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getCourts()).containsOnlyKeys(2)
+        );
+    }
+
+    @Test
+    void shouldFindTheCourtBySlugWhenNoIdIsGiven() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+        when(courtIndexLoader.loadDisplayedCourt(null, SLUG_1)).thenReturn(Optional.empty());
+        courtIndexService.rebuild();
+
+        courtIndexService.onCourtChanged(new CourtChangedEvent(null, SLUG_1, CourtChangeType.COORDINATES));
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getCourts()).containsOnlyKeys(2)
+        );
+    }
+
+    @Test
+    void shouldRebuildWhenALocalAuthorityChanges() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2)).thenReturn(asList(COURT_2));
+        courtIndexService.rebuild();
+
+        courtIndexService.onLocalAuthorityChanged(new LocalAuthorityChangedEvent(100));
+
+        verify(courtIndexLoader, times(2)).loadDisplayedCourts();
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getCourts()).containsOnlyKeys(2)
+        );
+    }
+
+    @Test
+    void shouldRebuildWhenAnAreaOfLawChanges() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+        courtIndexService.rebuild();
+
+        courtIndexService.onAreaOfLawChanged(new AreaOfLawChangedEvent(10));
+
+        verify(courtIndexLoader, times(2)).loadDisplayedCourts();
+    }
+
+    @Test
+    void shouldNotRebuildForALocalAuthorityChangeBeforeIndexesAreBuilt() {
+        courtIndexService.onLocalAuthorityChanged(new LocalAuthorityChangedEvent(100));
+
+        verifyNoInteractions(courtIndexLoader);
+    }
+
+    @Test
+    void shouldKeepTheCurrentIndexesIfAChangeCannotBeLoaded() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+        when(courtIndexLoader.loadDisplayedCourt(any(), any())).thenThrow(new IllegalStateException("Database unavailable"));
+        courtIndexService.rebuild();
+        final Optional<CourtIndexSnapshot> before = courtIndexService.getSnapshot();
+
+        courtIndexService.onCourtChanged(new CourtChangedEvent(1, SLUG_1, CourtChangeType.GENERAL_INFO));
+
+        assertThat(courtIndexService.getSnapshot()).isEqualTo(before);
+        verify(courtIndexLoader).loadDisplayedCourt(1, SLUG_1);
+    }
+
+    @Test
+    void shouldAddDistrictsAndKeepThemWhenRebuilt() {
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+        courtIndexService.rebuild();
+
+        courtIndexService.addDistricts(Map.of(DISTRICT, new DistrictCentroid(51.5, -0.1)));
+        courtIndexService.rebuild();
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getDistrictTable().hasDistrict(DISTRICT)).isTrue()
+        );
+    }
+
+    @Test
+    void shouldIgnoreDistrictsBeforeIndexesAreBuilt() {
+        courtIndexService.addDistricts(Map.of(DISTRICT, new DistrictCentroid(51.5, -0.1)));
+
+        assertThat(courtIndexService.getSnapshot()).isEmpty();
+    }
+
+    @Test
+    void shouldBuildIndexesFromAnUpToDateSavedIndex() {
+        when(courtIndexStore.isEnabled()).thenReturn(true);
+        when(courtIndexLoader.loadIndexVersion()).thenReturn(Optional.of(INDEX_VERSION));
+        when(courtIndexStore.read(INDEX_VERSION)).thenReturn(Optional.of(new CourtIndexSnapshot(asList(COURT_1, COURT_2))));
+
+        courtIndexService.rebuild();
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getCourts()).containsOnlyKeys(1, 2)
+        );
+        verify(courtIndexLoader, never()).loadDisplayedCourts();
+        verify(courtIndexStore, never()).write(anyLong(), any());
+    }
+
+    @Test
+    void shouldBuildIndexesFromTheDatabaseAndSaveThemWhenTheSavedIndexIsStale() {
+        when(courtIndexStore.isEnabled()).thenReturn(true);
+        when(courtIndexLoader.loadIndexVersion()).thenReturn(Optional.of(INDEX_VERSION));
+        when(courtIndexStore.read(INDEX_VERSION)).thenReturn(Optional.empty());
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+
+        courtIndexService.rebuild();
+
+        assertThat(courtIndexService.getSnapshot()).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.getCourts()).containsOnlyKeys(1, 2);
+            verify(courtIndexStore).write(INDEX_VERSION, snapshot);
+        });
+    }
+
+    @Test
+    void shouldNotReadTheSavedIndexOnceIndexesAreBuilt() {
+        when(courtIndexStore.isEnabled()).thenReturn(true);
+        when(courtIndexLoader.loadIndexVersion()).thenReturn(Optional.of(INDEX_VERSION));
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2)).thenReturn(asList(COURT_2));
+        courtIndexService.rebuild();
+
+        courtIndexService.onLocalAuthorityChanged(new LocalAuthorityChangedEvent(100));
+
+        verify(courtIndexStore, times(1)).read(INDEX_VERSION);
+        verify(courtIndexStore, times(2)).write(anyLong(), any());
+    }
+
+    @Test
+    void shouldNotUseTheSavedIndexWithoutAChangeCount() {
+        when(courtIndexStore.isEnabled()).thenReturn(true);
+        when(courtIndexLoader.loadDisplayedCourts()).thenReturn(asList(COURT_1, COURT_2));
+
+        courtIndexService.rebuild();
+
+        verify(courtIndexStore, never()).read(anyLong());
+        verify(courtIndexStore, never()).write(anyLong(), any());
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CourtIndexSnapshotTest {
+    private static final Set<String> CRIME = Set.of("CRIME");
+    private static final String DISTRICT = "SW1A";
+    private static final IndexedCourt COURT_1 = indexedCourt(1, "court-1", "Court 1", 51.5, -0.1, CRIME);
+    private static final IndexedCourt COURT_2 = indexedCourt(2, "court-2", "Court 2", 52.5, -1.1, CRIME);
+    private static final IndexedCourt MOVED_COURT_2 = indexedCourt(2, "court-2", "Court 2", 51.5, -0.1, CRIME);
+
+    @Test
+    void shouldBuildIndexesFromCourts() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2));
+
+        assertThat(snapshot.getCourts()).containsOnlyKeys(1, 2);
+        assertThat(snapshot.getLocationIndex().size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReplaceACourtWithoutChangingTheOriginalSnapshot() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2));
+
+        final CourtIndexSnapshot updated = snapshot.withCourt(MOVED_COURT_2);
+
+        assertThat(updated.getCourts().get(2)).isEqualTo(MOVED_COURT_2);
+        assertThat(snapshot.getCourts().get(2)).isEqualTo(COURT_2);
+        assertThat(updated.getLocationIndex().nearest(51.5, -0.1, 1, null)).containsExactly(new CourtDistance(1, 0.0));
+    }
+
+    @Test
+    void shouldRemoveACourt() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2));
+
+        final CourtIndexSnapshot updated = snapshot.withoutCourt(1);
+
+        assertThat(updated.getCourts()).containsOnlyKeys(2);
+        assertThat(updated.getLocationIndex().size()).isEqualTo(1);
+        assertThat(snapshot.getCourts()).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    void shouldUpdateThePostcodeIndexWhenACourtChanges() {
+        final IndexedCourt court = indexedCourt(1, "court-1", "Court 1", 51.5, -0.1, CRIME, Set.of("IP1"));
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(court, COURT_2));
+        final IndexedCourt updatedCourt = indexedCourt(1, "court-1", "Court 1", 51.5, -0.1, CRIME, Set.of("CB1"));
+
+        final CourtIndexSnapshot updated = snapshot.withCourt(updatedCourt);
+
+        assertThat(snapshot.getPostcodeIndex().findCatchmentCourts("IP1 2AG", id -> true)).containsExactly(1);
+        assertThat(updated.getPostcodeIndex().findCatchmentCourts("IP1 2AG", id -> true)).isEmpty();
+        assertThat(updated.getPostcodeIndex().findCatchmentCourts("CB1 1AA", id -> true)).containsExactly(1);
+        assertThat(updated.withoutCourt(1).getPostcodeIndex().findCatchmentCourts("CB1 1AA", id -> true)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnTheSameSnapshotWhenRemovingAnUnknownCourt() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1));
+
+        assertThat(snapshot.withoutCourt(3)).isSameAs(snapshot);
+    }
+
+    @Test
+    void shouldAddDistrictsKeepingTheOtherIndexes() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2));
+
+        final CourtIndexSnapshot updated = snapshot.withDistricts(Map.of(DISTRICT, new DistrictCentroid(51.5, -0.1)));
+
+        assertThat(snapshot.getDistrictTable().size()).isZero();
+        assertThat(updated.getDistrictTable().hasDistrict(DISTRICT)).isTrue();
+        assertThat(updated.getLocationIndex()).isSameAs(snapshot.getLocationIndex());
+        assertThat(updated.getCourts()).isSameAs(snapshot.getCourts());
+        assertThat(updated.getCellCache()).isSameAs(snapshot.getCellCache());
+    }
+
+    @Test
+    void shouldRerankDistrictsWhenACourtChanges() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2), Map.of(DISTRICT, new DistrictCentroid(51.5, -0.1)));
+
+        final CourtIndexSnapshot updated = snapshot.withCourt(MOVED_COURT_2);
+
+        assertThat(updated.getDistrictTable().nearest(DISTRICT, 51.5, -0.1, 2, null))
+            .hasValue(updated.getLocationIndex().nearest(51.5, -0.1, 2, null));
+        assertThat(updated.withoutCourt(2).getDistrictTable().nearest(DISTRICT, 51.5, -0.1, 2, null))
+            .hasValue(singletonList(new CourtDistance(1, 0.0)));
+    }
+
+    @Test
+    void shouldDropTheCachedCellsAffectedByACourtChange() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2));
+        snapshot.getCellCache().nearest(51.5, -0.1, 10, null);
+
+        final CourtIndexSnapshot updated = snapshot.withCourt(MOVED_COURT_2);
+
+        assertThat(snapshot.getCellCache().size()).isEqualTo(1);
+        assertThat(updated.getCellCache().size()).isZero();
+        assertThat(updated.getCellCache().nearest(51.5, -0.1, 10, null).getCourts())
+            .isEqualTo(updated.getLocationIndex().nearest(51.5, -0.1, 10, null));
+    }
+
+    @Test
+    void shouldMoveACourtBetweenClustersWhenItChanges() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(COURT_1, COURT_2));
+
+        final CourtIndexSnapshot moved = snapshot.withCourt(MOVED_COURT_2);
+        final CourtIndexSnapshot removed = moved.withoutCourt(1);
+
+        assertThat(snapshot.getClusterIndex().size(CourtClusterIndex.MAX_PRECISION)).isEqualTo(2);
+        assertThat(moved.getClusterIndex().within(CourtClusterIndex.MAX_PRECISION, 51.4, -0.2, 51.6, 0.0))
+            .extracting(GeohashCluster::getCount)
+            .containsExactly(2);
+        assertThat(removed.getClusterIndex().within(CourtClusterIndex.MAX_PRECISION, 51.4, -0.2, 51.6, 0.0))
+            .extracting(GeohashCluster::getCount)
+            .containsExactly(1);
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+class CourtIndexStoreTest {
+    private static final long INDEX_VERSION = 12L;
+    private static final String DISTRICT = "IP1";
+    private static final IndexedCourt FULL_COURT = new IndexedCourt(
+        1, "ipswich-court", "Ipswich Court", "Llys Ipswich", 52.05, 1.15, Set.of("CRIME", "MONEY CLAIMS"), true,
+        Map.of("MONEY CLAIMS", Set.of("SUFFOLK COUNTY COUNCIL")), Set.of("IP1", "IP2 3"),
+        List.of(new IndexedAddress("1 Russell Road", null, "Ipswich", "Ipswich", "IP1 2AG")),
+        Set.of(101, 202), Set.of("COUNTY COURT"), Set.of("ADOPTION"), Set.of("Crime", "Money claims")
+    );
+    private static final IndexedCourt BARE_COURT = indexedCourt(2, null, "Court with no coordinates", null, null, Set.of());
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private CourtIndexStore store;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("search-index.bin");
+        store = new CourtIndexStore(file.toString());
+    }
+
+    @Test
+    void shouldReadBackTheSavedCourtsAndDistricts() {
+        store.write(INDEX_VERSION, new CourtIndexSnapshot(asList(FULL_COURT, BARE_COURT), Map.of(DISTRICT, new DistrictCentroid(52.06, 1.16))));
+
+        final Optional<CourtIndexSnapshot> saved = store.read(INDEX_VERSION);
+
+        assertThat(saved).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.getCourts()).containsOnlyKeys(1, 2);
+            assertThat(snapshot.getCourts().get(1)).usingRecursiveComparison().isEqualTo(FULL_COURT);
+            assertThat(snapshot.getCourts().get(2)).usingRecursiveComparison().isEqualTo(BARE_COURT);
+            assertThat(snapshot.getDistrictTable().getCentroids()).containsEntry(DISTRICT, new DistrictCentroid(52.06, 1.16));
+            assertThat(snapshot.getLocationIndex().nearest(52.0, 1.1, 1, null)).extracting(CourtDistance::getCourtId).containsExactly(1);
+        });
+    }
+
+    @Test
+    void shouldNotReadAStaleIndex() {
+        store.write(INDEX_VERSION, new CourtIndexSnapshot(asList(FULL_COURT)));
+
+        assertThat(store.read(INDEX_VERSION + 1)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReadAMissingFile() {
+        assertThat(store.read(INDEX_VERSION)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReadAFileInAnotherFormat() throws IOException {
+        Files.write(file, ByteBuffer.allocate(16)
+            .putInt(CourtIndexFileWriter.MAGIC)
+            .putInt(CourtIndexFileWriter.FORMAT_VERSION + 1)
+            .putLong(INDEX_VERSION)
+            .array());
+
+        assertThat(store.read(INDEX_VERSION)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReadATruncatedFile() throws IOException {
+        store.write(INDEX_VERSION, new CourtIndexSnapshot(asList(FULL_COURT)));
+        final byte[] saved = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(saved, saved.length - 10));
+
+        assertThat(store.read(INDEX_VERSION)).isEmpty();
+    }
+
+    @Test
+    void shouldDoNothingWhenNoFileIsConfigured() {
+        final CourtIndexStore disabledStore = new CourtIndexStore("");
+
+        disabledStore.write(INDEX_VERSION, new CourtIndexSnapshot(asList(FULL_COURT)));
+
+        assertThat(disabledStore.isEnabled()).isFalse();
+        assertThat(disabledStore.read(INDEX_VERSION)).isEmpty();
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+import static uk.gov.hmcts.dts.fact.util.EarthDistance.distanceInMiles;
+
+public class CourtLocationIndexTest {
+    private static final String ADOPTION = "ADOPTION";
+    private static final String CRIME = "CRIME";
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldReturnTheSameCourtsAsABruteForceSearch() {
+        final Random random = new Random(42);
+        final List<IndexedCourt> courts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            courts.add(indexedCourt(i, "court-" + i, "Court " + i,
+                                        50.0 + random.nextDouble() * 5, -5.0 + random.nextDouble() * 6,
+                                        i % 3 == 0 ? Set.of(ADOPTION) : Set.of(CRIME)));
+        }
+        final CourtLocationIndex index = new CourtLocationIndex(courts);
+
+        for (int i = 0; i < 50; i++) {
+            final double lat = 49.0 + random.nextDouble() * 7;
+            final double lon = -6.0 + random.nextDouble() * 8;
+            assertThat(ids(index.nearest(lat, lon, 10, null))).isEqualTo(bruteForce(courts, lat, lon, null));
+            assertThat(ids(index.nearest(lat, lon, 10, "adoption"))).isEqualTo(bruteForce(courts, lat, lon, ADOPTION));
+        }
+    }
+
+    @Test
+    void shouldOrderCourtsTheSameDistanceAwayByName() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "c", "Charlie court", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(2, "a", "Alpha court", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(3, "b", "Bravo court", 51.5, -0.1, Set.of(CRIME))
+        ));
+
+        assertThat(ids(index.nearest(51.6, -0.1, 10, null))).containsExactly(2, 3, 1);
+    }
+
+    @Test
+    void shouldReturnDistancesInMiles() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "london", "London court", 51.5074, -0.1278, Set.of(CRIME))
+        ));
+
+        assertThat(index.nearest(53.4808, -2.2426, 10, null))
+            .containsExactly(new CourtDistance(1, distanceInMiles(51.5074, -0.1278, 53.4808, -2.2426)));
+    }
+
+    @Test
+    void shouldPutCourtsWithoutCoordinatesLast() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "b", "B court", null, null, Set.of(CRIME)),
+            indexedCourt(2, "a", "A court", null, null, Set.of(ADOPTION)),
+            indexedCourt(3, "z", "Z court", 51.5, -0.1, Set.of(CRIME))
+        ));
+
+        assertThat(index.nearest(51.5, -0.1, 10, null))
+            .containsExactly(new CourtDistance(3, 0.0), new CourtDistance(2, null), new CourtDistance(1, null));
+        assertThat(ids(index.nearest(51.5, -0.1, 10, CRIME))).containsExactly(3, 1);
+        assertThat(ids(index.nearest(51.5, -0.1, 2, null))).containsExactly(3, 2);
+    }
+
+    @Test
+    void shouldReturnNoCourtsForAnUnknownAreaOfLaw() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "a", "A court", 51.5, -0.1, Set.of(CRIME))
+        ));
+
+        assertThat(index.nearest(51.5, -0.1, 10, "Unknown")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRankCandidatesByDistanceThenName() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "far", "Far court", 53.5, -2.2, Set.of(CRIME)),
+            indexedCourt(2, "b", "B court", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(3, "a", "A court", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(4, "unlocated", "Unlocated court", null, null, Set.of(CRIME)),
+            indexedCourt(5, "other", "Other court", 51.5, -0.1, Set.of(CRIME))
+        ));
+
+        assertThat(ids(index.rank(Set.of(1, 2, 3, 4), 51.5, -0.1, 10))).containsExactly(3, 2, 1, 4);
+        assertThat(ids(index.rank(Set.of(1, 2, 3, 4), 51.5, -0.1, 1))).containsExactly(3);
+        assertThat(ids(index.rank(Set.of(1, 99), 51.5, -0.1, 10))).containsExactly(1);
+        assertThat(index.rank(Set.of(), 51.5, -0.1, 10)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldFindTheSameCourtsWithinADistanceAsABruteForceSearch() {
+        final Random random = new Random(11);
+        final List<IndexedCourt> courts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            courts.add(indexedCourt(i, "court-" + i, "Court " + i,
+                                    50.0 + random.nextDouble() * 5, -5.0 + random.nextDouble() * 6,
+                                    i % 3 == 0 ? Set.of(ADOPTION) : Set.of(CRIME)));
+        }
+        final CourtLocationIndex index = new CourtLocationIndex(courts);
+
+        for (int i = 0; i < 30; i++) {
+            final double lat = 50.0 + random.nextDouble() * 5;
+            final double lon = -5.0 + random.nextDouble() * 6;
+            final double miles = random.nextDouble() * 60;
+            assertThat(ids(index.within(lat, lon, miles, null))).isEqualTo(bruteForceWithin(courts, lat, lon, miles, null));
+            assertThat(ids(index.within(lat, lon, miles, "adoption")))
+                .isEqualTo(bruteForceWithin(courts, lat, lon, miles, ADOPTION));
+        }
+    }
+
+    @Test
+    void shouldOnlyFindLocatedCourtsWithinADistanceButListEveryCourtWithAnAreaOfLaw() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "unlocated", "Unlocated court", null, null, Set.of(CRIME)),
+            indexedCourt(2, "bravo", "Bravo court", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(3, "alpha", "Alpha court", 51.5, -0.1, Set.of(ADOPTION))
+        ));
+
+        assertThat(ids(index.within(51.5, -0.1, 1, null))).containsExactly(3, 2);
+        assertThat(ids(index.within(51.5, -0.1, 1, CRIME))).containsExactly(2);
+        assertThat(index.within(51.5, -0.1, 1, "Unknown")).isEmpty();
+        assertThat(index.within(51.5, -0.1, -1, null)).isEmpty();
+        assertThat(index.courtsWith(null)).containsExactly(3, 2, 1);
+        assertThat(index.courtsWith("crime")).containsExactly(2, 1);
+        assertThat(index.courtsWith("Unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldHandleAnEmptyIndex() {
+        assertThat(new CourtLocationIndex(new ArrayList<>()).nearest(51.5, -0.1, 10, null)).isEmpty();
+    }
+
+    private static List<Integer> ids(final List<CourtDistance> results) {
+        return results.stream().map(CourtDistance::getCourtId).collect(toList());
+    }
+
+    private static List<Integer> bruteForce(final List<IndexedCourt> courts, final double lat, final double lon,
+                                            final String areaOfLaw) {
+        return courts.stream()
+            .filter(court -> areaOfLaw == null || court.getAreasOfLaw().contains(areaOfLaw))
+            .sorted(Comparator.<IndexedCourt>comparingDouble(court -> distanceInMiles(court.getLat(), court.getLon(), lat, lon))
+                        .thenComparing(IndexedCourt::getName))
+            .limit(10)
+            .map(IndexedCourt::getId)
+            .collect(toList());
+    }
+
+    private static List<Integer> bruteForceWithin(final List<IndexedCourt> courts, final double lat, final double lon,
+                                                  final double miles, final String areaOfLaw) {
+        return courts.stream()
+            .filter(court -> areaOfLaw == null || court.getAreasOfLaw().contains(areaOfLaw))
+            .filter(court -> distanceInMiles(court.getLat(), court.getLon(), lat, lon) <= miles)
+            .sorted(Comparator.<IndexedCourt>comparingDouble(court -> distanceInMiles(court.getLat(), court.getLon(), lat, lon))
+                        .thenComparing(IndexedCourt::getName))
+            .map(IndexedCourt::getId)
+            .collect(toList());
+    }
+}
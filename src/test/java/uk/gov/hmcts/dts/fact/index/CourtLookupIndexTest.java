@@ -0,0 +1,87 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourtWithCodes;
+
+public class CourtLookupIndexTest {
+    private static final String HIGH_STREET = "1 High Street";
+    private static final String LONDON = "London";
+
+    @Test
+    void shouldFindCourtsByAnyCourtCodeInNameOrder() {
+        final CourtLookupIndex index = new CourtLookupIndex(asList(
+            indexedCourtWithCodes(1, "Zeta Court", Set.of(123, 456), emptyList()),
+            indexedCourtWithCodes(2, "Alpha Court", Set.of(123), emptyList()),
+            indexedCourtWithCodes(3, "Beta Court", Set.of(789), emptyList())
+        ));
+
+        assertThat(index.findByCourtCode(123)).containsExactly(2, 1);
+        assertThat(index.findByCourtCode(456)).containsExactly(1);
+        assertThat(index.findByCourtCode(999)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnACourtOnceForEachAddress() {
+        final CourtLookupIndex index = new CourtLookupIndex(singletonList(
+            indexedCourtWithCodes(1, "Court", Set.of(123), asList(address(HIGH_STREET, LONDON, "SW1A 1AA"),
+                                                                  address("2 High Street", LONDON, "SW1A 2AA")))
+        ));
+
+        assertThat(index.findByCourtCode(123)).containsExactly(1, 1);
+    }
+
+    @Test
+    void shouldFindCourtsByFullPostcodeIgnoringSpaces() {
+        final CourtLookupIndex index = new CourtLookupIndex(asList(
+            indexedCourtWithCodes(1, "Court 1", emptySet(), singletonList(address(HIGH_STREET, LONDON, "SW1A 1AA"))),
+            indexedCourtWithCodes(2, "Court 2", emptySet(), singletonList(address(HIGH_STREET, LONDON, "SW1A 2AA")))
+        ));
+
+        assertThat(index.findByFullPostcode("sw1a1aa")).containsExactly(1);
+        assertThat(index.findByFullPostcode("SW1A 3AA")).isEmpty();
+    }
+
+    @Test
+    void shouldFindSubstringsIgnoringPunctuationAndCase() {
+        final CourtLookupIndex index = new CourtLookupIndex(asList(
+            indexedCourtWithCodes(1, "St. Albans Crown Court", emptySet(), singletonList(address(HIGH_STREET, "St Albans", "AL1 3JW"))),
+            indexedCourtWithCodes(2, "Luton Court", emptySet(), singletonList(address(HIGH_STREET, "Luton", "LU1 2AA")))
+        ));
+
+        assertThat(index.findByExactMatch("stalbans")).containsExactly(1);
+        assertThat(index.findByExactMatch("LU12")).containsExactly(2);
+        assertThat(index.findByExactMatch("Oxford")).isEmpty();
+    }
+
+    @Test
+    void shouldOrderNameMatchesThenTownMatchesThenAddressMatchesThenByName() {
+        final CourtLookupIndex index = new CourtLookupIndex(asList(
+            indexedCourtWithCodes(1, "Alpha Court", emptySet(), singletonList(address("1 Leeds Road", "Bradford", null))),
+            indexedCourtWithCodes(2, "Zeta Court", emptySet(), singletonList(address(HIGH_STREET, "Leeds", null))),
+            indexedCourtWithCodes(3, "Leeds Combined Court", emptySet(), singletonList(address(HIGH_STREET, "Leeds", null))),
+            indexedCourtWithCodes(4, "Beta Court", emptySet(), singletonList(address(HIGH_STREET, "Leeds", null)))
+        ));
+
+        assertThat(index.findByExactMatch("leeds")).containsExactly(3, 4, 2, 1);
+    }
+
+    @Test
+    void shouldMatchCourtsWithoutAddressesByName() {
+        final CourtLookupIndex index = new CourtLookupIndex(singletonList(indexedCourtWithCodes(1, "Leeds Court", emptySet(), emptyList())));
+
+        assertThat(index.findByExactMatch("leeds")).containsExactly(1);
+        assertThat(index.findByExactMatch("ab")).isEmpty();
+    }
+
+    private static IndexedAddress address(final String address, final String townName, final String postcode) {
+        return new IndexedAddress(address, null, townName, null, postcode);
+    }
+}
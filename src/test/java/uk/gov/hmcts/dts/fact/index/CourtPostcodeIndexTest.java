@@ -0,0 +1,87 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CourtPostcodeIndexTest {
+    private static final Set<String> MONEY_CLAIMS = Set.of("MONEY CLAIMS");
+    private static final String POSTCODE = "IP1 2AG";
+    private static final IndexedCourt FULL_POSTCODE_COURT = indexedCourt(1, "court-1", "Court 1", 52.0, 1.1, MONEY_CLAIMS, Set.of("IP12AG"));
+    private static final IndexedCourt SECTOR_COURT = indexedCourt(2, "court-2", "Court 2", 52.0, 1.1, MONEY_CLAIMS, Set.of("IP12"));
+    private static final IndexedCourt OUTCODE_COURT = indexedCourt(3, "court-3", "Court 3", 52.0, 1.1, MONEY_CLAIMS, Set.of("IP1"));
+    private static final IndexedCourt AREA_COURT = indexedCourt(4, "court-4", "Court 4", 52.0, 1.1, MONEY_CLAIMS, Set.of("IP", "CB"));
+
+    @Test
+    void shouldFindCourtsCoveringTheFullPostcodeFirst() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(FULL_POSTCODE_COURT, SECTOR_COURT, OUTCODE_COURT, AREA_COURT));
+
+        assertThat(index.findCatchmentCourts(POSTCODE, court -> true)).containsExactly(1);
+    }
+
+    @Test
+    void shouldFallBackThroughSectorOutcodeAndArea() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(SECTOR_COURT, OUTCODE_COURT, AREA_COURT));
+
+        assertThat(index.findCatchmentCourts(POSTCODE, court -> true)).containsExactly(2);
+        assertThat(index.findCatchmentCourts(POSTCODE, court -> court != 2)).containsExactly(3);
+        assertThat(index.findCatchmentCourts(POSTCODE, court -> court == 4)).containsExactly(4);
+    }
+
+    @Test
+    void shouldIgnoreSpacesAndCase() {
+        final IndexedCourt court = indexedCourt(5, "court-5", "Court 5", 52.0, 1.1, MONEY_CLAIMS, Set.of("ip1 2ag"));
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(court));
+
+        assertThat(index.findCatchmentCourts("IP12AG", c -> true)).containsExactly(5);
+    }
+
+    @Test
+    void shouldSkipTheKeysAShortPostcodeIsTooShortToHave() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(AREA_COURT));
+
+        assertThat(index.findCatchmentCourts("IP", court -> true)).containsExactly(4);
+        assertThat(index.findCatchmentCourts("E1", court -> true)).isEmpty();
+        assertThat(index.findCatchmentCourts("12", court -> true)).isEmpty();
+    }
+
+    @Test
+    void shouldNotMatchPartialPostcodes() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(SECTOR_COURT));
+
+        assertThat(index.findCatchmentCourts("IP3 9AB", court -> true)).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceTheCatchmentOfACourt() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(OUTCODE_COURT, AREA_COURT));
+        final IndexedCourt moved = indexedCourt(3, "court-3", "Court 3", 52.0, 1.1, MONEY_CLAIMS, Set.of("CB1"));
+
+        final CourtPostcodeIndex updated = index.withCourt(OUTCODE_COURT, moved);
+
+        assertThat(updated.findCatchmentCourts(POSTCODE, court -> true)).containsExactly(4);
+        assertThat(updated.findCatchmentCourts("CB1 1AA", court -> true)).containsExactly(3);
+        assertThat(index.findCatchmentCourts(POSTCODE, court -> true)).containsExactly(3);
+    }
+
+    @Test
+    void shouldRemoveACourt() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(OUTCODE_COURT, AREA_COURT));
+
+        final CourtPostcodeIndex updated = index.withCourt(AREA_COURT, null);
+
+        assertThat(updated.findCatchmentCourts("CB1 1AA", court -> true)).isEmpty();
+        assertThat(updated.findCatchmentCourts(POSTCODE, court -> true)).containsExactly(3);
+    }
+
+    @Test
+    void shouldReturnTheSameIndexWhenThePostcodesAreUnchanged() {
+        final CourtPostcodeIndex index = new CourtPostcodeIndex(asList(OUTCODE_COURT));
+
+        assertThat(index.withCourt(OUTCODE_COURT, OUTCODE_COURT)).isSameAs(index);
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourtWithSpoe;
+
+public class CourtSpoeIndexTest {
+    private static final String CHILDREN = "CHILDREN";
+
+    private static final CourtSpoeIndex INDEX = new CourtSpoeIndex(List.of(
+        indexedCourtWithSpoe(1, Set.of(CHILDREN)),
+        indexedCourtWithSpoe(2, Set.of(CHILDREN, "ADOPTION")),
+        indexedCourtWithSpoe(3, Set.of())
+    ));
+
+    @Test
+    void shouldFindSinglePointOfEntryCourtsByAreaOfLawIgnoringCase() {
+        assertThat(INDEX.findCourts("Children")).containsExactlyInAnyOrder(1, 2);
+        assertThat(INDEX.findCourts("adoption")).containsExactly(2);
+        assertThat(INDEX.findCourts("Divorce")).isEmpty();
+    }
+
+    @Test
+    void shouldCheckWhetherACourtIsASinglePointOfEntry() {
+        assertThat(INDEX.isSinglePointOfEntry(1, "Children")).isTrue();
+        assertThat(INDEX.isSinglePointOfEntry(3, "Children")).isFalse();
+        assertThat(INDEX.isSinglePointOfEntry(1, "Adoption")).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CourtSuggestionIndexTest {
+    private static final String HIGH_STREET = "1 High Street";
+
+    private final CourtSuggestionIndex index = new CourtSuggestionIndex(asList(
+        indexedCourt(1, "Leeds Combined Court Centre", "Canolfan Llys Cyfun Leeds", singletonList(address("Leeds"))),
+        indexedCourt(2, "Bradford Magistrates' Court", null, singletonList(address("Bradford"))),
+        indexedCourt(3, "Wakefield Court", null, asList(address("Wakefield"), address("Leeds"))),
+        indexedCourt(4, "Leeds Magistrates' Court", "Llys Ynadon Leeds", singletonList(address("Leeds"))),
+        indexedCourt(5, "King's Lynn Court", null, emptyList()),
+        indexedCourt(6, "Aberystwyth Justice Centre", "Canolfan Gyfiawnder Aberystwyth", singletonList(address("Aberystwyth")))
+    ));
+
+    @Test
+    void shouldRankNameStartsThenNameWordsThenTownsThenByName() {
+        assertThat(index.suggest("leeds", 10)).containsExactly(1, 4, 3);
+        assertThat(index.suggest("cour", 10)).containsExactly(2, 5, 1, 4, 3);
+    }
+
+    @Test
+    void shouldMatchPrefixesRunningAcrossWords() {
+        assertThat(index.suggest("Leeds Ma", 10)).containsExactly(4);
+        assertThat(index.suggest("leeds   combined", 10)).containsExactly(1);
+    }
+
+    @Test
+    void shouldMatchWelshNames() {
+        assertThat(index.suggest("llys", 10)).containsExactly(4, 1);
+        assertThat(index.suggest("canolfan gyf", 10)).containsExactly(6);
+    }
+
+    @Test
+    void shouldIgnoreCaseAccentsAndPunctuation() {
+        assertThat(index.suggest("KINGS", 10)).containsExactly(5);
+        assertThat(index.suggest("magistrates court", 10)).containsExactly(2, 4);
+        assertThat(index.suggest("âber", 10)).containsExactly(6);
+    }
+
+    @Test
+    void shouldLimitResults() {
+        assertThat(index.suggest("leeds", 2)).containsExactly(1, 4);
+    }
+
+    @Test
+    void shouldReturnNothingForUnmatchedOrEmptyPrefixes() {
+        assertThat(index.suggest("york", 10)).isEmpty();
+        assertThat(index.suggest(" - ", 10)).isEmpty();
+        assertThat(index.suggest("leeds", 0)).isEmpty();
+    }
+
+    @Test
+    void shouldNormaliseText() {
+        final List<String> normalised = asList(
+            CourtSuggestionIndex.normalise("  King’s Lynn  "),
+            CourtSuggestionIndex.normalise("Caernarfon—Justice Centre"),
+            CourtSuggestionIndex.normalise("Llys Ynadon Ŵyr"),
+            CourtSuggestionIndex.normalise("Bishop‘s Stortford")
+        );
+        assertThat(normalised).containsExactly("kings lynn", "caernarfon justice centre", "llys ynadon wyr", "bishops stortford");
+    }
+
+    private static IndexedAddress address(final String townName) {
+        return new IndexedAddress(HIGH_STREET, null, townName, null, null);
+    }
+}
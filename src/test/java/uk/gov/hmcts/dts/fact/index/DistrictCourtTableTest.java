@@ -0,0 +1,135 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class DistrictCourtTableTest {
+    private static final String ADOPTION = "ADOPTION";
+    private static final String CRIME = "CRIME";
+    private static final String DISTRICT = "SW1A";
+    private static final DistrictCentroid CENTROID = new DistrictCentroid(51.5, -0.1);
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidInstantiatingObjectsInLoops"})
+    void shouldOnlyAnswerWithTheSameCourtsAsTheLocationIndex() {
+        final Random random = new Random(7);
+        final List<IndexedCourt> courts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            courts.add(indexedCourt(i, "court-" + i, "Court " + i,
+                                    50.0 + random.nextDouble() * 4, -4.0 + random.nextDouble() * 5,
+                                    i % 3 == 0 ? Set.of(ADOPTION) : Set.of(CRIME)));
+        }
+        final CourtLocationIndex index = new CourtLocationIndex(courts);
+        final DistrictCourtTable table = new DistrictCourtTable(index).withDistricts(Map.of(DISTRICT, CENTROID));
+
+        int answered = 0;
+        for (int i = 0; i < 500; i++) {
+            final double lat = CENTROID.getLat() + (random.nextDouble() - 0.5) * 0.005;
+            final double lon = CENTROID.getLon() + (random.nextDouble() - 0.5) * 0.005;
+            for (final String areaOfLaw : asList(null, ADOPTION, CRIME)) {
+                final Optional<List<CourtDistance>> result = table.nearest(DISTRICT, lat, lon, 10, areaOfLaw);
+                if (result.isPresent()) {
+                    answered++;
+                    assertThat(result.get()).isEqualTo(index.nearest(lat, lon, 10, areaOfLaw));
+                }
+            }
+        }
+        assertThat(answered).isGreaterThan(0);
+    }
+
+    @Test
+    void shouldAnswerAtTheCentroid() {
+        final CourtLocationIndex index = new CourtLocationIndex(courts());
+        final DistrictCourtTable table = new DistrictCourtTable(index).withDistricts(Map.of("sw1a", CENTROID));
+
+        assertThat(table.hasDistrict(DISTRICT)).isTrue();
+        assertThat(table.nearest(DISTRICT, 51.5, -0.1, 2, null)).hasValue(index.nearest(51.5, -0.1, 2, null));
+        assertThat(table.nearest(DISTRICT, 51.5, -0.1, 10, ADOPTION)).hasValue(index.nearest(51.5, -0.1, 10, ADOPTION));
+    }
+
+    @Test
+    void shouldNotAnswerNearABoundaryBetweenCourts() {
+        final DistrictCourtTable table = new DistrictCourtTable(new CourtLocationIndex(courts()))
+            .withDistricts(Map.of(DISTRICT, CENTROID));
+
+        // Half way between courts 1 and 2, which are 0.1 degrees of latitude apart
+        assertThat(table.nearest(DISTRICT, 51.55, -0.1, 2, null)).isEmpty();
+    }
+
+    @Test
+    void shouldNotAnswerForUnknownDistrictsOrLargeLimits() {
+        final DistrictCourtTable table = new DistrictCourtTable(new CourtLocationIndex(courts()))
+            .withDistricts(Map.of(DISTRICT, CENTROID));
+
+        assertThat(table.hasDistrict("IP1")).isFalse();
+        assertThat(table.nearest("IP1", 51.5, -0.1, 2, null)).isEmpty();
+        assertThat(table.nearest(DISTRICT, 51.5, -0.1, 11, null)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNoCourtsForAnAreaOfLawNoCourtHas() {
+        final DistrictCourtTable table = new DistrictCourtTable(new CourtLocationIndex(courts()))
+            .withDistricts(Map.of(DISTRICT, CENTROID));
+
+        assertThat(table.nearest(DISTRICT, 51.5, -0.1, 10, "Probate")).hasValue(List.of());
+    }
+
+    @Test
+    void shouldKeepCourtsAtTheSameCoordinatesInNameOrder() {
+        final CourtLocationIndex index = new CourtLocationIndex(asList(
+            indexedCourt(1, "crown-court", "Crown Court", 51.6, -0.1, Set.of(CRIME)),
+            indexedCourt(2, "county-court", "County Court", 51.6, -0.1, Set.of(CRIME)),
+            indexedCourt(3, "far-court", "Far Court", 53.0, -2.0, Set.of(CRIME))
+        ));
+        final DistrictCourtTable table = new DistrictCourtTable(index).withDistricts(Map.of(DISTRICT, CENTROID));
+
+        assertThat(table.nearest(DISTRICT, 51.51, -0.1, 2, null)).hasValue(index.nearest(51.51, -0.1, 2, null));
+    }
+
+    @Test
+    void shouldRerankDistrictsWhenACourtChanges() {
+        final List<IndexedCourt> courts = new ArrayList<>(courts());
+        final DistrictCourtTable table = new DistrictCourtTable(new CourtLocationIndex(courts))
+            .withDistricts(Map.of(DISTRICT, CENTROID));
+        courts.set(2, indexedCourt(3, "court-3", "Court 3", 51.51, -0.1, Set.of(ADOPTION)));
+        final CourtLocationIndex updatedIndex = new CourtLocationIndex(courts);
+
+        final DistrictCourtTable updated = table.withCourt(updatedIndex, 3);
+
+        assertThat(updated.nearest(DISTRICT, 51.5, -0.1, 2, null)).hasValue(updatedIndex.nearest(51.5, -0.1, 2, null));
+        assertThat(updated.nearest(DISTRICT, 51.5, -0.1, 2, null).get().get(1).getCourtId()).isEqualTo(3);
+        assertThat(updated.getCentroids()).isEqualTo(Map.of(DISTRICT, CENTROID));
+    }
+
+    @Test
+    void shouldRerankDistrictsWhenACourtIsRemoved() {
+        final List<IndexedCourt> courts = new ArrayList<>(courts());
+        final DistrictCourtTable table = new DistrictCourtTable(new CourtLocationIndex(courts))
+            .withDistricts(Map.of(DISTRICT, CENTROID));
+        courts.remove(0);
+        final CourtLocationIndex updatedIndex = new CourtLocationIndex(courts);
+
+        final DistrictCourtTable updated = table.withCourt(updatedIndex, 1);
+
+        assertThat(updated.nearest(DISTRICT, 51.5, -0.1, 2, null)).hasValue(updatedIndex.nearest(51.5, -0.1, 2, null));
+    }
+
+    private static List<IndexedCourt> courts() {
+        return asList(
+            indexedCourt(1, "court-1", "Court 1", 51.5, -0.1, Set.of(CRIME)),
+            indexedCourt(2, "court-2", "Court 2", 51.6, -0.1, Set.of(CRIME, ADOPTION)),
+            indexedCourt(3, "court-3", "Court 3", 52.5, -1.5, Set.of(ADOPTION)),
+            indexedCourt(4, "court-4", "Court 4", null, null, Set.of(CRIME))
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import uk.gov.hmcts.dts.fact.repositories.SearchIndexVersionRepository;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IndexVersionCompactorTest {
+    private final SearchIndexVersionRepository searchIndexVersionRepository = mock(SearchIndexVersionRepository.class);
+    private final IndexVersionCompactor compactor = new IndexVersionCompactor(searchIndexVersionRepository);
+
+    @Test
+    void shouldAddTheRecordedChangesToTheIndexVersion() {
+        compactor.compact();
+
+        verify(searchIndexVersionRepository).addChanges(1);
+    }
+
+    @Test
+    void shouldCarryOnIfTheChangesCannotBeAdded() {
+        when(searchIndexVersionRepository.addChanges(1)).thenThrow(new QueryTimeoutException("Timed out"));
+
+        assertThatCode(compactor::compact).doesNotThrowAnyException();
+    }
+}
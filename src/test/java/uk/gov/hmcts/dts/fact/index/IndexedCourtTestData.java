@@ -0,0 +1,58 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toSet;
+
+public final class IndexedCourtTestData {
+
+    private IndexedCourtTestData() {
+    }
+
+    public static IndexedCourt indexedCourt(final Integer id, final String slug, final String name,
+                                            final Double lat, final Double lon, final Set<String> areasOfLaw) {
+        return indexedCourt(id, slug, name, lat, lon, areasOfLaw, false, emptyMap());
+    }
+
+    public static IndexedCourt indexedCourt(final Integer id, final String slug, final String name,
+                                            final Double lat, final Double lon, final Set<String> areasOfLaw,
+                                            final Set<String> postcodes) {
+        return new IndexedCourt(id, slug, name, null, lat, lon, areasOfLaw, false, emptyMap(), postcodes, emptyList(), emptySet(), emptySet(), emptySet(), areasOfLaw);
+    }
+
+    public static IndexedCourt indexedCourt(final Integer id, final String slug, final String name,
+                                            final Double lat, final Double lon, final Set<String> areasOfLaw,
+                                            final boolean regional, final Map<String, Set<String>> localAuthoritiesByAreaOfLaw) {
+        return new IndexedCourt(id, slug, name, null, lat, lon, areasOfLaw, regional, localAuthoritiesByAreaOfLaw, emptySet(), emptyList(), emptySet(), emptySet(), emptySet(), areasOfLaw);
+    }
+
+    public static IndexedCourt indexedCourt(final Integer id, final String name, final String nameCy,
+                                            final List<IndexedAddress> addresses) {
+        return indexedCourt(id, null, name, nameCy, addresses);
+    }
+
+    public static IndexedCourt indexedCourt(final Integer id, final String slug, final String name, final String nameCy,
+                                            final List<IndexedAddress> addresses) {
+        return new IndexedCourt(id, slug, name, nameCy, null, null, emptySet(), false, emptyMap(), emptySet(), addresses, emptySet(), emptySet(), emptySet(), emptySet());
+    }
+
+    public static IndexedCourt indexedCourtWithCodes(final Integer id, final String name, final Set<Integer> courtCodes,
+                                                     final List<IndexedAddress> addresses) {
+        return new IndexedCourt(id, null, name, null, null, null, emptySet(), false, emptyMap(), emptySet(), addresses, courtCodes, emptySet(), emptySet(), emptySet());
+    }
+
+    public static IndexedCourt indexedCourtWithTypes(final Integer id, final String name, final Double lat, final Double lon,
+                                                     final Set<String> areaOfLawNames, final Set<String> courtTypes) {
+        final Set<String> areasOfLaw = areaOfLawNames.stream().map(IndexedCourt::normalise).collect(toSet());
+        return new IndexedCourt(id, "court-" + id, name, null, lat, lon, areasOfLaw, false, emptyMap(), emptySet(), emptyList(), emptySet(), courtTypes, emptySet(), areaOfLawNames);
+    }
+
+    public static IndexedCourt indexedCourtWithSpoe(final Integer id, final Set<String> areasOfLawSpoe) {
+        return new IndexedCourt(id, "court-" + id, "Court " + id, null, 52.0, 1.0, emptySet(), false, emptyMap(), emptySet(), emptyList(), emptySet(), emptySet(), areasOfLawSpoe, emptySet());
+    }
+}
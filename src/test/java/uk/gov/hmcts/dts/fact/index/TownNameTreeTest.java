@@ -0,0 +1,32 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TownNameTreeTest {
+    private static final String LONDON = "london";
+    private static final String LEEDS = "leeds";
+    private static final TownNameTree TREE = new TownNameTree(List.of(LONDON, LEEDS, "luton", "lincoln", "londonderry"));
+
+    @Test
+    void shouldCalculateLevenshteinDistance() {
+        assertThat(TownNameTree.levenshtein("kitten", "sitting")).isEqualTo(3);
+        assertThat(TownNameTree.levenshtein("", LEEDS)).isEqualTo(5);
+        assertThat(TownNameTree.levenshtein(LEEDS, LEEDS)).isZero();
+    }
+
+    @Test
+    void shouldFindTownsWithinTheRadius() {
+        assertThat(TREE.findWithin("londn", 1)).containsExactly(LONDON);
+        assertThat(TREE.findWithin("lonton", 2)).containsExactlyInAnyOrder(LONDON, "luton");
+    }
+
+    @Test
+    void shouldFindNothingInAnEmptyTree() {
+        assertThat(new TownNameTree(emptyList()).findWithin(LONDON, 2)).isEmpty();
+    }
+}
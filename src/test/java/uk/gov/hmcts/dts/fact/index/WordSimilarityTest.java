@@ -0,0 +1,35 @@
+package uk.gov.hmcts.dts.fact.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WordSimilarityTest {
+
+    @Test
+    void shouldSplitWordsIntoPaddedTrigrams() {
+        assertThat(WordSimilarity.trigrams("Cat, Dog"))
+            .containsExactly("  c", " ca", "cat", "at ", "  d", " do", "dog", "og ");
+    }
+
+    @Test
+    void shouldMatchTheBestExtentOfTheTarget() {
+        // The example from the pg_trgm documentation
+        assertThat(new WordSimilarity("word").similarityTo(WordSimilarity.trigrams("two words"))).isEqualTo(0.8f);
+    }
+
+    @Test
+    void shouldScoreAnExactWordAsOne() {
+        assertThat(new WordSimilarity("Manchester").similarityTo(WordSimilarity.trigrams("Manchester Civil Justice Centre"))).isEqualTo(1f);
+    }
+
+    @Test
+    void shouldScoreUnrelatedWordsAsZero() {
+        assertThat(new WordSimilarity("Leeds").similarityTo(WordSimilarity.trigrams("Manchester"))).isZero();
+    }
+
+    @Test
+    void shouldScoreAQueryWithoutWordsAsZero() {
+        assertThat(new WordSimilarity("!!").similarityTo(WordSimilarity.trigrams("Manchester"))).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundaryTreeTest {
+    private static final int GRID = 30;
+
+    @Test
+    void shouldFindTheOnlyBoundaryAroundAPointAmongMany() {
+        final BoundaryTree tree = new BoundaryTree(squares());
+
+        assertThat(tree.size()).isEqualTo(GRID * GRID);
+        for (int row = 0; row < GRID; row += 7) {
+            for (int column = 0; column < GRID; column += 5) {
+                assertThat(tree.containing(50 + row * 0.1 + 0.05, -5 + column * 0.1 + 0.05))
+                    .extracting(LocalAuthorityBoundary::getName)
+                    .containsExactly(row + "," + column);
+            }
+        }
+    }
+
+    @Test
+    void shouldNotFindABoundaryOutsideTheGrid() {
+        final BoundaryTree tree = new BoundaryTree(squares());
+
+        assertThat(tree.containing(49.95, -4.0)).isEmpty();
+        assertThat(tree.containing(52.0, -5.05)).isEmpty();
+    }
+
+    @Test
+    void shouldFindEveryOverlappingBoundary() {
+        final BoundaryTree tree = new BoundaryTree(List.of(square("County", 50, -2, 52, 0), square("District", 51, -1, 51.5, -0.5)));
+
+        assertThat(tree.containing(51.2, -0.8)).extracting(LocalAuthorityBoundary::getName).containsExactlyInAnyOrder("County", "District");
+        assertThat(tree.containing(50.5, -1.5)).extracting(LocalAuthorityBoundary::getName).containsExactly("County");
+    }
+
+    @Test
+    void shouldFindNothingInAnEmptyTree() {
+        final BoundaryTree tree = new BoundaryTree(List.of());
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.containing(51.0, -1.0)).isEmpty();
+    }
+
+    private static List<LocalAuthorityBoundary> squares() {
+        final List<LocalAuthorityBoundary> boundaries = new ArrayList<>();
+        for (int row = 0; row < GRID; row++) {
+            for (int column = 0; column < GRID; column++) {
+                final double south = 50 + row * 0.1;
+                final double west = -5 + column * 0.1;
+                boundaries.add(square(row + "," + column, south, west, south + 0.1, west + 0.1));
+            }
+        }
+        return boundaries;
+    }
+
+    private static LocalAuthorityBoundary square(final String name, final double south, final double west,
+                                                 final double north, final double east) {
+        return new LocalAuthorityBoundary(name, List.of(new double[] {west, south, east, south, east, north, west, north}));
+    }
+}
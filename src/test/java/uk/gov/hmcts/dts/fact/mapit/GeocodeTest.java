@@ -0,0 +1,47 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.mapit.Geocode.from;
+import static uk.gov.hmcts.dts.fact.mapit.MapitData.forLocation;
+
+class GeocodeTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldKeepTheLocationLocalAuthorityAndPostcode() throws IOException {
+        final MapitData mapitData = OBJECT_MAPPER.readValue(
+            "{\"wgs84_lat\":51.75,\"wgs84_lon\":-1.25,\"postcode\":\"OX1 1RZ\","
+                + "\"shortcuts\":{\"council\":{\"county\":2237,\"district\":2350},\"ward\":{\"county\":1,\"district\":2}},"
+                + "\"areas\":{\"2237\":{\"name\":\"Oxfordshire County Council\"},\"2350\":{\"name\":\"Oxford City Council\"}}}",
+            MapitData.class);
+
+        final MapitData rebuilt = from(mapitData).toMapitData();
+
+        assertThat(rebuilt.getLat()).isEqualTo(51.75);
+        assertThat(rebuilt.getLon()).isEqualTo(-1.25);
+        assertThat(rebuilt.getLocalAuthority()).contains("Oxfordshire County Council");
+        assertThat(rebuilt.getOutcode()).contains("OX1");
+    }
+
+    @Test
+    void shouldKeepALocationWithoutALocalAuthority() {
+        final MapitData rebuilt = from(new MapitData(51.75, -1.25, null, null)).toMapitData();
+
+        assertThat(rebuilt).isEqualTo(new MapitData(51.75, -1.25, null, null));
+        assertThat(rebuilt.getLocalAuthority()).isEmpty();
+    }
+
+    @Test
+    void shouldCompareGeocodesByValue() {
+        final Geocode geocode = from(forLocation(51.75, -1.25, "Oxford City Council", "OX1 1RZ"));
+        final Geocode sameGeocode = from(forLocation(51.75, -1.25, "Oxford City Council", "OX1 1RZ"));
+        final Geocode otherGeocode = from(forLocation(51.75, -1.25, null, "OX1 1RZ"));
+
+        assertThat(geocode).isEqualTo(sameGeocode).isNotEqualTo(otherGeocode);
+    }
+}
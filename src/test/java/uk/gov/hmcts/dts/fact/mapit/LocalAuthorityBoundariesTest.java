@@ -0,0 +1,114 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalAuthorityBoundariesTest {
+    private static final String POLYGON = "Polygon";
+    private static final String OXFORDSHIRE = "Oxfordshire County Council";
+    private static final String GEOJSON = "{\"type\": \"FeatureCollection\", \"features\": ["
+        // A county with a unitary authority in a hole, and a district overlapping it
+        + feature(OXFORDSHIRE, POLYGON,
+                  "[" + square(51.0, -2.0, 52.0, -1.0) + ", " + square(51.4, -1.6, 51.6, -1.4) + "]")
+        + ", " + feature("Hole Borough Council", POLYGON, "[" + square(51.4, -1.6, 51.6, -1.4) + "]")
+        + ", " + feature("Cherwell District Council", POLYGON, "[" + square(51.8, -1.5, 52.0, -1.0) + "]")
+        // An authority in two parts
+        + ", " + feature("Isles Council", "MultiPolygon",
+                         "[[" + square(50.0, -6.0, 50.1, -5.9) + "], [" + square(50.3, -6.0, 50.4, -5.9) + "]]")
+        + ", " + feature("", POLYGON, "[" + square(53.0, -3.0, 54.0, -2.0) + "]")
+        + ", " + feature("Line Council", "LineString", "[[-3.0, 55.0], [-2.0, 56.0]]")
+        + "]}";
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("boundaries.geojson");
+        Files.writeString(file, GEOJSON, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldFindTheLocalAuthorityWhoseBoundaryHoldsAPoint() {
+        final LocalAuthorityBoundaries boundaries = loaded(file.toString());
+
+        assertThat(boundaries.isEnabled()).isTrue();
+        assertThat(boundaries.localAuthorityAt(51.2, -1.8)).contains(OXFORDSHIRE);
+        assertThat(boundaries.localAuthorityAt(51.5, -1.5)).contains("Hole Borough Council");
+    }
+
+    @Test
+    void shouldChooseTheLargestOfOverlappingBoundaries() {
+        assertThat(loaded(file.toString()).localAuthorityAt(51.9, -1.2)).contains(OXFORDSHIRE);
+    }
+
+    @Test
+    void shouldFindEveryPartOfAMultiPolygon() {
+        final LocalAuthorityBoundaries boundaries = loaded(file.toString());
+
+        assertThat(boundaries.localAuthorityAt(50.05, -5.95)).contains("Isles Council");
+        assertThat(boundaries.localAuthorityAt(50.35, -5.95)).contains("Isles Council");
+        assertThat(boundaries.localAuthorityAt(50.2, -5.95)).isEmpty();
+    }
+
+    @Test
+    void shouldSkipFeaturesWithoutANameOrAPolygon() {
+        final LocalAuthorityBoundaries boundaries = loaded(file.toString());
+
+        assertThat(boundaries.localAuthorityAt(53.5, -2.5)).isEmpty();
+        assertThat(boundaries.localAuthorityAt(55.5, -2.5)).isEmpty();
+    }
+
+    @Test
+    void shouldReadTheNameFromTheConfiguredProperty() throws IOException {
+        Files.writeString(file, "{\"features\": [{\"properties\": {\"LAD23NM\": \"Oxford\"}, \"geometry\": "
+            + "{\"type\": \"Polygon\", \"coordinates\": [" + square(51.7, -1.3, 51.8, -1.2) + "]}}]}", StandardCharsets.UTF_8);
+
+        final LocalAuthorityBoundaries boundaries = new LocalAuthorityBoundaries(new ObjectMapper(), file.toString(), "LAD23NM");
+        boundaries.load();
+
+        assertThat(boundaries.localAuthorityAt(51.75, -1.25)).contains("Oxford");
+    }
+
+    @Test
+    void shouldNotFindAnythingInAnUnreadableFile() throws IOException {
+        Files.writeString(file, "not geojson", StandardCharsets.UTF_8);
+
+        assertThat(loaded(file.toString()).localAuthorityAt(51.2, -1.8)).isEmpty();
+    }
+
+    @Test
+    void shouldNotFindAnythingWithoutAFile() {
+        final LocalAuthorityBoundaries boundaries = loaded("");
+
+        assertThat(boundaries.isEnabled()).isFalse();
+        assertThat(boundaries.localAuthorityAt(51.2, -1.8)).isEmpty();
+    }
+
+    private static LocalAuthorityBoundaries loaded(final String file) {
+        final LocalAuthorityBoundaries boundaries = new LocalAuthorityBoundaries(new ObjectMapper(), file, "name");
+        boundaries.load();
+        return boundaries;
+    }
+
+    private static String feature(final String name, final String type, final String coordinates) {
+        return "{\"type\": \"Feature\", \"properties\": {\"name\": \"" + name + "\"}, "
+            + "\"geometry\": {\"type\": \"" + type + "\", \"coordinates\": " + coordinates + "}}";
+    }
+
+    private static String square(final double south, final double west, final double north, final double east) {
+        return String.format("[[%s, %s], [%s, %s], [%s, %s], [%s, %s], [%s, %s]]",
+                             west, south, east, south, east, north, west, north, west, south);
+    }
+}
@@ -39,6 +39,17 @@ class MapitDataTest {
         assertThat(mapitData.hasLatAndLonValues()).isFalse();
     }
 
+    @Test
+    void shouldReturnOutcodeOfPostcode() {
+        assertThat(new MapitData(51.5, -0.1, null, null, "SW1A 1AA").getOutcode()).hasValue("SW1A");
+        assertThat(new MapitData(51.5, -0.1, null, null, "SW1A").getOutcode()).hasValue("SW1A");
+    }
+
+    @Test
+    void shouldReturnOptionalEmptyOutcodeWhenPostcodeNotFound() {
+        assertThat(new MapitData(51.5, -0.1, null, null).getOutcode()).isEmpty();
+        assertThat(new MapitData(51.5, -0.1, null, null, " ").getOutcode()).isEmpty();
+    }
 
     @Test
     void shouldReturnOptionalEmptyWhenShortCutsNotFound() {
@@ -0,0 +1,129 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static uk.gov.hmcts.dts.fact.mapit.Geocode.fromLocation;
+
+class PostcodeGazetteerTest {
+    private static final String HEADER = "postcode,lat,lon,localAuthority";
+    private static final String POSTCODE = "LL57 1DR";
+    private static final String GWYNEDD = "Gwynedd Council";
+    private static final String ROWS = String.join(
+        "\n",
+        HEADER,
+        "LL57 1DR,53.2274,-4.1293,Gwynedd Council",
+        "ll571ds,53.2280,-4.1301,Gwynedd Council",
+        "LL57 2AB,53.2200,-4.1400,Gwynedd Council",
+        "LL58 8AA,53.2600,-4.0900,Isle of Anglesey County Council",
+        "LL59 5AA,53.2300,-4.1700,",
+        "LL60 6AA,,,Gwynedd Council"
+    );
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private Path csv;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("gazetteer.bin");
+        csv = directory.resolve("postcodes.csv");
+        Files.writeString(csv, ROWS, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldLocatePostcodesFromTheGazetteerBuiltFromTheCsvFile() {
+        final PostcodeGazetteer gazetteer = loaded(file.toString(), csv.toString());
+
+        assertThat(gazetteer.isEnabled()).isTrue();
+        assertThat(gazetteer.find("ll57 1dr")).contains(fromLocation(53.2274, -4.1293, GWYNEDD, "LL57 1DR"));
+        assertThat(gazetteer.find("LL571DS")).contains(fromLocation(53.228, -4.1301, GWYNEDD, "LL57 1DS"));
+        assertThat(gazetteer.find("LL58 8AA")).hasValueSatisfying(
+            geocode -> assertThat(geocode.getLocalAuthority()).isEqualTo("Isle of Anglesey County Council"));
+        assertThat(gazetteer.find("LL59 5AA")).hasValueSatisfying(geocode -> assertThat(geocode.getLocalAuthority()).isNull());
+    }
+
+    @Test
+    void shouldLocateSectorsAndDistrictsAtTheCentroidOfTheirPostcodes() {
+        final PostcodeGazetteer gazetteer = loaded(file.toString(), csv.toString());
+
+        assertThat(gazetteer.findPartial(" ll57  1 ")).hasValueSatisfying(sector -> {
+            assertThat(sector.getLat()).isCloseTo(53.2277, within(0.000_001));
+            assertThat(sector.getLon()).isCloseTo(-4.1297, within(0.000_001));
+            assertThat(sector.getLocalAuthority()).isNull();
+            assertThat(sector.getPostcode()).isEqualTo("LL57 1");
+        });
+        assertThat(gazetteer.findPartial("LL57")).hasValueSatisfying(
+            district -> assertThat(district.getLat()).isCloseTo(53.2251, within(0.000_1)));
+    }
+
+    @Test
+    void shouldNotFindPostcodesMissingFromTheGazetteer() {
+        final PostcodeGazetteer gazetteer = loaded(file.toString(), csv.toString());
+
+        assertThat(gazetteer.find("LL57 9ZZ")).isEmpty();
+        assertThat(gazetteer.find("LL60 6AA")).isEmpty();
+        assertThat(gazetteer.find("NOT A POSTCODE")).isEmpty();
+        assertThat(gazetteer.findPartial("LL5")).isEmpty();
+        assertThat(gazetteer.findPartial("LL60")).isEmpty();
+    }
+
+    @Test
+    void shouldReadAnExistingGazetteerWithoutACsvFile() {
+        loaded(file.toString(), csv.toString());
+
+        final PostcodeGazetteer gazetteer = loaded(file.toString(), "");
+
+        assertThat(gazetteer.find(POSTCODE)).isPresent();
+    }
+
+    @Test
+    void shouldRebuildTheGazetteerWhenANewerCsvFileIsDropped() throws IOException {
+        final PostcodeGazetteer gazetteer = loaded(file.toString(), csv.toString());
+        Files.writeString(csv, ROWS + "\nLL61 6AA,53.1900,-4.2500,Isle of Anglesey County Council", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(csv, FileTime.from(Files.getLastModifiedTime(file).toInstant().plus(Duration.ofMinutes(1))));
+
+        gazetteer.load();
+
+        assertThat(gazetteer.find("LL61 6AA")).isPresent();
+        assertThat(gazetteer.find(POSTCODE)).isPresent();
+    }
+
+    @Test
+    void shouldNotFindAnythingInAnUnreadableGazetteer() throws IOException {
+        Files.writeString(file, "not a gazetteer", StandardCharsets.UTF_8);
+
+        final PostcodeGazetteer gazetteer = loaded(file.toString(), "");
+
+        assertThat(gazetteer.isEnabled()).isTrue();
+        assertThat(gazetteer.find(POSTCODE)).isEmpty();
+    }
+
+    @Test
+    void shouldNotFindAnythingWithoutAGazetteerFile() {
+        final PostcodeGazetteer gazetteer = loaded("", csv.toString());
+
+        assertThat(gazetteer.isEnabled()).isFalse();
+        assertThat(gazetteer.find(POSTCODE)).isEmpty();
+        assertThat(gazetteer.findPartial("LL57")).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    private static PostcodeGazetteer loaded(final String file, final String csv) {
+        final PostcodeGazetteer gazetteer = new PostcodeGazetteer(file, csv);
+        gazetteer.load();
+        return gazetteer;
+    }
+}
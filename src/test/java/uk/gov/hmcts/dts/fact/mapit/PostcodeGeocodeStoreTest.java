@@ -0,0 +1,111 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import feign.FeignException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import uk.gov.hmcts.dts.fact.entity.PostcodeGeocode;
+import uk.gov.hmcts.dts.fact.repositories.PostcodeGeocodeRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.mapit.Geocode.fromLocation;
+import static uk.gov.hmcts.dts.fact.mapit.MapitData.forLocation;
+
+class PostcodeGeocodeStoreTest {
+    private static final String POSTCODE = "LL571DR";
+    private static final String LOCAL_AUTHORITY = "Gwynedd Council";
+    private static final String REFRESHED = "LL571AA";
+    private static final String REFRESHED_FORMATTED = "LL57 1AA";
+    private static final String UNKNOWN = "LL571ZZ";
+
+    private final PostcodeGeocodeRepository postcodeGeocodeRepository = mock(PostcodeGeocodeRepository.class);
+    private final MapitClient mapitClient = mock(MapitClient.class);
+    private final PostcodeGeocodeStore postcodeGeocodeStore =
+        new PostcodeGeocodeStore(postcodeGeocodeRepository, mapitClient, 90, 3_600_000, 10, 10);
+
+    @AfterEach
+    void shutdown() {
+        postcodeGeocodeStore.shutdown();
+    }
+
+    @Test
+    void shouldFindAStoredPostcode() {
+        final PostcodeGeocode stored = stored(POSTCODE);
+        when(postcodeGeocodeRepository.findById(POSTCODE)).thenReturn(Optional.of(stored));
+
+        assertThat(postcodeGeocodeStore.find(POSTCODE)).contains(fromLocation(53.2, -4.1, LOCAL_AUTHORITY, "LL57 1DR"));
+    }
+
+    @Test
+    void shouldTreatAnUnreadableStoreAsEmpty() {
+        when(postcodeGeocodeRepository.findById(POSTCODE)).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(postcodeGeocodeStore.find(POSTCODE)).isEmpty();
+    }
+
+    @Test
+    void shouldSaveAPostcodeInTheBackground() {
+        postcodeGeocodeStore.save(POSTCODE, fromLocation(53.2, -4.1, LOCAL_AUTHORITY, "LL57 1DR"));
+
+        verify(postcodeGeocodeRepository, timeout(1000)).upsert(POSTCODE, 53.2, -4.1, LOCAL_AUTHORITY);
+    }
+
+    @Test
+    void shouldRefreshTheOldestPostcodesUntilMapitFails() {
+        final List<PostcodeGeocode> stale =
+            List.of(stored(REFRESHED), stored(UNKNOWN), stored("LL571XX"), stored("LL571BB"), stored("LL571CC"));
+        final FeignException notFound = feignException(404);
+        final FeignException badRequest = feignException(400);
+        final FeignException tooManyRequests = feignException(429);
+        when(postcodeGeocodeRepository.claimFetchedBefore(90 * 24 * 60 * 60, 60 * 60, 10)).thenReturn(stale);
+        when(mapitClient.getMapitData(REFRESHED_FORMATTED)).thenReturn(forLocation(53.21, -4.12, LOCAL_AUTHORITY, REFRESHED_FORMATTED));
+        when(mapitClient.getMapitData("LL57 1ZZ")).thenThrow(notFound);
+        when(mapitClient.getMapitData("LL57 1XX")).thenThrow(badRequest);
+        when(mapitClient.getMapitData("LL57 1BB")).thenThrow(tooManyRequests);
+
+        postcodeGeocodeStore.refresh();
+
+        verify(postcodeGeocodeRepository).upsert(REFRESHED, 53.21, -4.12, LOCAL_AUTHORITY);
+        verify(postcodeGeocodeRepository).deletePostcode(UNKNOWN);
+        verify(postcodeGeocodeRepository).deletePostcode("LL571XX");
+        verify(postcodeGeocodeRepository, never()).deletePostcode("LL571BB");
+        verify(mapitClient, never()).getMapitData("LL57 1CC");
+    }
+
+    @Test
+    void shouldCarryOnRefreshingWhenAPostcodeCannotBeRemoved() {
+        final List<PostcodeGeocode> stale = List.of(stored(UNKNOWN), stored(REFRESHED));
+        final FeignException notFound = feignException(404);
+        when(postcodeGeocodeRepository.claimFetchedBefore(90 * 24 * 60 * 60, 60 * 60, 10)).thenReturn(stale);
+        when(mapitClient.getMapitData("LL57 1ZZ")).thenThrow(notFound);
+        when(postcodeGeocodeRepository.deletePostcode(UNKNOWN)).thenThrow(new QueryTimeoutException("timeout"));
+        when(mapitClient.getMapitData(REFRESHED_FORMATTED)).thenReturn(forLocation(53.21, -4.12, LOCAL_AUTHORITY, REFRESHED_FORMATTED));
+
+        postcodeGeocodeStore.refresh();
+
+        verify(postcodeGeocodeRepository).upsert(REFRESHED, 53.21, -4.12, LOCAL_AUTHORITY);
+    }
+
+    private static FeignException feignException(final int status) {
+        final FeignException exception = mock(FeignException.class);
+        when(exception.status()).thenReturn(status);
+        return exception;
+    }
+
+    private static PostcodeGeocode stored(final String postcode) {
+        final PostcodeGeocode stored = mock(PostcodeGeocode.class);
+        when(stored.getPostcode()).thenReturn(postcode);
+        when(stored.getLat()).thenReturn(53.2);
+        when(stored.getLon()).thenReturn(-4.1);
+        when(stored.getLocalAuthority()).thenReturn(LOCAL_AUTHORITY);
+        return stored;
+    }
+}
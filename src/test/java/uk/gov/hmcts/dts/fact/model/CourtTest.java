@@ -3,6 +3,8 @@ package uk.gov.hmcts.dts.fact.model;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import uk.gov.hmcts.dts.fact.entity.AdditionalLink;
@@ -10,6 +12,7 @@ import uk.gov.hmcts.dts.fact.entity.AddressType;
 import uk.gov.hmcts.dts.fact.entity.ApplicationUpdate;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.Contact;
+import uk.gov.hmcts.dts.fact.entity.ContactType;
 import uk.gov.hmcts.dts.fact.entity.CourtAdditionalLink;
 import uk.gov.hmcts.dts.fact.entity.CourtAddress;
 import uk.gov.hmcts.dts.fact.entity.CourtApplicationUpdate;
@@ -24,22 +27,29 @@ import uk.gov.hmcts.dts.fact.entity.Facility;
 import uk.gov.hmcts.dts.fact.entity.FacilityType;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.OpeningTime;
+import uk.gov.hmcts.dts.fact.entity.OpeningType;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 class CourtTest {
     static uk.gov.hmcts.dts.fact.entity.Court courtEntity;
 
     private static final String VISIT_US_ADDRESS_TYPE_NAME = "Visit us";
     private static final String WRITE_TO_US_ADDRESS_TYPE_NAME = "Write to us";
     private static final String VISIT_OR_CONTACT_US_ADDRESS_TYPE_NAME = "Visit or contact us";
+    private static final String TEST_TYPE_IN_SEARCH_TABLE = "Test type in search table";
+    private static final String TEST_TYPE_IN_ADMIN_TABLE = "Test type in admin table";
 
     @BeforeAll
     static void setUp() {
@@ -244,6 +254,58 @@ class CourtTest {
         assertEquals(WRITE_TO_US_ADDRESS_TYPE_NAME, addresses.get(3).getAddressType());
     }
 
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    private static Stream<Arguments> parametersForTypesTests() {
+        return Stream.of(
+            // Opening type in opening time table only
+            Arguments.of(TEST_TYPE_IN_SEARCH_TABLE, null, TEST_TYPE_IN_SEARCH_TABLE),
+            // Opening type in admin type table only
+            Arguments.of(null, TEST_TYPE_IN_ADMIN_TABLE, TEST_TYPE_IN_ADMIN_TABLE),
+            // Opening type in both opening time and admin type tables
+            Arguments.of(TEST_TYPE_IN_SEARCH_TABLE, TEST_TYPE_IN_ADMIN_TABLE, TEST_TYPE_IN_ADMIN_TABLE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("parametersForTypesTests")
+    void openingTypeInAdminTableShouldTakePrecedence(final String typeInOpeningTimeTable, final String typeInAdminTable, final String expectedType) {
+        final OpeningTime openingTime = new OpeningTime();
+        openingTime.setDescription(typeInOpeningTimeTable);
+        if (typeInAdminTable != null) {
+            openingTime.setAdminType(new OpeningType(1, typeInAdminTable, null));
+        }
+
+        final CourtOpeningTime courtOpeningTime = mock(CourtOpeningTime.class);
+        when(courtOpeningTime.getOpeningTime()).thenReturn(openingTime);
+
+        final uk.gov.hmcts.dts.fact.entity.Court court = mock(uk.gov.hmcts.dts.fact.entity.Court.class);
+        when(court.getCourtOpeningTimes()).thenReturn(singletonList(courtOpeningTime));
+
+        final List<uk.gov.hmcts.dts.fact.model.OpeningTime> openingTimes = new Court(court).getOpeningTimes();
+        assertEquals(1, openingTimes.size());
+        assertEquals(expectedType, openingTimes.get(0).getType());
+    }
+
+    @ParameterizedTest
+    @MethodSource("parametersForTypesTests")
+    void contactInAdminTableShouldTakePrecedence(final String typeInContactTable, final String typeInAdminTable, final String expectedType) {
+        final Contact contact = new Contact();
+        contact.setDescription(typeInContactTable);
+        if (typeInAdminTable != null) {
+            contact.setAdminType(new ContactType(1, typeInAdminTable, null));
+        }
+
+        final CourtContact courtContact = mock(CourtContact.class);
+        when(courtContact.getContact()).thenReturn(contact);
+
+        final uk.gov.hmcts.dts.fact.entity.Court court = mock(uk.gov.hmcts.dts.fact.entity.Court.class);
+        when(court.getCourtContacts()).thenReturn(singletonList(courtContact));
+
+        final List<uk.gov.hmcts.dts.fact.model.Contact> contacts = new Court(court).getContacts();
+        assertEquals(1, contacts.size());
+        assertEquals(expectedType, contacts.get(0).getName());
+    }
+
     private void verifyAdditionalLinks(final List<uk.gov.hmcts.dts.fact.model.AdditionalLink> additionalLinks, final uk.gov.hmcts.dts.fact.entity.Court courtEntity, final boolean welsh) {
         assertEquals(2, additionalLinks.size());
 
@@ -0,0 +1,169 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.IsolatedServiceAreaSearch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.FAILED;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.NO_COURT;
+import static uk.gov.hmcts.dts.fact.routing.RoutingStatus.ROUTED;
+
+class BulkRoutingJobTest {
+    private static final String MONEY_CLAIMS = "money-claims";
+    private static final String OXFORD_POSTCODE = "OX1 1RZ";
+    private static final String INPUT_HEADER = "reference,postcode,serviceArea";
+
+    @TempDir
+    Path directory;
+
+    private final IsolatedServiceAreaSearch isolatedServiceAreaSearch = mock(IsolatedServiceAreaSearch.class);
+    private final ServiceAreaRepository serviceAreaRepository = mock(ServiceAreaRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceArea serviceArea = new ServiceArea();
+    private Path input;
+    private Path output;
+    private Path geocodes;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serviceArea.setSlug(MONEY_CLAIMS);
+        when(serviceAreaRepository.findBySlugIgnoreCase(MONEY_CLAIMS)).thenReturn(Optional.of(serviceArea));
+        final ServiceAreaWithCourtReferencesWithDistance oxford =
+            result("oxford-combined-court-centre", "Oxford Combined Court Centre, Oxford", 1.25);
+        when(isolatedServiceAreaSearch.searchWith(eq(serviceArea), any(MapitData.class), eq(OXFORD_POSTCODE)))
+            .thenReturn(oxford);
+        when(isolatedServiceAreaSearch.searchWith(eq(serviceArea), any(MapitData.class), eq("SW1A 1AA")))
+            .thenReturn(new ServiceAreaWithCourtReferencesWithDistance(serviceArea, emptyList()));
+
+        input = directory.resolve("input.csv");
+        output = directory.resolve("output.csv");
+        geocodes = directory.resolve("geocodes.csv");
+        Files.write(geocodes, List.of(
+            "postcode,lat,lon,localAuthority",
+            "OX11RZ,51.75,-1.25,Oxford City Council",
+            "SW1A 1AA,51.50,-0.14,Westminster City Council",
+            "B1 1AA,52.48,-1.90,"
+        ), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldRouteEachRowInInputOrder() throws IOException {
+        Files.write(input, List.of(
+            INPUT_HEADER,
+            "case-1,ox1 1rz,money-claims",
+            "case-2,SW1A1AA,money-claims",
+            "case-3,ZZ9 9ZZ,money-claims",
+            "case-4,OX1 1RZ,not-a-service-area",
+            "case-5,,money-claims"
+        ), StandardCharsets.UTF_8);
+
+        final RoutingSummary summary = job(2).run(input, output, geocodes);
+
+        assertThat(Files.readAllLines(output, StandardCharsets.UTF_8)).containsExactly(
+            RoutingOutput.HEADER,
+            "case-1,ox1 1rz,money-claims,ROUTED,oxford-combined-court-centre,\"Oxford Combined Court Centre, Oxford\",1.3",
+            "case-2,SW1A1AA,money-claims,NO_COURT,,,",
+            "case-3,ZZ9 9ZZ,money-claims,UNKNOWN_POSTCODE,,,",
+            "case-4,OX1 1RZ,not-a-service-area,UNKNOWN_SERVICE_AREA,,,",
+            "case-5,,money-claims,INVALID_ROW,,,"
+        );
+        assertThat(summary.getRoutedRows()).isEqualTo(5);
+        assertThat(summary.getResumedRows()).isZero();
+        assertThat(summary.getStatuses()).containsEntry(ROUTED, 1L).containsEntry(NO_COURT, 1L);
+        assertThat(meterRegistry.get("routing.job.rows").tag("status", "routed").counter().count()).isEqualTo(1);
+        assertThat(Files.readString(directory.resolve("output.csv.progress"))).startsWith("5 ");
+    }
+
+    @Test
+    void shouldLocatePostcodesFromTheGeocodeFile() throws IOException {
+        Files.write(input, List.of(INPUT_HEADER, "case-1,OX11RZ,money-claims"), StandardCharsets.UTF_8);
+
+        job(10).run(input, output, geocodes);
+
+        verify(isolatedServiceAreaSearch).searchWith(eq(serviceArea), any(MapitData.class), eq(OXFORD_POSTCODE));
+    }
+
+    @Test
+    void shouldCarryOnFromTheLastSavedChunk() throws IOException {
+        Files.write(input, List.of(
+            INPUT_HEADER,
+            "case-1,OX1 1RZ,money-claims",
+            "case-2,OX1 1RZ,money-claims",
+            "case-3,OX1 1RZ,money-claims"
+        ), StandardCharsets.UTF_8);
+        final String routedRow = RoutingOutput.HEADER + "\ncase-1,OX1 1RZ,money-claims,ROUTED,x,x,1\n";
+        Files.writeString(output, routedRow + "case-2,half written", StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("output.csv.progress"), "1 " + routedRow.length(), StandardCharsets.UTF_8);
+
+        final RoutingSummary summary = job(1).run(input, output, geocodes);
+
+        assertThat(summary.getResumedRows()).isEqualTo(1);
+        assertThat(summary.getRoutedRows()).isEqualTo(2);
+        final List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(1)).isEqualTo("case-1,OX1 1RZ,money-claims,ROUTED,x,x,1");
+        assertThat(lines.get(2)).startsWith("case-2,OX1 1RZ,money-claims,ROUTED,oxford-combined-court-centre");
+        verify(isolatedServiceAreaSearch, times(2)).searchWith(eq(serviceArea), any(MapitData.class), anyString());
+    }
+
+    @Test
+    void shouldStartAgainWhenThereIsNoOutput() throws IOException {
+        Files.write(input, List.of(INPUT_HEADER, "case-1,OX1 1RZ,money-claims"), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("output.csv.progress"), "1 100", StandardCharsets.UTF_8);
+
+        final RoutingSummary summary = job(10).run(input, output, geocodes);
+
+        assertThat(summary.getResumedRows()).isZero();
+        assertThat(Files.readAllLines(output, StandardCharsets.UTF_8)).hasSize(2);
+    }
+
+    @Test
+    void shouldReportSearchesThatFail() throws IOException {
+        when(isolatedServiceAreaSearch.searchWith(eq(serviceArea), any(MapitData.class), eq("B1 1AA")))
+            .thenThrow(new IllegalStateException("Database unavailable"));
+        Files.write(input, List.of(INPUT_HEADER, "case-1,B1 1AA,money-claims"), StandardCharsets.UTF_8);
+
+        final RoutingSummary summary = job(10).run(input, output, geocodes);
+
+        assertThat(summary.getStatuses()).containsOnlyKeys(FAILED);
+        assertThat(Files.readAllLines(output, StandardCharsets.UTF_8)).contains("case-1,B1 1AA,money-claims,FAILED,,,");
+    }
+
+    private BulkRoutingJob job(final int chunkSize) {
+        return new BulkRoutingJob(isolatedServiceAreaSearch, serviceAreaRepository, meterRegistry, 2, chunkSize);
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance result(final String slug, final String name, final double distance) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setSlug(slug);
+        court.setName(name);
+        court.setDistance(distance);
+        court.setAreasOfLawSpoe(emptyList());
+        return new ServiceAreaWithCourtReferencesWithDistance(serviceArea, singletonList(new CourtReferenceWithDistance(court)));
+    }
+}
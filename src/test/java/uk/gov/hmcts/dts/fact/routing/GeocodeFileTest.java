@@ -0,0 +1,59 @@
+package uk.gov.hmcts.dts.fact.routing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeocodeFileTest {
+    private static final String HULL = "HU1 1AA";
+    private static final String OXFORD = "OX1 1RZ";
+    private static final String BIRMINGHAM = "B1 1AA";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldOnlyReadTheRequestedPostcodes() throws IOException {
+        final Path file = directory.resolve("geocodes.csv");
+        Files.write(file, List.of(
+            "postcode,lat,lon,localAuthority",
+            "hu1 1aa,53.74,-0.33,Kingston upon Hull, City of",
+            "OX1 1RZ,51.75,-1.25,",
+            "B1 1AA,52.48,-1.90,Birmingham City Council"
+        ), StandardCharsets.UTF_8);
+
+        final Map<String, MapitData> locations = GeocodeFile.read(file, Set.of(HULL, OXFORD));
+
+        assertThat(locations).containsOnlyKeys(HULL, OXFORD);
+        assertThat(locations.get(HULL).getLat()).isEqualTo(53.74);
+        assertThat(locations.get(HULL).getLocalAuthority()).contains("Kingston upon Hull, City of");
+        assertThat(locations.get(OXFORD).getLocalAuthority()).isEmpty();
+    }
+
+    @Test
+    void shouldSkipRowsWithoutALocation() throws IOException {
+        final Path file = directory.resolve("geocodes.csv");
+        Files.write(file, List.of(
+            "postcode,lat,lon,localAuthority",
+            "HU1 1AA,not a latitude,-0.33,Kingston upon Hull, City of",
+            OXFORD,
+            "",
+            "B1 1AA,52.48,-1.90,Birmingham City Council"
+        ), StandardCharsets.UTF_8);
+
+        final Map<String, MapitData> locations = GeocodeFile.read(file, Set.of(HULL, OXFORD, BIRMINGHAM));
+
+        assertThat(locations).containsOnlyKeys(BIRMINGHAM);
+        assertThat(locations.get(BIRMINGHAM).getLon()).isEqualTo(-1.90);
+    }
+}
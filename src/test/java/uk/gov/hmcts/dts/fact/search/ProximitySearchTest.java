@@ -1,39 +1,153 @@
 package uk.gov.hmcts.dts.fact.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.index.CourtDistance;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.services.search.CandidateCellSearch;
+import uk.gov.hmcts.dts.fact.services.search.CourtDistanceResolver;
+import uk.gov.hmcts.dts.fact.services.search.DistrictSearch;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.ShadowSearch;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearchTestData.serveTheIndex;
 
 @ExtendWith(SpringExtension.class)
 public class ProximitySearchTest {
+    private static final String AREA_OF_LAW = "Adoption";
 
     @Mock
     private CourtWithDistanceRepository courtWithDistanceRepository;
 
+    @Mock
+    private CourtIndexService courtIndexService;
+
+    @Mock
+    private CourtDistanceResolver courtDistanceResolver;
+
+    @Mock
+    private DistrictSearch districtSearch;
+
+    @Mock
+    private CandidateCellSearch candidateCellSearch;
+
+    @Mock
+    private ShadowSearch shadowSearch;
+
+    @BeforeEach
+    void setUp() {
+        serveTheIndex(shadowSearch);
+    }
+
     @Test
     void testSearchWithReturnsCourts() {
-        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository);
+        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository, courtIndexService, courtDistanceResolver, districtSearch, candidateCellSearch, shadowSearch);
         final MapitData mapitData = new MapitData();
         mapitData.setLat(10.0);
         mapitData.setLon(10.1);
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.empty());
         when(courtWithDistanceRepository.findNearestTen(10.0, 10.1)).thenReturn(asList(
             mock(CourtWithDistance.class), mock(CourtWithDistance.class)));
         List<CourtWithDistance> cwd = proximitySearch.searchWith(mapitData);
         assertEquals(2, cwd.size());
         assertThat(cwd.get(0)).isInstanceOf(CourtWithDistance.class);
         assertThat(cwd.get(1)).isInstanceOf(CourtWithDistance.class);
+        verifyNoInteractions(courtDistanceResolver);
+    }
+
+    @Test
+    void testSearchWithAreaOfLawUsesDatabaseWhenIndexUnavailable() {
+        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository, courtIndexService, courtDistanceResolver, districtSearch, candidateCellSearch, shadowSearch);
+        final MapitData mapitData = new MapitData();
+        mapitData.setLat(10.0);
+        mapitData.setLon(10.1);
+        final List<CourtWithDistance> courts = asList(mock(CourtWithDistance.class));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.empty());
+        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(10.0, 10.1, AREA_OF_LAW)).thenReturn(courts);
+
+        assertThat(proximitySearch.searchWith(mapitData, AREA_OF_LAW)).isEqualTo(courts);
+        verifyNoInteractions(courtDistanceResolver);
+    }
+
+    @Test
+    void testSearchWithAreaOfLawUsesIndexWhenAvailable() {
+        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository, courtIndexService, courtDistanceResolver, districtSearch, candidateCellSearch, shadowSearch);
+        final MapitData mapitData = new MapitData();
+        mapitData.setLat(51.5);
+        mapitData.setLon(-0.1);
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(
+            indexedCourt(1, "near-court", "Near court", 51.5, -0.1, Set.of("ADOPTION")),
+            indexedCourt(2, "far-court", "Far court", 53.5, -2.2, Set.of("ADOPTION")),
+            indexedCourt(3, "other-court", "Other court", 51.5, -0.1, Set.of("CRIME"))
+        ));
+        final List<CourtWithDistance> courts = asList(mock(CourtWithDistance.class), mock(CourtWithDistance.class));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtDistanceResolver.resolve(anyList(), eq(mapitData))).thenReturn(courts);
+
+        assertThat(proximitySearch.searchWith(mapitData, AREA_OF_LAW)).isEqualTo(courts);
+        verify(courtDistanceResolver).resolve(
+            snapshot.getLocationIndex().nearest(51.5, -0.1, 10, AREA_OF_LAW),
+            mapitData
+        );
+        verify(shadowSearch).serve(eq("nearest-by-area-of-law"), anyString(), any(), any(), any());
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
+    @Test
+    void testSearchWithAreaOfLawUsesDistrictTableWhenItCanAnswer() {
+        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository, courtIndexService, courtDistanceResolver, districtSearch, candidateCellSearch, shadowSearch);
+        final MapitData mapitData = new MapitData(51.5, -0.1, null, null, "SW1A 1AA");
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(
+            indexedCourt(1, "near-court", "Near court", 51.5, -0.1, Set.of("ADOPTION"))
+        ));
+        final List<CourtDistance> ranked = asList(new CourtDistance(1, 0.0));
+        final List<CourtWithDistance> courts = asList(mock(CourtWithDistance.class));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(districtSearch.nearest(snapshot, mapitData, 10, AREA_OF_LAW)).thenReturn(Optional.of(ranked));
+        when(courtDistanceResolver.resolve(ranked, mapitData)).thenReturn(courts);
+
+        assertThat(proximitySearch.searchWith(mapitData, AREA_OF_LAW)).isEqualTo(courts);
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
+    @Test
+    void testSearchWithUsesCandidateCellsWhenTheDistrictTableCannotAnswer() {
+        final ProximitySearch proximitySearch = new ProximitySearch(courtWithDistanceRepository, courtIndexService, courtDistanceResolver, districtSearch, candidateCellSearch, shadowSearch);
+        final MapitData mapitData = new MapitData(51.5, -0.1, null, null);
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(
+            indexedCourt(1, "near-court", "Near court", 51.5, -0.1, Set.of(AREA_OF_LAW))
+        ));
+        final List<CourtDistance> ranked = asList(new CourtDistance(1, 0.0));
+        final List<CourtWithDistance> courts = asList(mock(CourtWithDistance.class));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(districtSearch.nearest(snapshot, mapitData, 10, null)).thenReturn(Optional.empty());
+        when(candidateCellSearch.nearest(snapshot, mapitData, 10, null)).thenReturn(Optional.of(ranked));
+        when(courtDistanceResolver.resolve(ranked, mapitData)).thenReturn(courts);
+
+        assertThat(proximitySearch.searchWith(mapitData)).isEqualTo(courts);
+        verifyNoInteractions(courtWithDistanceRepository);
     }
 }
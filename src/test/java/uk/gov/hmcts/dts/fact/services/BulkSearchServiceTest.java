@@ -0,0 +1,194 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.BulkSearchRequest;
+import uk.gov.hmcts.dts.fact.model.BulkSearchResult;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.IsolatedServiceAreaSearch;
+import uk.gov.hmcts.dts.fact.services.search.Search;
+import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
+import uk.gov.hmcts.dts.fact.services.search.ShadowSearch;
+import uk.gov.hmcts.dts.fact.services.search.SinglePointOfEntryFilter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("PMD.ExcessiveImports")
+class BulkSearchServiceTest {
+    private static final String MONEY_CLAIMS = "money-claims";
+    private static final String CHILDCARE_ARRANGEMENTS = "childcare-arrangements";
+    private static final String CHILDREN = "Children";
+    private static final String OXFORD_COURT = "oxford-court";
+    private static final String BIRMINGHAM_COURT = "birmingham-court";
+    private static final String OXFORD_POSTCODE = "OX1 1RZ";
+    private static final String BIRMINGHAM_POSTCODE = "B1 1AA";
+    private static final MapitData OXFORD = new MapitData(51.75, -1.25, null, null);
+    private static final MapitData BIRMINGHAM = new MapitData(52.48, -1.9, null, null);
+
+    private final MapitService mapitService = mock(MapitService.class);
+    private final ServiceAreaRepository serviceAreaRepository = mock(ServiceAreaRepository.class);
+    private final ServiceAreaSearchFactory serviceAreaSearchFactory = mock(ServiceAreaSearchFactory.class);
+    private final Search search = mock(Search.class);
+    private BulkSearchService bulkSearchService;
+
+    @BeforeEach
+    void setUp() {
+        final SinglePointOfEntryFilter singlePointOfEntryFilter = new SinglePointOfEntryFilter(
+            mock(CourtIndexService.class), mock(CourtAreaOfLawSpoeRepository.class), mock(ShadowSearch.class));
+        final IsolatedServiceAreaSearch isolatedServiceAreaSearch =
+            new IsolatedServiceAreaSearch(serviceAreaSearchFactory, singlePointOfEntryFilter,
+                                          mock(PlatformTransactionManager.class));
+        bulkSearchService = new BulkSearchService(mapitService, serviceAreaRepository, isolatedServiceAreaSearch, 4, 10);
+        when(mapitService.getMapitData(OXFORD_POSTCODE)).thenReturn(Optional.of(OXFORD));
+        when(mapitService.getMapitData(BIRMINGHAM_POSTCODE)).thenReturn(Optional.of(BIRMINGHAM));
+        when(serviceAreaRepository.findBySlugIgnoreCase(MONEY_CLAIMS)).thenReturn(Optional.of(serviceArea(MONEY_CLAIMS)));
+        when(serviceAreaRepository.findBySlugIgnoreCase(CHILDCARE_ARRANGEMENTS)).thenReturn(Optional.of(serviceArea(CHILDCARE_ARRANGEMENTS)));
+        when(serviceAreaSearchFactory.getSearchFor(any(), any())).thenReturn(search);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkSearchService.shutdown();
+    }
+
+    @Test
+    void shouldLookUpEachPostcodeAndServiceAreaOnce() {
+        when(search.searchWith(any(), eq(OXFORD), eq(OXFORD_POSTCODE))).thenReturn(singletonList(court(OXFORD_COURT, CHILDREN)));
+        when(search.searchWith(any(), eq(BIRMINGHAM), eq(BIRMINGHAM_POSTCODE))).thenReturn(singletonList(court(BIRMINGHAM_COURT)));
+
+        final List<BulkSearchResult> results = bulkSearchService.search(asList(
+            new BulkSearchRequest("ox1 1rz", MONEY_CLAIMS),
+            new BulkSearchRequest("OX11RZ", "Money-Claims"),
+            new BulkSearchRequest(BIRMINGHAM_POSTCODE, MONEY_CLAIMS)
+        ));
+
+        assertThat(results).extracting(BulkSearchResult::getPostcode).containsExactly("ox1 1rz", "OX11RZ", BIRMINGHAM_POSTCODE);
+        assertThat(results).extracting(result -> result.getResult().getCourts().get(0).getSlug())
+            .containsExactly(OXFORD_COURT, OXFORD_COURT, BIRMINGHAM_COURT);
+        verify(mapitService, times(1)).getMapitData(OXFORD_POSTCODE);
+        verify(mapitService, times(1)).getMapitData(BIRMINGHAM_POSTCODE);
+        verify(serviceAreaRepository, times(1)).findBySlugIgnoreCase(MONEY_CLAIMS);
+        verify(search, times(2)).searchWith(any(), any(), anyString());
+    }
+
+    @Test
+    void shouldReportEachFailureAgainstItsOwnSearch() {
+        when(search.searchWith(any(), eq(OXFORD), eq(OXFORD_POSTCODE))).thenThrow(new IllegalStateException("Search failed"));
+        when(search.searchWith(any(), eq(BIRMINGHAM), eq(BIRMINGHAM_POSTCODE))).thenReturn(singletonList(court(BIRMINGHAM_COURT)));
+
+        final List<BulkSearchResult> results = bulkSearchService.search(asList(
+            new BulkSearchRequest(OXFORD_POSTCODE, MONEY_CLAIMS),
+            new BulkSearchRequest(" ", MONEY_CLAIMS),
+            new BulkSearchRequest(BIRMINGHAM_POSTCODE, "unknown"),
+            new BulkSearchRequest("ZZ1 1ZZ", MONEY_CLAIMS),
+            new BulkSearchRequest(BIRMINGHAM_POSTCODE, MONEY_CLAIMS)
+        ));
+
+        assertThat(results).extracting(BulkSearchResult::getError)
+            .containsExactly("Search failed", "A postcode and service area are required", null, null, null);
+        assertThat(results.get(2).getResult().getCourts()).isNull();
+        assertThat(results.get(3).getResult().getSlug()).isEqualTo(MONEY_CLAIMS);
+        assertThat(results.get(3).getResult().getCourts()).isNull();
+        assertThat(results.get(4).getResult().getCourts()).extracting(CourtReferenceWithDistance::getSlug).containsExactly(BIRMINGHAM_COURT);
+    }
+
+    @Test
+    void shouldKeepTheSinglePointOfEntryCourtInTheLanguageOfTheRequest() {
+        when(search.searchWith(any(), eq(BIRMINGHAM), eq(BIRMINGHAM_POSTCODE)))
+            .thenReturn(asList(court("first-court"), court("spoe-court", CHILDREN), court("other-spoe-court", CHILDREN)));
+        LocaleContextHolder.setLocale(new Locale("cy"));
+        try {
+            final List<BulkSearchResult> results = bulkSearchService.search(singletonList(
+                new BulkSearchRequest(BIRMINGHAM_POSTCODE, CHILDCARE_ARRANGEMENTS)
+            ));
+
+            assertThat(results.get(0).getResult().getName()).isEqualTo("Welsh " + CHILDCARE_ARRANGEMENTS);
+            assertThat(results.get(0).getResult().getCourts()).extracting(CourtReferenceWithDistance::getSlug).containsExactly("spoe-court");
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    void shouldRejectTooManySearches() {
+        assertThrows(IllegalArgumentException.class, () -> bulkSearchService.search(
+            nCopies(11, new BulkSearchRequest(OXFORD_POSTCODE, MONEY_CLAIMS))
+        ));
+    }
+
+    @Test
+    void shouldLookUpThePostcodeOnceForSeveralServiceAreas() {
+        when(search.searchWith(any(), eq(OXFORD), eq(OXFORD_POSTCODE)))
+            .thenReturn(asList(court(OXFORD_COURT), court("oxford-spoe-court", CHILDREN)));
+
+        final List<ServiceAreaWithCourtReferencesWithDistance> results = bulkSearchService.searchServiceAreas(
+            "ox11rz", asList(MONEY_CLAIMS, CHILDCARE_ARRANGEMENTS, "unknown", "Money-Claims")
+        );
+
+        assertThat(results).extracting(ServiceAreaWithCourtReferencesWithDistance::getSlug)
+            .containsExactly(MONEY_CLAIMS, CHILDCARE_ARRANGEMENTS, "unknown", MONEY_CLAIMS);
+        assertThat(results.get(0).getCourts()).hasSize(2);
+        assertThat(results.get(1).getCourts()).extracting(CourtReferenceWithDistance::getSlug).containsExactly("oxford-spoe-court");
+        assertThat(results.get(2).getCourts()).isNull();
+        verify(mapitService, times(1)).getMapitData(OXFORD_POSTCODE);
+        verify(search, times(2)).searchWith(any(), any(), anyString());
+    }
+
+    @Test
+    void shouldReturnEmptyServiceAreasForAnUnknownPostcode() {
+        final List<ServiceAreaWithCourtReferencesWithDistance> results =
+            bulkSearchService.searchServiceAreas("ZZ1 1ZZ", asList(MONEY_CLAIMS, CHILDCARE_ARRANGEMENTS));
+
+        assertThat(results).extracting(ServiceAreaWithCourtReferencesWithDistance::getCourts).containsOnlyNulls();
+        verify(search, times(0)).searchWith(any(), any(), anyString());
+    }
+
+    private static ServiceArea serviceArea(final String slug) {
+        final ServiceArea serviceArea = new ServiceArea();
+        serviceArea.setSlug(slug);
+        serviceArea.setName(slug);
+        serviceArea.setNameCy("Welsh " + slug);
+        return serviceArea;
+    }
+
+    private static CourtWithDistance court(final String slug, final String... areasOfLawSpoe) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setSlug(slug);
+        court.setName(slug);
+        court.setDistance(1.0);
+        court.setAreasOfLawSpoe(emptyList());
+        if (areasOfLawSpoe.length > 0) {
+            final AreaOfLaw areaOfLaw = new AreaOfLaw();
+            areaOfLaw.setName(areasOfLawSpoe[0]);
+            court.setAreasOfLawSpoe(singletonList(areaOfLaw));
+        }
+        return court;
+    }
+}
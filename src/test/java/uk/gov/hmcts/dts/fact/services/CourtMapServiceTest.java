@@ -0,0 +1,136 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtType;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.model.CourtCluster;
+import uk.gov.hmcts.dts.fact.model.CourtLocation;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourtWithTypes;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = CourtMapService.class)
+class CourtMapServiceTest {
+    private static final String CIVIL = "Civil";
+    private static final String CROWN_COURT = "CROWN COURT";
+    private static final String COUNTY_COURT = "COUNTY COURT";
+    private static final String BRAVO_COURT = "Bravo court";
+
+    @Autowired
+    private CourtMapService courtMapService;
+
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private CourtRepository courtRepository;
+
+    @Test
+    void shouldFindCourtsInBoxFromIndex() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot()));
+
+        assertThat(courtMapService.getCourtsInBox(51.0, -1.0, 52.0, 0.0, null, null, 10))
+            .extracting(CourtLocation::getSlug)
+            .containsExactly("court-2", "court-3", "court-1");
+        assertThat(courtMapService.getCourtsInBox(51.0, -1.0, 52.0, 0.0, "civil", "county court", 10))
+            .extracting(CourtLocation::getName)
+            .containsExactly(BRAVO_COURT);
+        assertThat(courtMapService.getCourtsInBox(51.0, -1.0, 52.0, 0.0, null, null, 1)).hasSize(1);
+        verifyNoInteractions(courtRepository);
+    }
+
+    @Test
+    void shouldFindCourtsWithinDistanceFromIndex() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot()));
+
+        final List<CourtLocation> results = courtMapService.getCourtsWithinDistance(51.5, -0.5, 40.0, null, "Crown Court", 10);
+
+        assertThat(results).extracting(CourtLocation::getSlug).containsExactly("court-3", "court-1");
+        assertThat(results.get(0).getDistance()).isEqualTo(new BigDecimal("0.0"));
+        assertThat(courtMapService.getCourtsWithinDistance(51.5, -0.5, 40.0, CIVIL, null, 1))
+            .extracting(CourtLocation::getSlug)
+            .containsExactly("court-2");
+    }
+
+    @Test
+    void shouldFindCourtsFromRepositoryUntilIndexIsBuilt() {
+        final Court inBox = court(1, BRAVO_COURT, 51.5, -0.5, COUNTY_COURT);
+        final Court outsideBox = court(2, "Alpha court", 53.0, -0.5, COUNTY_COURT);
+        when(courtRepository.findByDisplayedTrue()).thenReturn(asList(inBox, outsideBox));
+
+        assertThat(courtMapService.getCourtsInBox(51.0, -1.0, 52.0, 0.0, CIVIL, COUNTY_COURT, 10))
+            .extracting(CourtLocation::getName)
+            .containsExactly(BRAVO_COURT);
+        assertThat(courtMapService.getCourtsWithinDistance(51.5, -0.5, 200.0, null, CROWN_COURT, 10)).isEmpty();
+        assertThat(courtMapService.getCourtsWithinDistance(51.5, -0.5, 200.0, null, null, 10))
+            .extracting(CourtLocation::getName)
+            .containsExactly(BRAVO_COURT, "Alpha court");
+    }
+
+    @Test
+    void shouldClusterCourtsForTheZoomLevel() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot()));
+
+        final List<CourtCluster> clusters = courtMapService.getCourtClusters(0, 49.0, -2.0, 55.0, 2.0);
+
+        assertThat(clusters).extracting(CourtCluster::getGeohash).containsExactly("g");
+        assertThat(clusters.get(0).getCount()).isEqualTo(4);
+        assertThat(clusters.get(0).getAreasOfLaw()).isEqualTo(Map.of("Crime", 1, CIVIL, 3));
+        assertThat(courtMapService.getCourtClusters(20, 51.4, -0.6, 51.6, -0.4))
+            .extracting(CourtCluster::getCount)
+            .containsExactly(2);
+        verifyNoInteractions(courtRepository);
+    }
+
+    @Test
+    void shouldRejectBoxesWithCornersTheWrongWayRound() {
+        assertThrows(IllegalArgumentException.class, () -> courtMapService.getCourtsInBox(52.0, -1.0, 51.0, 0.0, null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> courtMapService.getCourtClusters(5, 52.0, -1.0, 51.0, 0.0));
+    }
+
+    private static CourtIndexSnapshot snapshot() {
+        return new CourtIndexSnapshot(asList(
+            indexedCourtWithTypes(1, "Alpha court", 51.1, -0.9, Set.of("Crime"), Set.of(CROWN_COURT)),
+            indexedCourtWithTypes(2, BRAVO_COURT, 51.5, -0.5, Set.of(CIVIL), Set.of(COUNTY_COURT)),
+            indexedCourtWithTypes(3, "Charlie court", 51.5, -0.5, Set.of(CIVIL), Set.of(CROWN_COURT)),
+            indexedCourtWithTypes(4, "Delta court", 53.5, -0.5, Set.of(CIVIL), Set.of(COUNTY_COURT))
+        ));
+    }
+
+    private static Court court(final int id, final String name, final double lat, final double lon, final String courtType) {
+        final Court court = new Court();
+        court.setId(id);
+        court.setSlug("court-" + id);
+        court.setName(name);
+        court.setLat(lat);
+        court.setLon(lon);
+        final AreaOfLaw areaOfLaw = new AreaOfLaw();
+        areaOfLaw.setName(CIVIL);
+        court.setAreasOfLaw(singletonList(areaOfLaw));
+        court.setCourtTypes(singletonList(new CourtType(id, courtType)));
+        court.setServiceAreaCourts(emptyList());
+        return court;
+    }
+}
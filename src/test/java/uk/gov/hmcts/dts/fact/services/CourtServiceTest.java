@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,13 +12,15 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.*;
 import uk.gov.hmcts.dts.fact.exception.InvalidPostcodeException;
-import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.index.IndexedAddress;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
 import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.CourtWithDistance;
-import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
@@ -25,10 +28,13 @@ import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.Search;
 import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
+import uk.gov.hmcts.dts.fact.services.search.ShadowSearch;
+import uk.gov.hmcts.dts.fact.services.search.SinglePointOfEntryFilter;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -39,16 +45,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourtWithCodes;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearchTestData.serveTheIndex;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = CourtService.class)
+@ContextConfiguration(classes = {CourtService.class, SinglePointOfEntryFilter.class})
+@MockBean(CourtAreaOfLawSpoeRepository.class)
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.ExcessiveImports"})
 class CourtServiceTest {
 
-    private static final String SOME_SLUG = "some-slug";
     private static final String AREA_OF_LAW_NAME = "AreaOfLawName";
     private static final String JE2_4BA = "JE2 4BA";
     private static final String NN7_4EH  = "NN7 4EH";
+    private static final String M60_4JH = "M60 4JH";
     private static final String LONDON = "London";
     private static final String TAX = "tax";
     private static final double LAT = 52.1;
@@ -58,8 +68,6 @@ class CourtServiceTest {
     private static final String IMMIGRATION = "Immigration";
     private static final String EMPLOYMENT = "Employment";
     private static final String GLASGOW_TRIBUNALS_CENTRE = "Glasgow Tribunals Centre";
-    private static final String TEST_TYPE_IN_SEARCH_TABLE = "Test type in search table";
-    private static final String TEST_TYPE_IN_ADMIN_TABLE = "Test type in admin table";
 
     @Autowired
     private CourtService courtService;
@@ -85,84 +93,15 @@ class CourtServiceTest {
     @MockBean
     private FallbackProximitySearch fallbackProximitySearch;
 
-    @Test
-    void shouldThrowSlugNotFoundException() {
-        when(courtRepository.findBySlug(any())).thenReturn(empty());
-        assertThrows(NotFoundException.class, () -> courtService.getCourtBySlug("some-slug"));
-    }
-
-    @Test
-    void shouldReturnOldCourtObject() {
-        final Court court = mock(Court.class);
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
-        assertThat(courtService.getCourtBySlugDeprecated(SOME_SLUG)).isInstanceOf(OldCourt.class);
-    }
-
-    @Test
-    void shouldReturnCourtObject() {
-        final Court court = mock(Court.class);
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
-        assertThat(courtService.getCourtBySlug(SOME_SLUG)).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
-    }
-
-    @SuppressWarnings("PMD.UnusedPrivateMethod")
-    private static Stream<Arguments> parametersForTypesTests() {
-        return Stream.of(
-            // Opening type in opening time table only
-            Arguments.of(TEST_TYPE_IN_SEARCH_TABLE, null, TEST_TYPE_IN_SEARCH_TABLE),
-            // Opening type in admin type table only
-            Arguments.of(null, TEST_TYPE_IN_ADMIN_TABLE, TEST_TYPE_IN_ADMIN_TABLE),
-            // Opening type in both opening time and admin type tables
-            Arguments.of(TEST_TYPE_IN_SEARCH_TABLE, TEST_TYPE_IN_ADMIN_TABLE, TEST_TYPE_IN_ADMIN_TABLE)
-        );
-    }
-
-    @ParameterizedTest
-    @MethodSource("parametersForTypesTests")
-    void openingTypeInAdminTableShouldTakePrecedence(final String typeInOpeningTimeTable, final String typeInAdminTable, final String expectedType) {
-        final OpeningTime openingTime = new OpeningTime();
-        openingTime.setDescription(typeInOpeningTimeTable);
-        if (typeInAdminTable != null) {
-            openingTime.setAdminType(new OpeningType(1, typeInAdminTable, null));
-        }
-
-        final CourtOpeningTime courtOpeningTime = mock(CourtOpeningTime.class);
-        when(courtOpeningTime.getOpeningTime()).thenReturn(openingTime);
-        List<CourtOpeningTime> courtOpeningTimes = singletonList(courtOpeningTime);
-
-        final Court court = mock(Court.class);
-        when(court.getCourtOpeningTimes()).thenReturn(courtOpeningTimes);
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
-
-        final uk.gov.hmcts.dts.fact.model.Court result = courtService.getCourtBySlug(SOME_SLUG);
-        assertThat(result).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
-        final List<uk.gov.hmcts.dts.fact.model.OpeningTime> openingTimes = result.getOpeningTimes();
-        assertThat(openingTimes).hasSize(1);
-        assertThat(openingTimes.get(0).getType()).isEqualTo(expectedType);
-    }
-
-    @ParameterizedTest
-    @MethodSource("parametersForTypesTests")
-    void contactInAdminTableShouldTakePrecedence(final String typeInContactTable, final String typeInAdminTable, final String expectedType) {
-        final Contact contact = new Contact();
-        contact.setDescription(typeInContactTable);
-        if (typeInAdminTable != null) {
-            contact.setAdminType(new ContactType(1, typeInAdminTable, null));
-        }
+    @MockBean
+    private ShadowSearch shadowSearch;
 
-        final CourtContact courtContact = mock(CourtContact.class);
-        when(courtContact.getContact()).thenReturn(contact);
-        List<CourtContact> courtContacts = singletonList(courtContact);
+    @MockBean
+    private CourtIndexService courtIndexService;
 
-        final Court court = mock(Court.class);
-        when(court.getCourtContacts()).thenReturn(courtContacts);
-        when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
-
-        final uk.gov.hmcts.dts.fact.model.Court result = courtService.getCourtBySlug(SOME_SLUG);
-        assertThat(result).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
-        final List<uk.gov.hmcts.dts.fact.model.Contact> contacts = result.getContacts();
-        assertThat(contacts).hasSize(1);
-        assertThat(contacts.get(0).getName()).isEqualTo(expectedType);
+    @BeforeEach
+    void setUp() {
+        serveTheIndex(shadowSearch);
     }
 
     @Test
@@ -207,6 +146,46 @@ class CourtServiceTest {
         verify(courtRepository, never()).findCourtByFullPostcode(query);
     }
 
+    @Test
+    void shouldSearchByNameAddressOrTownFuzzyMatchUsingIndex() {
+        final String query = "LONDN";
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(
+            indexedCourt(1, "Westminster Court", null, singletonList(new IndexedAddress("1 High Street", null, LONDON, null, null))),
+            indexedCourt(2, "Leeds Court", null, singletonList(new IndexedAddress("2 High Street", null, "Leeds", null, null)))
+        ));
+        final Court court = mock(Court.class);
+        when(court.getId()).thenReturn(1);
+        when(courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query)).thenReturn(emptyList());
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtRepository.findAllById(singletonList(1))).thenReturn(singletonList(court));
+
+        final List<CourtReference> results = courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch(query);
+
+        assertThat(results).hasSize(1);
+        verify(courtRepository, never()).findCourtByNameAddressOrTownFuzzyMatch(query);
+    }
+
+    @Test
+    void shouldSearchByCourtCodeAndPostcodeUsingIndex() {
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(
+            indexedCourtWithCodes(1, "Westminster Court", Set.of(1234), singletonList(new IndexedAddress("1 High Street", null, LONDON, null, M60_4JH)))
+        ));
+        final Court court = mock(Court.class);
+        when(court.getId()).thenReturn(1);
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtRepository.findAllById(singletonList(1))).thenReturn(singletonList(court));
+
+        assertThat(courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch("1234")).hasSize(1);
+        assertThat(courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch(M60_4JH)).hasSize(1);
+        assertThat(courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch("westminster")).hasSize(1);
+        verify(courtRepository, never()).findCourtByCourtCode(anyInt());
+        verify(courtRepository, never()).findCourtByFullPostcode(anyString());
+        verify(courtRepository, never()).findCourtByNameAddressTownOrPartialPostcodeExactMatch(anyString());
+        verify(shadowSearch).serve(eq("court-code"), eq("1234"), any(), any(), any());
+        verify(shadowSearch).serve(eq("full-postcode"), eq(M60_4JH), any(), any(), any());
+        verify(shadowSearch).serve(eq("exact-match"), eq("westminster"), any(), any(), any());
+    }
+
     @Test
     void fuzzyMatchingShouldSearchByCourtCodeUsingNumericInput() {
         final String query = "1234";
@@ -221,7 +200,7 @@ class CourtServiceTest {
 
     @Test
     void fuzzyMatchingShouldSearchByPostcodeUsingFullPostcode() {
-        final String query = "M60 4JH";
+        final String query = M60_4JH;
         courtService.getCourtByNameOrAddressOrPostcodeOrTownFuzzyMatch(query);
 
         verify(courtRepository).findCourtByFullPostcode(query);
@@ -249,7 +228,7 @@ class CourtServiceTest {
         for (int i = 0; i < 10; i++) {
             courts.add(mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class));
         }
-        when(courtWithDistanceRepository.findNearestTen(anyDouble(), anyDouble())).thenReturn(courts);
+        when(proximitySearch.searchWith(mapitData)).thenReturn(courts);
 
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcode("OX1 1RZ");
         assertThat(results.size()).isEqualTo(10);
@@ -342,8 +321,7 @@ class CourtServiceTest {
             when(mock.getAreasOfLaw()).thenReturn(areasOfLaw);
             courts.add(mock);
         }
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(anyDouble(), anyDouble(), anyString())).thenReturn(
-            courts);
+        when(proximitySearch.searchWith(mapitData, AREA_OF_LAW_NAME)).thenReturn(courts);
 
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcodeAndAreaOfLaw(
             "OX2 1RZ",
@@ -382,7 +360,7 @@ class CourtServiceTest {
             }
             courts.add(court);
         }
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(anyDouble(), anyDouble(), eq(IMMIGRATION))).thenReturn(courts);
+        when(proximitySearch.searchWith(mapitData, IMMIGRATION)).thenReturn(courts);
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcodeAndAreaOfLaw("BT701AH", IMMIGRATION);
 
         assertThat(results).hasSize(1);
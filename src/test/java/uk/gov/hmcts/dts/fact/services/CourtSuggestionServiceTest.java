@@ -0,0 +1,86 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.index.IndexedAddress;
+import uk.gov.hmcts.dts.fact.model.CourtSuggestion;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = CourtSuggestionService.class)
+class CourtSuggestionServiceTest {
+    private static final String HIGH_STREET = "1 High Street";
+
+    @Autowired
+    private CourtSuggestionService courtSuggestionService;
+
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private CourtRepository courtRepository;
+
+    @Test
+    void shouldSuggestCourtsFromIndex() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot()));
+
+        final List<CourtSuggestion> results = courtSuggestionService.getCourtSuggestions("lond", 10);
+
+        assertThat(results).extracting(CourtSuggestion::getName).containsExactly("Westminster Court");
+        assertThat(results).extracting(CourtSuggestion::getSlug).containsExactly("westminster-court");
+        verifyNoInteractions(courtRepository);
+    }
+
+    @Test
+    void shouldSuggestWelshNamesForWelshRequests() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot()));
+        LocaleContextHolder.setLocale(new Locale("cy"));
+        try {
+            assertThat(courtSuggestionService.getCourtSuggestions("lond", 10))
+                .extracting(CourtSuggestion::getName)
+                .containsExactly("Llys Westminster");
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    void shouldSuggestCourtsByNameFromRepositoryUntilIndexIsBuilt() {
+        final Court court1 = mock(Court.class);
+        final Court court2 = mock(Court.class);
+        when(court1.getName()).thenReturn("Leeds Court");
+        when(courtRepository.findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc("le", true))
+            .thenReturn(asList(court1, court2));
+
+        final List<CourtSuggestion> results = courtSuggestionService.getCourtSuggestions("le", 1);
+
+        assertThat(results).extracting(CourtSuggestion::getName).containsExactly("Leeds Court");
+    }
+
+    private static CourtIndexSnapshot snapshot() {
+        return new CourtIndexSnapshot(asList(
+            indexedCourt(1, "westminster-court", "Westminster Court", "Llys Westminster", singletonList(new IndexedAddress(HIGH_STREET, null, "London", null, null))),
+            indexedCourt(2, "leeds-court", "Leeds Court", null, singletonList(new IndexedAddress(HIGH_STREET, null, "Leeds", null, null)))
+        ));
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.SearchIndexVersion;
+import uk.gov.hmcts.dts.fact.repositories.SearchIndexVersionRepository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = DataVersionService.class)
+class DataVersionServiceTest {
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @MockBean
+    private SearchIndexVersionRepository searchIndexVersionRepository;
+
+    @Test
+    void shouldReturnTheDataVersion() {
+        final SearchIndexVersion dataVersion = new SearchIndexVersion(1, 7L, new Timestamp(0));
+        when(searchIndexVersionRepository.findCurrentById(1)).thenReturn(Optional.of(dataVersion));
+
+        assertThat(dataVersionService.getDataVersion()).contains(dataVersion);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenTheDataVersionIsNotRecorded() {
+        when(searchIndexVersionRepository.findCurrentById(1)).thenReturn(Optional.empty());
+
+        assertThat(dataVersionService.getDataVersion()).isEmpty();
+    }
+}
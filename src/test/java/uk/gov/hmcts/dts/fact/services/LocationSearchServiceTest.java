@@ -0,0 +1,183 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.LocalAuthority;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.mapit.LocalAuthorityBoundaries;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+import uk.gov.hmcts.dts.fact.repositories.LocalAuthorityRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.IProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.Search;
+import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
+import uk.gov.hmcts.dts.fact.services.search.ShadowSearch;
+import uk.gov.hmcts.dts.fact.services.search.SinglePointOfEntryFilter;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {LocationSearchService.class, SinglePointOfEntryFilter.class})
+@MockBean({CourtIndexService.class, CourtAreaOfLawSpoeRepository.class, ShadowSearch.class})
+@SuppressWarnings("PMD.ExcessiveImports")
+class LocationSearchServiceTest {
+    private static final double LAT = 51.5;
+    private static final double LON = -0.1;
+    private static final String SERVICE_AREA = "childcare-arrangements";
+    private static final String CHILDREN = "Children";
+    private static final String WESTMINSTER = "Westminster";
+
+    @Autowired
+    private LocationSearchService locationSearchService;
+
+    @MockBean
+    private IProximitySearch proximitySearch;
+
+    @MockBean
+    private ServiceAreaRepository serviceAreaRepository;
+
+    @MockBean
+    private ServiceAreaSearchFactory serviceAreaSearchFactory;
+
+    @MockBean
+    private LocalAuthorityRepository localAuthorityRepository;
+
+    @MockBean
+    private LocalAuthorityBoundaries localAuthorityBoundaries;
+
+    @Test
+    void shouldFindTheNearestCourtsWithoutCallingMapit() {
+        final CourtWithDistance court = mock(CourtWithDistance.class);
+        when(court.getSlug()).thenReturn("court-slug");
+        when(proximitySearch.searchWith(any(MapitData.class))).thenReturn(singletonList(court));
+
+        final List<CourtReferenceWithDistance> results = locationSearchService.getNearestCourtReferencesByLocation(LAT, LON, null);
+
+        assertThat(results).extracting(CourtReferenceWithDistance::getSlug).containsExactly("court-slug");
+        final ArgumentCaptor<MapitData> location = ArgumentCaptor.forClass(MapitData.class);
+        verify(proximitySearch).searchWith(location.capture());
+        assertThat(location.getValue().getLat()).isEqualTo(LAT);
+        assertThat(location.getValue().getLon()).isEqualTo(LON);
+    }
+
+    @Test
+    void shouldFindTheNearestCourtsWithAnAreaOfLaw() {
+        when(proximitySearch.searchWith(any(MapitData.class), eq(CHILDREN))).thenReturn(singletonList(mock(CourtWithDistance.class)));
+
+        assertThat(locationSearchService.getNearestCourtReferencesByLocation(LAT, LON, CHILDREN)).hasSize(1);
+    }
+
+    @Test
+    void shouldSearchAServiceAreaWithTheLocalAuthorityFromTheDatabase() {
+        final ServiceArea serviceArea = mock(ServiceArea.class);
+        final Search search = mock(Search.class);
+        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        when(serviceAreaRepository.findBySlugIgnoreCase(SERVICE_AREA)).thenReturn(Optional.of(serviceArea));
+        when(localAuthorityRepository.findFirstByNameIgnoreCase("westminster"))
+            .thenReturn(Optional.of(new LocalAuthority(1, WESTMINSTER)));
+        when(serviceAreaSearchFactory.getSearchFor(eq(serviceArea), any(MapitData.class))).thenReturn(search);
+        when(search.searchWith(eq(serviceArea), any(MapitData.class), isNull())).thenReturn(courts);
+
+        final ServiceAreaWithCourtReferencesWithDistance results =
+            locationSearchService.getNearestCourtsByLocationSearch(LAT, LON, SERVICE_AREA, "westminster", null);
+
+        assertThat(results.getCourts()).hasSize(1);
+        final ArgumentCaptor<MapitData> location = ArgumentCaptor.forClass(MapitData.class);
+        verify(serviceAreaSearchFactory).getSearchFor(eq(serviceArea), location.capture());
+        assertThat(location.getValue().getLocalAuthority()).hasValue(WESTMINSTER);
+    }
+
+    @Test
+    void shouldSearchAServiceAreaWithTheLocalAuthorityWhoseBoundaryHoldsTheLocation() {
+        final ServiceArea serviceArea = mock(ServiceArea.class);
+        when(serviceAreaRepository.findBySlugIgnoreCase(SERVICE_AREA)).thenReturn(Optional.of(serviceArea));
+        when(localAuthorityBoundaries.localAuthorityAt(LAT, LON)).thenReturn(Optional.of("City of Westminster"));
+        when(localAuthorityRepository.findFirstByNameIgnoreCase("City of Westminster"))
+            .thenReturn(Optional.of(new LocalAuthority(1, WESTMINSTER)));
+        when(serviceAreaSearchFactory.getSearchFor(eq(serviceArea), any(MapitData.class))).thenReturn(mock(Search.class));
+
+        locationSearchService.getNearestCourtsByLocationSearch(LAT, LON, SERVICE_AREA, null, null);
+
+        final ArgumentCaptor<MapitData> location = ArgumentCaptor.forClass(MapitData.class);
+        verify(serviceAreaSearchFactory).getSearchFor(eq(serviceArea), location.capture());
+        assertThat(location.getValue().getLocalAuthority()).hasValue(WESTMINSTER);
+    }
+
+    @Test
+    void shouldSearchWithoutALocalAuthorityWhenTheBoundaryIsNotInTheDatabase() {
+        final ServiceArea serviceArea = mock(ServiceArea.class);
+        when(serviceAreaRepository.findBySlugIgnoreCase(SERVICE_AREA)).thenReturn(Optional.of(serviceArea));
+        when(localAuthorityBoundaries.localAuthorityAt(LAT, LON)).thenReturn(Optional.of("Isles of Scilly"));
+        when(serviceAreaSearchFactory.getSearchFor(eq(serviceArea), any(MapitData.class))).thenReturn(mock(Search.class));
+
+        locationSearchService.getNearestCourtsByLocationSearch(LAT, LON, SERVICE_AREA, null, null);
+
+        final ArgumentCaptor<MapitData> location = ArgumentCaptor.forClass(MapitData.class);
+        verify(serviceAreaSearchFactory).getSearchFor(eq(serviceArea), location.capture());
+        assertThat(location.getValue().getLocalAuthority()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectAnUnknownLocalAuthority() {
+        when(serviceAreaRepository.findBySlugIgnoreCase(SERVICE_AREA)).thenReturn(Optional.of(mock(ServiceArea.class)));
+        when(localAuthorityRepository.findFirstByNameIgnoreCase("Nowhere")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> locationSearchService.getNearestCourtsByLocationSearch(LAT, LON, SERVICE_AREA, "Nowhere", null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Nowhere");
+        verifyNoInteractions(serviceAreaSearchFactory);
+    }
+
+    @Test
+    void shouldReturnAnEmptyServiceAreaWhenItIsNotFound() {
+        when(serviceAreaRepository.findBySlugIgnoreCase(SERVICE_AREA)).thenReturn(Optional.empty());
+
+        final ServiceAreaWithCourtReferencesWithDistance results = locationSearchService
+            .getNearestCourtsByLocationAndAreaOfLawSinglePointOfEntry(LAT, LON, SERVICE_AREA, CHILDREN, null, null);
+
+        assertThat(results.getSlug()).isEqualTo(SERVICE_AREA);
+        assertThat(results.getCourts()).isNull();
+    }
+
+    @Test
+    void shouldReturnTheFirstSinglePointOfEntryCourt() {
+        final ServiceArea serviceArea = mock(ServiceArea.class);
+        final Search search = mock(Search.class);
+        final CourtWithDistance spoeCourt = mock(CourtWithDistance.class);
+        when(spoeCourt.getSlug()).thenReturn("spoe-court");
+        when(spoeCourt.getAreasOfLawSpoe()).thenReturn(singletonList(CHILDREN));
+        when(serviceAreaRepository.findBySlugIgnoreCase(SERVICE_AREA)).thenReturn(Optional.of(serviceArea));
+        when(serviceAreaSearchFactory.getSearchFor(eq(serviceArea), any(MapitData.class))).thenReturn(search);
+        when(search.searchWith(eq(serviceArea), any(MapitData.class), isNull()))
+            .thenReturn(asList(mock(CourtWithDistance.class), spoeCourt));
+
+        final ServiceAreaWithCourtReferencesWithDistance results = locationSearchService
+            .getNearestCourtsByLocationAndAreaOfLawSinglePointOfEntry(LAT, LON, SERVICE_AREA, CHILDREN, null, null);
+
+        assertThat(results.getCourts()).extracting(CourtReferenceWithDistance::getSlug).containsExactly("spoe-court");
+        verifyNoInteractions(localAuthorityRepository);
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.dts.fact.services;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,22 +13,40 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.mapit.Geocode;
+import uk.gov.hmcts.dts.fact.mapit.LocalAuthorityBoundaries;
 import uk.gov.hmcts.dts.fact.mapit.MapitArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitClient;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.PostcodeGazetteer;
+import uk.gov.hmcts.dts.fact.mapit.PostcodeGeocodeStore;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = MapitService.class)
+@ContextConfiguration(classes = {MapitService.class, SimpleMeterRegistry.class})
+@SuppressWarnings("PMD.TooManyMethods")
 class MapitServiceTest {
 
     private static final String RESPONSE_MESSAGE = "message";
+    private static final String OUTCODE = "CF11";
+    private static final String UNAVAILABLE_POSTCODE = "CF14 3UZ";
+    private static final String KNOWN_POSTCODE = "NP20 1AA";
+    private static final String UNKNOWN_POSTCODE = "NP20 9ZZ";
+    private static final String UNGAZETTEERED_POSTCODE = "SA6 8QR";
+    private static final String SWANSEA = "City and County of Swansea";
 
     @MockBean
     private MapitClient mapitClient;
@@ -34,9 +54,21 @@ class MapitServiceTest {
     @MockBean
     private Logger logger;
 
+    @MockBean
+    private PostcodeGeocodeStore postcodeGeocodeStore;
+
+    @MockBean
+    private PostcodeGazetteer postcodeGazetteer;
+
+    @MockBean
+    private LocalAuthorityBoundaries localAuthorityBoundaries;
+
     @Autowired
     private MapitService mapitService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void shouldReturnOptionalOfCoordinatesForValidPostcode() {
         final String postcode = "OX1 1RZ";
@@ -167,4 +199,236 @@ class MapitServiceTest {
         assertThat(mapitService.localAuthorityExists("Test Council")).isFalse();
         verify(logger).warn("Mapit API call (local authority validation) failed. HTTP Status: {} Message: {}", 400, RESPONSE_MESSAGE, feignException);
     }
+
+    @Test
+    void shouldServeARepeatedPostcodeFromTheCacheWhateverItsSpacingAndCase() {
+        when(mapitClient.getMapitData("CF10 1ET")).thenReturn(new MapitData(51.48, -3.18, null, null));
+
+        final Optional<MapitData> first = mapitService.getMapitData("CF10 1ET");
+        final Optional<MapitData> second = mapitService.getMapitData("cf101et");
+
+        assertThat(second).isEqualTo(first).isPresent();
+        verify(mapitClient).getMapitData("CF10 1ET");
+        verifyNoMoreInteractions(mapitClient);
+        assertThat(gets(MapitService.POSTCODE_CACHE, "hit")).isGreaterThanOrEqualTo(1);
+        assertThat(gets(MapitService.POSTCODE_CACHE, "miss")).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldCachePartialPostcodesSeparately() {
+        when(mapitClient.getMapitData(OUTCODE)).thenReturn(new MapitData(null, null, null, null));
+        when(mapitClient.getMapitDataWithPartial(OUTCODE)).thenReturn(new MapitData(51.47, -3.2, null, null));
+
+        assertThat(mapitService.getMapitData(OUTCODE)).isEmpty();
+        assertThat(mapitService.getMapitDataWithPartial(OUTCODE)).isPresent();
+        assertThat(mapitService.getMapitDataWithPartial(OUTCODE)).isPresent();
+
+        verify(mapitClient).getMapitDataWithPartial(OUTCODE);
+    }
+
+    @Test
+    void shouldNotCacheFailedCalls() {
+        final FeignException feignException = mock(FeignException.class);
+        when(feignException.status()).thenReturn(503);
+        when(mapitClient.getMapitData(UNAVAILABLE_POSTCODE)).thenThrow(feignException);
+
+        mapitService.getMapitData(UNAVAILABLE_POSTCODE);
+        mapitService.getMapitData(UNAVAILABLE_POSTCODE);
+
+        verify(mapitClient, times(2)).getMapitData(UNAVAILABLE_POSTCODE);
+    }
+
+    @Test
+    void shouldCacheLocalAuthorityLookupsWhateverTheirCase() {
+        when(mapitClient.getMapitDataForLocalAuthorities(any(), any())).thenReturn(
+            Map.of("200", new MapitArea("200", "Cardiff Council", "UTA")));
+
+        assertThat(mapitService.localAuthorityExists("Cardiff Council")).isTrue();
+        assertThat(mapitService.localAuthorityExists(" cardiff council")).isTrue();
+
+        verify(mapitClient).getMapitDataForLocalAuthorities("Cardiff Council", "MTD,UTA,LBO,CTY");
+        verifyNoMoreInteractions(mapitClient);
+    }
+
+    @Test
+    void shouldExpireUnknownPostcodesSoonerThanKnownOnes() {
+        final Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        final MapitService service = new MapitService(logger, mapitClient, postcodeGeocodeStore, postcodeGazetteer,
+                                                      localAuthorityBoundaries, new SimpleMeterRegistry(), 100,
+                                                      Duration.ofDays(30), Duration.ofDays(1), clock);
+        when(mapitClient.getMapitData(KNOWN_POSTCODE)).thenReturn(new MapitData(51.58, -3.0, null, null));
+        when(mapitClient.getMapitData(UNKNOWN_POSTCODE)).thenReturn(new MapitData(null, null, null, null));
+        service.getMapitData(KNOWN_POSTCODE);
+        service.getMapitData(UNKNOWN_POSTCODE);
+        service.getMapitData(UNKNOWN_POSTCODE);
+
+        when(clock.millis()).thenReturn(Duration.ofDays(1).toMillis());
+        service.getMapitData(KNOWN_POSTCODE);
+        service.getMapitData(UNKNOWN_POSTCODE);
+
+        verify(mapitClient).getMapitData(KNOWN_POSTCODE);
+        verify(mapitClient, times(2)).getMapitData(UNKNOWN_POSTCODE);
+    }
+
+    @Test
+    void shouldReportTheSizeAndEvictionsOfEachCache() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final MapitService service = new MapitService(logger, mapitClient, postcodeGeocodeStore, postcodeGazetteer,
+                                                      localAuthorityBoundaries, registry, 1,
+                                                      Duration.ofDays(30), Duration.ofDays(1), Clock.systemUTC());
+        when(mapitClient.getMapitData(any())).thenReturn(new MapitData(51.58, -3.0, null, null));
+        service.getMapitData(KNOWN_POSTCODE);
+        service.getMapitData("NP20 1AB");
+        service.getMapitData("NP20 1AB");
+        service.getMapitData("NP20 1AB");
+
+        assertThat(registry.get(MapitService.SIZE_METRIC).tag(MapitService.CACHE_TAG, MapitService.POSTCODE_CACHE)
+                       .gauge().value()).isEqualTo(1);
+        assertThat(registry.get(MapitService.EVICTIONS_METRIC).tag(MapitService.CACHE_TAG, MapitService.POSTCODE_CACHE)
+                       .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeAPostcodeFromTheStoreBeforeCallingMapit() {
+        when(postcodeGeocodeStore.find("SA11AA"))
+            .thenReturn(Optional.of(Geocode.fromLocation(51.62, -3.94, SWANSEA, "SA1 1AA")));
+
+        final Optional<MapitData> result = mapitService.getMapitData("sa1 1aa");
+        mapitService.getMapitData("SA1 1AA");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLocalAuthority()).contains(SWANSEA);
+        assertThat(result.get().getOutcode()).contains("SA1");
+        verify(postcodeGeocodeStore).find("SA11AA");
+        verifyNoInteractions(mapitClient);
+    }
+
+    @Test
+    void shouldStoreAPostcodeMapitLocated() {
+        when(mapitClient.getMapitData("SA2 8PP")).thenReturn(new MapitData(51.61, -3.98, null, null));
+
+        mapitService.getMapitData("SA2 8PP");
+
+        verify(postcodeGeocodeStore).save("SA28PP", Geocode.fromLocation(51.61, -3.98, null, null));
+    }
+
+    @Test
+    void shouldOnlyKeepPartialPostcodesInMemory() {
+        when(mapitClient.getMapitDataWithPartial("SA3")).thenReturn(new MapitData(51.57, -4.05, null, null));
+
+        mapitService.getMapitDataWithPartial("SA3");
+
+        verifyNoInteractions(postcodeGeocodeStore);
+    }
+
+    @Test
+    void shouldLocateAPostcodeFromTheGazetteerWithoutCallingMapit() {
+        when(postcodeGazetteer.isEnabled()).thenReturn(true);
+        when(postcodeGazetteer.find("SA4 3AA"))
+            .thenReturn(Optional.of(Geocode.fromLocation(51.66, -4.05, SWANSEA, "SA4 3AA")));
+
+        final Optional<MapitData> result = mapitService.getMapitData("SA4 3AA");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLocalAuthority()).contains(SWANSEA);
+        assertThat(gets(MapitService.POSTCODE_GAZETTEER, "hit")).isGreaterThanOrEqualTo(1);
+        verifyNoInteractions(mapitClient, postcodeGeocodeStore);
+    }
+
+    @Test
+    void shouldLocateAPartialPostcodeFromTheGazetteerWithoutCallingMapit() {
+        when(postcodeGazetteer.isEnabled()).thenReturn(true);
+        when(postcodeGazetteer.findPartial("SA5 4")).thenReturn(Optional.of(Geocode.fromLocation(51.64, -3.97, null, "SA5 4")));
+
+        final Optional<MapitData> result = mapitService.getMapitDataWithPartial("SA5 4");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLat()).isEqualTo(51.64);
+        verifyNoInteractions(mapitClient);
+    }
+
+    @Test
+    void shouldLookUpPostcodesMissingFromTheGazetteerInMapit() {
+        when(postcodeGazetteer.isEnabled()).thenReturn(true);
+        when(mapitClient.getMapitData(UNGAZETTEERED_POSTCODE)).thenReturn(new MapitData(51.68, -3.92, null, null));
+
+        final Optional<MapitData> result = mapitService.getMapitData(UNGAZETTEERED_POSTCODE);
+
+        assertThat(result).isPresent();
+        assertThat(gets(MapitService.POSTCODE_GAZETTEER, "miss")).isGreaterThanOrEqualTo(1);
+        verify(postcodeGazetteer).find(UNGAZETTEERED_POSTCODE);
+        verify(mapitClient).getMapitData(UNGAZETTEERED_POSTCODE);
+    }
+
+    @Test
+    void shouldFindTheLocalAuthorityOfAPostcodeFromItsBoundaryWhenMapitGivesNone() {
+        when(mapitClient.getMapitData("SA7 9EH")).thenReturn(new MapitData(51.65, -3.9, null, null));
+        when(localAuthorityBoundaries.localAuthorityAt(51.65, -3.9)).thenReturn(Optional.of(SWANSEA));
+
+        final Optional<MapitData> result = mapitService.getMapitData("SA7 9EH");
+
+        assertThat(result).hasValueSatisfying(mapitData -> assertThat(mapitData.getLocalAuthority()).contains(SWANSEA));
+    }
+
+    @Test
+    void shouldKeepTheLocalAuthorityMapitGives() {
+        when(postcodeGeocodeStore.find("SA80AA")).thenReturn(Optional.of(Geocode.fromLocation(51.7, -3.85, "Neath Port Talbot", null)));
+
+        final Optional<MapitData> result = mapitService.getMapitData("SA8 0AA");
+
+        assertThat(result).hasValueSatisfying(mapitData -> assertThat(mapitData.getLocalAuthority()).contains("Neath Port Talbot"));
+        verifyNoInteractions(localAuthorityBoundaries);
+    }
+
+    @Test
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.LawOfDemeter"})
+    void shouldShareOneMapitCallBetweenConcurrentLookupsOfAPostcode() throws Exception {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final MapitService service = new MapitService(logger, mapitClient, postcodeGeocodeStore, postcodeGazetteer,
+                                                      localAuthorityBoundaries, registry, 100,
+                                                      Duration.ofDays(30), Duration.ofDays(1), Clock.systemUTC());
+        final CountDownLatch called = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(mapitClient.getMapitData(any())).thenAnswer(invocation -> {
+            called.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new MapitData(51.62, -3.95, null, null);
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final Future<Optional<MapitData>> leader = executor.submit(() -> service.getMapitData("SA9 1AA"));
+            assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+            final Future<Optional<MapitData>> waiter = executor.submit(() -> service.getMapitData("sa91aa"));
+            final Future<Optional<MapitData>> another = executor.submit(() -> service.getMapitData("SA9  1AA"));
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced(registry) < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(another.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(coalesced(registry)).isEqualTo(2);
+            verify(mapitClient, times(1)).getMapitData(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double coalesced(final MeterRegistry registry) {
+        return registry.get(MapitService.COALESCED_METRIC)
+            .tag(MapitService.CACHE_TAG, MapitService.POSTCODE_CACHE)
+            .functionCounter()
+            .count();
+    }
+
+    private double gets(final String cacheName, final String result) {
+        return meterRegistry.get(MapitService.GETS_METRIC)
+            .tag(MapitService.CACHE_TAG, cacheName)
+            .tag(MapitService.RESULT_TAG, result)
+            .counter()
+            .count();
+    }
 }
@@ -6,9 +6,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAdditionalLink;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.AdditionalLink;
 import uk.gov.hmcts.dts.fact.repositories.CourtAdditionalLinkRepository;
@@ -26,6 +30,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtAdditionalLinkService.class)
+@RecordApplicationEvents
 public class AdminCourtAdditionalLinkServiceTest {
     private static final String TEST_SLUG = "court-slug";
     private static final Court MOCK_COURT = mock(Court.class);
@@ -70,6 +75,9 @@ public class AdminCourtAdditionalLinkServiceTest {
     @Autowired
     private AdminCourtAdditionalLinkService adminService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private CourtRepository courtRepository;
 
@@ -117,6 +125,9 @@ public class AdminCourtAdditionalLinkServiceTest {
                                                                            .map(AdditionalLink::new)
                                                                            .collect(toList()),
                                                            results, TEST_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> TEST_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.ADDITIONAL_LINKS);
     }
 
     @Test
@@ -7,9 +7,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AddressType;
 import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.model.admin.CourtAddress;
@@ -32,6 +36,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtAddressService.class)
+@RecordApplicationEvents
 @SuppressWarnings("PMD.TooManyMethods")
 public class AdminCourtAddressServiceTest {
     private static final String COURT_SLUG = "court-slug";
@@ -116,6 +121,9 @@ public class AdminCourtAddressServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Mock
     private MapitData mapitData;
 
@@ -183,6 +191,9 @@ public class AdminCourtAddressServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit("Update court addresses and coordinates",
                                                            EXPECTED_ADDRESSES,
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.ADDRESSES);
     }
 
     @Test
@@ -9,9 +9,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLaw;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawRepository;
@@ -33,6 +37,7 @@ import static uk.gov.hmcts.dts.fact.util.TestHelper.getResourceAsJson;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtAreasOfLawService.class)
+@RecordApplicationEvents
 public class AdminCourtAreasOfLawServiceTest {
 
     private static final String COURT_SLUG = "some slug";
@@ -60,6 +65,9 @@ public class AdminCourtAreasOfLawServiceTest {
     @Autowired
     private AdminCourtAreasOfLawService adminCourtAreasOfLawService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @BeforeAll
     static void setUp() {
         uk.gov.hmcts.dts.fact.entity.AreaOfLaw areaOfLawOne = new uk.gov.hmcts.dts.fact.entity.AreaOfLaw();
@@ -123,6 +131,9 @@ public class AdminCourtAreasOfLawServiceTest {
                                                                .map(aol -> new AreaOfLaw(aol.getAreaOfLaw(), false))
                                                                .collect(toList()),
                                                            courtAreasOfLawResult, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.AREAS_OF_LAW);
     }
 
     @Test
@@ -134,5 +145,6 @@ public class AdminCourtAreasOfLawServiceTest {
             .isInstanceOf(NotFoundException.class)
             .hasMessage(NOT_FOUND + COURT_SLUG);
         verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+        assertThat(applicationEvents.stream(CourtChangedEvent.class)).isEmpty();
     }
 }
@@ -8,9 +8,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtContact;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Contact;
 import uk.gov.hmcts.dts.fact.model.admin.ContactType;
@@ -30,6 +34,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtContactService.class)
+@RecordApplicationEvents
 public class AdminCourtContactServiceTest {
     private static final String COURT_SLUG = "some slug";
     private static final int TEST_TYPE_ID1 = 1;
@@ -75,6 +80,9 @@ public class AdminCourtContactServiceTest {
     @Autowired
     private AdminCourtContactService adminService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private CourtRepository courtRepository;
 
@@ -138,6 +146,9 @@ public class AdminCourtContactServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit("Update court contacts",
                                                            EXPECTED_CONTACTS,
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.CONTACTS);
     }
 
     @Test
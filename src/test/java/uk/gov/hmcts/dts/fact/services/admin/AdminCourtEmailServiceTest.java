@@ -8,9 +8,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtEmail;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.Email;
 import uk.gov.hmcts.dts.fact.model.admin.EmailType;
@@ -29,6 +33,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtEmailService.class)
+@RecordApplicationEvents
 public class AdminCourtEmailServiceTest {
     private static final String COURT_SLUG = "some slug";
 
@@ -80,6 +85,9 @@ public class AdminCourtEmailServiceTest {
     @Autowired
     private AdminCourtEmailService adminService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private CourtRepository courtRepository;
 
@@ -153,6 +161,9 @@ public class AdminCourtEmailServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit("Update court email list",
                                                            EXPECTED_EMAILS,
                                                            emails, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.EMAILS);
     }
 
     @Test
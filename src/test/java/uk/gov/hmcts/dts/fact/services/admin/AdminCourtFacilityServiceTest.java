@@ -9,8 +9,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.*;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.CourtFacilityRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
@@ -28,6 +32,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtFacilityService.class)
+@RecordApplicationEvents
 public class AdminCourtFacilityServiceTest {
 
     private static final int FACILITY_COUNT = 3;
@@ -62,6 +67,9 @@ public class AdminCourtFacilityServiceTest {
     @Autowired
     private AdminCourtFacilityService adminCourtFacilityService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private CourtRepository courtRepository;
 
@@ -155,6 +163,9 @@ public class AdminCourtFacilityServiceTest {
                                                            INPUT_COURT_FACILITIES,
                                                            results,
                                                            COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.FACILITIES);
     }
 
     @Test
@@ -13,11 +13,15 @@ import org.mockito.quality.Strictness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
 import uk.gov.hmcts.dts.fact.entity.ServiceCentre;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtGeneralInfo;
@@ -35,10 +39,11 @@ import static org.mockito.Mockito.*;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
-@SuppressWarnings("PMD.TooManyMethods")
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @MockitoSettings(strictness = Strictness.LENIENT)
 @ContextConfiguration(classes = AdminCourtGeneralInfoService.class)
+@RecordApplicationEvents
 public class AdminCourtGeneralInfoServiceTest {
     private static final String COURT_NAME = "Test court name";
     private static final String COURT_DUPLICATED_NAME = "test-court-name-duplicate";
@@ -77,6 +82,9 @@ public class AdminCourtGeneralInfoServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Mock
     private Court court;
 
@@ -119,6 +127,9 @@ public class AdminCourtGeneralInfoServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit(AUDIT_TYPE,
                                                            new CourtGeneralInfo(court),
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> e.getChangeType() == CourtChangeType.GENERAL_INFO);
     }
 
     @Test
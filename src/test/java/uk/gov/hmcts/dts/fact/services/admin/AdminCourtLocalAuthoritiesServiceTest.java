@@ -8,8 +8,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.*;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
@@ -27,6 +31,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtLocalAuthoritiesService.class)
+@RecordApplicationEvents
 public class AdminCourtLocalAuthoritiesServiceTest {
 
     private static final int LOCAL_AUTHORITIES_COUNT = 3;
@@ -57,6 +62,9 @@ public class AdminCourtLocalAuthoritiesServiceTest {
     @Autowired
     private AdminCourtLocalAuthoritiesService adminCourtLocalAuthoritiesService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @BeforeAll
     static void setUp() {
 
@@ -137,6 +145,9 @@ public class AdminCourtLocalAuthoritiesServiceTest {
                                                                .map(la -> new uk.gov.hmcts.dts.fact.model.admin.LocalAuthority(la.getLocalAuthority().getId(), la.getLocalAuthority().getName()))
                                                                .collect(toList()),
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.LOCAL_AUTHORITIES);
     }
 
     @Test
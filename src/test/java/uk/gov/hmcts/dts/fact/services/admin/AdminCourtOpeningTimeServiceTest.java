@@ -8,9 +8,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtOpeningTime;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningTime;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
@@ -28,6 +32,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtOpeningTimeService.class)
+@RecordApplicationEvents
 public class AdminCourtOpeningTimeServiceTest {
     private static final String COURT_SLUG = "some slug";
     private static final int TEST_TYPE_ID1 = 1;
@@ -59,6 +64,9 @@ public class AdminCourtOpeningTimeServiceTest {
     @Autowired
     private AdminCourtOpeningTimeService adminService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private CourtRepository courtRepository;
 
@@ -114,6 +122,9 @@ public class AdminCourtOpeningTimeServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit("Update court opening times",
                                                            EXPECTED_OPENING_TIMES,
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .hasSize(2)
+            .allMatch(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.OPENING_TIMES);
     }
 
     @Test
@@ -8,9 +8,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
@@ -29,6 +33,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtPostcodeService.class)
+@RecordApplicationEvents
 @SuppressWarnings("PMD.TooManyMethods")
 public class AdminCourtPostcodeServiceTest {
     private static final String COURT_SLUG = "test-slug";
@@ -69,6 +74,9 @@ public class AdminCourtPostcodeServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Mock
     private Court court;
 
@@ -112,6 +120,9 @@ public class AdminCourtPostcodeServiceTest {
         verify(adminAuditService, atLeastOnce()).saveAudit("Create court postcodes",
                                                            emptyList(),
                                                            results, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.POSTCODES);
     }
 
     @Test
@@ -142,6 +153,9 @@ public class AdminCourtPostcodeServiceTest {
                                                                .collect(toList()),
                                                            emptyList(),
                                                            null);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> e.getCourtId() == TEST_COURT_ID && e.getChangeType() == CourtChangeType.POSTCODES);
     }
 
     @Test
@@ -189,6 +203,9 @@ public class AdminCourtPostcodeServiceTest {
                                                            auditData,
                                                            POSTCODES_TO_BE_DELETED,
                                                            SOURCE_COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .extracting(CourtChangedEvent::getSlug)
+            .containsExactly(SOURCE_COURT_SLUG, DESTINATION_COURT_SLUG);
     }
 
     @Test
@@ -226,6 +243,7 @@ public class AdminCourtPostcodeServiceTest {
 
         verify(courtPostcodeRepository, never()).saveAll(any());
         verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+        assertThat(applicationEvents.stream(CourtChangedEvent.class)).isEmpty();
     }
 
     @Test
@@ -9,9 +9,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.SpoeAreaOfLaw;
@@ -33,6 +37,7 @@ import static uk.gov.hmcts.dts.fact.util.TestHelper.getResourceAsJson;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtSpoeAreasOfLawService.class)
+@RecordApplicationEvents
 public class AdminCourtSpoeAreasOfLawServiceTest {
 
     private static final String COURT_SLUG = "some slug";
@@ -54,6 +59,9 @@ public class AdminCourtSpoeAreasOfLawServiceTest {
     @MockBean
     private CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Mock
     private static Court court;
 
@@ -139,6 +147,9 @@ public class AdminCourtSpoeAreasOfLawServiceTest {
                                                                .map(aol -> new SpoeAreaOfLaw(aol.getAreaOfLaw()))
                                                                .collect(toList()),
                                                            courtAreasOfLawResult, COURT_SLUG);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.SPOE_AREAS_OF_LAW);
     }
 
     @Test
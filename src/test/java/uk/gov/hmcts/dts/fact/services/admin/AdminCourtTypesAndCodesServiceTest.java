@@ -8,11 +8,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.CourtDxCode;
 import uk.gov.hmcts.dts.fact.entity.CourtType;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtTypesAndCodes;
 import uk.gov.hmcts.dts.fact.model.admin.DxCode;
@@ -32,6 +36,7 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminCourtTypesAndCodesService.class)
+@RecordApplicationEvents
 public class AdminCourtTypesAndCodesServiceTest {
 
     private static final int COURT_TYPE_COUNT = 3;
@@ -86,6 +91,9 @@ public class AdminCourtTypesAndCodesServiceTest {
     @Autowired
     private AdminCourtTypesAndCodesService adminCourtTypesAndCodesService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Mock
     private Court court;
 
@@ -144,6 +152,9 @@ public class AdminCourtTypesAndCodesServiceTest {
 
         assertThat(adminCourtTypesAndCodesService.updateCourtTypesAndCodes(COURT_SLUG, EXPECTED_COURT_TYPES_AND_CODES))
             .isEqualTo(EXPECTED_COURT_TYPES_AND_CODES);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> COURT_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.TYPES_AND_CODES);
 
     }
 
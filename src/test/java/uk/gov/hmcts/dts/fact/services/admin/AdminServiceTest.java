@@ -6,10 +6,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.config.security.RolesProvider;
 import uk.gov.hmcts.dts.fact.entity.Court;
 import uk.gov.hmcts.dts.fact.entity.InPerson;
+import uk.gov.hmcts.dts.fact.events.CourtChangeType;
+import uk.gov.hmcts.dts.fact.events.CourtChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.CourtForDownload;
@@ -30,6 +34,7 @@ import static org.mockito.Mockito.*;
 @SuppressWarnings("PMD.TooManyMethods")
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = AdminService.class)
+@RecordApplicationEvents
 class AdminServiceTest {
 
     private Court courtEntity;
@@ -53,6 +58,9 @@ class AdminServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @BeforeEach
     void setUp() {
         courtEntity = new Court();
@@ -171,6 +179,9 @@ class AdminServiceTest {
         adminService.updateMultipleCourtsInfo(info);
         verify(courtRepository).updateInfoForSlugs(info.getCourts(), info.getInfo(), info.getInfoCy());
         verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .hasSize(info.getCourts().size())
+            .allMatch(e -> info.getCourts().contains(e.getSlug()) && e.getChangeType() == CourtChangeType.INFO);
     }
 
     @Test
@@ -178,6 +189,9 @@ class AdminServiceTest {
         adminService.updateCourtLatLon(SOME_SLUG, LATITUDE, LONGITUDE);
         verify(courtRepository).updateLatLonBySlug(SOME_SLUG, LATITUDE, LONGITUDE);
         verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> SOME_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.COORDINATES);
     }
 
     @Test
@@ -210,6 +224,9 @@ class AdminServiceTest {
         verify(courtRepository, atMostOnce()).updateCourtImageBySlug(SOME_SLUG, IMAGE_FILE);
 
         assertThat(fileName).isEqualTo(IMAGE_FILE);
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> SOME_SLUG.equals(e.getSlug()) && e.getChangeType() == CourtChangeType.IMAGE);
     }
 
     @Test
@@ -229,6 +246,9 @@ class AdminServiceTest {
         verify(adminAuditService).saveAudit(anyString(),
                                             any(uk.gov.hmcts.dts.fact.model.admin.Court.class),
                                             any(), anyString());
+        assertThat(applicationEvents.stream(CourtChangedEvent.class))
+            .singleElement()
+            .matches(e -> courtEntity.getId().equals(e.getCourtId()) && e.getChangeType() == CourtChangeType.DELETED);
     }
 
     @Test
@@ -10,11 +10,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtLocalAuthorityAreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.events.AreaOfLawChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
@@ -35,14 +38,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-@SuppressWarnings("PMD.TooManyMethods")
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminAreasOfLawService.class)
+@RecordApplicationEvents
 public class AdminAreasOfLawServiceTest {
 
     @Autowired
     private AdminAreasOfLawService areasOfLawService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private AreasOfLawRepository areasOfLawRepository;
 
@@ -159,6 +166,9 @@ public class AdminAreasOfLawServiceTest {
                                                                .map(uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw::new)
                                                                .collect(toList()),
                                                            null);
+        assertThat(applicationEvents.stream(AreaOfLawChangedEvent.class))
+            .singleElement()
+            .matches(e -> areaOfLaw.getId().equals(e.getAreaOfLawId()));
     }
 
     @Test
@@ -7,7 +7,10 @@ import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.events.LocalAuthorityChangedEvent;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
 import uk.gov.hmcts.dts.fact.repositories.LocalAuthorityRepository;
@@ -26,6 +29,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
 @ContextConfiguration(classes = AdminLocalAuthorityService.class)
+@RecordApplicationEvents
 public class AdminLocalAuthorityServiceTest {
 
     @Autowired
@@ -37,6 +41,9 @@ public class AdminLocalAuthorityServiceTest {
     @MockBean
     private AdminAuditService adminAuditService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Test
     void shouldReturnAllLocalAuthorities() {
         final List<uk.gov.hmcts.dts.fact.entity.LocalAuthority> mockLocalAuthorities = Arrays.asList(
@@ -65,6 +72,9 @@ public class AdminLocalAuthorityServiceTest {
 
         assertThat(localAuthorityService.updateLocalAuthority(localAuthority.getId(), localAuthority.getName())).isEqualTo(localAuthority);
         verify(adminAuditService, atLeastOnce()).saveAudit("Update local authority", emptyList(), emptyList(), null);
+        assertThat(applicationEvents.stream(LocalAuthorityChangedEvent.class))
+            .singleElement()
+            .matches(e -> localAuthority.getId().equals(e.getLocalAuthorityId()));
     }
 
     @Test
@@ -77,5 +87,6 @@ public class AdminLocalAuthorityServiceTest {
 
         verify(localAuthorityRepository, never()).save(any());
         verify(adminAuditService, never()).saveAudit(anyString(), any(), any(), any());
+        assertThat(applicationEvents.stream(LocalAuthorityChangedEvent.class)).isEmpty();
     }
 }
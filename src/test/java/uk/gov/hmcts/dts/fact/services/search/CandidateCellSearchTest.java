@@ -0,0 +1,52 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+public class CandidateCellSearchTest {
+    private static final String METRIC = "search.cell.cache";
+    private static final String RESULT = "result";
+    private static final MapitData MAPIT_DATA = new MapitData(51.5, -0.1, null, null);
+    private static final CourtIndexSnapshot SNAPSHOT = new CourtIndexSnapshot(asList(
+        indexedCourt(1, "near-court", "Near court", 51.5, -0.1, Set.of("CRIME")),
+        indexedCourt(2, "far-court", "Far court", 53.5, -2.2, Set.of("CRIME"))
+    ));
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final CandidateCellSearch candidateCellSearch = new CandidateCellSearch(meterRegistry, true);
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(SNAPSHOT.getCourts().values());
+
+        assertThat(candidateCellSearch.nearest(snapshot, MAPIT_DATA, 10, null))
+            .hasValue(snapshot.getLocationIndex().nearest(51.5, -0.1, 10, null));
+        candidateCellSearch.nearest(snapshot, MAPIT_DATA, 10, null);
+        candidateCellSearch.nearest(snapshot, MAPIT_DATA, 10, null);
+
+        assertThat(meterRegistry.get(METRIC).tag(RESULT, "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(METRIC).tag(RESULT, "hit").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldNotAnswerWhenDisabled() {
+        final CandidateCellSearch candidateCellSearch = new CandidateCellSearch(new SimpleMeterRegistry(), false);
+
+        assertThat(candidateCellSearch.nearest(SNAPSHOT, MAPIT_DATA, 10, null)).isEmpty();
+    }
+
+    @Test
+    void shouldNotAnswerForMoreCourtsThanTheCellsHold() {
+        final CandidateCellSearch candidateCellSearch = new CandidateCellSearch(new SimpleMeterRegistry(), true);
+
+        assertThat(candidateCellSearch.nearest(SNAPSHOT, MAPIT_DATA, 11, null)).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,19 +10,27 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearchTestData.serveTheIndex;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = CivilSearch.class)
@@ -34,6 +43,7 @@ class CivilSearchTest {
     private static final String JE2_4 = "JE2 4";
     private static final String JE2 = "JE2";
     private static final String JE = "JE";
+    private static final String INDEXED_AREA_OF_LAW = "DIVORCE";
 
     @Autowired
     private CivilSearch civilSearch;
@@ -44,6 +54,20 @@ class CivilSearchTest {
     @MockBean
     private FallbackProximitySearch fallbackProximitySearch;
 
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private CourtDistanceResolver courtDistanceResolver;
+
+    @MockBean
+    private ShadowSearch shadowSearch;
+
+    @BeforeEach
+    void setUp() {
+        serveTheIndex(shadowSearch);
+    }
+
     @Test
     void shouldReturnCivilSearchResults() {
 
@@ -202,4 +226,45 @@ class CivilSearchTest {
             any()
         );
     }
+
+    @Test
+    void shouldReturnCivilSearchResultsFromIndex() {
+
+        final MapitData mapitData = mock(MapitData.class);
+        final ServiceArea serviceArea = new ServiceArea();
+        final AreaOfLaw aol = new AreaOfLaw();
+        aol.setName(AREA_OF_LAW);
+        serviceArea.setAreaOfLaw(aol);
+        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(List.of(
+            indexedCourt(1, "court-1", "Court 1", LAT, LON, Set.of("MONEY CLAIMS"), Set.of(JE2_4BA)),
+            indexedCourt(2, "court-2", "Court 2", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), Set.of(JE2)),
+            indexedCourt(3, "court-3", "Court 3", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), Set.of(JE))
+        ));
+
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtDistanceResolver.resolveNearest(snapshot.getLocationIndex(), Set.of(2), mapitData, 10)).thenReturn(courts);
+        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, mapitData)).thenReturn(courts);
+
+        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA);
+
+        assertThat(courtWithDistances).isEqualTo(courts);
+        verify(courtDistanceResolver).resolveNearest(snapshot.getLocationIndex(), Set.of(2), mapitData, 10);
+        verify(shadowSearch).serve(eq("civil-catchment"), eq(JE2_4BA + " " + AREA_OF_LAW), any(), any(), any());
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
+    @Test
+    void shouldSearchByAreaOfLawWhenThereIsNoPostcode() {
+        final MapitData mapitData = new MapitData(LAT, LON, null, null);
+        final ServiceArea serviceArea = new ServiceArea();
+        final AreaOfLaw aol = new AreaOfLaw();
+        aol.setName(AREA_OF_LAW);
+        serviceArea.setAreaOfLaw(aol);
+        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, mapitData)).thenReturn(courts);
+
+        assertThat(civilSearch.searchWith(serviceArea, mapitData, null)).isEqualTo(courts);
+        verifyNoInteractions(courtWithDistanceRepository, courtIndexService, shadowSearch);
+    }
 }
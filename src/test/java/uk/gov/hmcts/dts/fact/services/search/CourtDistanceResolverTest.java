@@ -0,0 +1,100 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.index.CourtDistance;
+import uk.gov.hmcts.dts.fact.index.CourtLocationIndex;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = CourtDistanceResolver.class)
+class CourtDistanceResolverTest {
+    private static final double LAT = 51.5;
+    private static final double LON = -0.1;
+
+    @Autowired
+    private CourtDistanceResolver courtDistanceResolver;
+
+    @MockBean
+    private CourtWithDistanceRepository courtWithDistanceRepository;
+
+    @Test
+    void shouldReturnCourtsInRankedOrder() {
+        final MapitData mapitData = mock(MapitData.class);
+        when(mapitData.getLat()).thenReturn(LAT);
+        when(mapitData.getLon()).thenReturn(LON);
+        final CourtWithDistance court1 = createCourt(1);
+        final CourtWithDistance court2 = createCourt(2);
+        final CourtWithDistance court3 = createCourt(3);
+        when(courtWithDistanceRepository.findAllByIdWithDistance(LAT, LON, asList(3, 1, 2)))
+            .thenReturn(asList(court1, court2, court3));
+
+        final List<CourtWithDistance> results = courtDistanceResolver.resolve(
+            asList(new CourtDistance(3, 1.0), new CourtDistance(1, 2.0), new CourtDistance(2, null)),
+            mapitData
+        );
+
+        assertThat(results).containsExactly(court3, court1, court2);
+    }
+
+    @Test
+    void shouldSkipCourtsThatNoLongerExist() {
+        final MapitData mapitData = mock(MapitData.class);
+        when(mapitData.getLat()).thenReturn(LAT);
+        when(mapitData.getLon()).thenReturn(LON);
+        final CourtWithDistance court1 = createCourt(1);
+        when(courtWithDistanceRepository.findAllByIdWithDistance(LAT, LON, asList(1, 2))).thenReturn(asList(court1));
+
+        final List<CourtWithDistance> results = courtDistanceResolver.resolve(
+            asList(new CourtDistance(1, 1.0), new CourtDistance(2, 2.0)),
+            mapitData
+        );
+
+        assertThat(results).containsExactly(court1);
+    }
+
+    @Test
+    void shouldRankCandidatesAndReturnTheNearest() {
+        final MapitData mapitData = mock(MapitData.class);
+        when(mapitData.getLat()).thenReturn(LAT);
+        when(mapitData.getLon()).thenReturn(LON);
+        final CourtLocationIndex locationIndex = new CourtLocationIndex(asList(
+            indexedCourt(1, "far-court", "Far court", 53.5, -2.2, Set.of("CRIME")),
+            indexedCourt(2, "near-court", "Near court", LAT, LON, Set.of("CRIME")),
+            indexedCourt(3, "other-court", "Other court", LAT, LON, Set.of("CRIME"))
+        ));
+        final CourtWithDistance court2 = createCourt(2);
+        when(courtWithDistanceRepository.findAllByIdWithDistance(LAT, LON, asList(2))).thenReturn(asList(court2));
+
+        assertThat(courtDistanceResolver.resolveNearest(locationIndex, Set.of(1, 2), mapitData, 1)).containsExactly(court2);
+    }
+
+    @Test
+    void shouldNotQueryTheDatabaseWhenThereAreNoCourts() {
+        assertThat(courtDistanceResolver.resolve(emptyList(), mock(MapitData.class))).isEmpty();
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
+    private static CourtWithDistance createCourt(final Integer id) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setId(id);
+        return court;
+    }
+}
@@ -10,7 +10,6 @@ import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -24,15 +23,13 @@ import static org.mockito.Mockito.when;
 @ContextConfiguration(classes = DefaultSearch.class)
 class DefaultSearchTest {
 
-    private static final double LAT = 52.1;
-    private static final double LON = 0.7;
     private static final String AREA_OF_LAW = "Divorce";
 
     @Autowired
     private DefaultSearch defaultSearch;
 
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private IProximitySearch proximitySearch;
 
     @Test
     void shouldReturnDefaultSearchResults() {
@@ -44,13 +41,11 @@ class DefaultSearchTest {
         serviceArea.setAreaOfLaw(aol);
         final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
 
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
+        when(proximitySearch.searchWith(mapitData, AREA_OF_LAW)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = defaultSearch.searchWith(serviceArea, mapitData, "JE2 4BA");
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW);
+        verify(proximitySearch).searchWith(mapitData, AREA_OF_LAW);
     }
 }
\ No newline at end of file
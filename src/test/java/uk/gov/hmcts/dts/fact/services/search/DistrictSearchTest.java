@@ -0,0 +1,88 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.index.DistrictCentroid;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.services.MapitService;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+
+@ExtendWith(SpringExtension.class)
+class DistrictSearchTest {
+    private static final String DISTRICT = "SW1A";
+    private static final Set<String> CRIME = Set.of("CRIME");
+    private static final MapitData LOCATED_POSTCODE = new MapitData(51.5, -0.1, null, null, "SW1A 1AA");
+
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private MapitService mapitService;
+
+    private final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(asList(
+        indexedCourt(1, "court-1", "Court 1", 51.5, -0.1, CRIME),
+        indexedCourt(2, "court-2", "Court 2", 52.5, -1.5, CRIME)
+    ));
+
+    @Test
+    void shouldAnswerFromTheDistrictTable() {
+        final DistrictSearch districtSearch = new DistrictSearch(courtIndexService, mapitService, true);
+        final CourtIndexSnapshot withDistrict = snapshot.withDistricts(Map.of(DISTRICT, new DistrictCentroid(51.5, -0.1)));
+
+        assertThat(districtSearch.nearest(withDistrict, LOCATED_POSTCODE, 10, null))
+            .hasValue(withDistrict.getLocationIndex().nearest(51.5, -0.1, 10, null));
+    }
+
+    @Test
+    void shouldQueueUnknownDistrictsAndRankThemInTheBackground() {
+        final DistrictSearch districtSearch = new DistrictSearch(courtIndexService, mapitService, true);
+        when(mapitService.getMapitDataWithPartial(DISTRICT)).thenReturn(Optional.of(new MapitData(51.49, -0.12, null, null, DISTRICT)));
+
+        assertThat(districtSearch.nearest(snapshot, LOCATED_POSTCODE, 10, null)).isEmpty();
+        assertThat(districtSearch.nearest(snapshot, LOCATED_POSTCODE, 10, null)).isEmpty();
+        districtSearch.precomputeQueuedDistricts();
+        districtSearch.precomputeQueuedDistricts();
+
+        verify(mapitService, times(1)).getMapitDataWithPartial(DISTRICT);
+        verify(courtIndexService).addDistricts(Map.of(DISTRICT, new DistrictCentroid(51.49, -0.12)));
+    }
+
+    @Test
+    void shouldNotQueuePostcodesWithoutAnOutcode() {
+        final DistrictSearch districtSearch = new DistrictSearch(courtIndexService, mapitService, true);
+
+        assertThat(districtSearch.nearest(snapshot, new MapitData(51.5, -0.1, null, null), 10, null)).isEmpty();
+        districtSearch.precomputeQueuedDistricts();
+
+        verifyNoInteractions(mapitService);
+        verify(courtIndexService, never()).addDistricts(anyMap());
+    }
+
+    @Test
+    void shouldNotUseTheDistrictTableWhenDisabled() {
+        final DistrictSearch districtSearch = new DistrictSearch(courtIndexService, mapitService, false);
+        final CourtIndexSnapshot withDistrict = snapshot.withDistricts(Map.of(DISTRICT, new DistrictCentroid(51.5, -0.1)));
+
+        assertThat(districtSearch.nearest(withDistrict, LOCATED_POSTCODE, 10, null)).isEmpty();
+        districtSearch.precomputeQueuedDistricts();
+
+        verifyNoInteractions(mapitService);
+    }
+}
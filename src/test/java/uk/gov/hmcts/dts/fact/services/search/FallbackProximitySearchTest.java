@@ -8,7 +8,6 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -24,15 +23,13 @@ import static org.mockito.Mockito.when;
 @ContextConfiguration(classes = FallbackProximitySearch.class)
 class FallbackProximitySearchTest {
 
-    private static final double LAT = 52.1;
-    private static final double LON = 0.7;
     private static final String AREA_OF_LAW = "Divorce";
 
     @Autowired
     private FallbackProximitySearch fallbackProximitySearch;
 
     @MockBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private IProximitySearch proximitySearch;
 
     @Test
     void shouldReturnFallbackSearchResultsIfCourtsEmpty() {
@@ -40,14 +37,12 @@ class FallbackProximitySearchTest {
         final MapitData mapitData = mock(MapitData.class);
         final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
 
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
+        when(proximitySearch.searchWith(mapitData, AREA_OF_LAW)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, mapitData);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW);
+        verify(proximitySearch).searchWith(mapitData, AREA_OF_LAW);
     }
 
     @Test
@@ -59,6 +54,6 @@ class FallbackProximitySearchTest {
         final List<CourtWithDistance> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, mapitData);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verifyNoInteractions(courtWithDistanceRepository);
+        verifyNoInteractions(proximitySearch);
     }
 }
\ No newline at end of file
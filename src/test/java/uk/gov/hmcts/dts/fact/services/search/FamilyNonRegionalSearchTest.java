@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,20 +10,29 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearchTestData.serveTheIndex;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = FamilyNonRegionalSearch.class)
@@ -31,6 +41,7 @@ class FamilyNonRegionalSearchTest {
     private static final double LAT = 52.1;
     private static final double LON = 0.7;
     private static final String AREA_OF_LAW = "Divorce";
+    private static final String INDEXED_AREA_OF_LAW = "DIVORCE";
     private static final String JE2_4BA = "JE2 4BA";
     private static final String LOCAL_AUTHORITY_NAME = "Suffolk County Council";
 
@@ -43,6 +54,20 @@ class FamilyNonRegionalSearchTest {
     @MockBean
     private FallbackProximitySearch fallbackProximitySearch;
 
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private CourtDistanceResolver courtDistanceResolver;
+
+    @MockBean
+    private ShadowSearch shadowSearch;
+
+    @BeforeEach
+    void setUp() {
+        serveTheIndex(shadowSearch);
+    }
+
     @Test
     void shouldReturnFamilyNonRegionalSearchResults() {
 
@@ -67,6 +92,36 @@ class FamilyNonRegionalSearchTest {
         verify(fallbackProximitySearch).fallbackIfEmpty(courts, AREA_OF_LAW, mapitData);
     }
 
+    @Test
+    void shouldReturnFamilyNonRegionalSearchResultsFromIndex() {
+
+        final MapitData mapitData = mock(MapitData.class);
+        final ServiceArea serviceArea = new ServiceArea();
+        final AreaOfLaw aol = new AreaOfLaw();
+        aol.setName(AREA_OF_LAW);
+        serviceArea.setAreaOfLaw(aol);
+        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final CourtIndexSnapshot snapshot = new CourtIndexSnapshot(List.of(
+            indexedCourt(1, "court-1", "Court 1", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), false,
+                         Map.of(INDEXED_AREA_OF_LAW, Set.of("SUFFOLK COUNTY COUNCIL"))),
+            indexedCourt(2, "court-2", "Court 2", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), false,
+                         Map.of(INDEXED_AREA_OF_LAW, Set.of("NORFOLK COUNTY COUNCIL")))
+        ));
+
+        when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtDistanceResolver.resolveNearest(snapshot.getLocationIndex(), Set.of(1), mapitData, 10)).thenReturn(courts);
+        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, mapitData)).thenReturn(courts);
+
+        final List<CourtWithDistance> courtWithDistances = familyNonRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA);
+
+        assertThat(courtWithDistances).isEqualTo(courts);
+        verify(courtDistanceResolver).resolveNearest(snapshot.getLocationIndex(), Set.of(1), mapitData, 10);
+        verify(shadowSearch).serve(eq("family-local-authority"), eq(LOCAL_AUTHORITY_NAME + " " + AREA_OF_LAW), any(),
+                                     any(), any());
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
     @Test
     void shouldReturnFallbackSearchResultsIfLocalAuthorityNameNotPresent() {
 
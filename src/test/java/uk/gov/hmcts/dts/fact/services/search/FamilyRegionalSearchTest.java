@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.search;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,20 +10,30 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourt;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearchTestData.serveTheIndex;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = FamilyRegionalSearch.class)
@@ -31,6 +42,7 @@ class FamilyRegionalSearchTest {
     private static final double LAT = 52.1;
     private static final double LON = 0.7;
     private static final String AREA_OF_LAW = "Divorce";
+    private static final String INDEXED_AREA_OF_LAW = "DIVORCE";
     private static final String JE2_4BA = "JE2 4BA";
     private static final String LOCAL_AUTHORITY_NAME = "Suffolk County Council";
 
@@ -40,6 +52,20 @@ class FamilyRegionalSearchTest {
     @MockBean
     private CourtWithDistanceRepository courtWithDistanceRepository;
 
+    @MockBean
+    private CourtIndexService courtIndexService;
+
+    @MockBean
+    private CourtDistanceResolver courtDistanceResolver;
+
+    @MockBean
+    private ShadowSearch shadowSearch;
+
+    @BeforeEach
+    void setUp() {
+        serveTheIndex(shadowSearch);
+    }
+
     @Test
     void shouldReturnFamilyRegionalSearchResults() {
 
@@ -62,6 +88,51 @@ class FamilyRegionalSearchTest {
         verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
     }
 
+    @Test
+    void shouldReturnFamilyRegionalSearchResultsFromIndex() {
+
+        final MapitData mapitData = mock(MapitData.class);
+        final ServiceArea serviceArea = new ServiceArea();
+        final AreaOfLaw aol = new AreaOfLaw();
+        aol.setName(AREA_OF_LAW);
+        serviceArea.setAreaOfLaw(aol);
+        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final CourtIndexSnapshot snapshot = createSnapshot();
+
+        when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtDistanceResolver.resolveNearest(snapshot.getLocationIndex(), Set.of(2), mapitData, 1)).thenReturn(courts);
+
+        final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA);
+
+        assertThat(courtWithDistances).isEqualTo(courts);
+        verify(shadowSearch).serve(eq("family-regional"), anyString(), any(), any(), any());
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
+    @Test
+    void shouldReturnRegionalCourtsFromIndexIfLocalAuthoritySearchIsEmpty() {
+
+        final MapitData mapitData = mock(MapitData.class);
+        final ServiceArea serviceArea = new ServiceArea();
+        final AreaOfLaw aol = new AreaOfLaw();
+        aol.setName(AREA_OF_LAW);
+        serviceArea.setAreaOfLaw(aol);
+        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final CourtIndexSnapshot snapshot = createSnapshot();
+
+        when(mapitData.getLocalAuthority()).thenReturn(Optional.of("Norfolk County Council"));
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(snapshot));
+        when(courtDistanceResolver.resolveNearest(snapshot.getLocationIndex(), Set.of(), mapitData, 1)).thenReturn(emptyList());
+        when(courtDistanceResolver.resolveNearest(snapshot.getLocationIndex(), Set.of(2, 3), mapitData, 1)).thenReturn(courts);
+
+        final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA);
+
+        assertThat(courtWithDistances).isEqualTo(courts);
+        verify(shadowSearch).serve(eq("family-regional"), anyString(), any(), any(), any());
+        verifyNoInteractions(courtWithDistanceRepository);
+    }
+
     @Test
     void shouldReturnFallbackSearchResultsIfSearchIsEmpty() {
 
@@ -107,4 +178,17 @@ class FamilyRegionalSearchTest {
         verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
         verifyNoMoreInteractions(courtWithDistanceRepository);
     }
+
+    private static CourtIndexSnapshot createSnapshot() {
+        return new CourtIndexSnapshot(List.of(
+            indexedCourt(1, "court-1", "Court 1", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), false,
+                         Map.of(INDEXED_AREA_OF_LAW, Set.of("SUFFOLK COUNTY COUNCIL"))),
+            indexedCourt(2, "court-2", "Court 2", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), true,
+                         Map.of(INDEXED_AREA_OF_LAW, Set.of("SUFFOLK COUNTY COUNCIL"))),
+            indexedCourt(3, "court-3", "Court 3", LAT, LON, Set.of(INDEXED_AREA_OF_LAW), true,
+                         Map.of(INDEXED_AREA_OF_LAW, Set.of("ESSEX COUNTY COUNCIL"))),
+            indexedCourt(4, "court-4", "Court 4", LAT, LON, Set.of("ADOPTION"), true,
+                         Map.of("ADOPTION", Set.of("SUFFOLK COUNTY COUNCIL")))
+        ));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IsolatedServiceAreaSearchTest {
+    private static final String POSTCODE = "OX1 1RZ";
+    private static final MapitData MAPIT_DATA = new MapitData(51.75, -1.25, null, null);
+
+    @Test
+    void shouldSearchInAReadOnlyTransaction() {
+        final ServiceAreaSearchFactory serviceAreaSearchFactory = mock(ServiceAreaSearchFactory.class);
+        final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        final Search search = mock(Search.class);
+        final ServiceArea serviceArea = new ServiceArea();
+        serviceArea.setSlug("money-claims");
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setSlug("oxford-court");
+        court.setAreasOfLawSpoe(emptyList());
+        when(serviceAreaSearchFactory.getSearchFor(serviceArea, MAPIT_DATA)).thenReturn(search);
+        when(search.searchWith(serviceArea, MAPIT_DATA, POSTCODE)).thenReturn(singletonList(court));
+
+        final ServiceAreaWithCourtReferencesWithDistance result =
+            new IsolatedServiceAreaSearch(serviceAreaSearchFactory, new SinglePointOfEntryFilter(mock(CourtIndexService.class), mock(CourtAreaOfLawSpoeRepository.class), mock(ShadowSearch.class)), transactionManager).searchWith(serviceArea, MAPIT_DATA, POSTCODE);
+
+        assertThat(result.getCourts()).extracting(CourtReferenceWithDistance::getSlug).containsExactly("oxford-court");
+        final ArgumentCaptor<TransactionDefinition> transaction = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(transaction.capture());
+        assertThat(transaction.getValue().isReadOnly()).isTrue();
+    }
+}
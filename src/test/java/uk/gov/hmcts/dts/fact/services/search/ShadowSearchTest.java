@@ -0,0 +1,170 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.launchdarkly.LaunchDarklyClient;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearch.FEATURE;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearch.METRIC;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearch.RESULT_TAG;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearch.SEARCH_TAG;
+
+class ShadowSearchTest {
+    private static final String SEARCH = "nearest";
+    private static final String QUERY = "51.5,-0.1";
+    private static final String COURT_1 = "court-1";
+    private static final String COURT_2 = "court-2";
+    private static final Function<String, String> SLUG = Function.identity();
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final LaunchDarklyClient launchDarklyClient = mock(LaunchDarklyClient.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ShadowSearch shadowSearch;
+
+    @BeforeEach
+    void setUp() {
+        when(launchDarklyClient.isFeatureEnabled(FEATURE)).thenReturn(true);
+        shadowSearch = new ShadowSearch(launchDarklyClient, meterRegistry, 1.0, 1.0, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shadowSearch.shutdown();
+    }
+
+    @Test
+    void shouldCountMatchingResults() throws InterruptedException {
+        shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1, COURT_2), SLUG, () -> List.of(COURT_1, COURT_2));
+
+        assertThat(awaitCount("match")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCountResultsInADifferentOrderAsDiverged() throws InterruptedException {
+        final Supplier<List<String>> database = () -> List.of(COURT_2, COURT_1);
+        final List<String> served = shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1, COURT_2), SLUG, database);
+
+        assertThat(served).containsExactly(COURT_1, COURT_2);
+        assertThat(awaitCount("diverged")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCountFailedDatabaseSearches() throws InterruptedException {
+        shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1), SLUG, () -> {
+            throw new IllegalStateException("Database unavailable");
+        });
+
+        assertThat(awaitCount("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldDropComparisonsWhenTheQueueIsFull() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1), SLUG, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return List.of(COURT_1);
+        });
+        started.await();
+
+        shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1), SLUG, () -> List.of(COURT_1));
+        shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1), SLUG, () -> List.of(COURT_1));
+        release.countDown();
+
+        assertThat(awaitCount("dropped")).isEqualTo(1.0);
+        assertThat(awaitCount("match")).isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotCompareWhenTheFeatureIsDisabled() {
+        when(launchDarklyClient.isFeatureEnabled(FEATURE)).thenReturn(false);
+
+        shadowSearch.serve(SEARCH, QUERY, () -> List.of(COURT_1), SLUG, () -> {
+            throw new AssertionError("Should not run");
+        });
+
+        assertThat(meterRegistry.find(METRIC).counters()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCompareSearchesThatAreNotSampled() {
+        final ShadowSearch unsampled = new ShadowSearch(launchDarklyClient, meterRegistry, 0.0, 1.0, 1, false);
+
+        unsampled.serve(SEARCH, QUERY, () -> List.of(COURT_1), SLUG, () -> {
+            throw new AssertionError("Should not run");
+        });
+        unsampled.shutdown();
+
+        assertThat(meterRegistry.find(METRIC).counters()).isEmpty();
+    }
+
+    @Test
+    void shouldServeTheDatabaseAndCompareTheIndexUntilTheIndexIsTrusted() throws InterruptedException {
+        final ShadowSearch verifying = new ShadowSearch(launchDarklyClient, meterRegistry, 1.0, 1.0, 1, true);
+
+        final List<String> served = verifying.serve(SEARCH, QUERY, () -> List.of(COURT_2), SLUG, () -> List.of(COURT_1));
+        verifying.shutdown();
+
+        assertThat(served).containsExactly(COURT_1);
+        assertThat(awaitCount("diverged")).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    void shouldCountFailedIndexSearchesWhileServingTheDatabase() throws InterruptedException {
+        final ShadowSearch verifying = new ShadowSearch(launchDarklyClient, meterRegistry, 1.0, 1.0, 1, true);
+
+        final List<String> served = verifying.serve(SEARCH, QUERY, () -> {
+            throw new IllegalStateException("Index not built");
+        }, SLUG, () -> List.of(COURT_1));
+        verifying.shutdown();
+
+        assertThat(served).containsExactly(COURT_1);
+        assertThat(awaitCount("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    void shouldNotRunTheIndexWhenServingTheDatabaseForSearchesThatAreNotSampled() {
+        final ShadowSearch unsampled = new ShadowSearch(launchDarklyClient, meterRegistry, 0.0, 1.0, 1, true);
+
+        final List<String> served = unsampled.serve(SEARCH, QUERY, () -> {
+            throw new AssertionError("Should not run");
+        }, SLUG, () -> List.of(COURT_1));
+        unsampled.shutdown();
+
+        assertThat(served).containsExactly(COURT_1);
+        assertThat(meterRegistry.find(METRIC).counters()).isEmpty();
+    }
+
+    private double awaitCount(final String result) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Counter counter = meterRegistry.find(METRIC).tags(SEARCH_TAG, SEARCH, RESULT_TAG, result).counter();
+        while (counter == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            counter = meterRegistry.find(METRIC).tags(SEARCH_TAG, SEARCH, RESULT_TAG, result).counter();
+        }
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
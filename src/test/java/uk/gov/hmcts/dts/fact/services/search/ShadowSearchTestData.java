@@ -0,0 +1,22 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+public final class ShadowSearchTestData {
+    private ShadowSearchTestData() {
+    }
+
+    /**
+     * Have a mocked shadow search serve the index results, as it does once the indexes are trusted.
+     *
+     * @param shadowSearch the mocked shadow search
+     */
+    public static void serveTheIndex(final ShadowSearch shadowSearch) {
+        when(shadowSearch.serve(anyString(), anyString(), any(), any(), any()))
+            .thenAnswer(invocation -> invocation.getArgument(2, Supplier.class).get());
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtAreaOfLawSpoe;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.index.CourtIndexService;
+import uk.gov.hmcts.dts.fact.index.CourtIndexSnapshot;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawSpoeRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.index.IndexedCourtTestData.indexedCourtWithSpoe;
+import static uk.gov.hmcts.dts.fact.services.search.ShadowSearchTestData.serveTheIndex;
+
+class SinglePointOfEntryFilterTest {
+    private static final String CHILDREN = "Children";
+
+    private final CourtIndexService courtIndexService = mock(CourtIndexService.class);
+    private final CourtAreaOfLawSpoeRepository courtAreaOfLawSpoeRepository = mock(CourtAreaOfLawSpoeRepository.class);
+    private final ShadowSearch shadowSearch = mock(ShadowSearch.class);
+    private final SinglePointOfEntryFilter filter =
+        new SinglePointOfEntryFilter(courtIndexService, courtAreaOfLawSpoeRepository, shadowSearch);
+
+    @BeforeEach
+    void setUp() {
+        serveTheIndex(shadowSearch);
+    }
+
+    @Test
+    void shouldPickTheNearestSinglePointOfEntryCourtFromTheIndex() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(new CourtIndexSnapshot(asList(
+            indexedCourtWithSpoe(1, Set.of()),
+            indexedCourtWithSpoe(2, Set.of("CHILDREN")),
+            indexedCourtWithSpoe(3, Set.of("CHILDREN"))
+        ))));
+        // The single point of entry areas of law of the courts that are not returned are never loaded
+        final List<CourtWithDistance> courts = asList(court(1, null), court(2, singletonList(childrenAreaOfLaw())), court(3, null));
+
+        final List<CourtReferenceWithDistance> result = filter.nearestSinglePointOfEntry(courts, CHILDREN);
+
+        assertThat(result).extracting(CourtReferenceWithDistance::getSlug).containsExactly("court-2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompareThePickFromTheIndexWithTheDatabase() {
+        when(courtIndexService.getSnapshot()).thenReturn(Optional.of(new CourtIndexSnapshot(asList(
+            indexedCourtWithSpoe(1, Set.of()),
+            indexedCourtWithSpoe(2, Set.of("CHILDREN"))
+        ))));
+        final List<CourtWithDistance> courts = asList(court(1, null), court(2, singletonList(childrenAreaOfLaw())));
+        when(courtAreaOfLawSpoeRepository.getAllByCourtId(1)).thenReturn(emptyList());
+        when(courtAreaOfLawSpoeRepository.getAllByCourtId(2))
+            .thenReturn(singletonList(new CourtAreaOfLawSpoe(childrenAreaOfLaw(), null)));
+
+        filter.nearestSinglePointOfEntry(courts, CHILDREN);
+
+        final ArgumentCaptor<Supplier<List<CourtWithDistance>>> index = ArgumentCaptor.forClass(Supplier.class);
+        final ArgumentCaptor<Supplier<List<CourtWithDistance>>> database = ArgumentCaptor.forClass(Supplier.class);
+        verify(shadowSearch).serve(eq("single-point-of-entry"), eq(CHILDREN), index.capture(), any(), database.capture());
+        assertThat(index.getValue().get()).containsExactly(courts.get(1));
+        assertThat(database.getValue().get()).containsExactly(courts.get(1));
+    }
+
+    @Test
+    void shouldCheckEachCourtUntilTheIndexesAreBuilt() {
+        final List<CourtWithDistance> courts = asList(court(1, emptyList()), court(2, singletonList(childrenAreaOfLaw())));
+
+        assertThat(filter.nearestSinglePointOfEntry(courts, CHILDREN))
+            .extracting(CourtReferenceWithDistance::getSlug)
+            .containsExactly("court-2");
+        assertThat(filter.nearestSinglePointOfEntry(courts.subList(0, 1), CHILDREN)).isEmpty();
+        verifyNoInteractions(shadowSearch);
+    }
+
+    private static CourtWithDistance court(final Integer id, final List<AreaOfLaw> areasOfLawSpoe) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setId(id);
+        court.setSlug("court-" + id);
+        court.setAreasOfLawSpoe(areasOfLawSpoe);
+        return court;
+    }
+
+    private static AreaOfLaw childrenAreaOfLaw() {
+        final AreaOfLaw areaOfLaw = new AreaOfLaw();
+        areaOfLaw.setName(CHILDREN);
+        return areaOfLaw;
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class EarthDistanceTest {
+
+    @Test
+    void shouldReturnZeroForTheSamePoint() {
+        assertThat(EarthDistance.distanceInMiles(51.5, -0.1, 51.5, -0.1)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldMatchPostgresEarthDistance() {
+        // SELECT point(-0.1278, 51.5074) <@> point(-2.2426, 53.4808) returns 162.788... in Postgres
+        assertThat(EarthDistance.distanceInMiles(51.5074, -0.1278, 53.4808, -2.2426)).isCloseTo(162.788, within(0.001));
+    }
+
+    @Test
+    void shouldBeSymmetric() {
+        assertThat(EarthDistance.distanceInMiles(51.5074, -0.1278, 55.9533, -3.1883))
+            .isEqualTo(EarthDistance.distanceInMiles(55.9533, -3.1883, 51.5074, -0.1278));
+    }
+
+    @Test
+    void shouldConvertMilesToAChordOfTheUnitSphere() {
+        assertThat(EarthDistance.chordLength(0)).isEqualTo(0.0);
+        assertThat(EarthDistance.chordLength(20_000)).isEqualTo(2.0);
+        assertThat(EarthDistance.chordLength(EarthDistance.distanceInMiles(51.5, -0.1, 51.5, 0.9)))
+            .isGreaterThan(EarthDistance.chordLength(EarthDistance.distanceInMiles(51.5, -0.1, 51.5, 0.8)));
+    }
+}
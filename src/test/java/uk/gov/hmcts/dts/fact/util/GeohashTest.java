@@ -0,0 +1,39 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GeohashTest {
+
+    @Test
+    void shouldEncodeAPoint() {
+        assertThat(Geohash.encode(57.649_11, 10.407_44, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(Geohash.encode(51.5074, -0.1278, 5)).isEqualTo("gcpvj");
+    }
+
+    @Test
+    void shouldDecodeBoundsContainingThePoint() {
+        final double[] bounds = Geohash.bounds(Geohash.encode(51.5074, -0.1278, 5));
+
+        assertThat(bounds[0]).isLessThanOrEqualTo(51.5074);
+        assertThat(bounds[1]).isLessThanOrEqualTo(-0.1278);
+        assertThat(bounds[2]).isGreaterThan(51.5074);
+        assertThat(bounds[3]).isGreaterThan(-0.1278);
+        assertThat(Geohash.encode((bounds[0] + bounds[2]) / 2, (bounds[1] + bounds[3]) / 2, 5)).isEqualTo("gcpvj");
+    }
+
+    @Test
+    void shouldRejectAnInvalidGeohash() {
+        assertThatThrownBy(() -> Geohash.bounds("gcpva"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("gcpva");
+    }
+
+    @Test
+    void shouldListTheCellsInsideACell() {
+        assertThat(Geohash.children("gcp")).hasSize(32).startsWith("gcp0").endsWith("gcpz").contains("gcpv");
+        assertThat(Geohash.children("")).contains("g", "u");
+    }
+}
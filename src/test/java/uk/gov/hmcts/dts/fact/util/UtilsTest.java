@@ -70,6 +70,13 @@ class UtilsTest {
         assertThat(upperCaseAndStripAllSpaces(" b 1 7Pt ")).isEqualTo("B17PT");
     }
 
+    @Test
+    void testNormalisePostcode() {
+        assertThat(normalisePostcode(" b 1 7Pt ")).isEqualTo("B1 7PT");
+        assertThat(normalisePostcode("sw1a1aa")).isEqualTo("SW1A 1AA");
+        assertThat(normalisePostcode("sw1")).isEqualTo("SW1");
+    }
+
     @Test
     void testConstructAddressLines() {
         final String address = "\r\n1 High Street\r\n\r\nLondon\r\n";